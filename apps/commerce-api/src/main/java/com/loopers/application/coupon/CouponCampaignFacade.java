@@ -0,0 +1,129 @@
+package com.loopers.application.coupon;
+
+import com.loopers.application.coupon.event.CouponAvailabilityChangedEvent;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponCampaignRepository;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.infrastructure.coupon.CouponCampaignRedisStore;
+import com.loopers.infrastructure.lease.SchedulerFence;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 캠페인 파사드
+ * - 발급 요청은 Redis에서 수량/중복을 판정하고 바로 응답한다. (DB 접근 없음)
+ * - 당첨자는 대기열에 쌓였다가 스케줄러가 배치로 coupons 테이블에 저장한다.
+ */
+@Slf4j
+@Service
+public class CouponCampaignFacade {
+
+    private final CouponCampaignRepository couponCampaignRepository;
+    private final CouponRepository couponRepository;
+    private final CouponCampaignRedisStore couponCampaignRedisStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerFence schedulerFence;
+    private final TransactionTemplate transactionTemplate;
+
+    public CouponCampaignFacade(
+            CouponCampaignRepository couponCampaignRepository,
+            CouponRepository couponRepository,
+            CouponCampaignRedisStore couponCampaignRedisStore,
+            ApplicationEventPublisher eventPublisher,
+            SchedulerFence schedulerFence,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.couponCampaignRepository = couponCampaignRepository;
+        this.couponRepository = couponRepository;
+        this.couponCampaignRedisStore = couponCampaignRedisStore;
+        this.eventPublisher = eventPublisher;
+        this.schedulerFence = schedulerFence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 캠페인 생성
+     * - Redis 등록에 실패하면 캠페인 저장도 롤백한다.
+     */
+    @Transactional
+    public CouponCampaign createCampaign(
+            String name,
+            CouponType couponType,
+            BigDecimal discountValue,
+            int totalQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime couponExpiresAt
+    ) {
+        CouponCampaign campaign = CouponCampaign.create(
+                name, couponType, discountValue, totalQuantity, startsAt, endsAt, couponExpiresAt);
+        CouponCampaign saved = couponCampaignRepository.save(campaign);
+        couponCampaignRedisStore.open(saved);
+        return saved;
+    }
+
+    /**
+     * 선착순 발급 요청
+     * - 당첨되면 쿠폰은 잠시 뒤 비동기로 저장된다.
+     */
+    public CouponIssueResult issue(Long campaignId, String userId) {
+        CouponIssueResult result = couponCampaignRedisStore.tryIssue(campaignId, userId);
+
+        return switch (result) {
+            case ISSUED -> result;
+            case DUPLICATE -> throw new CoreException(ErrorType.CONFLICT, "이미 발급받은 쿠폰입니다");
+            case SOLD_OUT -> throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰이 모두 소진되었습니다");
+            case NOT_OPEN -> throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰 발급 기간이 아닙니다");
+            case NOT_FOUND -> throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 쿠폰 캠페인입니다");
+        };
+    }
+
+    /**
+     * 남은 발급 수량 조회
+     */
+    public long getRemainingQuantity(Long campaignId) {
+        return couponCampaignRedisStore.remaining(campaignId);
+    }
+
+    /**
+     * 대기열의 당첨자를 최대 batchSize명 꺼내 쿠폰을 일괄 저장한다.
+     * - INSERT IGNORE와 (campaign_id, user_id) 유니크 키로 재처리되어도 중복 저장되지 않는다.
+     * - 저장에 성공한 뒤에만 대기열에서 제거한다. (저장 트랜잭션이 커밋된 뒤 제거)
+     * - 저장은 펜싱 토큰을 검사한 트랜잭션에서 하므로, 리스가 만료된 이전 실행의 저장은 롤백되고 대기열도 그대로 남는다.
+     *
+     * @return 처리한 당첨자 수
+     */
+    public int persistWinners(Long campaignId, int batchSize) {
+        List<String> winners = couponCampaignRedisStore.peekWinners(campaignId, batchSize);
+        if (winners.isEmpty()) {
+            return 0;
+        }
+
+        CouponCampaign campaign = couponCampaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 쿠폰 캠페인입니다: " + campaignId));
+        List<Coupon> coupons = winners.stream()
+                .map(campaign::issueTo)
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            schedulerFence.check();
+            couponRepository.saveAllForCampaign(campaignId, coupons);
+        });
+        couponCampaignRedisStore.trimWinners(campaignId, winners.size());
+        eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(winners));
+        return winners.size();
+    }
+}
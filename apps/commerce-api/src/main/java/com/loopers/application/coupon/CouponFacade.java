@@ -1,14 +1,19 @@
 package com.loopers.application.coupon;
 
+import com.loopers.application.coupon.event.CouponAvailabilityChangedEvent;
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDiscount;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.coupon.CouponType;
+import com.loopers.infrastructure.cache.CouponCacheService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 쿠폰 애플리케이션 파사드
@@ -18,9 +23,17 @@ import java.util.List;
 public class CouponFacade {
 
     private final CouponService couponService;
+    private final CouponCacheService couponCacheService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CouponFacade(CouponService couponService) {
+    public CouponFacade(
+            CouponService couponService,
+            CouponCacheService couponCacheService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.couponService = couponService;
+        this.couponCacheService = couponCacheService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -34,7 +47,9 @@ public class CouponFacade {
             BigDecimal discountValue,
             LocalDateTime expiresAt
     ) {
-        return couponService.issueCoupon(userId, couponName, couponType, discountValue, expiresAt);
+        Coupon coupon = couponService.issueCoupon(userId, couponName, couponType, discountValue, expiresAt);
+        eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(userId));
+        return coupon;
     }
 
     /**
@@ -42,7 +57,9 @@ public class CouponFacade {
      */
     @Transactional
     public Coupon useCoupon(Long couponId, String userId) {
-        return couponService.useCoupon(couponId, userId);
+        Coupon coupon = couponService.useCoupon(couponId, userId);
+        eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(userId));
+        return coupon;
     }
 
     /**
@@ -63,10 +80,27 @@ public class CouponFacade {
 
     /**
      * 사용자의 사용 가능한 쿠폰 목록 조회
+     * - Redis 캐시를 먼저 확인하고, 없으면 DB 조회 후 캐시에 저장한다.
      */
     @Transactional(readOnly = true)
     public List<Coupon> getAvailableCoupons(String userId) {
-        return couponService.getAvailableCoupons(userId);
+        Optional<List<Coupon>> cached = couponCacheService.getAvailableCoupons(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        List<Coupon> coupons = couponService.getAvailableCoupons(userId);
+        couponCacheService.cacheAvailableCoupons(userId, coupons);
+        return coupons;
+    }
+
+    /**
+     * 주문 금액 기준 쿠폰별 할인 금액 평가
+     * - 사용 가능한 쿠폰 전체의 할인 금액을 한 번에 계산해 할인 금액이 큰 순으로 돌려준다. (첫 번째가 최적 쿠폰)
+     */
+    @Transactional(readOnly = true)
+    public List<CouponDiscount> evaluateCoupons(String userId, BigDecimal orderAmount) {
+        return couponService.evaluateDiscounts(getAvailableCoupons(userId), orderAmount);
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.loopers.application.coupon.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 쿠폰 사용 가능 여부 변경 이벤트
+ * - 쿠폰이 발급/사용/예약/예약 해제되어 사용자의 사용 가능 쿠폰 목록이 바뀐 후 발행되는 이벤트
+ * - 사용자별 사용 가능 쿠폰 캐시를 무효화한다.
+ */
+public record CouponAvailabilityChangedEvent(
+        Set<String> userIds
+) {
+    public static CouponAvailabilityChangedEvent of(String userId) {
+        return new CouponAvailabilityChangedEvent(Set.of(userId));
+    }
+
+    public static CouponAvailabilityChangedEvent of(Collection<String> userIds) {
+        return new CouponAvailabilityChangedEvent(Set.copyOf(userIds));
+    }
+}
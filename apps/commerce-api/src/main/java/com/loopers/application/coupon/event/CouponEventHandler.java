@@ -0,0 +1,40 @@
+package com.loopers.application.coupon.event;
+
+import com.loopers.infrastructure.cache.CouponCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 쿠폰 이벤트 핸들러
+ * - 사용 가능 쿠폰 캐시 무효화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponEventHandler {
+
+    private final CouponCacheService couponCacheService;
+
+    /**
+     * 쿠폰 변경 후 사용 가능 쿠폰 캐시 무효화
+     * - 쿠폰 트랜잭션이 커밋된 후 실행된다
+     * - 트랜잭션 밖에서 발행되면 (캠페인 당첨자 저장처럼 이미 커밋된 쓰기 뒤) 바로 실행된다
+     * - 키 삭제만 하므로 동기로 실행해 응답 직후의 조회가 이전 목록을 보지 않게 한다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictAvailableCoupons(CouponAvailabilityChangedEvent event) {
+        if (event.userIds().isEmpty()) {
+            return;
+        }
+
+        try {
+            couponCacheService.evictAvailableCoupons(event.userIds());
+        } catch (Exception e) {
+            log.error("[이벤트] 사용 가능 쿠폰 캐시 무효화 실패: userIds={}, error={}",
+                    event.userIds(), e.getMessage(), e);
+        }
+    }
+}
@@ -1,23 +1,19 @@
 package com.loopers.application.like.event;
 
-import com.loopers.domain.product.Product;
-import com.loopers.domain.product.ProductRepository;
 import com.loopers.infrastructure.cache.ProductCacheService;
-import com.loopers.support.error.CoreException;
-import com.loopers.support.error.ErrorType;
+import com.loopers.infrastructure.outbox.OutboxEventAppender;
+import com.loopers.infrastructure.outbox.OutboxTopics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 좋아요 이벤트 핸들러
  * - 좋아요 토글 후 후속 처리를 비동기로 수행한다
- * - 상품의 좋아요 수 집계 (별도 트랜잭션, eventual consistency)
+ * - 상품의 좋아요 수 집계는 commerce-streamer가 like-events를 배치로 받아 처리한다
  * - 캐시 무효화
  * - 사용자 행동 로깅
  */
@@ -26,48 +22,25 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class LikeEventHandler {
 
-    private final ProductRepository productRepository;
     private final ProductCacheService productCacheService;
+    private final OutboxEventAppender outboxEventAppender;
 
     /**
-     * 좋아요 토글 후 상품의 좋아요 수 집계 처리
-     * - 좋아요 트랜잭션이 커밋된 후 실행된다
-     * - 별도 트랜잭션으로 실행되어 집계 처리 실패가 좋아요에 영향을 주지 않는다
-     * - eventual consistency: 좋아요 수가 즉시 반영되지 않을 수 있다
+     * 좋아요 토글 이벤트를 아웃박스에 기록
+     * - 좋아요 트랜잭션 커밋 직전에 같은 트랜잭션에서 실행된다
+     * - 상품별 집계가 가능하도록 상품 ID를 키로 사용한다
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @Async
-    public void updateLikeCount(LikeToggledEvent event) {
-        try {
-            log.info("[이벤트] 좋아요 수 집계 시작: productId={}, userId={}, isAdded={}",
-                    event.productId(), event.userId(), event.isAdded());
-
-            Product product = productRepository.findById(event.productId())
-                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다: " + event.productId()));
-
-            if (event.isAdded()) {
-                product.incrementLikeCount();
-            } else {
-                product.decrementLikeCount();
-            }
-
-            productRepository.save(product);
-
-            log.info("[이벤트] 좋아요 수 집계 완료: productId={}, likeCount={}",
-                    event.productId(), product.getLikeCount());
-        } catch (Exception e) {
-            // 집계 실패는 로그만 남기고 좋아요는 유지한다
-            // 스케줄러로 주기적으로 동기화하거나 재시도 로직으로 복구 가능
-            log.error("[이벤트] 좋아요 수 집계 실패: productId={}, userId={}, error={}",
-                    event.productId(), event.userId(), e.getMessage(), e);
-        }
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void appendToOutbox(LikeToggledEvent event) {
+        outboxEventAppender.append("PRODUCT", event.productId(), OutboxTopics.LIKE_EVENTS, event);
     }
 
     /**
      * 좋아요 토글 후 캐시 무효화
      * - 좋아요 트랜잭션이 커밋된 후 실행된다
      * - 비동기로 실행되어 좋아요 응답 속도에 영향을 주지 않는다
+     * - 상세의 좋아요 수와 사용자의 좋아요 여부(likedByUser)는 likes 테이블에서 읽으므로 여기서 지우면 바로 반영된다.
+     *   commerce-streamer가 발행한 좋아요 수로 나중에 갱신되는 products.like_count는 목록 정렬에만 쓰이고, 목록 캐시 TTL(1분) 안에 맞춰진다.
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async
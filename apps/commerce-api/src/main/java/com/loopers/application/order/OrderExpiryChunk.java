@@ -0,0 +1,22 @@
+package com.loopers.application.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 만료 청크 처리 결과
+ * - 다음 청크는 (lastOrderedAt, lastOrderId) 이후부터 조회한다.
+ */
+public record OrderExpiryChunk(
+        int scanned,
+        int expired,
+        LocalDateTime lastOrderedAt,
+        Long lastOrderId
+) {
+    public static OrderExpiryChunk empty() {
+        return new OrderExpiryChunk(0, 0, null, null);
+    }
+
+    public boolean isEmpty() {
+        return scanned == 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.application.coupon.event.CouponAvailabilityChangedEvent;
 import com.loopers.application.order.event.OrderCreatedEvent;
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponService;
@@ -7,6 +8,9 @@ import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.point.PointService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
@@ -17,23 +21,30 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 주문 애플리케이션 파사드
  * - 트랜잭션 경계 관리
- * - 핵심 주문 로직 처리 (재고 차감, 포인트 차감)
- * - 부가 로직은 이벤트로 분리 (쿠폰 사용)
+ * - 핵심 주문 로직 처리 (재고 차감, 포인트 차감, 쿠폰 예약)
+ * - 부가 로직은 이벤트로 분리 (데이터 플랫폼 전송 등)
  */
 @Service
 public class OrderFacade {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_CANCEL_SIZE = 1000;
+    private static final String EXPIRED_PAYMENT_REASON = "주문 만료 (PG 거래 키 없이 결제 대기)";
+
     private final OrderService orderService;
     private final OrderRepository orderRepository;
     private final CouponService couponService;
     private final PointService pointService;
     private final ProductRepository productRepository;
+    private final PaymentRepository paymentRepository;
     private final ApplicationEventPublisher eventPublisher;
 
     public OrderFacade(
@@ -42,6 +53,7 @@ public class OrderFacade {
             CouponService couponService,
             PointService pointService,
             ProductRepository productRepository,
+            PaymentRepository paymentRepository,
             ApplicationEventPublisher eventPublisher
     ) {
         this.orderService = orderService;
@@ -49,13 +61,15 @@ public class OrderFacade {
         this.couponService = couponService;
         this.pointService = pointService;
         this.productRepository = productRepository;
+        this.paymentRepository = paymentRepository;
         this.eventPublisher = eventPublisher;
     }
 
     /**
      * 주문 생성 (트랜잭션 및 동시성 제어 적용)
-     * - 핵심 로직: 재고 차감, 포인트 차감, 주문 생성
-     * - 부가 로직(쿠폰 사용)은 이벤트로 분리하여 비동기 처리
+     * - 핵심 로직: 재고 차감, 포인트 차감, 주문 생성, 쿠폰 예약
+     * - 쿠폰은 락 없이 조회해 할인 금액만 계산하고, 주문 저장 후 조건부 업데이트로 예약한다.
+     *   (결제 완료 시 사용 확정, 주문 취소/만료 시 예약 해제)
      */
     @Transactional
     public OrderResponse createOrder(CreateOrderCommand command) {
@@ -74,15 +88,14 @@ public class OrderFacade {
                 .map(OrderItem::getSubtotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        // 3. 쿠폰 할인 금액 계산 (쿠폰 사용은 이벤트로 분리)
+        // 3. 쿠폰 할인 금액 계산 (락 없이 조회, 예약은 주문 저장 후)
         BigDecimal couponDiscount = BigDecimal.ZERO;
         if (couponId != null) {
-            // 쿠폰 조회 및 할인 금액 계산만 수행 (사용 처리는 이벤트에서)
-            Coupon coupon = couponService.useCoupon(couponId, userId);
+            Coupon coupon = couponService.getUsableCoupon(couponId, userId);
             couponDiscount = coupon.calculateDiscount(totalAmount);
         }
 
-        // 4. 포인트 차감 (동시성 제어 - JPA 더티체킹)
+        // 4. 포인트 차감 (동시성 제어 - 잔액 조건부 UPDATE)
         BigDecimal amountAfterCoupon = totalAmount.subtract(couponDiscount);
         if (usedPoints > 0) {
             if (BigDecimal.valueOf(usedPoints).compareTo(amountAfterCoupon) > 0) {
@@ -104,7 +117,13 @@ public class OrderFacade {
         Order order = Order.create(userId, validatedOrderItems, couponDiscount, usedPoints, couponId);
         Order savedOrder = orderRepository.save(order);
 
-        // 7. 주문 생성 이벤트 발행 (쿠폰 사용, 데이터 플랫폼 전송 등)
+        // 7. 쿠폰 예약 (조건부 업데이트, 먼저 예약한 주문이 있으면 예외로 전체 롤백)
+        if (couponId != null) {
+            couponService.reserveCoupon(couponId, userId, savedOrder.getId());
+            eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(userId));
+        }
+
+        // 8. 주문 생성 이벤트 발행 (아웃박스 기록, 데이터 플랫폼 전송 등)
         eventPublisher.publishEvent(OrderCreatedEvent.from(savedOrder));
 
         return OrderResponse.from(savedOrder);
@@ -144,5 +163,118 @@ public class OrderFacade {
     @Transactional
     public void cancelOrder(Long orderId, String userId) {
         orderService.cancelOrder(orderId, userId);
+        eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(userId));
+    }
+
+    /**
+     * 주문 일괄 취소 (캠페인 취소 등 관리 작업)
+     * - 주문을 ID 순으로 잠근 뒤 PENDING 주문만 취소한다. (완료/이미 취소된 주문은 건너뛴다)
+     * - 재고 복구와 포인트 환불은 상품/사용자별로 합산해 한 번에 반영한다.
+     * - 한 번에 최대 1000건까지 처리하며, 더 많은 주문은 호출하는 쪽에서 나눠서 요청한다.
+     *
+     * @param orderIds 취소할 주문 ID 목록
+     * @return 실제로 취소된 주문 수
+     */
+    @Transactional
+    public int cancelOrders(List<Long> orderIds) {
+        if (orderIds.size() > MAX_BULK_CANCEL_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "한 번에 취소할 수 있는 주문은 최대 " + MAX_BULK_CANCEL_SIZE + "건입니다");
+        }
+
+        List<Order> orders = orderRepository.findAllByIdsForUpdate(orderIds);
+        List<Order> cancelled = orderService.cancelOrders(orders);
+        publishCouponReleased(cancelled);
+        return cancelled.size();
+    }
+
+    /**
+     * 미결제 주문 만료 처리 (청크 단위 트랜잭션)
+     * - 담당 파티션의 만료 대상 주문을 잠그고 조회한 뒤 일괄 취소한다.
+     * - 재고 복구, 포인트 환불은 OrderService.cancelOrders에서 합산해 한 번에 반영한다.
+     * - PG 거래 키 없이 TTL이 지난 PENDING 결제는 같은 트랜잭션에서 실패 처리한다.
+     *
+     * @param orderedBefore   이 시각 이전에 생성된 주문만 만료
+     * @param cursorOrderedAt 이전 청크 마지막 주문의 주문 시각 (첫 청크면 null)
+     * @param cursorOrderId   이전 청크 마지막 주문의 ID (첫 청크면 null)
+     * @param partitionIndex  담당 파티션 번호
+     * @param partitionCount  전체 파티션 수
+     * @param chunkSize       청크 크기
+     */
+    @Transactional
+    public OrderExpiryChunk expirePendingOrders(LocalDateTime orderedBefore, LocalDateTime cursorOrderedAt,
+                                                Long cursorOrderId, int partitionIndex, int partitionCount,
+                                                int chunkSize) {
+        List<Order> orders = orderRepository.findExpiredPendingOrdersForUpdate(
+                orderedBefore, cursorOrderedAt, cursorOrderId, partitionIndex, partitionCount, chunkSize);
+        if (orders.isEmpty()) {
+            return OrderExpiryChunk.empty();
+        }
+
+        List<Order> expired = orderService.cancelOrders(orders);
+        if (!expired.isEmpty()) {
+            paymentRepository.failStalePendingWithoutTransactionKey(
+                    expired.stream().map(Order::getId).toList(), orderedBefore, EXPIRED_PAYMENT_REASON);
+        }
+        publishCouponReleased(expired);
+
+        Order last = orders.get(orders.size() - 1);
+        return new OrderExpiryChunk(orders.size(), expired.size(), last.getOrderedAt(), last.getId());
+    }
+
+    /**
+     * 취소된 주문 중 쿠폰을 사용한 주문의 사용자에게 쿠폰 예약 해제를 알린다. (사용 가능 쿠폰 캐시 무효화)
+     */
+    private void publishCouponReleased(List<Order> cancelledOrders) {
+        List<String> userIds = cancelledOrders.stream()
+                .filter(order -> order.getCouponId() != null)
+                .map(Order::getUserId)
+                .toList();
+        if (!userIds.isEmpty()) {
+            eventPublisher.publishEvent(CouponAvailabilityChangedEvent.of(userIds));
+        }
+    }
+
+    /**
+     * 주문 요약 목록 조회 (키셋 페이징)
+     * - 주문 엔티티/항목을 하이드레이션하지 않고 요약 프로젝션만 조회한다.
+     * - 항목이 필요하면 현재 페이지의 주문들에 대해서만 한 번에 조회한다.
+     *
+     * @param userId          사용자 ID
+     * @param statusOrNull    주문 상태 (null이면 전체)
+     * @param cursorOrderedAt 이전 페이지 마지막 주문의 주문 시각 (첫 페이지면 null)
+     * @param cursorOrderId   이전 페이지 마지막 주문의 ID (첫 페이지면 null)
+     * @param size            페이지 크기 (최대 100)
+     * @param includeItems    주문 항목 포함 여부
+     */
+    @Transactional(readOnly = true)
+    public OrderSummaryPage getOrderSummaries(String userId, OrderStatus statusOrNull,
+                                              LocalDateTime cursorOrderedAt, Long cursorOrderId,
+                                              int size, boolean includeItems) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<OrderSummary> summaries = orderRepository.findSummariesByUserId(
+                userId, statusOrNull, cursorOrderedAt, cursorOrderId, size + 1);
+
+        boolean hasNext = summaries.size() > size;
+        List<OrderSummary> page = hasNext ? summaries.subList(0, size) : summaries;
+
+        Map<Long, List<OrderItem>> itemsByOrderId = includeItems
+                ? orderRepository.findItemsByOrderIds(page.stream().map(OrderSummary::orderId).toList())
+                : Map.of();
+
+        List<OrderSummaryInfo> orders = page.stream()
+                .map(summary -> OrderSummaryInfo.of(summary, itemsByOrderId.getOrDefault(summary.orderId(), List.of())))
+                .collect(Collectors.toList());
+
+        OrderSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return new OrderSummaryPage(
+                orders,
+                hasNext,
+                hasNext ? last.orderedAt() : null,
+                hasNext ? last.orderId() : null
+        );
     }
 }
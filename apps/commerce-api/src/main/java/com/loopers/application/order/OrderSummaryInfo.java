@@ -0,0 +1,37 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 요약 Application DTO
+ * - 주문 목록 화면용 응답 모델
+ * - items는 항목 포함 조회를 요청한 경우에만 채워진다 (그 외에는 빈 목록)
+ */
+public record OrderSummaryInfo(
+        Long orderId,
+        OrderStatus status,
+        BigDecimal finalAmount,
+        LocalDateTime orderedAt,
+        long itemCount,
+        List<OrderResponse.OrderItemResponse> items
+) {
+    public static OrderSummaryInfo of(OrderSummary summary, List<OrderItem> items) {
+        return new OrderSummaryInfo(
+                summary.orderId(),
+                summary.status(),
+                summary.finalAmount(),
+                summary.orderedAt(),
+                summary.itemCount(),
+                items.stream()
+                        .map(OrderResponse.OrderItemResponse::from)
+                        .collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.application.order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 요약 페이지
+ * - 다음 페이지는 (nextCursorOrderedAt, nextCursorOrderId)를 커서로 넘겨 조회한다.
+ */
+public record OrderSummaryPage(
+        List<OrderSummaryInfo> orders,
+        boolean hasNext,
+        LocalDateTime nextCursorOrderedAt,
+        Long nextCursorOrderId
+) {
+}
@@ -1,19 +1,17 @@
 package com.loopers.application.order.event;
 
-import com.loopers.domain.coupon.CouponService;
+import com.loopers.infrastructure.outbox.OutboxEventAppender;
+import com.loopers.infrastructure.outbox.OutboxTopics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 주문 이벤트 핸들러
  * - 주문 생성 후 후속 처리를 비동기로 수행한다
- * - 쿠폰 사용 처리 (별도 트랜잭션)
  * - 데이터 플랫폼 전송 (로깅)
  */
 @Slf4j
@@ -21,34 +19,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class OrderEventHandler {
 
-    private final CouponService couponService;
+    private final OutboxEventAppender outboxEventAppender;
 
     /**
-     * 주문 생성 후 쿠폰 사용 처리
-     * - 주문 트랜잭션이 커밋된 후 실행된다
-     * - 별도 트랜잭션으로 실행되어 쿠폰 처리 실패가 주문에 영향을 주지 않는다
-     * - 비동기로 실행되어 주문 응답 속도에 영향을 주지 않는다
+     * 주문 생성 이벤트를 아웃박스에 기록
+     * - 주문 트랜잭션 커밋 직전에 같은 트랜잭션에서 실행된다
+     * - 기록에 실패하면 주문도 롤백되어 이벤트가 유실되지 않는다
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @Async
-    public void handleCouponUsage(OrderCreatedEvent event) {
-        if (!event.hasCoupon()) {
-            return;
-        }
-
-        try {
-            log.info("[이벤트] 쿠폰 사용 처리 시작: orderId={}, couponId={}, userId={}",
-                    event.orderId(), event.couponId(), event.userId());
-
-            couponService.useCoupon(event.couponId(), event.userId());
-
-            log.info("[이벤트] 쿠폰 사용 처리 완료: orderId={}, couponId={}", event.orderId(), event.couponId());
-        } catch (Exception e) {
-            // 쿠폰 사용 실패는 로그만 남기고 주문은 유지한다
-            log.error("[이벤트] 쿠폰 사용 처리 실패: orderId={}, couponId={}, error={}",
-                    event.orderId(), event.couponId(), e.getMessage(), e);
-        }
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void appendToOutbox(OrderCreatedEvent event) {
+        outboxEventAppender.append("ORDER", event.orderId(), OutboxTopics.ORDER_EVENTS, event);
     }
 
     /**
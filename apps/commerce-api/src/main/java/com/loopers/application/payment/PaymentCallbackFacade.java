@@ -0,0 +1,156 @@
+package com.loopers.application.payment;
+
+import com.loopers.application.payment.event.PaymentsCompletedEvent;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackProperties;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PG 콜백 Facade (Application Layer)
+ * - 콜백은 대기열에 적재만 하고 바로 응답한다. (PG 콜백 스레드를 DB 처리 시간 동안 붙잡지 않는다)
+ * - 적재된 콜백은 스케줄러가 묶음으로 읽어 applyCallbacks로 한 트랜잭션에서 반영한다.
+ * - 대기열을 쓸 수 없으면 기존처럼 콜백 요청 안에서 바로 반영한다.
+ */
+@Service
+public class PaymentCallbackFacade {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentCallbackFacade.class);
+
+    private final PaymentFacade paymentFacade;
+    private final PaymentRepository paymentRepository;
+    private final PaymentCallbackQueue callbackQueue;
+    private final PaymentCallbackProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PaymentCallbackFacade(
+            PaymentFacade paymentFacade,
+            PaymentRepository paymentRepository,
+            PaymentCallbackQueue callbackQueue,
+            PaymentCallbackProperties properties,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.paymentFacade = paymentFacade;
+        this.paymentRepository = paymentRepository;
+        this.callbackQueue = callbackQueue;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 콜백 수신
+     * - 대기열에 적재되면 바로 돌아간다.
+     * - 대기열이 꺼져 있거나 적재에 실패하면 콜백 요청 안에서 바로 반영한다. (콜백 유실보다 느린 응답이 낫다)
+     *
+     * @param command 콜백 Command
+     */
+    public void acceptCallback(PaymentCommand.UpdatePaymentStatus command) {
+        if (properties.queueEnabled()) {
+            try {
+                callbackQueue.enqueue(command.getPgTransactionKey(), command.getStatus(), command.getReason(), 0);
+                return;
+            } catch (Exception e) {
+                log.warn("PG 콜백 적재 실패로 바로 반영합니다: pgTransactionKey={}, error={}",
+                        command.getPgTransactionKey(), e.getMessage());
+            }
+        }
+        paymentFacade.handleCallback(command);
+    }
+
+    /**
+     * 콜백 일괄 반영
+     * - 같은 트랜잭션 키의 콜백이 여러 건이면 마지막 콜백만 반영한다.
+     * - 결제를 트랜잭션 키 IN 조회 한 번으로 잠그고, 바뀐 결제만 JDBC 배치로 갱신한다.
+     * - 이미 최종 상태인 결제는 건드리지 않는다. (중복 콜백, 동기화 스케줄러가 먼저 반영한 경우)
+     * - 결제 완료 이벤트는 묶음으로 한 번만 발행한다.
+     *
+     * @param commands 콜백 Command 목록
+     * @return 반영 결과 (찾지 못한 트랜잭션 키는 호출한 쪽에서 재시도한다)
+     */
+    @Transactional
+    public CallbackBatchResult applyCallbacks(List<PaymentCommand.UpdatePaymentStatus> commands) {
+        Map<String, PaymentCommand.UpdatePaymentStatus> latestByKey = new LinkedHashMap<>();
+        for (PaymentCommand.UpdatePaymentStatus command : commands) {
+            if (command.getPgTransactionKey() != null) {
+                latestByKey.put(command.getPgTransactionKey(), command);
+            }
+        }
+        if (latestByKey.isEmpty()) {
+            return new CallbackBatchResult(0, 0, List.of());
+        }
+
+        List<Payment> payments = paymentRepository.findAllByPgTransactionKeysForUpdate(latestByKey.keySet());
+
+        Set<String> foundKeys = new HashSet<>();
+        List<Payment> changed = new ArrayList<>();
+        int skipped = 0;
+        for (Payment payment : payments) {
+            foundKeys.add(payment.getPgTransactionKey());
+            if (applyCallback(payment, latestByKey.get(payment.getPgTransactionKey()))) {
+                changed.add(payment);
+            } else {
+                skipped++;
+            }
+        }
+
+        paymentRepository.updateStatuses(changed);
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(PaymentsCompletedEvent.from(changed));
+        }
+
+        List<String> unknownKeys = latestByKey.keySet().stream()
+                .filter(key -> !foundKeys.contains(key))
+                .toList();
+
+        log.info("PG 콜백 일괄 반영: 수신={}건, 반영={}건, 스킵={}건, 결제없음={}건",
+                commands.size(), changed.size(), skipped, unknownKeys.size());
+        return new CallbackBatchResult(changed.size(), skipped, unknownKeys);
+    }
+
+    /**
+     * 콜백 한 건을 결제에 반영한다.
+     *
+     * @return 결제 상태가 바뀌었으면 true
+     */
+    private boolean applyCallback(Payment payment, PaymentCommand.UpdatePaymentStatus command) {
+        if (payment.isSuccess() || payment.isFailed()) {
+            if (!payment.getStatus().name().equals(command.getStatus())) {
+                log.warn("이미 최종 상태인 결제의 콜백을 무시합니다: pgTransactionKey={}, 현재={}, 콜백={}",
+                        payment.getPgTransactionKey(), payment.getStatus(), command.getStatus());
+            }
+            return false;
+        }
+
+        if ("SUCCESS".equals(command.getStatus())) {
+            payment.success();
+            return true;
+        }
+        if ("FAILED".equals(command.getStatus())) {
+            payment.fail(command.getReason());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 콜백 일괄 반영 결과
+     *
+     * @param applied     상태가 바뀐 결제 수
+     * @param skipped     이미 최종 상태이거나 처리 중 상태라 건너뛴 콜백 수
+     * @param unknownKeys 결제를 찾지 못한 트랜잭션 키 (PG 응답 반영 전에 콜백이 먼저 온 경우)
+     */
+    public record CallbackBatchResult(int applied, int skipped, List<String> unknownKeys) {
+    }
+}
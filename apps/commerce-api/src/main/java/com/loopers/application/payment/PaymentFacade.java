@@ -5,17 +5,27 @@ import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.payment.client.PgAsyncClientService;
 import com.loopers.infrastructure.payment.client.PgClient;
 import com.loopers.infrastructure.payment.client.PgClientService;
 import com.loopers.infrastructure.payment.client.dto.PgClientDto;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Payment Facade (Application Layer)
@@ -24,7 +34,6 @@ import org.springframework.transaction.annotation.Transactional;
  * - 부가 로직은 이벤트로 분리 (주문 완료 처리)
  */
 @Service
-@RequiredArgsConstructor
 public class PaymentFacade {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentFacade.class);
@@ -32,22 +41,142 @@ public class PaymentFacade {
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final PgClientService pgClientService;
+    private final PgAsyncClientService pgAsyncClientService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer connectionHoldTimer;
+
+    public PaymentFacade(
+            PaymentRepository paymentRepository,
+            OrderRepository orderRepository,
+            PgClientService pgClientService,
+            PgAsyncClientService pgAsyncClientService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.pgClientService = pgClientService;
+        this.pgAsyncClientService = pgAsyncClientService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.connectionHoldTimer = Timer.builder("payment.request.connection.hold")
+                .description("결제 요청 1건이 DB 커넥션을 잡고 있던 시간 (PG 호출 시간 제외)")
+                .register(meterRegistry);
+    }
 
     /**
      * 결제 요청
-     * - Payment 도메인 생성
-     * - PG에 결제 요청
-     * - PG 트랜잭션 키 할당
+     * - 짧은 트랜잭션 1: 주문 확인 후 PENDING 결제 저장
+     * - 트랜잭션 밖: PG에 결제 요청 (응답 타임아웃 3초, 재시도 최대 3회)
+     * - 짧은 트랜잭션 2: PG 트랜잭션 키 할당
+     * - PG 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않으므로, PG가 느려져도 커넥션 풀이 고갈되지 않는다.
      *
      * @param command 결제 요청 Command
      * @return 결제 정보
      */
-    @Transactional
     public PaymentInfo requestPayment(PaymentCommand.RequestPayment command) {
         command.validate();
+        AtomicLong connectionHoldNanos = new AtomicLong();
+
+        // 1. 주문 확인 및 Payment 저장 (PENDING 상태, 짧은 트랜잭션)
+        Payment payment = executeInTransaction(connectionHoldNanos, () -> createPendingPayment(command));
+
+        try {
+            // 2. PG에 결제 요청 (트랜잭션 밖)
+            PgClient.ApiResponse<PgClientDto.TransactionResponse> pgResponse =
+                    pgClientService.requestPayment(command.getUserId(), toPgRequest(command));
+
+            // 3. PG 트랜잭션 키 할당 (PG 응답이 성공한 경우, 짧은 트랜잭션)
+            payment = applyPgResponse(command, payment, pgResponse, connectionHoldNanos);
+        } catch (Exception e) {
+            // PG 요청 실패 시에도 Payment는 PENDING 상태로 유지 (나중에 재확인 가능)
+            log.error("PG 결제 요청 중 예외 발생: userId={}, orderId={}, error={}",
+                    command.getUserId(), command.getOrderId(), e.getMessage());
+        } finally {
+            connectionHoldTimer.record(connectionHoldNanos.get(), TimeUnit.NANOSECONDS);
+        }
+
+        return PaymentInfo.from(payment);
+    }
+
+    /**
+     * 결제 요청 (비동기 PG 호출)
+     * - 흐름은 requestPayment와 같고, PG 호출과 트랜잭션 키 할당은 비동기 PG 클라이언트의 가상 스레드에서 이어진다.
+     * - PENDING 결제 저장까지는 호출한 스레드에서 처리하므로, 주문 검증 예외는 즉시 던진다.
+     *
+     * @param command 결제 요청 Command
+     * @return 결제 정보 (PG 응답 후 완료)
+     */
+    public CompletableFuture<PaymentInfo> requestPaymentAsync(PaymentCommand.RequestPayment command) {
+        command.validate();
+        AtomicLong connectionHoldNanos = new AtomicLong();
+
+        Payment payment = executeInTransaction(connectionHoldNanos, () -> createPendingPayment(command));
+
+        return pgAsyncClientService.requestPayment(command.getUserId(), toPgRequest(command))
+                .thenApply(pgResponse -> applyPgResponse(command, payment, pgResponse, connectionHoldNanos))
+                .exceptionally(t -> {
+                    // PG 요청 실패 시에도 Payment는 PENDING 상태로 유지 (나중에 재확인 가능)
+                    log.error("PG 결제 요청 중 예외 발생: userId={}, orderId={}, error={}",
+                            command.getUserId(), command.getOrderId(), t.getMessage());
+                    return payment;
+                })
+                .thenApply(result -> {
+                    connectionHoldTimer.record(connectionHoldNanos.get(), TimeUnit.NANOSECONDS);
+                    return PaymentInfo.from(result);
+                });
+    }
+
+    /**
+     * PG 결제 요청 결과를 반영한다.
+     * - 성공 응답이면 결제를 다시 읽어 트랜잭션 키를 할당하고, 아니면 PENDING 결제를 그대로 둔다.
+     */
+    private Payment applyPgResponse(PaymentCommand.RequestPayment command, Payment payment,
+                                    PgClient.ApiResponse<PgClientDto.TransactionResponse> pgResponse,
+                                    AtomicLong connectionHoldNanos) {
+        if (!pgResponse.success() || pgResponse.data() == null || pgResponse.data().transactionKey() == null) {
+            log.warn("PG 결제 요청 실패 (Fallback): userId={}, orderId={}",
+                    command.getUserId(), command.getOrderId());
+            return payment;
+        }
+
+        Long paymentId = payment.getId();
+        String transactionKey = pgResponse.data().transactionKey();
+        Payment assigned = executeInTransaction(connectionHoldNanos, () -> assignTransactionKey(paymentId, transactionKey));
+
+        log.info("PG 결제 요청 성공: userId={}, orderId={}, pgTransactionKey={}",
+                command.getUserId(), command.getOrderId(), transactionKey);
+        return assigned;
+    }
+
+    /**
+     * 짧은 트랜잭션으로 실행하고, 트랜잭션이 커넥션을 잡고 있던 시간을 누적한다.
+     */
+    private <T> T executeInTransaction(AtomicLong connectionHoldNanos, Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } finally {
+            connectionHoldNanos.addAndGet(System.nanoTime() - startedAt);
+        }
+    }
+
+    private PgClientDto.PaymentRequest toPgRequest(PaymentCommand.RequestPayment command) {
+        return new PgClientDto.PaymentRequest(
+                String.valueOf(command.getOrderId()),
+                toPgCardType(command.getCardType()),
+                command.getCardNo(),
+                command.getAmount().longValue(),
+                command.getCallbackUrl()
+        );
+    }
 
-        // 1. 주문 존재 여부 및 권한 확인
+    /**
+     * 주문을 확인하고 PENDING 결제를 저장한다. (트랜잭션 안에서 호출)
+     */
+    private Payment createPendingPayment(PaymentCommand.RequestPayment command) {
         Order order = orderRepository.findById(command.getOrderId())
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 주문입니다: " + command.getOrderId()));
 
@@ -59,7 +188,6 @@ public class PaymentFacade {
             throw new CoreException(ErrorType.CONFLICT, "대기 중인 주문만 결제할 수 있습니다");
         }
 
-        // 2. Payment 도메인 생성
         Payment payment = Payment.create(
                 command.getUserId(),
                 command.getOrderId(),
@@ -67,41 +195,17 @@ public class PaymentFacade {
                 command.getCardNo(),
                 command.getAmount()
         );
+        return paymentRepository.save(payment);
+    }
 
-        // 3. Payment 저장 (PENDING 상태)
-        payment = paymentRepository.save(payment);
-
-        // 4. PG에 결제 요청
-        PgClientDto.PaymentRequest pgRequest = new PgClientDto.PaymentRequest(
-                String.valueOf(command.getOrderId()),
-                toPgCardType(command.getCardType()),
-                command.getCardNo(),
-                command.getAmount().longValue(),
-                command.getCallbackUrl()
-        );
-
-        try {
-            PgClient.ApiResponse<PgClientDto.TransactionResponse> pgResponse =
-                    pgClientService.requestPayment(command.getUserId(), pgRequest);
-
-            // 5. PG 트랜잭션 키 할당 (PG 응답이 성공한 경우)
-            if (pgResponse.success() && pgResponse.data().transactionKey() != null) {
-                payment.assignPgTransactionKey(pgResponse.data().transactionKey());
-                payment = paymentRepository.save(payment);
-
-                log.info("PG 결제 요청 성공: userId={}, orderId={}, pgTransactionKey={}",
-                        command.getUserId(), command.getOrderId(), pgResponse.data().transactionKey());
-            } else {
-                log.warn("PG 결제 요청 실패 (Fallback): userId={}, orderId={}",
-                        command.getUserId(), command.getOrderId());
-            }
-        } catch (Exception e) {
-            // PG 요청 실패 시에도 Payment는 PENDING 상태로 유지 (나중에 재확인 가능)
-            log.error("PG 결제 요청 중 예외 발생: userId={}, orderId={}, error={}",
-                    command.getUserId(), command.getOrderId(), e.getMessage());
-        }
-
-        return PaymentInfo.from(payment);
+    /**
+     * 결제를 다시 읽어 PG 트랜잭션 키를 할당한다. (트랜잭션 안에서 호출)
+     */
+    private Payment assignTransactionKey(Long paymentId, String transactionKey) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + paymentId));
+        payment.assignPgTransactionKey(transactionKey);
+        return paymentRepository.save(payment);
     }
 
     /**
@@ -138,14 +242,15 @@ public class PaymentFacade {
 
     /**
      * 결제 상태 확인 및 동기화 (스케줄러용)
-     * - PG에 상태 조회
-     * - Payment 상태 동기화
+     * - PG 상태 조회는 트랜잭션 밖에서 하고, 결과 반영만 짧은 트랜잭션으로 처리한다.
+     *   (PG 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않는다)
+     * - 반영 직전에 결제를 다시 읽어, 그 사이 콜백으로 최종 상태가 된 결제는 건드리지 않는다.
      * - 주문 완료 처리는 이벤트로 분리
      *
      * @param paymentId Payment ID
+     * @return 동기화 후 결제 상태 (PG에서 아직 처리 중이거나 조회에 실패하면 PENDING)
      */
-    @Transactional
-    public void syncPaymentStatus(Long paymentId) {
+    public PaymentStatus syncPaymentStatus(Long paymentId) {
         // 1. Payment 조회
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + paymentId));
@@ -153,43 +258,63 @@ public class PaymentFacade {
         // PG 트랜잭션 키가 없으면 스킵 (PG 요청 실패한 경우)
         if (payment.getPgTransactionKey() == null) {
             log.warn("PG 트랜잭션 키가 없어 상태 동기화를 스킵합니다: paymentId={}", paymentId);
-            return;
+            return payment.getStatus();
         }
 
         // 이미 최종 상태면 스킵
         if (payment.isSuccess() || payment.isFailed()) {
-            return;
+            return payment.getStatus();
         }
 
         try {
-            // 2. PG에 상태 조회
+            // 2. PG에 상태 조회 (트랜잭션 밖)
             PgClient.ApiResponse<PgClientDto.TransactionDetailResponse> pgResponse =
                     pgClientService.getTransaction(payment.getUserId(), payment.getPgTransactionKey());
 
             if (!pgResponse.success() || pgResponse.data() == null) {
                 log.warn("PG 상태 조회 실패: pgTransactionKey={}", payment.getPgTransactionKey());
-                return;
+                return PaymentStatus.PENDING;
             }
 
-            // 3. Payment 상태 동기화
             PgClientDto.TransactionStatus pgStatus = pgResponse.data().status();
-            if (pgStatus == PgClientDto.TransactionStatus.SUCCESS) {
-                payment.success();
-                log.info("결제 상태 동기화 완료 (SUCCESS): paymentId={}, orderId={}", paymentId, payment.getOrderId());
-            } else if (pgStatus == PgClientDto.TransactionStatus.FAILED) {
-                payment.fail(pgResponse.data().reason());
-                log.info("결제 상태 동기화 완료 (FAILED): paymentId={}, reason={}", paymentId, pgResponse.data().reason());
+            if (pgStatus != PgClientDto.TransactionStatus.SUCCESS && pgStatus != PgClientDto.TransactionStatus.FAILED) {
+                return PaymentStatus.PENDING;
             }
 
-            paymentRepository.save(payment);
-
-            // 4. 결제 완료 이벤트 발행 (주문 완료 처리, 데이터 플랫폼 전송 등)
-            eventPublisher.publishEvent(PaymentCompletedEvent.from(payment));
+            // 3. Payment 상태 동기화 (짧은 트랜잭션)
+            return transactionTemplate.execute(status ->
+                    applyPgStatus(paymentId, pgStatus, pgResponse.data().reason()));
         } catch (Exception e) {
             log.error("결제 상태 동기화 중 예외 발생: paymentId={}, error={}", paymentId, e.getMessage());
+            return PaymentStatus.PENDING;
         }
     }
 
+    /**
+     * PG 조회 결과를 결제에 반영하고 결제 완료 이벤트를 발행한다. (트랜잭션 안에서 호출)
+     */
+    private PaymentStatus applyPgStatus(Long paymentId, PgClientDto.TransactionStatus pgStatus, String reason) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "결제 정보를 찾을 수 없습니다: " + paymentId));
+        if (payment.isSuccess() || payment.isFailed()) {
+            return payment.getStatus();
+        }
+
+        if (pgStatus == PgClientDto.TransactionStatus.SUCCESS) {
+            payment.success();
+            log.info("결제 상태 동기화 완료 (SUCCESS): paymentId={}, orderId={}", paymentId, payment.getOrderId());
+        } else {
+            payment.fail(reason);
+            log.info("결제 상태 동기화 완료 (FAILED): paymentId={}, reason={}", paymentId, reason);
+        }
+
+        paymentRepository.save(payment);
+
+        // 결제 완료 이벤트 발행 (주문 완료 처리, 데이터 플랫폼 전송 등)
+        eventPublisher.publishEvent(PaymentCompletedEvent.from(payment));
+        return payment.getStatus();
+    }
+
     /**
      * 결제 상세 조회
      *
@@ -0,0 +1,94 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.Payment;
+import com.loopers.infrastructure.payment.client.PgClient;
+import com.loopers.infrastructure.payment.client.PgClientService;
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 결제 상태 일괄 동기화 Facade (Application Layer)
+ * - PENDING 결제를 PG 상태 일괄 조회 API로 묶어서 조회한다. (결제마다 조회하지 않는다)
+ * - 최종 상태로 조회된 결제는 콜백 일괄 반영과 같은 경로(PaymentCallbackFacade.applyCallbacks)로 한 트랜잭션에서 반영한다.
+ */
+@Service
+public class PaymentStatusSyncFacade {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentStatusSyncFacade.class);
+
+    private final PgClientService pgClientService;
+    private final PaymentCallbackFacade paymentCallbackFacade;
+
+    public PaymentStatusSyncFacade(
+            PgClientService pgClientService,
+            PaymentCallbackFacade paymentCallbackFacade
+    ) {
+        this.pgClientService = pgClientService;
+        this.paymentCallbackFacade = paymentCallbackFacade;
+    }
+
+    /**
+     * 결제 상태 일괄 동기화
+     * - PG 트랜잭션 키가 있는 PENDING 결제를 PgClientService.MAX_STATUS_BATCH_SIZE건씩 묶어 조회한다.
+     * - 조회에 실패했거나 PG에서 아직 처리 중인 결제는 PENDING으로 남겨 다음 동기화에서 다시 조회한다.
+     *
+     * @param payments 동기화할 결제 목록
+     * @return 동기화 결과
+     */
+    public SyncBatchResult syncPaymentStatuses(List<Payment> payments) {
+        List<String> transactionKeys = payments.stream()
+                .filter(payment -> payment.getPgTransactionKey() != null)
+                .filter(payment -> !payment.isSuccess() && !payment.isFailed())
+                .map(Payment::getPgTransactionKey)
+                .distinct()
+                .toList();
+
+        int resolved = 0;
+        for (int from = 0; from < transactionKeys.size(); from += PgClientService.MAX_STATUS_BATCH_SIZE) {
+            List<String> chunk = transactionKeys.subList(
+                    from, Math.min(from + PgClientService.MAX_STATUS_BATCH_SIZE, transactionKeys.size()));
+            resolved += syncChunk(chunk);
+        }
+        return new SyncBatchResult(resolved, payments.size() - resolved);
+    }
+
+    /**
+     * 트랜잭션 키 묶음 하나를 조회해 최종 상태만 반영한다.
+     *
+     * @return 최종 상태가 된 결제 수 (이미 콜백으로 반영된 결제 포함)
+     */
+    private int syncChunk(List<String> transactionKeys) {
+        PgClient.ApiResponse<PgClientDto.TransactionStatusesResponse> response =
+                pgClientService.getTransactionStatuses(transactionKeys);
+        if (!response.success() || response.data() == null) {
+            log.warn("PG 상태 일괄 조회 실패: count={}", transactionKeys.size());
+            return 0;
+        }
+
+        List<PaymentCommand.UpdatePaymentStatus> commands = response.data().transactions().stream()
+                .filter(transaction -> transaction.status() == PgClientDto.TransactionStatus.SUCCESS
+                        || transaction.status() == PgClientDto.TransactionStatus.FAILED)
+                .map(transaction -> new PaymentCommand.UpdatePaymentStatus(
+                        transaction.transactionKey(), transaction.status().name(), transaction.reason()))
+                .toList();
+        if (commands.isEmpty()) {
+            return 0;
+        }
+
+        PaymentCallbackFacade.CallbackBatchResult result = paymentCallbackFacade.applyCallbacks(commands);
+        return result.applied() + result.skipped();
+    }
+
+    /**
+     * 결제 상태 일괄 동기화 결과
+     *
+     * @param resolved 최종 상태가 된 결제 수
+     * @param pending  PENDING으로 남은 결제 수 (PG 처리 중, 조회 실패, PG 트랜잭션 키 없음)
+     */
+    public record SyncBatchResult(int resolved, int pending) {
+    }
+}
@@ -5,11 +5,15 @@ import com.loopers.domain.payment.PaymentStatus;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 결제 완료 이벤트
  * - 결제가 성공적으로 완료된 후 발행되는 이벤트
  * - 주문 완료 처리, 데이터 플랫폼 전송 등 후속 처리를 트리거한다
+ * - 아웃박스에 기록할 때 결제가 성공한 주문의 상품별 수량(items)을 담는다 (판매 수 집계용)
+ *
+ * @param items 판매된 상품과 수량 (결제 실패, 취소된 주문이면 비어 있다)
  */
 public record PaymentCompletedEvent(
         Long paymentId,
@@ -18,7 +22,8 @@ public record PaymentCompletedEvent(
         BigDecimal amount,
         PaymentStatus status,
         String pgTransactionKey,
-        LocalDateTime completedAt
+        LocalDateTime completedAt,
+        List<Item> items
 ) {
     public static PaymentCompletedEvent from(Payment payment) {
         return new PaymentCompletedEvent(
@@ -28,14 +33,28 @@ public record PaymentCompletedEvent(
                 payment.getAmount(),
                 payment.getStatus(),
                 payment.getPgTransactionKey(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                List.of()
         );
     }
 
+    public PaymentCompletedEvent withItems(List<Item> items) {
+        return new PaymentCompletedEvent(paymentId, userId, orderId, amount, status, pgTransactionKey, completedAt, items);
+    }
+
     /**
      * 결제가 성공했는지 확인
      */
     public boolean isSuccess() {
         return status == PaymentStatus.SUCCESS;
     }
+
+    /**
+     * 판매된 상품과 수량
+     */
+    public record Item(
+            Long productId,
+            int quantity
+    ) {
+    }
 }
@@ -1,36 +1,77 @@
 package com.loopers.application.payment.event;
 
+import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.infrastructure.outbox.OutboxEventAppender;
+import com.loopers.infrastructure.outbox.OutboxTopics;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 결제 이벤트 핸들러
  * - 결제 완료 후 후속 처리를 비동기로 수행한다
  * - 주문 완료 처리 (별도 트랜잭션)
  * - 데이터 플랫폼 전송 (로깅)
+ * - 콜백 일괄 반영으로 발행된 이벤트 묶음(PaymentsCompletedEvent)은 묶음 단위로 처리한다
+ *   (데이터 플랫폼에는 아웃박스의 payment-events로만 전달한다)
+ * - payment-events에는 결제가 성공한 주문의 상품별 수량을 담아, 구독하는 쪽이 주문 테이블을 읽지 않게 한다
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentEventHandler {
 
     private final OrderRepository orderRepository;
+    private final CouponService couponService;
+    private final OutboxEventAppender outboxEventAppender;
+    // 묶음의 주문 완료 처리를 주문마다 새 트랜잭션으로 실행한다
+    private final TransactionTemplate requiresNewTransaction;
+
+    public PaymentEventHandler(
+            OrderRepository orderRepository,
+            CouponService couponService,
+            OutboxEventAppender outboxEventAppender,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.couponService = couponService;
+        this.outboxEventAppender = outboxEventAppender;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 결제 완료 이벤트를 아웃박스에 기록
+     * - 결제 트랜잭션 커밋 직전에 같은 트랜잭션에서 실행된다
+     * - 같은 주문의 이벤트가 같은 파티션에 들어가도록 주문 ID를 키로 사용한다
+     * - 결제가 성공했으면 주문 항목을 읽어 상품별 수량을 담는다 (결제 전에 취소된 주문은 담지 않는다)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void appendToOutbox(PaymentCompletedEvent event) {
+        appendToOutbox(List.of(event));
+    }
 
     /**
      * 결제 완료 후 주문 완료 처리
      * - 결제 트랜잭션이 커밋된 후 실행된다
      * - 별도 트랜잭션으로 실행되어 주문 완료 처리 실패가 결제에 영향을 주지 않는다
      * - 결제 성공 시에만 주문을 완료 처리한다
+     * - 주문에 예약된 쿠폰은 같은 트랜잭션에서 사용 확정한다
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -49,8 +90,7 @@ public class PaymentEventHandler {
             Order order = orderRepository.findById(event.orderId())
                     .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "주문을 찾을 수 없습니다: " + event.orderId()));
 
-            order.complete();
-            orderRepository.save(order);
+            completeOrderAndConfirmCoupon(order);
 
             log.info("[이벤트] 주문 완료 처리 완료: orderId={}, paymentId={}", event.orderId(), event.paymentId());
         } catch (Exception e) {
@@ -61,6 +101,91 @@ public class PaymentEventHandler {
         }
     }
 
+    /**
+     * 결제 완료 이벤트 묶음을 아웃박스에 기록
+     * - 콜백 일괄 반영 트랜잭션 커밋 직전에 같은 트랜잭션에서 실행된다
+     * - 컨슈머 쪽 계약은 그대로 두기 위해 결제 건마다 한 행씩 기록한다
+     * - 결제가 성공한 주문의 항목은 묶음 전체를 한 번에 읽는다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void appendToOutbox(PaymentsCompletedEvent batch) {
+        appendToOutbox(batch.events());
+    }
+
+    private void appendToOutbox(List<PaymentCompletedEvent> events) {
+        List<Long> paidOrderIds = events.stream()
+                .filter(PaymentCompletedEvent::isSuccess)
+                .map(PaymentCompletedEvent::orderId)
+                .distinct()
+                .toList();
+        Map<Long, List<OrderItem>> itemsByOrderId =
+                orderRepository.findItemsByOrderIdsAndStatusNot(paidOrderIds, OrderStatus.CANCELLED);
+
+        for (PaymentCompletedEvent event : events) {
+            List<PaymentCompletedEvent.Item> items = event.isSuccess()
+                    ? itemsByOrderId.getOrDefault(event.orderId(), List.of()).stream()
+                            .map(item -> new PaymentCompletedEvent.Item(item.getProductId(), item.getQuantity()))
+                            .toList()
+                    : List.of();
+            outboxEventAppender.append("ORDER", event.orderId(), OutboxTopics.PAYMENT_EVENTS, event.withItems(items));
+        }
+    }
+
+    /**
+     * 결제 완료 이벤트 묶음의 주문 완료 처리
+     * - 결제가 성공한 주문을 주문마다 새 트랜잭션(REQUIRES_NEW)에서 잠그고 완료 처리한다
+     * - 한 트랜잭션에서 예외를 잡으면 rollback-only가 되어 커밋 시 묶음 전체가 롤백되므로,
+     *   주문 한 건의 실패는 그 주문의 트랜잭션만 롤백하고 나머지 주문은 계속 처리한다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void completeOrders(PaymentsCompletedEvent batch) {
+        List<Long> orderIds = batch.successfulOrderIds();
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        int completed = 0;
+        int missing = 0;
+        for (Long orderId : orderIds) {
+            try {
+                Boolean found = requiresNewTransaction.execute(status -> {
+                    List<Order> locked = orderRepository.findAllByIdsForUpdate(List.of(orderId));
+                    if (locked.isEmpty()) {
+                        return false;
+                    }
+                    completeOrderAndConfirmCoupon(locked.get(0));
+                    return true;
+                });
+                if (Boolean.TRUE.equals(found)) {
+                    completed++;
+                } else {
+                    missing++;
+                }
+            } catch (Exception e) {
+                log.error("[이벤트] 주문 완료 처리 실패: orderId={}, error={}", orderId, e.getMessage(), e);
+            }
+        }
+
+        if (missing > 0) {
+            log.warn("[이벤트] 완료 처리할 주문 중 찾을 수 없는 주문이 있습니다: 요청={}, 없음={}", orderIds.size(), missing);
+        }
+        log.info("[이벤트] 주문 일괄 완료 처리: 결제={}건, 주문={}건, 완료={}건", batch.size(), orderIds.size(), completed);
+    }
+
+    /**
+     * 주문을 완료 처리하고, 주문에 예약된 쿠폰을 사용 확정한다. (트랜잭션 안에서 호출)
+     */
+    private void completeOrderAndConfirmCoupon(Order order) {
+        order.complete();
+        orderRepository.save(order);
+
+        if (order.getCouponId() != null && !couponService.confirmCoupon(order.getCouponId(), order.getId())) {
+            log.warn("[이벤트] 예약된 쿠폰이 없어 사용 확정 스킵: orderId={}, couponId={}",
+                    order.getId(), order.getCouponId());
+        }
+    }
+
     /**
      * 결제 완료 후 데이터 플랫폼 전송
      * - 결제 트랜잭션이 커밋된 후 실행된다
@@ -101,4 +226,18 @@ public class PaymentEventHandler {
                     event.paymentId(), e.getMessage());
         }
     }
+
+    /**
+     * 결제 완료 이벤트 묶음의 사용자 행동 로깅
+     * - 묶음 단위로 한 번만 비동기 작업을 띄워, 결제 건마다 스레드를 쓰지 않는다
+     * - 데이터 플랫폼은 아웃박스로 기록한 payment-events를 구독해 받으므로 여기서 따로 전송하지 않는다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async
+    public void logUserActions(PaymentsCompletedEvent batch) {
+        for (PaymentCompletedEvent event : batch.events()) {
+            log.info("[사용자 행동 로그] 결제 완료: userId={}, paymentId={}, orderId={}, amount={}, status={}",
+                    event.userId(), event.paymentId(), event.orderId(), event.amount(), event.status());
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.loopers.application.payment.event;
+
+import com.loopers.domain.payment.Payment;
+
+import java.util.List;
+
+/**
+ * 결제 완료 이벤트 묶음
+ * - PG 콜백을 일괄 반영한 트랜잭션에서 한 번만 발행된다
+ * - 결제 건마다 이벤트를 발행하지 않고, 후속 처리(주문 완료 등)도 묶음 단위로 처리한다
+ */
+public record PaymentsCompletedEvent(
+        List<PaymentCompletedEvent> events
+) {
+    public static PaymentsCompletedEvent from(List<Payment> payments) {
+        return new PaymentsCompletedEvent(payments.stream()
+                .map(PaymentCompletedEvent::from)
+                .toList());
+    }
+
+    /**
+     * 결제가 성공한 주문 ID 목록
+     */
+    public List<Long> successfulOrderIds() {
+        return events.stream()
+                .filter(PaymentCompletedEvent::isSuccess)
+                .map(PaymentCompletedEvent::orderId)
+                .toList();
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
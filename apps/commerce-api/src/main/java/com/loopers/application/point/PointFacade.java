@@ -2,14 +2,21 @@ package com.loopers.application.point;
 
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointService;
+import com.loopers.domain.point.PointTransaction;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 @Service
 public class PointFacade {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PointService pointService;
 
     @Transactional(readOnly = true)
@@ -26,4 +33,28 @@ public class PointFacade {
         Point charged = pointService.charge(userId, amount);
         return PointInfo.from(charged);
     }
+
+    /**
+     * 포인트 거래 이력 조회 (최신순, 키셋 페이징)
+     *
+     * @param cursorId 이전 페이지의 nextCursorId (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public PointTransactionPage getTransactions(String userId, Long cursorId, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PointTransaction> transactions = pointService.getTransactions(userId, cursorId, size + 1);
+
+        boolean hasNext = transactions.size() > size;
+        List<PointTransaction> page = hasNext ? transactions.subList(0, size) : transactions;
+
+        return new PointTransactionPage(
+                page.stream().map(PointTransactionInfo::from).toList(),
+                hasNext,
+                hasNext ? page.get(page.size() - 1).getId() : null
+        );
+    }
 }
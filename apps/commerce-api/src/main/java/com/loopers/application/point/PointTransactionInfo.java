@@ -0,0 +1,24 @@
+package com.loopers.application.point;
+
+import com.loopers.domain.point.PointTransaction;
+import com.loopers.domain.point.PointTransactionType;
+
+import java.time.LocalDateTime;
+
+public record PointTransactionInfo(
+        Long transactionId,
+        PointTransactionType type,
+        Long amount,
+        Long balanceAfter,
+        LocalDateTime createdAt
+) {
+    public static PointTransactionInfo from(PointTransaction transaction) {
+        return new PointTransactionInfo(
+                transaction.getId(),
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getBalanceAfter(),
+                transaction.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.application.point;
+
+import java.util.List;
+
+/**
+ * 포인트 거래 이력 페이지
+ * - 다음 페이지는 nextCursorId를 커서로 넘겨 조회한다.
+ */
+public record PointTransactionPage(
+        List<PointTransactionInfo> transactions,
+        boolean hasNext,
+        Long nextCursorId
+) {
+}
@@ -6,8 +6,10 @@ import com.loopers.domain.product.ProductDetailService;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.infrastructure.cache.ProductCacheService;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -89,4 +91,15 @@ public class ProductFacade {
 
         return result;
     }
+
+    /**
+     * 상품 목록 정렬에 쓰는 좋아요 수 반영
+     * - commerce-streamer가 product_metrics 기준으로 발행한 좋아요 수를 그대로 덮어쓴다. (products.like_count는 여기서만 쓴다)
+     * - 목록 캐시는 지우지 않고 TTL(1분)로 맞춘다.
+     * @param likeCountsByProductId 상품 ID별 좋아요 수
+     */
+    @Transactional
+    public void updateLikeCounts(Map<Long, Integer> likeCountsByProductId) {
+        productRepository.updateLikeCounts(likeCountsByProductId);
+    }
 }
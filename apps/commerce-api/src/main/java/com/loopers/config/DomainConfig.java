@@ -8,6 +8,7 @@ import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.point.PointRepository;
 import com.loopers.domain.point.PointService;
+import com.loopers.domain.point.PointTransactionRepository;
 import com.loopers.domain.product.ProductDetailService;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.brand.BrandRepository;
@@ -30,9 +31,10 @@ public class DomainConfig {
             OrderRepository orderRepository,
             ProductRepository productRepository,
             com.loopers.domain.user.UserRepository userRepository,
-            PointService pointService
+            PointService pointService,
+            CouponService couponService
     ) {
-        return new OrderService(productRepository, userRepository, orderRepository, pointService);
+        return new OrderService(productRepository, userRepository, orderRepository, pointService, couponService);
     }
 
     @Bean
@@ -55,8 +57,9 @@ public class DomainConfig {
     @Bean
     public PointService pointService(
             PointRepository pointRepository,
+            PointTransactionRepository pointTransactionRepository,
             com.loopers.domain.user.UserRepository userRepository
     ) {
-        return new PointService(pointRepository, userRepository);
+        return new PointService(pointRepository, pointTransactionRepository, userRepository);
     }
 }
@@ -23,6 +23,7 @@ public class Coupon {
     private CouponType couponType;   // 쿠폰 타입 (정액/정률)
     private BigDecimal discountValue; // 할인 값 (정액: 금액, 정률: 퍼센트)
     private boolean isUsed;          // 사용 여부
+    private CouponStatus status;     // 쿠폰 상태 (사용 가능/예약/사용)
     private LocalDateTime usedAt;    // 사용 시각
     private LocalDateTime issuedAt;  // 발급 시각
     private LocalDateTime expiresAt; // 만료 시각
@@ -52,6 +53,7 @@ public class Coupon {
                 couponType,
                 discountValue,
                 false,
+                CouponStatus.AVAILABLE,
                 null,
                 now,
                 expiresAt
@@ -71,6 +73,35 @@ public class Coupon {
             LocalDateTime usedAt,
             LocalDateTime issuedAt,
             LocalDateTime expiresAt
+    ) {
+        return reconstruct(
+                id,
+                userId,
+                couponName,
+                couponType,
+                discountValue,
+                isUsed,
+                isUsed ? CouponStatus.USED : CouponStatus.AVAILABLE,
+                usedAt,
+                issuedAt,
+                expiresAt
+        );
+    }
+
+    /**
+     * 재구성 팩토리 메서드 (상태 포함, Infrastructure에서 사용)
+     */
+    public static Coupon reconstruct(
+            Long id,
+            String userId,
+            String couponName,
+            CouponType couponType,
+            BigDecimal discountValue,
+            boolean isUsed,
+            CouponStatus status,
+            LocalDateTime usedAt,
+            LocalDateTime issuedAt,
+            LocalDateTime expiresAt
     ) {
         return new Coupon(
                 id,
@@ -79,6 +110,7 @@ public class Coupon {
                 couponType,
                 discountValue,
                 isUsed,
+                status,
                 usedAt,
                 issuedAt,
                 expiresAt
@@ -95,15 +127,16 @@ public class Coupon {
         }
 
         this.isUsed = true;
+        this.status = CouponStatus.USED;
         this.usedAt = LocalDateTime.now();
     }
 
     /**
      * 쿠폰 사용 가능 여부 확인
-     * - 사용되지 않았고, 만료되지 않았어야 함
+     * - 사용되거나 주문에 예약되지 않았고, 만료되지 않았어야 함
      */
     public boolean canUse() {
-        return !isUsed && !isExpired();
+        return status == CouponStatus.AVAILABLE && !isExpired();
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.loopers.domain.coupon;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 선착순 쿠폰 캠페인 도메인 모델
+ * - 순수 도메인 객체 (JPA 의존성 없음)
+ * - 발급 기간 동안 정해진 수량만큼, 사용자당 한 장씩 쿠폰을 발급한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CouponCampaign {
+
+    private Long id;
+    private String name;                    // 캠페인 이름 (발급되는 쿠폰 이름)
+    private CouponType couponType;          // 쿠폰 타입 (정액/정률)
+    private BigDecimal discountValue;       // 할인 값
+    private int totalQuantity;              // 총 발급 수량
+    private LocalDateTime startsAt;         // 발급 시작 시각
+    private LocalDateTime endsAt;           // 발급 종료 시각
+    private LocalDateTime couponExpiresAt;  // 발급된 쿠폰의 만료 시각
+
+    /**
+     * 캠페인 생성 팩토리 메서드
+     */
+    public static CouponCampaign create(
+            String name,
+            CouponType couponType,
+            BigDecimal discountValue,
+            int totalQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime couponExpiresAt
+    ) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("캠페인 이름은 필수입니다");
+        }
+        if (couponType == null) {
+            throw new IllegalArgumentException("쿠폰 타입은 필수입니다");
+        }
+        if (discountValue == null || discountValue.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("할인 값은 0보다 커야 합니다");
+        }
+        if (totalQuantity <= 0) {
+            throw new IllegalArgumentException("발급 수량은 0보다 커야 합니다");
+        }
+        if (startsAt == null || endsAt == null || !startsAt.isBefore(endsAt)) {
+            throw new IllegalArgumentException("발급 종료 시각은 시작 시각 이후여야 합니다");
+        }
+        if (couponExpiresAt == null || couponExpiresAt.isBefore(endsAt)) {
+            throw new IllegalArgumentException("쿠폰 만료 시각은 발급 종료 시각 이후여야 합니다");
+        }
+
+        return new CouponCampaign(null, name, couponType, discountValue, totalQuantity, startsAt, endsAt, couponExpiresAt);
+    }
+
+    /**
+     * 재구성 팩토리 메서드 (Infrastructure에서 사용)
+     */
+    public static CouponCampaign reconstruct(
+            Long id,
+            String name,
+            CouponType couponType,
+            BigDecimal discountValue,
+            int totalQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime couponExpiresAt
+    ) {
+        return new CouponCampaign(id, name, couponType, discountValue, totalQuantity, startsAt, endsAt, couponExpiresAt);
+    }
+
+    /**
+     * 당첨자에게 발급할 쿠폰 생성
+     */
+    public Coupon issueTo(String userId) {
+        return Coupon.issue(userId, name, couponType, discountValue, couponExpiresAt);
+    }
+}
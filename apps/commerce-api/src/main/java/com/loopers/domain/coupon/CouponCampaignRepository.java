@@ -0,0 +1,20 @@
+package com.loopers.domain.coupon;
+
+import java.util.Optional;
+
+/**
+ * 쿠폰 캠페인 레포지토리 인터페이스
+ * - Infrastructure 레이어에서 구현
+ */
+public interface CouponCampaignRepository {
+
+    /**
+     * 캠페인 저장
+     */
+    CouponCampaign save(CouponCampaign campaign);
+
+    /**
+     * ID로 캠페인 조회
+     */
+    Optional<CouponCampaign> findById(Long id);
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.coupon;
+
+import java.math.BigDecimal;
+
+/**
+ * 쿠폰 할인 평가 결과
+ * - 주문 금액에 쿠폰을 적용했을 때의 할인 금액
+ */
+public record CouponDiscount(
+        Coupon coupon,
+        BigDecimal discountAmount
+) {
+}
@@ -0,0 +1,12 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 선착순 쿠폰 발급 시도 결과
+ */
+public enum CouponIssueResult {
+    ISSUED,     // 당첨 (쿠폰 저장은 비동기)
+    DUPLICATE,  // 이미 발급받은 사용자
+    SOLD_OUT,   // 수량 소진
+    NOT_OPEN,   // 발급 기간이 아님
+    NOT_FOUND   // 존재하지 않는 캠페인
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.coupon;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,45 @@ public interface CouponRepository {
      */
     Coupon save(Coupon coupon);
 
+    /**
+     * 캠페인 당첨 쿠폰 일괄 저장
+     * - 같은 캠페인에서 같은 사용자에게 이미 저장된 쿠폰은 건너뛴다. (재처리 시 중복 발급 방지)
+     */
+    void saveAllForCampaign(Long campaignId, List<Coupon> coupons);
+
+    /**
+     * 캠페인으로 발급된 쿠폰 수
+     */
+    long countByCampaignId(Long campaignId);
+
+    /**
+     * 쿠폰 즉시 사용 (AVAILABLE -> USED, 조건부 업데이트)
+     *
+     * @return 본인 소유의 사용 가능한 쿠폰이어서 사용 처리되었으면 true
+     */
+    boolean use(Long id, String userId);
+
+    /**
+     * 주문에 쿠폰 예약 (AVAILABLE -> RESERVED, 조건부 업데이트)
+     *
+     * @return 본인 소유의 사용 가능한 쿠폰이어서 예약되었으면 true
+     */
+    boolean reserve(Long id, String userId, Long orderId);
+
+    /**
+     * 예약된 쿠폰 사용 확정 (RESERVED -> USED, 조건부 업데이트)
+     *
+     * @return 해당 주문에 예약된 쿠폰이어서 확정되었으면 true
+     */
+    boolean confirm(Long id, Long orderId);
+
+    /**
+     * 주문들에 예약된 쿠폰 예약 해제 (RESERVED -> AVAILABLE)
+     *
+     * @return 예약 해제된 쿠폰 수
+     */
+    int releaseByOrderIds(Collection<Long> orderIds);
+
     /**
      * ID로 쿠폰 조회
      */
@@ -5,6 +5,8 @@ import com.loopers.support.error.ErrorType;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -35,22 +37,72 @@ public class CouponService {
 
     /**
      * 쿠폰 사용
-     * - 쿠폰 사용 가능 여부를 검증하고 사용 처리
+     * - 조건부 업데이트(AVAILABLE -> USED) 한 번으로 사용 처리하며, 행 락을 잡고 조회하지 않는다.
+     * - 업데이트에 실패한 경우에만 쿠폰을 조회해 실패 사유를 판별한다.
      */
     public Coupon useCoupon(Long couponId, String userId) {
-        // 비관적 락으로 쿠폰 조회
-        Coupon coupon = couponRepository.findByIdWithLock(couponId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 쿠폰입니다"));
+        if (!couponRepository.use(couponId, userId)) {
+            throw rejectionOf(couponId, userId);
+        }
+        return getCoupon(couponId);
+    }
+
+    /**
+     * 주문에 사용할 쿠폰 조회 (락 없음)
+     * - 할인 금액 계산용이며, 실제 선점은 reserveCoupon에서 조건부 업데이트로 한다.
+     */
+    public Coupon getUsableCoupon(Long couponId, String userId) {
+        Coupon coupon = getCoupon(couponId);
 
-        // 쿠폰 소유자 검증
         if (!coupon.isOwnedBy(userId)) {
             throw new CoreException(ErrorType.BAD_REQUEST, "본인의 쿠폰만 사용할 수 있습니다");
         }
+        if (!coupon.canUse()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "사용할 수 없는 쿠폰입니다");
+        }
+        return coupon;
+    }
 
-        // 쿠폰 사용 처리
-        coupon.use();
+    /**
+     * 주문에 쿠폰 예약 (AVAILABLE -> RESERVED)
+     * - 같은 쿠폰으로 동시에 주문하면 조건부 업데이트에 성공한 한 주문만 예약된다.
+     * - 예약에 실패하면 예외를 던져 주문 트랜잭션을 롤백한다.
+     */
+    public void reserveCoupon(Long couponId, String userId, Long orderId) {
+        if (!couponRepository.reserve(couponId, userId, orderId)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "사용할 수 없는 쿠폰입니다");
+        }
+    }
 
-        return couponRepository.save(coupon);
+    /**
+     * 예약된 쿠폰 사용 확정 (RESERVED -> USED)
+     * - 결제가 완료된 주문에서 호출한다.
+     *
+     * @return 확정되었으면 true (이미 확정되었거나 예약이 해제된 경우 false)
+     */
+    public boolean confirmCoupon(Long couponId, Long orderId) {
+        return couponRepository.confirm(couponId, orderId);
+    }
+
+    /**
+     * 주문들에 예약된 쿠폰 예약 해제 (RESERVED -> AVAILABLE)
+     * - 주문 취소/만료 시 호출하며, 이미 사용 확정된 쿠폰은 되돌리지 않는다.
+     *
+     * @return 예약 해제된 쿠폰 수
+     */
+    public int releaseCoupons(Collection<Long> orderIds) {
+        return couponRepository.releaseByOrderIds(orderIds);
+    }
+
+    /**
+     * 조건부 업데이트 실패 사유 판별
+     */
+    private RuntimeException rejectionOf(Long couponId, String userId) {
+        Coupon coupon = getCoupon(couponId);
+        if (!coupon.isOwnedBy(userId)) {
+            return new CoreException(ErrorType.BAD_REQUEST, "본인의 쿠폰만 사용할 수 있습니다");
+        }
+        return new IllegalStateException("사용할 수 없는 쿠폰입니다");
     }
 
     /**
@@ -87,4 +139,23 @@ public class CouponService {
 
         return coupon.calculateDiscount(originalAmount);
     }
+
+    /**
+     * 쿠폰별 할인 금액 평가
+     * - 후보 쿠폰 전체에 Coupon.calculateDiscount를 한 번에 적용하고, 할인 금액이 큰 순으로 정렬한다.
+     * - 할인 금액이 같으면 만료가 임박한 쿠폰을 먼저 둔다.
+     * - 캐시 등으로 받은 후보에 사용할 수 없는 쿠폰이 섞여 있으면 제외한다.
+     */
+    public List<CouponDiscount> evaluateDiscounts(List<Coupon> candidates, BigDecimal orderAmount) {
+        if (orderAmount == null || orderAmount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "주문 금액은 0보다 커야 합니다");
+        }
+
+        return candidates.stream()
+                .filter(Coupon::canUse)
+                .map(coupon -> new CouponDiscount(coupon, coupon.calculateDiscount(orderAmount)))
+                .sorted(Comparator.comparing(CouponDiscount::discountAmount).reversed()
+                        .thenComparing(discount -> discount.coupon().getExpiresAt()))
+                .toList();
+    }
 }
@@ -0,0 +1,13 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 쿠폰 상태
+ * - AVAILABLE: 사용 가능
+ * - RESERVED: 주문에 예약됨 (결제 완료 시 USED, 주문 취소/만료 시 AVAILABLE)
+ * - USED: 사용 완료
+ */
+public enum CouponStatus {
+    AVAILABLE,
+    RESERVED,
+    USED
+}
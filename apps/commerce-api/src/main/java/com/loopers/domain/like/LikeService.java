@@ -13,7 +13,7 @@ import java.util.List;
  * 좋아요 도메인 서비스
  * - 좋아요 등록/취소 비즈니스 로직
  * - 멱등성 보장
- * - Product의 likeCount 집계는 이벤트 핸들러에서 비동기로 처리 (eventual consistency)
+ * - Product의 likeCount 집계는 commerce-streamer가 like-events를 배치로 받아 처리 (eventual consistency)
  * - 트랜잭션 경계는 Application Layer에서 관리한다.
  */
 @RequiredArgsConstructor
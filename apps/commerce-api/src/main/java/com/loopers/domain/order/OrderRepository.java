@@ -1,6 +1,9 @@
 package com.loopers.domain.order;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -72,4 +75,72 @@ public interface OrderRepository {
      * @return 모든 주문 목록
      */
     List<Order> findAll();
+
+    /**
+     * 사용자의 주문 요약 목록 조회 (키셋 페이징)
+     * - 최신 주문부터 (orderedAt DESC, id DESC) 순으로 조회한다.
+     * - 주문 항목은 조회하지 않고 개수만 함께 가져온다.
+     *
+     * @param userId          사용자 ID
+     * @param statusOrNull    주문 상태 (null이면 전체)
+     * @param cursorOrderedAt 이전 페이지 마지막 주문의 주문 시각 (첫 페이지면 null)
+     * @param cursorOrderId   이전 페이지 마지막 주문의 ID (첫 페이지면 null)
+     * @param size            조회할 개수
+     * @return 주문 요약 목록
+     */
+    List<OrderSummary> findSummariesByUserId(String userId, OrderStatus statusOrNull,
+                                             LocalDateTime cursorOrderedAt, Long cursorOrderId, int size);
+
+    /**
+     * 여러 주문의 주문 항목을 한 번에 조회
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 ID별 주문 항목 목록
+     */
+    Map<Long, List<OrderItem>> findItemsByOrderIds(Collection<Long> orderIds);
+
+    /**
+     * 여러 주문 중 주어진 상태가 아닌 주문의 주문 항목을 한 번에 조회
+     *
+     * @param orderIds       주문 ID 목록
+     * @param excludedStatus 제외할 주문 상태
+     * @return 주문 ID별 주문 항목 목록
+     */
+    Map<Long, List<OrderItem>> findItemsByOrderIdsAndStatusNot(Collection<Long> orderIds, OrderStatus excludedStatus);
+
+    /**
+     * 만료 대상 주문을 잠그고 조회 (키셋 청크)
+     * - (orderedAt, id) 오름차순으로 커서 이후의 주문을 조회한다.
+     * - 다른 트랜잭션이 잠근 주문은 건너뛴다. (SKIP LOCKED)
+     * - 주문 ID를 partitionCount로 나눈 나머지가 partitionIndex인 주문만 조회한다. (노드별 분담, 나누지 않으면 1/0)
+     * - 성공한 결제, PG 거래 키를 받은 PENDING 결제, orderedBefore 이후에 생성된 PENDING 결제가 있는 주문은 제외한다.
+     *
+     * @param orderedBefore   이 시각 이전에 생성된 주문만 대상
+     * @param cursorOrderedAt 이전 청크 마지막 주문의 주문 시각 (첫 청크면 null)
+     * @param cursorOrderId   이전 청크 마지막 주문의 ID (첫 청크면 null)
+     * @param partitionIndex  담당 파티션 번호
+     * @param partitionCount  전체 파티션 수
+     * @param size            청크 크기
+     * @return 만료 대상 주문 목록
+     */
+    List<Order> findExpiredPendingOrdersForUpdate(LocalDateTime orderedBefore, LocalDateTime cursorOrderedAt,
+                                                  Long cursorOrderId, int partitionIndex, int partitionCount, int size);
+
+    /**
+     * 여러 주문을 ID 순으로 잠그고 조회
+     * - 여러 트랜잭션이 같은 주문을 잠글 때 데드락이 나지 않도록 ID 오름차순으로 잠근다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 주문 목록 (존재하는 주문만)
+     */
+    List<Order> findAllByIdsForUpdate(Collection<Long> orderIds);
+
+    /**
+     * 여러 주문을 한 번에 취소 상태로 변경
+     * - PENDING 상태인 주문만 변경한다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 변경된 주문 수
+     */
+    int cancelAll(Collection<Long> orderIds);
 }
@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.point.PointService;
@@ -7,6 +8,8 @@ import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -18,15 +21,18 @@ public class OrderService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final PointService pointService;
+    private final CouponService couponService;
 
     public OrderService(ProductRepository productRepository,
                         UserRepository userRepository,
                         OrderRepository orderRepository,
-                        PointService pointService) {
+                        PointService pointService,
+                        CouponService couponService) {
         this.productRepository = productRepository;
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
         this.pointService = pointService;
+        this.couponService = couponService;
     }
 
     /**
@@ -101,9 +107,10 @@ public class OrderService {
 
     /**
      * 주문 취소
-     * - 주문 상태 변경
-     * - 재고 복구
-     * - 포인트 복구
+     * - 주문 상태 변경 (조건부 업데이트)
+     * - 재고 복구 (상품 ID 순 delta 배치 업데이트)
+     * - 포인트 복구 (단일 delta 업데이트)
+     * - 이미 취소된 주문은 다시 복구하지 않는다 (멱등)
      *
      * @param orderId 주문 ID
      * @param userId  사용자 ID (권한 확인용)
@@ -118,29 +125,82 @@ public class OrderService {
             throw new IllegalStateException("본인의 주문만 취소할 수 있습니다");
         }
 
+        if (order.isCancelled()) {
+            return;
+        }
+
         // 3. 주문 취소 (도메인 로직)
         order.cancel();
 
-        // 4. 재고 복구
-        for (OrderItem item : order.getOrderItems()) {
-            Product product = productRepository.findById(item.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + item.getProductId()));
+        // 4. 상태 변경, 재고/포인트 복구
+        applyCancellation(List.of(order));
+    }
 
-            product.increaseStock(item.getQuantity());
-            productRepository.save(product);
+    /**
+     * 주문 일괄 취소 (미결제 주문 만료, 캠페인 취소 등)
+     * - 주문 상태 변경은 Order.cancel() 도메인 규칙을 그대로 따르며, PENDING 주문만 취소한다.
+     * - 상태 변경은 조건부 일괄 업데이트로 반영하고, 다른 요청이 먼저 상태를 바꿨다면 전체를 롤백한다.
+     * - 재고 복구와 포인트 환불은 상품/사용자별로 합산해 한 번에 반영한다.
+     *
+     * @param orders 취소할 주문 목록
+     * @return 실제로 취소된 주문 목록
+     */
+    public List<Order> cancelOrders(List<Order> orders) {
+        List<Order> cancellable = orders.stream()
+                .filter(Order::isPending)
+                .collect(Collectors.toList());
+        if (cancellable.isEmpty()) {
+            return List.of();
         }
 
-        // 5. 포인트 복구 (Point 도메인)
-        if (order.getUsedPoints() > 0) {
-            pointService.refund(userId, (long) order.getUsedPoints());
+        // 1. 주문 취소 (도메인 로직)
+        cancellable.forEach(Order::cancel);
+
+        // 2. 상태 변경, 재고/포인트 복구
+        applyCancellation(cancellable);
+
+        return cancellable;
+    }
+
+    /**
+     * 취소된 주문들의 상태 변경과 재고/포인트 복구를 한 번에 반영한다.
+     * - 상태는 PENDING인 주문만 조건부로 변경하며, 다른 요청이 먼저 상태를 바꿨다면 예외로 롤백한다.
+     * - 재고는 상품별, 포인트는 사용자별로 합산해 각각 한 번의 배치로 반영한다.
+     * - 주문에 예약된 쿠폰은 한 번의 조건부 업데이트로 예약을 해제한다.
+     */
+    private void applyCancellation(List<Order> cancelledOrders) {
+        // 1. 주문 상태 일괄 변경 (PENDING인 주문만)
+        List<Long> orderIds = cancelledOrders.stream().map(Order::getId).collect(Collectors.toList());
+        int updated = orderRepository.cancelAll(orderIds);
+        if (updated != cancelledOrders.size()) {
+            throw new IllegalStateException(
+                    String.format("다른 요청에 의해 주문 상태가 변경되었습니다. 요청: %d, 변경: %d", cancelledOrders.size(), updated));
         }
 
-        // 6. 주문 저장
-        orderRepository.save(order);
+        // 2. 재고 일괄 복구
+        Map<Long, Integer> quantitiesByProductId = cancelledOrders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .collect(Collectors.groupingBy(OrderItem::getProductId, Collectors.summingInt(OrderItem::getQuantity)));
+        productRepository.increaseStocks(quantitiesByProductId);
+
+        // 3. 포인트 일괄 환불
+        Map<String, Long> refundsByUserId = cancelledOrders.stream()
+                .collect(Collectors.groupingBy(Order::getUserId, Collectors.summingLong(Order::getUsedPoints)));
+        pointService.refundAll(refundsByUserId);
+
+        // 4. 쿠폰 예약 일괄 해제
+        List<Long> couponOrderIds = cancelledOrders.stream()
+                .filter(order -> Objects.nonNull(order.getCouponId()))
+                .map(Order::getId)
+                .collect(Collectors.toList());
+        if (!couponOrderIds.isEmpty()) {
+            couponService.releaseCoupons(couponOrderIds);
+        }
     }
 
     /**
      * 주문 완료
+     * - 주문에 예약된 쿠폰이 있으면 사용 확정한다.
      *
      * @param orderId 주문 ID
      */
@@ -150,6 +210,10 @@ public class OrderService {
 
         order.complete();
         orderRepository.save(order);
+
+        if (order.getCouponId() != null) {
+            couponService.confirmCoupon(order.getCouponId(), order.getId());
+        }
     }
 
     /**
@@ -0,0 +1,17 @@
+package com.loopers.domain.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 요약 도메인 VO
+ * - 주문 목록 조회용 불변 값 객체 (주문 항목은 포함하지 않고 개수만 가진다)
+ */
+public record OrderSummary(
+        Long orderId,
+        OrderStatus status,
+        BigDecimal finalAmount,
+        LocalDateTime orderedAt,
+        long itemCount
+) {
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,16 @@ public interface PaymentRepository {
      */
     Optional<Payment> findByPgTransactionKey(String pgTransactionKey);
 
+    /**
+     * PG 트랜잭션 키 목록으로 결제를 한 번에 조회하고 잠근다. (콜백 일괄 반영용, ID 순으로 잠근다)
+     */
+    List<Payment> findAllByPgTransactionKeysForUpdate(Collection<String> pgTransactionKeys);
+
+    /**
+     * 결제 상태를 한 번에 반영한다. (상태, 실패 사유, 수정 시각만 갱신)
+     */
+    void updateStatuses(List<Payment> payments);
+
     /**
      * 주문 ID로 결제 목록 조회
      */
@@ -36,7 +48,33 @@ public interface PaymentRepository {
     List<Payment> findByUserIdAndOrderId(String userId, Long orderId);
 
     /**
-     * PENDING 상태인 결제 목록 조회 (스케줄러용)
+     * PENDING 상태인 결제 목록 조회 (스케줄러용, 키셋 페이징)
+     * - (createdAt, id) 순서로 커서 다음부터 size건을 조회한다.
+     * - 결제 ID를 partitionCount로 나눈 나머지가 partitionIndex인 결제만 조회한다. (노드별 분담, 나누지 않으면 1/0)
+     *
+     * @param createdBefore   이 시각 이전에 생성된 결제만 조회
+     * @param cursorCreatedAt 이전 페이지 마지막 결제의 생성 시각 (첫 페이지면 null)
+     * @param cursorId        이전 페이지 마지막 결제의 ID (첫 페이지면 null)
+     * @param partitionIndex  담당 파티션 번호
+     * @param partitionCount  전체 파티션 수
+     * @param size            페이지 크기
+     */
+    List<Payment> findPendingPayments(LocalDateTime createdBefore, LocalDateTime cursorCreatedAt, Long cursorId,
+                                      int partitionIndex, int partitionCount, int size);
+
+    /**
+     * 주문들의 PG 거래 키 없이 오래된 PENDING 결제를 일괄 실패 처리
+     * - 서킷 브레이커 폴백 등으로 키를 받지 못한 결제는 동기화할 수 없어 PENDING으로 남으므로, 주문 만료 시 함께 정리한다.
+     *
+     * @param orderIds      주문 ID 목록
+     * @param createdBefore 이 시각 이전에 생성된 결제만 대상
+     * @param reason        실패 사유
+     * @return 실패 처리된 결제 수
+     */
+    int failStalePendingWithoutTransactionKey(Collection<Long> orderIds, LocalDateTime createdBefore, String reason);
+
+    /**
+     * PENDING 상태인 결제 수
      */
-    List<Payment> findPendingPayments();
+    long countPendingPayments();
 }
@@ -32,20 +32,23 @@ public class Point {
         return new Point(userId, initialAmount);
     }
 
-    public void add(Long amount) {
+    /**
+     * 충전/환불로 추가할 금액 검증
+     * - 잔액은 엔티티를 고치지 않고 PointRepository의 조건부 UPDATE로 바꾸므로, 도메인은 금액 규칙만 맡는다.
+     */
+    public static void validateIncreaseAmount(Long amount) {
         if (amount == null || amount <= 0) {
             throw new CoreException(ErrorType.BAD_REQUEST, "추가할 포인트는 0보다 커야 합니다.");
         }
-        this.amount += amount;
     }
 
-    public void deduct(Long amount) {
+    /**
+     * 사용으로 차감할 금액 검증
+     * - 잔액 부족은 조건부 UPDATE(amount >= ?)가 판단한다.
+     */
+    public static void validateDecreaseAmount(Long amount) {
         if (amount == null || amount <= 0) {
             throw new CoreException(ErrorType.BAD_REQUEST, "차감할 포인트는 0보다 커야 합니다.");
         }
-        if (this.amount < amount) {
-            throw new CoreException(ErrorType.BAD_REQUEST, "포인트가 부족합니다.");
-        }
-        this.amount -= amount;
     }
 }
@@ -1,9 +1,37 @@
 package com.loopers.domain.point;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface PointRepository {
     Point save(Point point);
 
     Optional<Point> findByUserId(String userId);
+
+    /**
+     * 포인트 행이 있을 때만 잔액을 늘린다. (엔티티 조회 없이 delta 업데이트)
+     *
+     * @return 갱신 여부 (포인트 행이 없으면 false)
+     */
+    boolean increaseAmount(String userId, long amount);
+
+    /**
+     * 잔액이 충분할 때만 차감한다.
+     * - UPDATE ... WHERE amount >= ? 조건으로 잔액 확인과 차감을 한 문장에서 처리한다.
+     *
+     * @return 차감 여부 (잔액 부족 또는 포인트 행이 없으면 false)
+     */
+    boolean decreaseAmount(String userId, long amount);
+
+    /**
+     * 잔액을 늘리고, 포인트 행이 없으면 해당 금액으로 생성한다.
+     */
+    void increaseOrCreate(String userId, long amount);
+
+    /**
+     * 여러 사용자의 포인트를 한 번에 늘린다. (주문 취소 환불, 캠페인 일괄 적립 등)
+     * - 엔티티를 조회하지 않고 delta 업데이트를 배치로 실행한다. (포인트 행이 없으면 생성)
+     * - 데드락을 피하기 위해 사용자 ID 오름차순으로 갱신한다.
+     */
+    void increaseOrCreateAll(Map<String, Long> amountsByUserId);
 }
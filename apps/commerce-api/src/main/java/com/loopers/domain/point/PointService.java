@@ -6,11 +6,23 @@ import com.loopers.support.error.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 서비스
+ * - 잔액 변경은 엔티티를 조회/저장하지 않고 조건부 UPDATE 한 번 + 원장 INSERT 한 번으로 처리한다.
+ * - 사용자 존재 여부는 UPDATE가 실패했을 때만 확인한다.
+ */
 @RequiredArgsConstructor
 @Component
 public class PointService {
 
     private final PointRepository pointRepository;
+    private final PointTransactionRepository pointTransactionRepository;
     private final UserRepository userRepository;
 
     public Point getPointByUserId(String userId) {
@@ -22,42 +34,96 @@ public class PointService {
         return pointRepository.save(point);
     }
 
+    /**
+     * 포인트 충전
+     *
+     * @return 충전 후 포인트
+     */
     public Point charge(String userId, Long amount) {
-        // 사용자 존재 여부 확인
-        if (!userRepository.existsById(userId)) {
-            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다: " + userId);
-        }
-        // 포인트 조회 또는 초기화
-        Point point = pointRepository.findByUserId(userId)
-                .orElseGet(() -> Point.create(userId, 0L));
-        // 충전 (도메인 검증 포함)
-        point.add(amount);
-        return pointRepository.save(point);
+        Point.validateIncreaseAmount(amount);
+        increase(userId, amount);
+        pointTransactionRepository.append(userId, PointTransactionType.CHARGE, amount, LocalDateTime.now());
+        return pointRepository.findByUserId(userId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "포인트 정보를 찾을 수 없습니다: " + userId));
     }
 
     /**
      * 포인트 차감 (주문 등 사용)
      */
-    public Point consume(String userId, Long amount) {
-        if (!userRepository.existsById(userId)) {
-            throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다: " + userId);
+    public void consume(String userId, Long amount) {
+        Point.validateDecreaseAmount(amount);
+        if (!pointRepository.decreaseAmount(userId, amount)) {
+            validateUserExists(userId);
+            throw new CoreException(ErrorType.BAD_REQUEST, "포인트가 부족합니다.");
         }
-        Point point = pointRepository.findByUserId(userId)
-                .orElseGet(() -> Point.create(userId, 0L));
-        point.deduct(amount);
-        return pointRepository.save(point);
+        pointTransactionRepository.append(userId, PointTransactionType.USE, amount, LocalDateTime.now());
     }
 
     /**
      * 포인트 환불/복구 (주문 취소 등)
      */
-    public Point refund(String userId, Long amount) {
+    public void refund(String userId, Long amount) {
+        Point.validateIncreaseAmount(amount);
+        increase(userId, amount);
+        pointTransactionRepository.append(userId, PointTransactionType.REFUND, amount, LocalDateTime.now());
+    }
+
+    /**
+     * 포인트 일괄 환불 (주문 만료/일괄 취소 등)
+     * - 환불 금액이 0 이하인 사용자는 제외한다.
+     *
+     * @param amountsByUserId 사용자 ID별 환불 금액
+     */
+    public void refundAll(Map<String, Long> amountsByUserId) {
+        Map<String, Long> refunds = amountsByUserId.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        pointRepository.increaseOrCreateAll(refunds);
+        pointTransactionRepository.appendAll(refunds, PointTransactionType.REFUND, LocalDateTime.now());
+    }
+
+    /**
+     * 포인트 일괄 적립 (캠페인 지급)
+     * - 존재하지 않는 사용자와 0 이하 금액은 건너뛴다.
+     * - 잔액은 멀티 로우 upsert로, 원장은 JDBC 배치로 한 번에 기록한다.
+     *
+     * @param amountsByUserId 사용자 ID별 적립 금액
+     * @return 실제로 적립한 사용자 수
+     */
+    public int creditAll(Map<String, Long> amountsByUserId) {
+        Set<String> existingUserIds = userRepository.findExistingIds(amountsByUserId.keySet());
+        Map<String, Long> credits = amountsByUserId.entrySet().stream()
+                .filter(entry -> existingUserIds.contains(entry.getKey()))
+                .filter(entry -> entry.getValue() != null && entry.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        pointRepository.increaseOrCreateAll(credits);
+        pointTransactionRepository.appendAll(credits, PointTransactionType.CREDIT, LocalDateTime.now());
+        return credits.size();
+    }
+
+    /**
+     * 포인트 거래 이력 조회 (최신순, 키셋 페이징)
+     */
+    public List<PointTransaction> getTransactions(String userId, Long cursorId, int size) {
+        return pointTransactionRepository.findByUserId(userId, cursorId, size);
+    }
+
+    /**
+     * 잔액 증가
+     * - 포인트 행이 있으면 UPDATE 한 번으로 끝난다.
+     * - 처음 적립하는 사용자만 존재 여부를 확인한 뒤 행을 생성한다.
+     */
+    private void increase(String userId, long amount) {
+        if (pointRepository.increaseAmount(userId, amount)) {
+            return;
+        }
+        validateUserExists(userId);
+        pointRepository.increaseOrCreate(userId, amount);
+    }
+
+    private void validateUserExists(String userId) {
         if (!userRepository.existsById(userId)) {
             throw new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 사용자입니다: " + userId);
         }
-        Point point = pointRepository.findByUserId(userId)
-                .orElseGet(() -> Point.create(userId, 0L));
-        point.add(amount);
-        return pointRepository.save(point);
     }
 }
@@ -0,0 +1,53 @@
+package com.loopers.domain.point;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 거래 원장 (append-only)
+ * - 잔액이 바뀔 때마다 한 행씩 추가만 하고 수정/삭제하지 않는다.
+ * - balanceAfter에 거래 직후 잔액을 함께 남겨, 이력 조회 시 잔액을 다시 계산하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "point_transactions",
+        indexes = {
+                @Index(name = "idx_user_id_id", columnList = "userId, id")
+        }
+)
+public class PointTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointTransactionType type;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private Long balanceAfter;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
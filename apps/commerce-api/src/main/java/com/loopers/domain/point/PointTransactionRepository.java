@@ -0,0 +1,26 @@
+package com.loopers.domain.point;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public interface PointTransactionRepository {
+
+    /**
+     * 원장에 거래 한 건을 추가한다.
+     * - 같은 트랜잭션에서 갱신한 points 행의 잔액을 거래 직후 잔액으로 함께 기록한다.
+     */
+    void append(String userId, PointTransactionType type, long amount, LocalDateTime createdAt);
+
+    /**
+     * 여러 사용자의 거래를 한 번에 원장에 추가한다.
+     */
+    void appendAll(Map<String, Long> amountsByUserId, PointTransactionType type, LocalDateTime createdAt);
+
+    /**
+     * 사용자의 거래 이력을 최신순으로 조회한다. (id 기준 키셋 페이징)
+     *
+     * @param cursorId 이전 페이지 마지막 거래 ID (첫 페이지는 null)
+     */
+    List<PointTransaction> findByUserId(String userId, Long cursorId, int size);
+}
@@ -0,0 +1,15 @@
+package com.loopers.domain.point;
+
+/**
+ * 포인트 거래 유형
+ * - CHARGE: 충전
+ * - USE: 사용 (주문 시 차감)
+ * - REFUND: 환불 (주문 취소/만료 시 복구)
+ * - CREDIT: 적립 (캠페인 일괄 지급)
+ */
+public enum PointTransactionType {
+    CHARGE,
+    USE,
+    REFUND,
+    CREDIT
+}
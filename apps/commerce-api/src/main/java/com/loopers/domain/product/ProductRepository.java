@@ -1,6 +1,7 @@
 package com.loopers.domain.product;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -84,4 +85,22 @@ public interface ProductRepository {
      * @param productId 상품 ID
      */
     void deleteById(Long productId);
+
+    /**
+     * 여러 상품의 재고를 한 번에 증가 (주문 취소 등 재고 복구)
+     * - 엔티티를 조회하지 않고 delta 업데이트(stock = stock + ?)를 배치로 실행한다.
+     * - 데드락을 피하기 위해 상품 ID 오름차순으로 갱신한다.
+     *
+     * @param quantitiesByProductId 상품 ID별 증가 수량
+     */
+    void increaseStocks(Map<Long, Integer> quantitiesByProductId);
+
+    /**
+     * 여러 상품의 좋아요 수를 한 번에 덮어쓴다 (상품 목록 정렬용)
+     * - commerce-streamer가 product_metrics 기준으로 발행한 좋아요 수를 그대로 쓴다.
+     * - 데드락을 피하기 위해 상품 ID 오름차순으로 갱신한다.
+     *
+     * @param likeCountsByProductId 상품 ID별 좋아요 수
+     */
+    void updateLikeCounts(Map<Long, Integer> likeCountsByProductId);
 }
@@ -1,6 +1,8 @@
 package com.loopers.domain.user;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserRepository {
     User save(User user);
@@ -8,4 +10,9 @@ public interface UserRepository {
     Optional<User> findById(String id);
 
     boolean existsById(String id);
+
+    /**
+     * 주어진 ID 중 실제로 존재하는 사용자 ID만 반환한다.
+     */
+    Set<String> findExistingIds(Collection<String> ids);
 }
@@ -0,0 +1,165 @@
+package com.loopers.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponStatus;
+import com.loopers.domain.coupon.CouponType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용 가능 쿠폰 캐시 서비스
+ * - 사용자별 사용 가능 쿠폰 목록을 Redis에 저장해 주문서 화면마다 DB를 조회하지 않게 한다.
+ * - 발급/사용/예약/예약 해제 시 이벤트로 무효화한다.
+ * - TTL: 최대 10분, 가장 먼저 만료되는 쿠폰의 만료 시각을 넘기지 않는다. (만료는 TTL로 반영)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponCacheService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 캐시 키 접두사
+    private static final String AVAILABLE_COUPONS_KEY_PREFIX = "coupon:available:";
+
+    // TTL 설정
+    private static final Duration MAX_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 사용 가능 쿠폰 캐시 조회
+     * - TTL이 끝나기 전에 만료된 쿠폰이 있으면 제외하고 돌려준다.
+     */
+    public Optional<List<Coupon>> getAvailableCoupons(String userId) {
+        String key = buildAvailableCouponsKey(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached == null) {
+                log.debug("[캐시 MISS] 사용 가능 쿠폰 조회: userId={}", userId);
+                return Optional.empty();
+            }
+            log.debug("[캐시 HIT] 사용 가능 쿠폰 조회: userId={}", userId);
+            List<CachedCoupon> coupons = objectMapper.readValue(cached,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, CachedCoupon.class));
+            return Optional.of(coupons.stream()
+                    .map(CachedCoupon::toDomain)
+                    .filter(Coupon::canUse)
+                    .toList());
+        } catch (JsonProcessingException e) {
+            log.warn("사용 가능 쿠폰 캐시 역직렬화 실패: userId={}, error={}", userId, e.getMessage());
+            // 캐시 에러 시 빈 값 반환하여 DB 조회로 폴백
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("사용 가능 쿠폰 캐시 조회 중 예외 발생: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용 가능 쿠폰 캐시 저장
+     * - 가장 먼저 만료되는 쿠폰의 만료 시각까지만 캐시한다.
+     */
+    public void cacheAvailableCoupons(String userId, List<Coupon> coupons) {
+        String key = buildAvailableCouponsKey(userId);
+        Duration ttl = ttlOf(coupons, LocalDateTime.now());
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        try {
+            List<CachedCoupon> values = coupons.stream().map(CachedCoupon::from).toList();
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(values), ttl);
+            log.debug("[캐시 저장] 사용 가능 쿠폰: userId={}, count={}, ttl={}초", userId, coupons.size(), ttl.toSeconds());
+        } catch (JsonProcessingException e) {
+            log.warn("사용 가능 쿠폰 캐시 직렬화 실패: userId={}, error={}", userId, e.getMessage());
+        } catch (Exception e) {
+            log.warn("사용 가능 쿠폰 캐시 저장 중 예외 발생: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자들의 사용 가능 쿠폰 캐시 무효화
+     * - 쿠폰이 발급/사용/예약/예약 해제되었을 때 호출한다.
+     */
+    public void evictAvailableCoupons(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(userIds.stream().map(this::buildAvailableCouponsKey).toList());
+            log.debug("[캐시 무효화] 사용 가능 쿠폰: userCount={}", userIds.size());
+        } catch (Exception e) {
+            log.warn("사용 가능 쿠폰 캐시 무효화 중 예외 발생: userCount={}, error={}", userIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 TTL 계산
+     * - 쿠폰이 없으면 최대 TTL, 있으면 가장 이른 만료 시각까지 남은 시간과 최대 TTL 중 작은 값
+     */
+    static Duration ttlOf(List<Coupon> coupons, LocalDateTime now) {
+        return coupons.stream()
+                .map(Coupon::getExpiresAt)
+                .min(Comparator.naturalOrder())
+                .map(earliest -> Duration.between(now, earliest))
+                .filter(untilExpiry -> untilExpiry.compareTo(MAX_TTL) < 0)
+                .orElse(MAX_TTL);
+    }
+
+    // 캐시 키 생성
+    private String buildAvailableCouponsKey(String userId) {
+        return AVAILABLE_COUPONS_KEY_PREFIX + userId;
+    }
+
+    /**
+     * 캐시 저장용 쿠폰 (사용 가능 쿠폰만 저장하므로 사용 정보는 두지 않는다)
+     */
+    record CachedCoupon(
+            Long id,
+            String userId,
+            String couponName,
+            CouponType couponType,
+            BigDecimal discountValue,
+            LocalDateTime issuedAt,
+            LocalDateTime expiresAt
+    ) {
+        static CachedCoupon from(Coupon coupon) {
+            return new CachedCoupon(
+                    coupon.getId(),
+                    coupon.getUserId(),
+                    coupon.getCouponName(),
+                    coupon.getCouponType(),
+                    coupon.getDiscountValue(),
+                    coupon.getIssuedAt(),
+                    coupon.getExpiresAt()
+            );
+        }
+
+        Coupon toDomain() {
+            return Coupon.reconstruct(
+                    id,
+                    userId,
+                    couponName,
+                    couponType,
+                    discountValue,
+                    false,
+                    CouponStatus.AVAILABLE,
+                    null,
+                    issuedAt,
+                    expiresAt
+            );
+        }
+    }
+}
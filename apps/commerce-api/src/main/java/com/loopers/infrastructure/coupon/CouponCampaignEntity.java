@@ -0,0 +1,93 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 캠페인 JPA Entity
+ * - 발급 수량/중복 발급 제어는 Redis에서 하고, 이 테이블은 캠페인 정의만 보관한다.
+ */
+@Entity
+@Table(name = "coupon_campaigns")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponCampaignEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponType couponType;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(nullable = false)
+    private int totalQuantity;
+
+    @Column(nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endsAt;
+
+    @Column(nullable = false)
+    private LocalDateTime couponExpiresAt;
+
+    private CouponCampaignEntity(
+            String name,
+            CouponType couponType,
+            BigDecimal discountValue,
+            int totalQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime couponExpiresAt
+    ) {
+        this.name = name;
+        this.couponType = couponType;
+        this.discountValue = discountValue;
+        this.totalQuantity = totalQuantity;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.couponExpiresAt = couponExpiresAt;
+    }
+
+    // === Domain <-> Entity 변환 ===
+
+    public static CouponCampaignEntity from(CouponCampaign campaign) {
+        return new CouponCampaignEntity(
+                campaign.getName(),
+                campaign.getCouponType(),
+                campaign.getDiscountValue(),
+                campaign.getTotalQuantity(),
+                campaign.getStartsAt(),
+                campaign.getEndsAt(),
+                campaign.getCouponExpiresAt()
+        );
+    }
+
+    public CouponCampaign toDomain() {
+        return CouponCampaign.reconstruct(
+                this.id,
+                this.name,
+                this.couponType,
+                this.discountValue,
+                this.totalQuantity,
+                this.startsAt,
+                this.endsAt,
+                this.couponExpiresAt
+        );
+    }
+}
@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.coupon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 쿠폰 캠페인 JPA Repository
+ */
+public interface CouponCampaignJpaRepository extends JpaRepository<CouponCampaignEntity, Long> {
+}
@@ -0,0 +1,177 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponIssueResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 쿠폰 발급 Redis 저장소
+ * - 남은 수량 차감, 사용자별 중복 발급 방지, 당첨자 적재를 Lua 스크립트 하나로 원자적으로 처리한다.
+ * - MySQL에는 당첨자만 비동기로 저장되므로, 발급 경쟁 트래픽은 DB에 닿지 않는다.
+ * - 키는 캠페인 ID를 해시 태그({id})로 묶어 클러스터에서도 같은 슬롯에 놓이게 한다.
+ */
+@Slf4j
+@Component
+public class CouponCampaignRedisStore {
+
+    private static final String KEY_PREFIX = "coupon-campaign:";
+    private static final String ACTIVE_CAMPAIGNS_KEY = KEY_PREFIX + "active";
+
+    // 발급 종료 후에도 중복 판정/적재분 처리를 위해 잠시 보관
+    private static final Duration RETENTION_AFTER_END = Duration.ofDays(1);
+
+    /**
+     * KEYS[1] = 캠페인 메타(hash), KEYS[2] = 발급 사용자(set), KEYS[3] = 당첨자 대기열(list)
+     * ARGV[1] = 사용자 ID, ARGV[2] = 현재 시각(epoch millis), ARGV[3] = 종료 후 보관 기간(millis)
+     * 반환: 1 발급, 0 소진, -1 중복, -2 기간 아님, -3 캠페인 없음
+     */
+    private static final DefaultRedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+            local meta = redis.call('HMGET', KEYS[1], 'remaining', 'startsAt', 'endsAt')
+            if not meta[1] then
+                return -3
+            end
+            local now = tonumber(ARGV[2])
+            if now < tonumber(meta[2]) or now >= tonumber(meta[3]) then
+                return -2
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return -1
+            end
+            if tonumber(meta[1]) <= 0 then
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'remaining', -1)
+            redis.call('SADD', KEYS[2], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[2], tonumber(meta[3]) + tonumber(ARGV[3]))
+            redis.call('RPUSH', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CouponCampaignRedisStore(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 캠페인 발급 수량을 등록한다.
+     * - 이미 등록된 캠페인이면 남은 수량을 덮어쓰지 않는다.
+     */
+    public void open(CouponCampaign campaign) {
+        String metaKey = metaKey(campaign.getId());
+        redisTemplate.opsForHash().putIfAbsent(metaKey, "remaining", String.valueOf(campaign.getTotalQuantity()));
+        redisTemplate.opsForHash().putAll(metaKey, Map.of(
+                "startsAt", String.valueOf(toEpochMillis(campaign.getStartsAt())),
+                "endsAt", String.valueOf(toEpochMillis(campaign.getEndsAt()))
+        ));
+
+        Date expireAt = Date.from(campaign.getEndsAt().plus(RETENTION_AFTER_END).atZone(ZoneId.systemDefault()).toInstant());
+        redisTemplate.expireAt(metaKey, expireAt);
+        redisTemplate.opsForSet().add(ACTIVE_CAMPAIGNS_KEY, String.valueOf(campaign.getId()));
+    }
+
+    /**
+     * 발급을 시도한다. (수량 차감 + 중복 확인 + 당첨자 적재를 원자적으로 처리)
+     */
+    public CouponIssueResult tryIssue(Long campaignId, String userId) {
+        Long result = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(metaKey(campaignId), issuedKey(campaignId), queueKey(campaignId)),
+                userId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(RETENTION_AFTER_END.toMillis())
+        );
+
+        if (result == null) {
+            throw new IllegalStateException("쿠폰 발급 스크립트 결과가 없습니다: campaignId=" + campaignId);
+        }
+        return switch (result.intValue()) {
+            case 1 -> CouponIssueResult.ISSUED;
+            case 0 -> CouponIssueResult.SOLD_OUT;
+            case -1 -> CouponIssueResult.DUPLICATE;
+            case -2 -> CouponIssueResult.NOT_OPEN;
+            default -> CouponIssueResult.NOT_FOUND;
+        };
+    }
+
+    /**
+     * 남은 발급 수량 (등록되지 않은 캠페인이면 0)
+     */
+    public long remaining(Long campaignId) {
+        Object remaining = redisTemplate.opsForHash().get(metaKey(campaignId), "remaining");
+        return remaining == null ? 0L : Long.parseLong(remaining.toString());
+    }
+
+    /**
+     * 저장 대기 중인 당첨자가 있을 수 있는 캠페인 ID 목록
+     */
+    public Set<Long> activeCampaignIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_CAMPAIGNS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 대기열 앞쪽의 당첨자를 꺼내지 않고 읽는다.
+     * - DB 저장이 끝난 뒤 trimWinners로 제거해, 저장 도중 장애가 나도 당첨자를 잃지 않는다.
+     */
+    public List<String> peekWinners(Long campaignId, int size) {
+        List<String> winners = redisTemplate.opsForList().range(queueKey(campaignId), 0, size - 1);
+        return winners == null ? List.of() : winners;
+    }
+
+    /**
+     * 저장이 끝난 당첨자를 대기열에서 제거한다.
+     */
+    public void trimWinners(Long campaignId, int count) {
+        redisTemplate.opsForList().trim(queueKey(campaignId), count, -1);
+    }
+
+    /**
+     * 발급 기간이 끝났고 대기열도 비었으면 활성 목록에서 제외한다.
+     */
+    public void deactivateIfDrained(Long campaignId) {
+        Object endsAt = redisTemplate.opsForHash().get(metaKey(campaignId), "endsAt");
+        boolean ended = endsAt == null || Long.parseLong(endsAt.toString()) <= System.currentTimeMillis();
+        Long pending = redisTemplate.opsForList().size(queueKey(campaignId));
+
+        if (ended && (pending == null || pending == 0)) {
+            redisTemplate.opsForSet().remove(ACTIVE_CAMPAIGNS_KEY, String.valueOf(campaignId));
+            log.info("[쿠폰 캠페인] 발급 종료 및 당첨자 저장 완료: campaignId={}", campaignId);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String metaKey(Long campaignId) {
+        return KEY_PREFIX + "{" + campaignId + "}:meta";
+    }
+
+    private String issuedKey(Long campaignId) {
+        return KEY_PREFIX + "{" + campaignId + "}:issued";
+    }
+
+    private String queueKey(Long campaignId) {
+        return KEY_PREFIX + "{" + campaignId + "}:queue";
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponCampaignRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 쿠폰 캠페인 레포지토리 구현체
+ */
+@Repository
+public class CouponCampaignRepositoryImpl implements CouponCampaignRepository {
+
+    private final CouponCampaignJpaRepository couponCampaignJpaRepository;
+
+    public CouponCampaignRepositoryImpl(CouponCampaignJpaRepository couponCampaignJpaRepository) {
+        this.couponCampaignJpaRepository = couponCampaignJpaRepository;
+    }
+
+    @Override
+    public CouponCampaign save(CouponCampaign campaign) {
+        return couponCampaignJpaRepository.save(CouponCampaignEntity.from(campaign)).toDomain();
+    }
+
+    @Override
+    public Optional<CouponCampaign> findById(Long id) {
+        return couponCampaignJpaRepository.findById(id)
+                .map(CouponCampaignEntity::toDomain);
+    }
+}
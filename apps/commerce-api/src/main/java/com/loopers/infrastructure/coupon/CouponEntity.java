@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponStatus;
 import com.loopers.domain.coupon.CouponType;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -14,7 +15,16 @@ import java.time.LocalDateTime;
  * 쿠폰 JPA Entity
  */
 @Entity
-@Table(name = "coupons")
+@Table(
+        name = "coupons",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_campaign_user", columnNames = {"campaignId", "userId"})
+        },
+        indexes = {
+                @Index(name = "idx_order_id", columnList = "orderId"),
+                @Index(name = "idx_user_status_expires", columnList = "userId, status, expiresAt")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CouponEntity {
@@ -39,6 +49,16 @@ public class CouponEntity {
     @Column(nullable = false)
     private Boolean isUsed;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponStatus status;
+
+    @Column
+    private Long orderId; // 쿠폰을 예약/사용한 주문 ID
+
+    @Column
+    private LocalDateTime reservedAt;
+
     @Column
     private LocalDateTime usedAt;
 
@@ -48,6 +68,9 @@ public class CouponEntity {
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
+    @Column
+    private Long campaignId; // 선착순 캠페인으로 발급된 쿠폰만 값이 있음
+
     @Version
     private Long version; // 낙관적 락을 위한 버전 필드
 
@@ -59,6 +82,7 @@ public class CouponEntity {
             CouponType couponType,
             BigDecimal discountValue,
             Boolean isUsed,
+            CouponStatus status,
             LocalDateTime usedAt,
             LocalDateTime issuedAt,
             LocalDateTime expiresAt
@@ -68,6 +92,7 @@ public class CouponEntity {
         this.couponType = couponType;
         this.discountValue = discountValue;
         this.isUsed = isUsed;
+        this.status = status;
         this.usedAt = usedAt;
         this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
@@ -85,6 +110,7 @@ public class CouponEntity {
                 coupon.getCouponType(),
                 coupon.getDiscountValue(),
                 coupon.isUsed(),
+                coupon.getStatus(),
                 coupon.getUsedAt(),
                 coupon.getIssuedAt(),
                 coupon.getExpiresAt()
@@ -102,6 +128,7 @@ public class CouponEntity {
                 this.couponType,
                 this.discountValue,
                 this.isUsed,
+                this.status,
                 this.usedAt,
                 this.issuedAt,
                 this.expiresAt
@@ -113,6 +140,7 @@ public class CouponEntity {
      */
     public void updateFrom(Coupon coupon) {
         this.isUsed = coupon.isUsed();
+        this.status = coupon.getStatus();
         this.usedAt = coupon.getUsedAt();
     }
 }
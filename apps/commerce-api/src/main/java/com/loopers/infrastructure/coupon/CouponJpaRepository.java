@@ -1,12 +1,15 @@
 package com.loopers.infrastructure.coupon;
 
+import com.loopers.domain.coupon.CouponStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,9 +34,62 @@ public interface CouponJpaRepository extends JpaRepository<CouponEntity, Long> {
      * 사용자 ID와 사용 가능 여부로 쿠폰 목록 조회
      * - 사용되지 않았고, 만료되지 않은 쿠폰
      */
-    @Query("SELECT c FROM CouponEntity c WHERE c.userId = :userId AND c.isUsed = false AND c.expiresAt > :now")
+    @Query("SELECT c FROM CouponEntity c WHERE c.userId = :userId AND c.status = :status AND c.expiresAt > :now")
     List<CouponEntity> findAvailableCouponsByUserId(
             @Param("userId") String userId,
+            @Param("status") CouponStatus status,
             @Param("now") LocalDateTime now
     );
+
+    /**
+     * 쿠폰 즉시 사용 (조건부 UPDATE)
+     * - 본인 소유이고 만료되지 않은 AVAILABLE 쿠폰만 USED로 바꾼다.
+     *
+     * @return 변경된 행 수 (0이면 사용할 수 없는 쿠폰)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponEntity c SET c.status = com.loopers.domain.coupon.CouponStatus.USED, c.isUsed = true, "
+            + "c.usedAt = :now, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.userId = :userId "
+            + "AND c.status = com.loopers.domain.coupon.CouponStatus.AVAILABLE AND c.expiresAt > :now")
+    int use(@Param("id") Long id, @Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 주문에 쿠폰 예약 (조건부 UPDATE)
+     * - 본인 소유이고 만료되지 않은 AVAILABLE 쿠폰만 RESERVED로 바꾼다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponEntity c SET c.status = com.loopers.domain.coupon.CouponStatus.RESERVED, "
+            + "c.orderId = :orderId, c.reservedAt = :now, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.userId = :userId "
+            + "AND c.status = com.loopers.domain.coupon.CouponStatus.AVAILABLE AND c.expiresAt > :now")
+    int reserve(@Param("id") Long id, @Param("userId") String userId,
+                @Param("orderId") Long orderId, @Param("now") LocalDateTime now);
+
+    /**
+     * 예약된 쿠폰 사용 확정 (조건부 UPDATE)
+     * - 해당 주문에 예약된 쿠폰만 USED로 바꾼다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponEntity c SET c.status = com.loopers.domain.coupon.CouponStatus.USED, c.isUsed = true, "
+            + "c.usedAt = :now, c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.orderId = :orderId "
+            + "AND c.status = com.loopers.domain.coupon.CouponStatus.RESERVED")
+    int confirm(@Param("id") Long id, @Param("orderId") Long orderId, @Param("now") LocalDateTime now);
+
+    /**
+     * 주문들에 예약된 쿠폰 예약 해제 (조건부 UPDATE)
+     * - RESERVED 상태인 쿠폰만 AVAILABLE로 되돌린다. (이미 사용 확정된 쿠폰은 건드리지 않는다)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponEntity c SET c.status = com.loopers.domain.coupon.CouponStatus.AVAILABLE, "
+            + "c.orderId = null, c.reservedAt = null, c.version = c.version + 1 "
+            + "WHERE c.orderId IN :orderIds "
+            + "AND c.status = com.loopers.domain.coupon.CouponStatus.RESERVED")
+    int releaseByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 캠페인으로 발급된 쿠폰 수
+     */
+    long countByCampaignId(Long campaignId);
 }
@@ -2,9 +2,13 @@ package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.Coupon;
 import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponStatus;
+import com.loopers.support.jdbc.JdbcTimestamps;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,15 +19,23 @@ import java.util.stream.Collectors;
 @Repository
 public class CouponRepositoryImpl implements CouponRepository {
 
+    // (campaign_id, user_id) 유니크 키로 이미 저장된 당첨자는 무시한다.
+    private static final String INSERT_CAMPAIGN_COUPON_SQL =
+            "INSERT IGNORE INTO coupons (user_id, coupon_name, coupon_type, discount_value, is_used, status, issued_at, expires_at, campaign_id, version) "
+                    + "VALUES (?, ?, ?, ?, false, 'AVAILABLE', ?, ?, ?, 0)";
+
     private final CouponJpaRepository couponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public CouponRepositoryImpl(CouponJpaRepository couponJpaRepository) {
+    public CouponRepositoryImpl(CouponJpaRepository couponJpaRepository, JdbcTemplate jdbcTemplate) {
         this.couponJpaRepository = couponJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public Coupon save(Coupon coupon) {
-        CouponEntity entity = couponJpaRepository.findById(coupon.getId())
+        CouponEntity entity = Optional.ofNullable(coupon.getId())
+                .flatMap(couponJpaRepository::findById)
                 .map(existing -> {
                     existing.updateFrom(coupon);
                     return existing;
@@ -34,6 +46,52 @@ public class CouponRepositoryImpl implements CouponRepository {
         return saved.toDomain();
     }
 
+    @Override
+    public void saveAllForCampaign(Long campaignId, List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements=true 설정으로 드라이버가 멀티 로우 INSERT로 합쳐 전송한다.
+        jdbcTemplate.batchUpdate(INSERT_CAMPAIGN_COUPON_SQL, coupons, coupons.size(), (ps, coupon) -> {
+            ps.setString(1, coupon.getUserId());
+            ps.setString(2, coupon.getCouponName());
+            ps.setString(3, coupon.getCouponType().name());
+            ps.setBigDecimal(4, coupon.getDiscountValue());
+            JdbcTimestamps.setUtc(ps, 5, coupon.getIssuedAt());
+            JdbcTimestamps.setUtc(ps, 6, coupon.getExpiresAt());
+            ps.setLong(7, campaignId);
+        });
+    }
+
+    @Override
+    public long countByCampaignId(Long campaignId) {
+        return couponJpaRepository.countByCampaignId(campaignId);
+    }
+
+    @Override
+    public boolean use(Long id, String userId) {
+        return couponJpaRepository.use(id, userId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean reserve(Long id, String userId, Long orderId) {
+        return couponJpaRepository.reserve(id, userId, orderId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public boolean confirm(Long id, Long orderId) {
+        return couponJpaRepository.confirm(id, orderId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public int releaseByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return couponJpaRepository.releaseByOrderIds(orderIds);
+    }
+
     @Override
     public Optional<Coupon> findById(Long id) {
         return couponJpaRepository.findById(id)
@@ -55,7 +113,7 @@ public class CouponRepositoryImpl implements CouponRepository {
 
     @Override
     public List<Coupon> findAvailableCouponsByUserId(String userId) {
-        return couponJpaRepository.findAvailableCouponsByUserId(userId, LocalDateTime.now()).stream()
+        return couponJpaRepository.findAvailableCouponsByUserId(userId, CouponStatus.AVAILABLE, LocalDateTime.now()).stream()
                 .map(CouponEntity::toDomain)
                 .collect(Collectors.toList());
     }
@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.coupon.archive;
+
+import com.loopers.domain.coupon.CouponStatus;
+import com.loopers.domain.coupon.CouponType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 쿠폰 (coupons_archive)
+ * - 사용되었거나 만료된 지 오래된 쿠폰을 coupons 테이블에서 옮겨 둔다.
+ * - CouponArchiveJob이 INSERT ... SELECT로만 쓰며, id는 원래 쿠폰 ID를 그대로 사용한다.
+ */
+@Entity
+@Table(
+        name = "coupons_archive",
+        indexes = {
+                @Index(name = "idx_archive_user_id", columnList = "userId")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false, length = 100)
+    private String couponName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponType couponType;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(nullable = false)
+    private Boolean isUsed;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponStatus status;
+
+    @Column
+    private LocalDateTime usedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column
+    private Long campaignId;
+
+    @Column
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,182 @@
+package com.loopers.infrastructure.coupon.archive;
+
+import com.loopers.infrastructure.lease.SchedulerCursor;
+import com.loopers.infrastructure.lease.SchedulerFence;
+import com.loopers.support.jdbc.JdbcTimestamps;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 쿠폰 보관 작업
+ * - coupons를 ID 순으로 chunkSize개씩 구간을 잘라 훑고, 구간 안의 보관 대상을 한 트랜잭션에서
+ *   INSERT ... SELECT로 coupons_archive에 복사한 뒤 같은 조건으로 DELETE한다.
+ * - 보관 대상은 더 이상 상태가 바뀌지 않는 쿠폰뿐이다. (사용 완료 또는 만료된 미사용 쿠폰, 예약 중인 쿠폰은 제외)
+ * - 한 트랜잭션이 잠그는 범위가 ID 구간 하나로 제한되어 운영 트래픽과 함께 실행해도 된다.
+ * - 실행이 maxChunksPerRun에서 끊기면 다음 실행은 마지막 구간 다음부터 이어서 훑는다.
+ *   (커서는 scheduler_cursors에 구간과 같은 트랜잭션으로 저장해, 리스가 다른 노드로 넘어가거나 재시작해도 이어진다)
+ * - 구간마다 펜싱 토큰을 검사해, 리스가 만료된 뒤에도 돌고 있는 이전 실행은 더 옮기지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class CouponArchiveJob {
+
+    private static final String CURSOR_NAME = "coupon-archive";
+
+    // 사용 후 retention이 지났거나, 사용되지 않은 채 만료된 후 retention이 지난 쿠폰
+    private static final String ARCHIVABLE_CONDITION =
+            "id > ? AND id <= ? "
+                    + "AND ((status = 'USED' AND used_at < ?) OR (status = 'AVAILABLE' AND expires_at < ?))";
+
+    private static final String NEXT_WINDOW_SQL =
+            "SELECT id FROM coupons WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String COPY_SQL =
+            "INSERT INTO coupons_archive (id, user_id, coupon_name, coupon_type, discount_value, is_used, status, "
+                    + "used_at, issued_at, expires_at, campaign_id, order_id, archived_at) "
+                    + "SELECT id, user_id, coupon_name, coupon_type, discount_value, is_used, status, "
+                    + "used_at, issued_at, expires_at, campaign_id, order_id, ? "
+                    + "FROM coupons WHERE " + ARCHIVABLE_CONDITION;
+
+    private static final String DELETE_SQL =
+            "DELETE FROM coupons WHERE " + ARCHIVABLE_CONDITION;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CouponArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerFence schedulerFence;
+    private final SchedulerCursor schedulerCursor;
+
+    public CouponArchiveJob(
+            JdbcTemplate jdbcTemplate,
+            CouponArchiveProperties properties,
+            PlatformTransactionManager transactionManager,
+            SchedulerFence schedulerFence,
+            SchedulerCursor schedulerCursor
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schedulerFence = schedulerFence;
+        this.schedulerCursor = schedulerCursor;
+    }
+
+    /**
+     * 보관 대상 쿠폰을 옮긴다.
+     *
+     * @return 이번 실행에서 옮긴 쿠폰 수
+     */
+    public synchronized long run() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long startedAt = System.nanoTime();
+        long scanned = 0;
+        long archived = 0;
+        long cursorId = schedulerCursor.find(CURSOR_NAME);
+
+        for (int i = 0; i < properties.maxChunksPerRun(); i++) {
+            List<Long> window = jdbcTemplate.queryForList(NEXT_WINDOW_SQL, Long.class, cursorId, properties.chunkSize());
+            if (window.isEmpty()) {
+                if (cursorId != 0L) {
+                    resetCursor();
+                    cursorId = 0L;
+                }
+                break;
+            }
+
+            long chunkStartedAt = System.nanoTime();
+            long fromId = cursorId;
+            long toId = window.get(window.size() - 1);
+            // 마지막 구간이면 끝까지 훑은 것이므로 다음 실행은 처음부터 시작한다
+            boolean lastWindow = window.size() < properties.chunkSize();
+            cursorId = lastWindow ? 0L : toId;
+            int moved = archiveWindow(fromId, toId, cutoff, cursorId);
+
+            scanned += window.size();
+            archived += moved;
+
+            throttle(moved, System.nanoTime() - chunkStartedAt);
+
+            if (lastWindow) {
+                break;
+            }
+        }
+
+        double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("쿠폰 보관 완료: cutoff={}, 훑은={}건, 보관={}건, {} rows/s, 다음 커서={}",
+                cutoff, scanned, archived, Math.round(archived / elapsedSeconds), cursorId);
+        return archived;
+    }
+
+    /**
+     * ID 구간 (fromId, toId] 안의 보관 대상을 복사하고 삭제한 뒤, 다음 실행의 커서를 같은 트랜잭션에서 저장한다.
+     * - INSERT ... SELECT가 원본 행에 공유 잠금을 걸기 때문에, 같은 트랜잭션의 DELETE는 복사한 행과 같은 행을 지운다.
+     * - 건수가 다르면 예외로 롤백해 보관되지 않은 쿠폰이 지워지지 않게 한다. (커서도 함께 롤백되어 다음 실행이 같은 구간을 다시 훑는다)
+     */
+    private int archiveWindow(long fromId, long toId, LocalDateTime cutoff, long nextCursorId) {
+        LocalDateTime archivedAt = LocalDateTime.now();
+        Integer moved = transactionTemplate.execute(status -> {
+            schedulerFence.check();
+            schedulerCursor.save(CURSOR_NAME, nextCursorId);
+            int copied = jdbcTemplate.update(COPY_SQL, ps -> {
+                JdbcTimestamps.setUtc(ps, 1, archivedAt);
+                ps.setLong(2, fromId);
+                ps.setLong(3, toId);
+                JdbcTimestamps.setUtc(ps, 4, cutoff);
+                JdbcTimestamps.setUtc(ps, 5, cutoff);
+            });
+            if (copied == 0) {
+                return 0;
+            }
+
+            int deleted = jdbcTemplate.update(DELETE_SQL, ps -> {
+                ps.setLong(1, fromId);
+                ps.setLong(2, toId);
+                JdbcTimestamps.setUtc(ps, 3, cutoff);
+                JdbcTimestamps.setUtc(ps, 4, cutoff);
+            });
+            if (deleted != copied) {
+                throw new IllegalStateException(
+                        String.format("보관한 쿠폰 수와 삭제한 쿠폰 수가 다릅니다. 구간: (%d, %d], 보관: %d, 삭제: %d",
+                                fromId, toId, copied, deleted));
+            }
+            return deleted;
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    /**
+     * 끝까지 훑었으므로 다음 실행이 처음부터 시작하도록 커서를 되돌린다.
+     */
+    private void resetCursor() {
+        transactionTemplate.executeWithoutResult(status -> {
+            schedulerFence.check();
+            schedulerCursor.save(CURSOR_NAME, 0L);
+        });
+    }
+
+    /**
+     * 옮긴 행 수가 maxRowsPerSecond를 넘지 않도록 청크 사이에 쉰다.
+     */
+    private void throttle(int moved, long elapsedNanos) {
+        if (moved == 0 || properties.maxRowsPerSecond() <= 0) {
+            return;
+        }
+
+        long targetNanos = moved * 1_000_000_000L / properties.maxRowsPerSecond();
+        long sleepMillis = (targetNanos - elapsedNanos) / 1_000_000;
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 보관 작업이 중단되었습니다.", e);
+        }
+    }
+}
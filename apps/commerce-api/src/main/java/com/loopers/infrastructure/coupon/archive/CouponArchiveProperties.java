@@ -0,0 +1,21 @@
+package com.loopers.infrastructure.coupon.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 쿠폰 보관 작업 설정
+ * - retention보다 오래 전에 사용되었거나 만료된 쿠폰을 보관 테이블로 옮긴다.
+ * - chunkSize는 한 트랜잭션에서 훑는 coupons ID 구간의 크기다.
+ * - maxRowsPerSecond로 초당 옮기는 행 수를 제한해 운영 트래픽과 복제에 주는 부하를 일정하게 유지한다.
+ */
+@ConfigurationProperties(value = "coupon.archive")
+public record CouponArchiveProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("1000") int maxRowsPerSecond,
+        @DefaultValue("2000") int maxChunksPerRun
+) { }
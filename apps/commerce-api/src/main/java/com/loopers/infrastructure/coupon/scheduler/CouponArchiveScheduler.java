@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.coupon.scheduler;
+
+import com.loopers.infrastructure.coupon.archive.CouponArchiveJob;
+import com.loopers.infrastructure.lease.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 보관 스케줄러
+ * - 사용되었거나 만료된 지 오래된 쿠폰을 coupons_archive로 옮겨 coupons 테이블과 인덱스를 작게 유지한다.
+ * - 여러 노드 중 리스를 잡은 한 노드만 실행한다. (이어서 훑을 커서가 노드 메모리에 있으므로)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponArchiveScheduler.class);
+
+    private final CouponArchiveJob couponArchiveJob;
+
+    @Scheduled(cron = "${coupon.archive.cron:0 0 4 * * *}") // 기본: 매일 새벽 4시
+    @SchedulerLease(name = "coupon-archive", ttlSeconds = 3600)
+    public void archiveCoupons() {
+        try {
+            couponArchiveJob.run();
+        } catch (Exception e) {
+            log.error("쿠폰 보관 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+}
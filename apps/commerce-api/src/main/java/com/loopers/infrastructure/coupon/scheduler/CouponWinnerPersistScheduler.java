@@ -0,0 +1,65 @@
+package com.loopers.infrastructure.coupon.scheduler;
+
+import com.loopers.application.coupon.CouponCampaignFacade;
+import com.loopers.infrastructure.coupon.CouponCampaignRedisStore;
+import com.loopers.infrastructure.lease.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 선착순 쿠폰 당첨자 저장 스케줄러
+ * - Redis 대기열에 쌓인 당첨자를 배치 단위로 coupons 테이블에 저장한다.
+ * - 발급 기간이 끝나고 대기열이 비면 캠페인을 활성 목록에서 제외한다.
+ * - 여러 노드가 같은 대기열을 동시에 꺼내지 않도록 리스를 잡은 한 노드만 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.campaign.persist.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponWinnerPersistScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponWinnerPersistScheduler.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final CouponCampaignFacade couponCampaignFacade;
+    private final CouponCampaignRedisStore couponCampaignRedisStore;
+
+    @Scheduled(fixedDelay = 200, initialDelay = 5000) // 0.2초마다, 초기 지연 5초
+    @SchedulerLease(name = "coupon-winner-persist", ttlSeconds = 30)
+    public void persistWinners() {
+        Set<Long> campaignIds;
+        try {
+            campaignIds = couponCampaignRedisStore.activeCampaignIds();
+        } catch (Exception e) {
+            log.error("활성 쿠폰 캠페인 조회 중 예외 발생", e);
+            return;
+        }
+
+        for (Long campaignId : campaignIds) {
+            try {
+                int persisted = 0;
+                for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                    int count = couponCampaignFacade.persistWinners(campaignId, BATCH_SIZE);
+                    persisted += count;
+                    if (count < BATCH_SIZE) {
+                        break;
+                    }
+                }
+
+                if (persisted > 0) {
+                    log.info("선착순 쿠폰 당첨자 저장: campaignId={}, count={}", campaignId, persisted);
+                }
+                couponCampaignRedisStore.deactivateIfDrained(campaignId);
+            } catch (Exception e) {
+                log.error("선착순 쿠폰 당첨자 저장 중 예외 발생: campaignId={}", campaignId, e);
+            }
+        }
+    }
+}
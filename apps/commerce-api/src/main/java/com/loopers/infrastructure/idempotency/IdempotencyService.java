@@ -0,0 +1,353 @@
+package com.loopers.infrastructure.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 멱등키(Idempotency-Key) 처리 서비스
+ * - 클라이언트 재시도로 같은 요청이 다시 들어와도 주문 생성/결제 요청이 한 번만 실행되도록 한다.
+ * - 최초 요청은 처리 중 마커를 선점하고, 완료되면 응답을 JSON으로 저장해 재요청 시 그대로 돌려준다.
+ * - 동시에 들어온 중복 요청은 최초 요청의 결과가 저장될 때까지 짧게 대기한다.
+ *   (비동기 요청은 요청 스레드를 잡지 않고, 지연 실행으로 다시 확인하는 CompletableFuture를 돌려준다)
+ * - 마커와 응답에 요청 본문의 해시를 함께 저장해, 같은 키를 다른 본문으로 재사용하면 CONFLICT로 거절한다.
+ * - TTL: 처리 중 마커 30초, 완료 응답 10분
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+
+    // 캐시 키 접두사
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+    private static final String FINGERPRINT_SEPARATOR = ":";
+
+    // TTL 설정
+    private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(30);
+    private static final Duration COMPLETED_TTL = Duration.ofMinutes(10);
+
+    // 중복 요청 대기 설정
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final long POLL_INTERVAL_MILLIS = 50L;
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 비동기 중복 요청의 결과 확인을 POLL_INTERVAL 뒤에 실행한다 (Redis 조회는 가상 스레드에서)
+    private final ExecutorService pollExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor delayedPollExecutor =
+            CompletableFuture.delayedExecutor(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, pollExecutor);
+
+    public IdempotencyService(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 멱등키 기준으로 요청을 한 번만 실행한다.
+     * - 멱등키가 없으면 그대로 실행한다.
+     * - Redis 장애 시에는 가용성을 우선해 그대로 실행한다.
+     *
+     * @param scope          요청 종류 (예: order, payment)
+     * @param userId         사용자 ID (사용자별로 키 공간을 분리)
+     * @param idempotencyKey 클라이언트가 보낸 멱등키 (nullable)
+     * @param request        요청 본문 (같은 키의 재요청이 같은 요청인지 비교하는 데 쓴다)
+     * @param responseType   저장/재사용할 응답 타입
+     * @param action         실제 처리 로직
+     */
+    public <T> T execute(String scope, String userId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "멱등키는 " + MAX_KEY_LENGTH + "자를 초과할 수 없습니다.");
+        }
+
+        String key = buildKey(scope, userId, idempotencyKey);
+        String fingerprint = fingerprint(request);
+        String marker = newMarker(fingerprint);
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, marker, IN_PROGRESS_TTL);
+        } catch (Exception e) {
+            log.warn("멱등키 선점 중 예외 발생, 멱등 처리 없이 실행: key={}, error={}", key, e.getMessage());
+            return action.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            return executeAndStore(key, marker, fingerprint, responseType, action);
+        }
+        return awaitResult(key, fingerprint, responseType, action);
+    }
+
+    /**
+     * 멱등키 기준으로 비동기 요청을 한 번만 실행한다.
+     * - 마커 선점은 바로 하고, 응답 저장/마커 해제는 action이 완료될 때 한다.
+     * - 먼저 들어온 요청이 처리 중이면 호출한 스레드를 잡지 않고, 결과를 기다리는 CompletableFuture를 돌려준다.
+     * - 선점 이후의 실패는 예외를 던지지 않고 원래 예외(CoreException 등)로 실패한 CompletableFuture로 전달한다.
+     */
+    public <T> CompletableFuture<T> executeAsync(String scope, String userId, String idempotencyKey, Object request,
+                                                 Class<T> responseType, Supplier<CompletableFuture<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "멱등키는 " + MAX_KEY_LENGTH + "자를 초과할 수 없습니다.");
+        }
+
+        String key = buildKey(scope, userId, idempotencyKey);
+        String fingerprint = fingerprint(request);
+        String marker = newMarker(fingerprint);
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, marker, IN_PROGRESS_TTL);
+        } catch (Exception e) {
+            log.warn("멱등키 선점 중 예외 발생, 멱등 처리 없이 실행: key={}, error={}", key, e.getMessage());
+            return action.get();
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            return awaitResultAsync(key, fingerprint, responseType, action, System.nanoTime() + WAIT_TIMEOUT.toNanos());
+        }
+        return executeAndStoreAsync(key, marker, fingerprint, responseType, action);
+    }
+
+    /**
+     * 마커를 선점한 요청만 실제 로직을 실행하고 응답을 저장한다.
+     * - 실패하면 마커를 지워 클라이언트가 같은 키로 재시도할 수 있게 한다.
+     */
+    private <T> T executeAndStore(String key, String marker, String fingerprint,
+                                  Class<T> responseType, Supplier<T> action) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            throw e;
+        }
+
+        store(key, marker, fingerprint, responseType, result);
+        return result;
+    }
+
+    /**
+     * 마커를 선점한 비동기 요청만 실제 로직을 실행하고, 완료되면 응답을 저장한다.
+     * - 실패하면 마커를 지우고, CompletionException을 벗긴 원래 예외로 실패시킨다.
+     */
+    private <T> CompletableFuture<T> executeAndStoreAsync(String key, String marker, String fingerprint,
+                                                          Class<T> responseType,
+                                                          Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            release(key, marker);
+            return CompletableFuture.failedFuture(unwrap(e));
+        }
+
+        CompletableFuture<T> stored = new CompletableFuture<>();
+        future.whenComplete((result, t) -> {
+            if (t != null) {
+                release(key, marker);
+                stored.completeExceptionally(unwrap(t));
+            } else {
+                store(key, marker, fingerprint, responseType, result);
+                stored.complete(result);
+            }
+        });
+        return stored;
+    }
+
+    /**
+     * 완료된 응답을 요청 본문 해시와 함께 저장한다. (직렬화에 실패하면 마커를 지워 재시도할 수 있게 한다)
+     */
+    private <T> void store(String key, String marker, String fingerprint, Class<T> responseType, T result) {
+        try {
+            String value = fingerprint + FINGERPRINT_SEPARATOR + objectMapper.writeValueAsString(result);
+            redisTemplate.opsForValue().set(key, value, COMPLETED_TTL);
+            log.debug("[멱등성] 응답 저장: key={}, ttl={}초", key, COMPLETED_TTL.toSeconds());
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 직렬화 실패: key={}, type={}, error={}", key, responseType.getSimpleName(), e.getMessage());
+            release(key, marker);
+        } catch (Exception e) {
+            log.warn("멱등 응답 저장 중 예외 발생: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 먼저 들어온 요청의 결과를 기다린다.
+     * - 결과가 저장되면 DB/PG를 거치지 않고 저장된 응답을 돌려준다.
+     * - 먼저 들어온 요청이 실패해 마커가 사라지면 이 요청이 다시 선점해 실행한다.
+     * - 먼저 들어온 요청과 본문이 다르면 기다리지 않고 CONFLICT로 거절한다.
+     */
+    private <T> T awaitResult(String key, String fingerprint, Class<T> responseType, Supplier<T> action) {
+        long deadline = System.nanoTime() + WAIT_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            String value = redisTemplate.opsForValue().get(key);
+
+            if (value == null) {
+                String marker = newMarker(fingerprint);
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, IN_PROGRESS_TTL))) {
+                    return executeAndStore(key, marker, fingerprint, responseType, action);
+                }
+                continue;
+            }
+
+            T completed = readCompleted(key, value, fingerprint, responseType);
+            if (completed != null) {
+                return completed;
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "멱등 요청 대기 중 인터럽트가 발생했습니다.");
+            }
+        }
+
+        throw new CoreException(ErrorType.CONFLICT, "같은 멱등키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 먼저 들어온 요청의 결과를 비동기로 기다린다. ({@link #awaitResult}와 같은 규칙)
+     * - 아직 처리 중이면 POLL_INTERVAL 뒤에 다시 확인하도록 예약하고 바로 돌아간다.
+     * - 예외는 던지지 않고 실패한 CompletableFuture로 돌려준다.
+     */
+    private <T> CompletableFuture<T> awaitResultAsync(String key, String fingerprint, Class<T> responseType,
+                                                      Supplier<CompletableFuture<T>> action, long deadline) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+
+            if (value == null) {
+                String marker = newMarker(fingerprint);
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, marker, IN_PROGRESS_TTL))) {
+                    return executeAndStoreAsync(key, marker, fingerprint, responseType, action);
+                }
+            } else {
+                T completed = readCompleted(key, value, fingerprint, responseType);
+                if (completed != null) {
+                    return CompletableFuture.completedFuture(completed);
+                }
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.failedFuture(
+                    new CoreException(ErrorType.CONFLICT, "같은 멱등키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+        }
+        return CompletableFuture.runAsync(() -> { }, delayedPollExecutor)
+                .thenCompose(ignored -> awaitResultAsync(key, fingerprint, responseType, action, deadline))
+                .exceptionallyCompose(t -> CompletableFuture.failedFuture(unwrap(t)));
+    }
+
+    /**
+     * 저장된 값이 완료된 응답이면 읽어서 돌려주고, 처리 중이면 null을 돌려준다.
+     *
+     * @throws CoreException 먼저 들어온 요청과 본문이 다른 경우 (CONFLICT)
+     */
+    private <T> T readCompleted(String key, String value, String fingerprint, Class<T> responseType) {
+        boolean inProgress = value.startsWith(IN_PROGRESS_PREFIX);
+        String stored = inProgress ? value.substring(IN_PROGRESS_PREFIX.length()) : value;
+        if (!stored.startsWith(fingerprint + FINGERPRINT_SEPARATOR)) {
+            log.warn("[멱등성] 같은 멱등키에 다른 요청 본문: key={}", key);
+            throw new CoreException(ErrorType.CONFLICT, "같은 멱등키로 다른 내용의 요청을 보낼 수 없습니다.");
+        }
+
+        if (inProgress) {
+            return null;
+        }
+        log.info("[멱등성] 저장된 응답 재사용: key={}", key);
+        return readValue(key, stored.substring(fingerprint.length() + 1), responseType);
+    }
+
+    private Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private <T> T readValue(String key, String value, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(value, responseType);
+        } catch (JsonProcessingException e) {
+            log.error("멱등 응답 역직렬화 실패: key={}, type={}, error={}", key, responseType.getSimpleName(), e.getMessage());
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "저장된 응답을 읽을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 자신이 선점한 마커일 때만 삭제한다.
+     */
+    private void release(String key, String marker) {
+        try {
+            if (marker.equals(redisTemplate.opsForValue().get(key))) {
+                redisTemplate.delete(key);
+            }
+        } catch (Exception e) {
+            log.warn("멱등키 마커 해제 중 예외 발생: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private String newMarker(String fingerprint) {
+        return IN_PROGRESS_PREFIX + fingerprint + FINGERPRINT_SEPARATOR + UUID.randomUUID();
+    }
+
+    /**
+     * 요청 본문의 SHA-256 해시 (16진수)
+     */
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = request == null
+                    ? new byte[0]
+                    : objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "요청 본문을 읽을 수 없습니다.");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pollExecutor.shutdown();
+    }
+
+    // 캐시 키 생성
+    private String buildKey(String scope, String userId, String idempotencyKey) {
+        return KEY_PREFIX + scope + ":" + userId + ":" + idempotencyKey;
+    }
+}
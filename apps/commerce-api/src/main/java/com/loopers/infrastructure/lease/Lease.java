@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.lease;
+
+/**
+ * 획득한 리스
+ *
+ * @param name         리스 이름
+ * @param owner        리스를 잡은 노드 ID
+ * @param fencingToken 획득할 때마다 1씩 커지는 토큰 (TTL이 지나 다른 노드가 잡으면 더 큰 토큰을 받는다)
+ *                     작업의 쓰기는 {@link SchedulerFence}로 이 토큰을 검사한다.
+ */
+public record Lease(String name, String owner, long fencingToken) {
+
+    String value() {
+        return owner + ":" + fencingToken;
+    }
+}
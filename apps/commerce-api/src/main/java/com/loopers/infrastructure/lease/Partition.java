@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.lease;
+
+/**
+ * 노드가 맡은 해시 파티션
+ * - 작업 대상 ID를 count로 나눈 나머지가 index인 대상만 처리한다.
+ *
+ * @param index 이 노드의 파티션 번호 (0부터 시작)
+ * @param count 전체 파티션 수 (살아 있는 노드 수)
+ */
+public record Partition(int index, int count) {
+
+    public Partition {
+        if (count <= 0 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("잘못된 파티션입니다: index=" + index + ", count=" + count);
+        }
+    }
+
+    /**
+     * 파티션을 나누지 않음 (모든 대상을 처리)
+     */
+    public static Partition single() {
+        return new Partition(0, 1);
+    }
+
+    public boolean isSingle() {
+        return count == 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.lease;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 스케줄러 작업의 진행 위치
+ * - 여러 번의 실행에 걸쳐 이어서 훑는 작업이 다음에 시작할 위치를 scheduler_cursors에 기록한다.
+ * - 노드 메모리에 두지 않으므로 리스가 다른 노드로 넘어가거나 재시작해도 이어서 실행된다.
+ * - 위치는 작업의 쓰기와 같은 트랜잭션에서 저장해, 반영된 청크와 기록된 위치가 어긋나지 않게 한다.
+ */
+@Component
+public class SchedulerCursor {
+
+    private static final String FIND_SQL = "SELECT last_id FROM scheduler_cursors WHERE name = ?";
+
+    private static final String SAVE_SQL =
+            "INSERT INTO scheduler_cursors (name, last_id) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerCursor(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 저장된 위치 (마지막으로 처리한 ID, 기록이 없으면 0)
+     */
+    public long find(String name) {
+        List<Long> lastIds = jdbcTemplate.queryForList(FIND_SQL, Long.class, name);
+        return lastIds.isEmpty() ? 0L : lastIds.get(0);
+    }
+
+    /**
+     * 위치 저장 (호출한 쪽의 쓰기 트랜잭션에 참여한다)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(String name, long lastId) {
+        jdbcTemplate.update(SAVE_SQL, name, lastId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러 작업별 다음 실행 시작 위치
+ * - 쓰기는 {@link SchedulerCursor}가 JDBC로 하고, 엔티티는 테이블 정의용으로만 둔다.
+ */
+@Entity
+@Table(name = "scheduler_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerCursorEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastId;
+}
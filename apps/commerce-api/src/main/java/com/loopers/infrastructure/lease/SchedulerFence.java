@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.lease;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 펜싱 토큰 검사
+ * - {@link SchedulerLease} 작업이 실행되는 동안 잡은 리스를 스레드에 묶어 두고,
+ *   작업의 쓰기 트랜잭션 안에서 {@link #check()}를 호출해 더 큰 토큰이 이미 쓴 적이 있으면 쓰기를 거부한다.
+ * - 토큰은 scheduler_fences에 리스별 최댓값으로 기록한다. upsert가 행 잠금을 잡으므로
+ *   같은 리스의 쓰기 트랜잭션은 커밋 순서대로 검사되고, TTL이 지난 뒤 늦게 도착한 이전 리스의 쓰기는 롤백된다.
+ * - 리스 없이 실행되는 경우(리스 비활성화, 테스트에서 직접 호출)는 검사하지 않는다.
+ */
+@Component
+public class SchedulerFence {
+
+    private static final ThreadLocal<Lease> CURRENT_LEASE = new ThreadLocal<>();
+
+    private static final String RECORD_SQL =
+            "INSERT INTO scheduler_fences (name, token) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE token = GREATEST(token, VALUES(token))";
+
+    private static final String FIND_SQL = "SELECT token FROM scheduler_fences WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchedulerFence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    static void bind(Lease lease) {
+        CURRENT_LEASE.set(lease);
+    }
+
+    static void unbind() {
+        CURRENT_LEASE.remove();
+    }
+
+    /**
+     * 현재 스레드가 잡은 리스의 토큰이 가장 최근 토큰인지 확인하고 기록한다.
+     * - 쓰기와 같은 트랜잭션 안에서 호출해야 거부될 때 쓰기도 함께 롤백된다.
+     *
+     * @throws IllegalStateException 더 큰 토큰을 가진 리스가 이미 쓴 경우
+     */
+    public void check() {
+        Lease lease = CURRENT_LEASE.get();
+        if (lease == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("펜싱 토큰 검사는 쓰기 트랜잭션 안에서 호출해야 합니다: name=" + lease.name());
+        }
+
+        jdbcTemplate.update(RECORD_SQL, lease.name(), lease.fencingToken());
+        Long latest = jdbcTemplate.queryForObject(FIND_SQL, Long.class, lease.name());
+        if (latest != null && latest > lease.fencingToken()) {
+            throw new IllegalStateException(String.format(
+                    "만료된 스케줄러 리스의 쓰기를 거부합니다: name=%s, token=%d, latest=%d",
+                    lease.name(), lease.fencingToken(), latest));
+        }
+    }
+}
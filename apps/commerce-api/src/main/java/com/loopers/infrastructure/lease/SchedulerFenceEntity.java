@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.lease;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리스별로 DB에 반영된 가장 큰 펜싱 토큰
+ * - 쓰기는 {@link SchedulerFence}가 JDBC로 하고, 엔티티는 테이블 정의용으로만 둔다.
+ */
+@Entity
+@Table(name = "scheduler_fences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerFenceEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private long token;
+}
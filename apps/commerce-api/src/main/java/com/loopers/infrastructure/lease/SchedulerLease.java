@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.lease;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터에서 한 노드만 실행해야 하는 스케줄 작업에 붙인다.
+ * - 실행 전에 name으로 리스를 잡고, 잡지 못하면 이번 실행을 건너뛴다.
+ * - ttlSeconds는 작업이 가장 오래 걸리는 시간보다 길게 잡는다. (노드가 죽으면 TTL 후 다른 노드가 이어받는다)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLease {
+
+    /**
+     * 리스 이름 (작업마다 고유)
+     */
+    String name();
+
+    /**
+     * 리스 유지 시간 (초)
+     */
+    long ttlSeconds() default 60;
+}
@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.lease;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * {@link SchedulerLease}가 붙은 스케줄 작업을 리스를 잡은 노드에서만 실행한다.
+ * - Redis 장애로 리스를 확인할 수 없으면 중복 실행을 막기 위해 이번 실행을 건너뛴다.
+ * - 실행하는 동안 리스를 {@link SchedulerFence}에 묶어, 작업의 쓰기가 펜싱 토큰을 검사할 수 있게 한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaseAspect {
+
+    private final SchedulerLeaseManager leaseManager;
+    private final SchedulerLeaseProperties properties;
+
+    @Around("@annotation(schedulerLease)")
+    public Object runWithLease(ProceedingJoinPoint joinPoint, SchedulerLease schedulerLease) throws Throwable {
+        if (!properties.enabled()) {
+            return joinPoint.proceed();
+        }
+
+        Optional<Lease> lease;
+        try {
+            lease = leaseManager.tryAcquire(schedulerLease.name(), Duration.ofSeconds(schedulerLease.ttlSeconds()));
+        } catch (Exception e) {
+            log.warn("스케줄러 리스 확인 실패로 실행을 건너뜁니다: name={}, error={}", schedulerLease.name(), e.getMessage());
+            return null;
+        }
+        if (lease.isEmpty()) {
+            log.debug("다른 노드가 스케줄러 리스를 잡고 있어 실행을 건너뜁니다: name={}", schedulerLease.name());
+            return null;
+        }
+
+        log.debug("스케줄러 리스 획득: name={}, owner={}, token={}",
+                lease.get().name(), lease.get().owner(), lease.get().fencingToken());
+        SchedulerFence.bind(lease.get());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SchedulerFence.unbind();
+            try {
+                if (!leaseManager.release(lease.get())) {
+                    log.warn("스케줄러 리스가 작업 중에 만료되었습니다. TTL을 늘려야 합니다: name={}, token={}",
+                            lease.get().name(), lease.get().fencingToken());
+                }
+            } catch (Exception e) {
+                log.warn("스케줄러 리스 해제 실패 (TTL 후 만료됨): name={}, error={}", lease.get().name(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.loopers.infrastructure.lease;
+
+import com.loopers.config.redis.RedisConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄러 리스/파티션 관리자 (Redis)
+ * - 리스: 한 노드만 실행해야 하는 작업용. SET NX PX로 잡고, 잡을 때마다 펜싱 토큰을 1씩 올린다.
+ *   해제는 자신이 잡은 값(노드 ID + 토큰)일 때만 지우므로, TTL이 지나 다른 노드가 잡은 리스를 지우지 않는다.
+ * - 파티션: 노드마다 나눠서 처리할 수 있는 작업용. 실행할 때마다 그룹에 하트비트를 남기고,
+ *   살아 있는 노드를 ID 순으로 정렬한 위치를 파티션 번호로 쓴다. (노드 수가 늘면 처리량도 함께 는다)
+ * - 쓰기 전용 키라 마스터 템플릿을 쓴다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final String LEASE_KEY_PREFIX = "scheduler:lease:";
+    private static final String FENCE_KEY_PREFIX = "scheduler:fence:";
+    private static final String MEMBERS_KEY_PREFIX = "scheduler:members:";
+
+    /**
+     * KEYS[1] = 리스, KEYS[2] = 펜싱 토큰 카운터
+     * ARGV[1] = 노드 ID, ARGV[2] = TTL(millis)
+     * 반환: 펜싱 토큰 (다른 노드가 잡고 있으면 0)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'NX', 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 리스, ARGV[1] = 획득할 때 저장한 값
+     * 반환: 1 해제, 0 이미 만료되었거나 다른 노드의 리스
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 그룹 멤버(sorted set, score = 마지막 하트비트)
+     * ARGV[1] = 노드 ID, ARGV[2] = 현재 시각(epoch millis), ARGV[3] = 멤버 TTL(millis)
+     * 반환: {파티션 번호, 파티션 수}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[2])
+            local ttl = tonumber(ARGV[3])
+            redis.call('ZADD', KEYS[1], now, ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. (now - ttl))
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            local members = redis.call('ZRANGE', KEYS[1], 0, -1)
+            table.sort(members)
+            for i, member in ipairs(members) do
+                if member == ARGV[1] then
+                    return {i - 1, #members}
+                end
+            end
+            return {0, 1}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId;
+    private final Set<String> joinedGroups = ConcurrentHashMap.newKeySet();
+
+    public SchedulerLeaseManager(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 리스 획득 시도
+     *
+     * @return 획득한 리스 (다른 노드가 잡고 있으면 빈 값)
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        Long token = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(LEASE_KEY_PREFIX + name, FENCE_KEY_PREFIX + name),
+                nodeId,
+                String.valueOf(ttl.toMillis())
+        );
+        if (token == null || token == 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(name, nodeId, token));
+    }
+
+    /**
+     * 리스 해제 (자신이 잡은 리스일 때만 지운다)
+     *
+     * @return 해제 여부 (false면 TTL이 지나 이미 다른 노드가 잡았을 수 있다)
+     */
+    public boolean release(Lease lease) {
+        Long released = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(LEASE_KEY_PREFIX + lease.name()),
+                lease.value()
+        );
+        return released != null && released == 1L;
+    }
+
+    /**
+     * 그룹에 하트비트를 남기고 이 노드의 파티션을 계산한다.
+     * - 노드가 들어오거나 빠진 직후 한 번의 실행은 노드마다 보는 멤버가 달라 일부 대상이 겹치거나 빠질 수 있다.
+     *   (다음 실행에서 다시 맞춰지므로, 중복 처리에 안전한 작업에만 쓴다)
+     */
+    public Partition joinPartition(String group, Duration membershipTtl) {
+        return joinPartition(group, nodeId, membershipTtl);
+    }
+
+    Partition joinPartition(String group, String memberId, Duration membershipTtl) {
+        List<?> result = redisTemplate.execute(
+                JOIN_SCRIPT,
+                List.of(MEMBERS_KEY_PREFIX + group),
+                memberId,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(membershipTtl.toMillis())
+        );
+        joinedGroups.add(group);
+        if (result == null || result.size() != 2) {
+            return Partition.single();
+        }
+        return new Partition(((Number) result.get(0)).intValue(), ((Number) result.get(1)).intValue());
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 종료할 때 그룹에서 빠져, 남은 노드가 TTL을 기다리지 않고 파티션을 다시 나누게 한다.
+     */
+    @PreDestroy
+    void leaveAll() {
+        for (String group : joinedGroups) {
+            try {
+                redisTemplate.opsForZSet().remove(MEMBERS_KEY_PREFIX + group, nodeId);
+            } catch (Exception e) {
+                log.warn("스케줄러 파티션 그룹 탈퇴 실패: group={}, error={}", group, e.getMessage());
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
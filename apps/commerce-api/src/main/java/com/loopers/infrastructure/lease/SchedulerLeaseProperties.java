@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.lease;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 스케줄러 리스 설정
+ * - enabled=false면 리스/파티션 없이 노드마다 작업 전체를 실행한다. (단일 노드 환경)
+ * - membershipTtl 동안 하트비트가 없는 노드는 파티션 멤버에서 제외된다.
+ */
+@ConfigurationProperties(value = "scheduler.lease")
+public record SchedulerLeaseProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("90s") Duration membershipTtl
+) { }
@@ -18,7 +18,13 @@ import java.util.stream.Collectors;
  * 주문 JPA Entity
  */
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        indexes = {
+                @Index(name = "idx_user_ordered_at", columnList = "userId, orderedAt, id"),
+                @Index(name = "idx_status_ordered_at", columnList = "status, orderedAt, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderEntity {
@@ -1,10 +1,20 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,4 +42,105 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
      */
     @Query("SELECT DISTINCT o FROM OrderEntity o JOIN o.orderItems oi WHERE oi.productId = :productId")
     List<OrderEntity> findByProductId(@Param("productId") Long productId);
+
+    /**
+     * 사용자의 주문 요약 첫 페이지 조회
+     * - idx_user_ordered_at (userId, orderedAt, id) 인덱스를 역순으로 읽는다.
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.finalAmount AS finalAmount, o.orderedAt AS orderedAt, "
+            + "SIZE(o.orderItems) AS itemCount "
+            + "FROM OrderEntity o "
+            + "WHERE o.userId = :userId AND (:status IS NULL OR o.status = :status) "
+            + "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderSummaryView> findSummaries(@Param("userId") String userId,
+                                         @Param("status") OrderStatus status,
+                                         Pageable pageable);
+
+    /**
+     * 사용자의 주문 요약 다음 페이지 조회 (커서 이후)
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.finalAmount AS finalAmount, o.orderedAt AS orderedAt, "
+            + "SIZE(o.orderItems) AS itemCount "
+            + "FROM OrderEntity o "
+            + "WHERE o.userId = :userId AND (:status IS NULL OR o.status = :status) "
+            + "AND (o.orderedAt < :cursorOrderedAt OR (o.orderedAt = :cursorOrderedAt AND o.id < :cursorOrderId)) "
+            + "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderSummaryView> findSummariesAfter(@Param("userId") String userId,
+                                              @Param("status") OrderStatus status,
+                                              @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                              @Param("cursorOrderId") Long cursorOrderId,
+                                              Pageable pageable);
+
+    /**
+     * 여러 주문의 주문 항목을 한 번에 조회
+     */
+    @Query("SELECT oi FROM OrderItemEntity oi WHERE oi.order.id IN :orderIds ORDER BY oi.order.id, oi.id")
+    List<OrderItemEntity> findItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 여러 주문 중 주어진 상태가 아닌 주문의 주문 항목을 한 번에 조회
+     */
+    @Query("SELECT oi FROM OrderItemEntity oi WHERE oi.order.id IN :orderIds AND oi.order.status <> :excludedStatus "
+            + "ORDER BY oi.order.id, oi.id")
+    List<OrderItemEntity> findItemsByOrderIdsAndStatusNot(@Param("orderIds") Collection<Long> orderIds,
+                                                          @Param("excludedStatus") OrderStatus excludedStatus);
+
+    /**
+     * 만료 대상 주문을 잠그고 조회 (키셋 청크, SKIP LOCKED)
+     * - idx_status_ordered_at (status, orderedAt, id) 인덱스를 순서대로 읽는다.
+     * - 파티션 조건은 인덱스에 있는 id로 거르므로 테이블 행을 읽지 않고 건너뛴다.
+     * - 성공한 결제, PG 거래 키를 받은 PENDING 결제, TTL이 지나지 않은 PENDING 결제가 있는 주문은 제외한다.
+     *   (키 없이 TTL이 지난 PENDING 결제는 동기화 대상이 아니어서 영원히 PENDING으로 남으므로 만료를 막지 않는다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OrderEntity o "
+            + "WHERE o.status = :status AND o.orderedAt < :orderedBefore "
+            + "AND MOD(o.id, :partitionCount) = :partitionIndex "
+            + "AND (o.orderedAt > :cursorOrderedAt OR (o.orderedAt = :cursorOrderedAt AND o.id > :cursorOrderId)) "
+            + "AND NOT EXISTS (SELECT p.id FROM PaymentEntity p WHERE p.orderId = o.id AND (p.status = :successStatus "
+            + "OR (p.status = :pendingStatus AND (p.pgTransactionKey IS NOT NULL OR p.createdAt >= :orderedBefore)))) "
+            + "ORDER BY o.orderedAt, o.id")
+    List<OrderEntity> findExpiredForUpdate(@Param("status") OrderStatus status,
+                                           @Param("orderedBefore") LocalDateTime orderedBefore,
+                                           @Param("partitionIndex") long partitionIndex,
+                                           @Param("partitionCount") long partitionCount,
+                                           @Param("cursorOrderedAt") LocalDateTime cursorOrderedAt,
+                                           @Param("cursorOrderId") long cursorOrderId,
+                                           @Param("successStatus") PaymentStatus successStatus,
+                                           @Param("pendingStatus") PaymentStatus pendingStatus,
+                                           Pageable pageable);
+
+    /**
+     * 여러 주문을 ID 순으로 잠그고 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OrderEntity o WHERE o.id IN :orderIds ORDER BY o.id")
+    List<OrderEntity> findAllByIdInForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 일괄 상태 변경 (현재 상태가 일치하는 주문만)
+     */
+    @Modifying
+    @Query("UPDATE OrderEntity o SET o.status = :newStatus, o.modifiedAt = :modifiedAt "
+            + "WHERE o.id IN :orderIds AND o.status = :currentStatus")
+    int updateStatusAll(@Param("orderIds") Collection<Long> orderIds,
+                        @Param("currentStatus") OrderStatus currentStatus,
+                        @Param("newStatus") OrderStatus newStatus,
+                        @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 주문 요약 프로젝션
+     */
+    interface OrderSummaryView {
+        Long getId();
+
+        OrderStatus getStatus();
+
+        BigDecimal getFinalAmount();
+
+        LocalDateTime getOrderedAt();
+
+        Long getItemCount();
+    }
 }
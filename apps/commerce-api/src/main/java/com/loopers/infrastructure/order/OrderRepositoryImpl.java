@@ -1,11 +1,19 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderRepository;
 import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.OrderSummary;
+import com.loopers.domain.payment.PaymentStatus;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -16,6 +24,11 @@ import java.util.stream.Collectors;
 @Repository
 public class OrderRepositoryImpl implements OrderRepository {
 
+    // 첫 청크 조회 시 사용하는 커서 (모든 주문보다 앞선 값)
+    private static final LocalDateTime INITIAL_CURSOR_ORDERED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 이 상태의 결제가 있는 주문은 만료하지 않는다
+
     private final OrderJpaRepository jpaRepository;
 
     public OrderRepositoryImpl(OrderJpaRepository jpaRepository) {
@@ -86,4 +99,89 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .map(OrderEntity::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<OrderSummary> findSummariesByUserId(String userId, OrderStatus statusOrNull,
+                                                    LocalDateTime cursorOrderedAt, Long cursorOrderId, int size) {
+        PageRequest limit = PageRequest.of(0, size);
+        List<OrderJpaRepository.OrderSummaryView> views = (cursorOrderedAt == null || cursorOrderId == null)
+                ? jpaRepository.findSummaries(userId, statusOrNull, limit)
+                : jpaRepository.findSummariesAfter(userId, statusOrNull, cursorOrderedAt, cursorOrderId, limit);
+
+        return views.stream()
+                .map(view -> new OrderSummary(
+                        view.getId(),
+                        view.getStatus(),
+                        view.getFinalAmount(),
+                        view.getOrderedAt(),
+                        view.getItemCount()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<Long, List<OrderItem>> findItemsByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return groupByOrderId(jpaRepository.findItemsByOrderIds(orderIds));
+    }
+
+    @Override
+    public Map<Long, List<OrderItem>> findItemsByOrderIdsAndStatusNot(Collection<Long> orderIds,
+                                                                      OrderStatus excludedStatus) {
+        if (orderIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return groupByOrderId(jpaRepository.findItemsByOrderIdsAndStatusNot(orderIds, excludedStatus));
+    }
+
+    private static Map<Long, List<OrderItem>> groupByOrderId(List<OrderItemEntity> items) {
+        return items.stream()
+                .collect(Collectors.groupingBy(
+                        item -> item.getOrder().getId(),
+                        LinkedHashMap::new,
+                        Collectors.mapping(OrderItemEntity::toDomain, Collectors.toList())
+                ));
+    }
+
+    @Override
+    public List<Order> findExpiredPendingOrdersForUpdate(LocalDateTime orderedBefore, LocalDateTime cursorOrderedAt,
+                                                         Long cursorOrderId, int partitionIndex, int partitionCount,
+                                                         int size) {
+        boolean firstChunk = cursorOrderedAt == null || cursorOrderId == null;
+        return jpaRepository.findExpiredForUpdate(
+                        OrderStatus.PENDING,
+                        orderedBefore,
+                        partitionIndex,
+                        partitionCount,
+                        firstChunk ? INITIAL_CURSOR_ORDERED_AT : cursorOrderedAt,
+                        firstChunk ? 0L : cursorOrderId,
+                        PaymentStatus.SUCCESS,
+                        PaymentStatus.PENDING,
+                        PageRequest.of(0, size)
+                ).stream()
+                .map(OrderEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Order> findAllByIdsForUpdate(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdInForUpdate(orderIds).stream()
+                .map(OrderEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int cancelAll(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.updateStatusAll(orderIds, OrderStatus.PENDING, OrderStatus.CANCELLED, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,26 @@
+package com.loopers.infrastructure.order.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 미결제 주문 만료 스위퍼 설정
+ * - 주문 ID를 shardCount로 나눈 나머지가 shardIndex인 주문만 이 노드가 처리한다.
+ */
+@ConfigurationProperties(value = "order.expiry")
+public record OrderExpiryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30m") Duration ttl,
+        @DefaultValue("200") int chunkSize,
+        @DefaultValue("50") int maxChunksPerRun,
+        @DefaultValue("1") int shardCount,
+        @DefaultValue("0") int shardIndex
+) {
+    public OrderExpiryProperties {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("잘못된 샤드 설정입니다: shardCount=" + shardCount + ", shardIndex=" + shardIndex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.order.scheduler;
+
+import com.loopers.application.order.OrderExpiryChunk;
+import com.loopers.application.order.OrderFacade;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미결제 주문 만료 스케줄러
+ * - 결제되지 않은 채 TTL이 지난 PENDING 주문을 취소하고 재고/포인트를 복구한다.
+ * - 주문 ID를 shardCount로 나눈 나머지가 shardIndex인 주문만 처리한다.
+ *   (고정된 키로 나누므로 노드마다 실행 시점이 달라도 담당 주문이 겹치거나 빠지지 않는다)
+ * - 청크마다 별도 트랜잭션으로 처리하고 (orderedAt, id) 커서로 다음 청크를 이어간다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExpiryScheduler.class);
+
+    private final OrderFacade orderFacade;
+    private final OrderExpiryProperties properties;
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 30000) // 1분마다, 초기 지연 30초
+    public void expirePendingOrders() {
+        try {
+            LocalDateTime orderedBefore = LocalDateTime.now().minus(properties.ttl());
+
+            int scanned = 0;
+            int expired = 0;
+            LocalDateTime cursorOrderedAt = null;
+            Long cursorOrderId = null;
+
+            for (int i = 0; i < properties.maxChunksPerRun(); i++) {
+                OrderExpiryChunk chunk = orderFacade.expirePendingOrders(
+                        orderedBefore, cursorOrderedAt, cursorOrderId,
+                        properties.shardIndex(), properties.shardCount(), properties.chunkSize());
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                scanned += chunk.scanned();
+                expired += chunk.expired();
+                cursorOrderedAt = chunk.lastOrderedAt();
+                cursorOrderId = chunk.lastOrderId();
+
+                if (chunk.scanned() < properties.chunkSize()) {
+                    break;
+                }
+            }
+
+            if (scanned > 0) {
+                log.info("미결제 주문 만료 처리 완료: shard={}/{}, scanned={}, expired={}",
+                        properties.shardIndex(), properties.shardCount(), scanned, expired);
+            }
+        } catch (Exception e) {
+            log.error("미결제 주문 만료 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+}
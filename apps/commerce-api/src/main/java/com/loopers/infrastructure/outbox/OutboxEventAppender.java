@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 이벤트 저장
+ * - 호출한 쪽의 트랜잭션에 참여해야 하므로 트랜잭션 없이 호출되면 예외가 발생한다.
+ * - 저장에 실패하면 도메인 변경도 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventAppender {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String topic, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "아웃박스 이벤트 직렬화에 실패했습니다: " + event.getClass().getSimpleName());
+        }
+
+        outboxEventJpaRepository.save(OutboxEventEntity.create(
+                aggregateType,
+                String.valueOf(aggregateId),
+                event.getClass().getSimpleName(),
+                topic,
+                payload
+        ));
+    }
+}
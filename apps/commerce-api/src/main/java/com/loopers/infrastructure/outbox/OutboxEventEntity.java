@@ -0,0 +1,60 @@
+package com.loopers.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 JPA Entity
+ * - 도메인 변경과 같은 트랜잭션에서 저장되어, 커밋된 이벤트만 Kafka로 전달된다.
+ * - 릴레이는 행을 잠깐 선점(claimedUntil)한 뒤 트랜잭션 밖에서 전송하고, 발행에 성공한 행을 일괄 삭제한다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false, length = 100)
+    private String aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 릴레이가 전송 중인 행의 선점 만료 시각 (null이면 선점되지 않은 행)
+    private LocalDateTime claimedUntil;
+
+    private OutboxEventEntity(String aggregateType, String aggregateId, String eventType,
+                              String topic, String payload, LocalDateTime createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventEntity create(String aggregateType, String aggregateId, String eventType,
+                                           String topic, String payload) {
+        return new OutboxEventEntity(aggregateType, aggregateId, eventType, topic, payload, LocalDateTime.now());
+    }
+}
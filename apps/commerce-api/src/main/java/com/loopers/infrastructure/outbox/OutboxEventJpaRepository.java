@@ -0,0 +1,39 @@
+package com.loopers.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 Spring Data JPA Repository
+ */
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * 선점되지 않았거나 선점 시간이 지난 이벤트를 오래된 순으로 잠그고 조회한다.
+     * - SKIP LOCKED로 다른 릴레이 인스턴스가 선점 중인 행은 건너뛰어 서로 기다리지 않는다.
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE claimed_until IS NULL OR claimed_until < :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> findClaimableForUpdateSkipLocked(@Param("now") LocalDateTime now,
+                                                             @Param("limit") int limit);
+
+    /**
+     * 이벤트 일괄 선점 (선점 시간이 지나기 전에는 다른 릴레이가 가져가지 않는다)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int claimAll(@Param("ids") Collection<Long> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 이벤트 일괄 선점 해제 (다음 배치에서 바로 재시도된다)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.claimedUntil = null WHERE e.id IN :ids")
+    int releaseAll(@Param("ids") Collection<Long> ids);
+}
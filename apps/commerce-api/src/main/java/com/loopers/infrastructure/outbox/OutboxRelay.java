@@ -0,0 +1,178 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * - 짧은 트랜잭션에서 아웃박스 행을 배치 단위로 선점하고(FOR UPDATE SKIP LOCKED + claimedUntil), 커밋한 뒤 Kafka로 비동기 전송한다.
+ * - 전송은 트랜잭션 밖에서 하므로, 브로커가 느려도 DB 커넥션과 행 잠금을 잡고 있지 않는다.
+ * - 배치 전체에 마감 시각 하나를 두고 결과를 기다린 뒤, 두 번째 짧은 트랜잭션에서 성공한 행은 일괄 삭제하고
+ *   실패한 행은 선점을 풀어 다음 배치에서 재시도한다. (at-least-once)
+ * - 릴레이가 중간에 죽어도 선점 시간이 지나면 다른 릴레이가 다시 가져간다.
+ * - 지표: outbox.relay.published / outbox.relay.failed / outbox.relay.batch / outbox.relay.lag
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    // 배치 전체의 전송 결과를 기다리는 시간 (선점 시간보다 충분히 짧아야 한다)
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration CLAIM_TTL = Duration.ofSeconds(30);
+
+    private static final String HEADER_EVENT_ID = "eventId";
+    private static final String HEADER_EVENT_TYPE = "eventType";
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+                       KafkaTemplate<Object, Object> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .description("Kafka로 발행된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("발행에 실패해 재시도 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("아웃박스 배치 1회 릴레이 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래된 미발행 아웃박스 이벤트의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃박스 배치 1회 릴레이
+     *
+     * @param batchSize 한 번에 선점할 최대 행 수
+     * @return 발행에 성공해 삭제된 행 수
+     */
+    public int relayBatch(int batchSize) {
+        // 1. 짧은 트랜잭션에서 선점
+        List<OutboxEventEntity> events = transactionTemplate.execute(status -> claim(batchSize));
+        if (events == null || events.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Duration.between(events.get(0).getCreatedAt(), LocalDateTime.now()).toMillis());
+
+        Timer.Sample sample = Timer.start();
+
+        // 2. 트랜잭션 밖에서 배치 전체를 비동기로 전송
+        List<CompletableFuture<SendResult<Object, Object>>> futures = new ArrayList<>(events.size());
+        for (OutboxEventEntity event : events) {
+            futures.add(kafkaTemplate.send(toRecord(event)));
+        }
+
+        // 3. 배치 마감 시각까지 전송 결과 수집 (마감이 지나면 남은 건은 기다리지 않고 실패로 본다)
+        long deadline = System.nanoTime() + SEND_TIMEOUT.toNanos();
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        boolean interrupted = false;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEventEntity event = events.get(i);
+            if (interrupted) {
+                failedIds.add(event.getId());
+                continue;
+            }
+            try {
+                futures.get(i).get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                publishedIds.add(event.getId());
+            } catch (ExecutionException | TimeoutException e) {
+                failedIds.add(event.getId());
+                log.warn("아웃박스 이벤트 발행 실패: outboxId={}, topic={}, error={}",
+                        event.getId(), event.getTopic(), e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                failedIds.add(event.getId());
+            }
+        }
+
+        // 4. 짧은 트랜잭션에서 발행된 행은 삭제하고, 실패한 행은 선점을 푼다
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!publishedIds.isEmpty()) {
+                outboxEventJpaRepository.deleteAllByIdInBatch(publishedIds);
+            }
+            if (!failedIds.isEmpty()) {
+                outboxEventJpaRepository.releaseAll(failedIds);
+            }
+        });
+
+        publishedCounter.increment(publishedIds.size());
+        failedCounter.increment(failedIds.size());
+        sample.stop(batchTimer);
+
+        log.debug("[아웃박스] 배치 릴레이 완료: fetched={}, published={}", events.size(), publishedIds.size());
+        return publishedIds.size();
+    }
+
+    private List<OutboxEventEntity> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> events = outboxEventJpaRepository.findClaimableForUpdateSkipLocked(now, batchSize);
+        if (!events.isEmpty()) {
+            outboxEventJpaRepository.claimAll(
+                    events.stream().map(OutboxEventEntity::getId).toList(), now.plus(CLAIM_TTL));
+        }
+        return events;
+    }
+
+    private ProducerRecord<Object, Object> toRecord(OutboxEventEntity event) {
+        ProducerRecord<Object, Object> record = new ProducerRecord<>(
+                event.getTopic(),
+                event.getAggregateId(),
+                readPayload(event)
+        );
+        record.headers().add(HEADER_EVENT_ID, String.valueOf(event.getId()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    // JsonSerializer가 문자열을 다시 감싸지 않도록 JsonNode로 전달한다
+    private JsonNode readPayload(OutboxEventEntity event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 페이로드를 읽을 수 없습니다: outboxId=" + event.getId(), e);
+        }
+    }
+}
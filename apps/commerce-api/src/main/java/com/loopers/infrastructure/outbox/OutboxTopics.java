@@ -0,0 +1,14 @@
+package com.loopers.infrastructure.outbox;
+
+/**
+ * 아웃박스 이벤트가 발행되는 Kafka 토픽
+ */
+public final class OutboxTopics {
+
+    public static final String ORDER_EVENTS = "order-events";
+    public static final String PAYMENT_EVENTS = "payment-events";
+    public static final String LIKE_EVENTS = "like-events";
+
+    private OutboxTopics() {
+    }
+}
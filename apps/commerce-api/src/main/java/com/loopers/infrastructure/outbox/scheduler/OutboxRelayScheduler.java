@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.outbox.scheduler;
+
+import com.loopers.infrastructure.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 릴레이 스케줄러
+ * - 매 1초마다 아웃박스를 비운다.
+ * - 배치가 가득 차 있으면 밀린 이벤트가 있다고 보고 한 실행 안에서 연속으로 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayScheduler.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelay = 1000, initialDelay = 5000) // 1초마다, 초기 지연 5초
+    public void relay() {
+        try {
+            int total = 0;
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int published = outboxRelay.relayBatch(BATCH_SIZE);
+                total += published;
+                if (published < BATCH_SIZE) {
+                    break;
+                }
+            }
+
+            if (total > 0) {
+                log.info("아웃박스 릴레이 완료: published={}", total);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+}
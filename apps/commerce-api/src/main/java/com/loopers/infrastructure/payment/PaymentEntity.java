@@ -20,7 +20,7 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_user_order", columnList = "userId, orderId"),
                 @Index(name = "idx_pg_transaction_key", columnList = "pgTransactionKey"),
-                @Index(name = "idx_status", columnList = "status")
+                @Index(name = "idx_status_created_at", columnList = "status, createdAt, id")
         }
 )
 @Getter
@@ -1,8 +1,16 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +24,13 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
      */
     Optional<PaymentEntity> findByPgTransactionKey(String pgTransactionKey);
 
+    /**
+     * PG 트랜잭션 키 목록으로 조회 (비관적 락, 교착을 피하려고 ID 순으로 잠근다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PaymentEntity p WHERE p.pgTransactionKey IN :keys ORDER BY p.id")
+    List<PaymentEntity> findAllByPgTransactionKeyInForUpdate(@Param("keys") Collection<String> keys);
+
     /**
      * 주문 ID로 조회
      */
@@ -27,7 +42,39 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
     List<PaymentEntity> findByUserIdAndOrderId(String userId, Long orderId);
 
     /**
-     * 상태로 조회
+     * 상태별 결제를 (createdAt, id) 순서로 조회 (키셋 페이징)
+     * - idx_status_created_at (status, createdAt, id) 인덱스를 순서대로 읽는다.
+     * - 파티션 조건은 인덱스에 있는 id로 거르므로 테이블 행을 읽지 않고 건너뛴다.
+     */
+    @Query("SELECT p FROM PaymentEntity p "
+            + "WHERE p.status = :status AND p.createdAt < :createdBefore "
+            + "AND (p.createdAt > :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id > :cursorId)) "
+            + "AND MOD(p.id, :partitionCount) = :partitionIndex "
+            + "ORDER BY p.createdAt, p.id")
+    List<PaymentEntity> findByStatusAfter(@Param("status") PaymentStatus status,
+                                          @Param("createdBefore") LocalDateTime createdBefore,
+                                          @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") long cursorId,
+                                          @Param("partitionIndex") long partitionIndex,
+                                          @Param("partitionCount") long partitionCount,
+                                          Pageable pageable);
+
+    /**
+     * 주문들의 PG 거래 키 없이 오래된 PENDING 결제를 일괄 실패 처리
+     */
+    @Modifying
+    @Query("UPDATE PaymentEntity p SET p.status = :failedStatus, p.failureReason = :reason, p.modifiedAt = :modifiedAt "
+            + "WHERE p.orderId IN :orderIds AND p.status = :pendingStatus "
+            + "AND p.pgTransactionKey IS NULL AND p.createdAt < :createdBefore")
+    int failPendingWithoutTransactionKey(@Param("orderIds") Collection<Long> orderIds,
+                                         @Param("createdBefore") LocalDateTime createdBefore,
+                                         @Param("pendingStatus") PaymentStatus pendingStatus,
+                                         @Param("failedStatus") PaymentStatus failedStatus,
+                                         @Param("reason") String reason,
+                                         @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 상태별 결제 수 (동기화 대기 규모 지표용)
      */
-    List<PaymentEntity> findByStatus(PaymentStatus status);
+    long countByStatus(PaymentStatus status);
 }
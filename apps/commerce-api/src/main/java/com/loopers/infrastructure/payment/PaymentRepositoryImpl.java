@@ -3,9 +3,14 @@ package com.loopers.infrastructure.payment;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
 import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.support.jdbc.JdbcTimestamps;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,7 +22,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PaymentRepositoryImpl implements PaymentRepository {
 
+    private static final LocalDateTime INITIAL_CURSOR_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE payments SET status = ?, failure_reason = ?, modified_at = ? WHERE id = ?";
+
     private final PaymentJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Payment save(Payment payment) {
@@ -49,6 +60,32 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .map(PaymentEntity::toDomain);
     }
 
+    @Override
+    public List<Payment> findAllByPgTransactionKeysForUpdate(Collection<String> pgTransactionKeys) {
+        if (pgTransactionKeys.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByPgTransactionKeyInForUpdate(pgTransactionKeys).stream()
+                .map(PaymentEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 엔티티를 다시 읽지 않고 JDBC 배치로 갱신한다. (rewriteBatchedStatements로 왕복 횟수를 줄인다)
+     */
+    @Override
+    public void updateStatuses(List<Payment> payments) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, payments, payments.size(), (ps, payment) -> {
+            ps.setString(1, payment.getStatus().name());
+            ps.setString(2, payment.getFailureReason());
+            JdbcTimestamps.setUtc(ps, 3, payment.getModifiedAt());
+            ps.setLong(4, payment.getId());
+        });
+    }
+
     @Override
     public List<Payment> findByOrderId(Long orderId) {
         return jpaRepository.findByOrderId(orderId).stream()
@@ -64,9 +101,34 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     }
 
     @Override
-    public List<Payment> findPendingPayments() {
-        return jpaRepository.findByStatus(PaymentStatus.PENDING).stream()
+    public List<Payment> findPendingPayments(LocalDateTime createdBefore, LocalDateTime cursorCreatedAt,
+                                             Long cursorId, int partitionIndex, int partitionCount, int size) {
+        boolean firstPage = cursorCreatedAt == null || cursorId == null;
+        return jpaRepository.findByStatusAfter(
+                        PaymentStatus.PENDING,
+                        createdBefore,
+                        firstPage ? INITIAL_CURSOR_CREATED_AT : cursorCreatedAt,
+                        firstPage ? 0L : cursorId,
+                        partitionIndex,
+                        partitionCount,
+                        PageRequest.of(0, size)
+                ).stream()
                 .map(PaymentEntity::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public int failStalePendingWithoutTransactionKey(Collection<Long> orderIds, LocalDateTime createdBefore,
+                                                     String reason) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.failPendingWithoutTransactionKey(
+                orderIds, createdBefore, PaymentStatus.PENDING, PaymentStatus.FAILED, reason, LocalDateTime.now());
+    }
+
+    @Override
+    public long countPendingPayments() {
+        return jpaRepository.countByStatus(PaymentStatus.PENDING);
+    }
 }
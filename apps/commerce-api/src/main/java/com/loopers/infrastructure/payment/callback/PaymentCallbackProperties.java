@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.payment.callback;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PG 콜백 일괄 반영 설정
+ * - queueEnabled이면 콜백을 Redis 스트림에 적재만 하고 바로 응답하며, 스케줄러가 batchSize건씩 모아 반영한다.
+ * - 아직 트랜잭션 키가 저장되지 않은 결제의 콜백은 maxAttempts번까지 다시 적재한다.
+ *   n번째 재시도는 retryDelay * n이 지난 뒤에야 읽히므로, 키가 저장될 시간을 두고 재시도한다.
+ * - 처리 중이던 노드가 죽거나 반영 트랜잭션이 실패해 reclaimIdle 동안 확인(ack)되지 않은 콜백은 다시 가져가 처리한다.
+ *   이렇게 maxAttempts번 넘게 전달된 콜백은 버린다. (동기화 스케줄러가 PG 조회로 확정)
+ */
+@ConfigurationProperties(value = "payment.callback")
+public record PaymentCallbackProperties(
+        @DefaultValue("true") boolean queueEnabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("20") int maxAttempts,
+        @DefaultValue("60s") Duration reclaimIdle,
+        @DefaultValue("1s") Duration retryDelay
+) { }
@@ -0,0 +1,270 @@
+package com.loopers.infrastructure.payment.callback;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * PG 콜백 대기열 (Redis 스트림)
+ * - 콜백 요청은 스트림에 XADD만 하고 바로 응답한다. 적재된 콜백은 AOF/복제로 Redis에 남는다.
+ * - 소비자 그룹으로 읽어, 반영이 끝난 콜백만 XACK 후 삭제한다. (반영 전에 노드가 죽으면 PEL에 남는다)
+ * - PEL에 오래 남은 콜백은 XCLAIM으로 다른 소비자가 가져간다.
+ * - 다시 시도할 콜백은 재시도 시각을 점수로 한 sorted set에 두었다가, 시각이 지나면 스트림으로 옮긴다.
+ * - Lettuce는 연결 하나를 공유하므로 BLOCK 없이 읽고, 대기는 스케줄러 주기로 대신한다.
+ * - 스트림 키가 지워지거나 Redis가 데이터 없이 재시작해 소비자 그룹이 사라지면(NOGROUP), 그룹을 다시 만들고 한 번 더 시도한다.
+ */
+@Component
+public class PaymentCallbackQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentCallbackQueue.class);
+
+    static final String STREAM_KEY = "payment:callbacks";
+    static final String GROUP = "payment-callback-appliers";
+    static final String RETRY_KEY = "payment:callbacks:retry";
+
+    /**
+     * KEYS[1] = 재시도 대기(sorted set, score = 재시도 시각), KEYS[2] = 스트림
+     * ARGV[1] = 현재 시각(epoch millis), ARGV[2] = 최대 건수
+     * 반환: 스트림으로 옮긴 콜백 수
+     */
+    private static final DefaultRedisScript<Long> RELEASE_RETRIES_SCRIPT = new DefaultRedisScript<>("""
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            for _, member in ipairs(due) do
+                local fields = cjson.decode(member)
+                local args = {}
+                for field, value in pairs(fields) do
+                    args[#args + 1] = field
+                    args[#args + 1] = value
+                end
+                redis.call('XADD', KEYS[2], '*', unpack(args))
+                redis.call('ZREM', KEYS[1], member)
+            end
+            return #due
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean groupReady = false;
+
+    public PaymentCallbackQueue(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 콜백을 적재한다.
+     *
+     * @param attempt 반영을 시도한 횟수 (처음 적재할 때는 0)
+     */
+    public void enqueue(String transactionKey, String status, String reason, int attempt) {
+        Map<String, String> fields = fields(transactionKey, status, reason, attempt);
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(fields));
+    }
+
+    /**
+     * 콜백을 notBefore 이후에 다시 읽히도록 재시도 대기에 둔다.
+     * - 같은 내용의 콜백이 이미 대기 중이면 하나로 합쳐진다. (반영 결과가 같으므로)
+     *
+     * @param attempt   반영을 시도한 횟수
+     * @param notBefore 다시 읽힐 수 있는 가장 이른 시각 (epoch millis)
+     */
+    public void scheduleRetry(Entry entry, int attempt, long notBefore) {
+        String member;
+        try {
+            // 필드 순서를 고정해 같은 내용이면 같은 멤버가 되게 한다
+            member = objectMapper.writeValueAsString(
+                    new TreeMap<>(fields(entry.transactionKey(), entry.status(), entry.reason(), attempt)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("PG 콜백을 직렬화할 수 없습니다: pgTransactionKey=" + entry.transactionKey(), e);
+        }
+        redisTemplate.opsForZSet().add(RETRY_KEY, member, notBefore);
+    }
+
+    /**
+     * 재시도 시각이 지난 콜백을 최대 count건 스트림으로 옮긴다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @return 옮긴 콜백 수
+     */
+    public int releaseDueRetries(long now, int count) {
+        Long released = redisTemplate.execute(RELEASE_RETRIES_SCRIPT, List.of(RETRY_KEY, STREAM_KEY),
+                String.valueOf(now), String.valueOf(count));
+        return released == null ? 0 : released.intValue();
+    }
+
+    /**
+     * 아직 어떤 소비자도 가져가지 않은 콜백을 최대 count건 읽는다.
+     */
+    public List<Entry> read(String consumer, int count) {
+        List<MapRecord<String, Object, Object>> records = withGroup(() -> redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumer),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())
+        ));
+        return toEntries(records);
+    }
+
+    /**
+     * minIdle 이상 확인되지 않은 콜백을 이 소비자가 가져온다.
+     * - 처리 중 죽은 노드의 몫이거나, 반영 트랜잭션이 실패해 확인하지 못한 콜백이다.
+     * - 가져온 콜백의 deliveries에는 이번 전달을 포함한 전달 횟수를 담는다.
+     */
+    public List<Entry> claimStale(String consumer, Duration minIdle, int count) {
+        PendingMessages pending = withGroup(() ->
+                redisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), count));
+        Map<String, Long> deliveries = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .collect(Collectors.toMap(PendingMessage::getIdAsString, PendingMessage::getTotalDeliveryCount));
+        if (deliveries.isEmpty()) {
+            return List.of();
+        }
+
+        RecordId[] staleIds = deliveries.keySet().stream().map(RecordId::of).toArray(RecordId[]::new);
+        List<MapRecord<String, Object, Object>> records = withGroup(() ->
+                redisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumer, minIdle, staleIds));
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> Entry.from(record, (int) (deliveries.get(record.getId().getValue()) + 1)))
+                .toList();
+    }
+
+    /**
+     * 반영이 끝난 콜백을 확인하고 스트림에서 지운다.
+     */
+    public void ackAndDelete(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String[] recordIds = ids.toArray(String[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, recordIds);
+        redisTemplate.opsForStream().delete(STREAM_KEY, recordIds);
+    }
+
+    /**
+     * 소비자 그룹이 필요한 명령을 실행한다.
+     * - 그룹이 사라져 NOGROUP 오류가 나면 그룹이 있다는 표시를 지우고, 그룹을 다시 만든 뒤 한 번만 더 실행한다.
+     */
+    private <T> T withGroup(Supplier<T> command) {
+        ensureGroup();
+        try {
+            return command.get();
+        } catch (RuntimeException e) {
+            if (!hasErrorCode(e, "NOGROUP")) {
+                throw e;
+            }
+            log.warn("PG 콜백 소비자 그룹이 없어 다시 생성: stream={}, group={}", STREAM_KEY, GROUP);
+            groupReady = false;
+            ensureGroup();
+            return command.get();
+        }
+    }
+
+    /**
+     * 소비자 그룹을 만든다. (MKSTREAM으로 스트림이 없으면 함께 만들고, 그룹이 이미 있으면 무시한다)
+     */
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        byte[] rawKey = STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.streamCommands().xGroupCreate(rawKey, GROUP, ReadOffset.from("0"), true));
+            log.info("PG 콜백 소비자 그룹 생성: stream={}, group={}", STREAM_KEY, GROUP);
+        } catch (RuntimeException e) {
+            if (!hasErrorCode(e, "BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private static boolean hasErrorCode(Throwable e, String code) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> fields(String transactionKey, String status, String reason, int attempt) {
+        // 스트림 필드에는 null을 넣을 수 없어 사유가 없으면 빈 문자열로 둔다
+        return Map.of(
+                "transactionKey", transactionKey,
+                "status", status == null ? "" : status,
+                "reason", reason == null ? "" : reason,
+                "attempt", String.valueOf(attempt)
+        );
+    }
+
+    private static List<Entry> toEntries(List<MapRecord<String, Object, Object>> records) {
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> Entry.from(record, 1))
+                .toList();
+    }
+
+    /**
+     * 대기열에서 읽은 콜백
+     *
+     * @param id         스트림 레코드 ID (확인/삭제에 사용)
+     * @param attempt    결제를 찾지 못해 다시 적재된 횟수
+     * @param deliveries 이 레코드가 소비자에게 전달된 횟수 (반영 트랜잭션이 실패해 다시 가져갈 때마다 는다)
+     */
+    public record Entry(
+            String id,
+            String transactionKey,
+            String status,
+            String reason,
+            int attempt,
+            int deliveries
+    ) {
+        static Entry from(MapRecord<String, Object, Object> record, int deliveries) {
+            Map<Object, Object> fields = record.getValue();
+            String reason = Objects.toString(fields.get("reason"), "");
+            return new Entry(
+                    record.getId().getValue(),
+                    Objects.toString(fields.get("transactionKey"), null),
+                    Objects.toString(fields.get("status"), null),
+                    reason.isEmpty() ? null : reason,
+                    Integer.parseInt(Objects.toString(fields.get("attempt"), "0")),
+                    deliveries
+            );
+        }
+    }
+}
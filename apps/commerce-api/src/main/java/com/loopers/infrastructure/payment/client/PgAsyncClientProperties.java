@@ -0,0 +1,20 @@
+package com.loopers.infrastructure.payment.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 PG 클라이언트 설정
+ * - maxConnectionsPerHost: PG 호스트별 동시 요청(= 동시 연결) 상한
+ * - acquireTimeout: 상한에 걸렸을 때 빈 자리를 기다리는 최대 시간 (넘으면 Fallback)
+ * - 타임아웃은 Feign 클라이언트와 같게 연결 1초, 응답 3초를 기본으로 한다.
+ */
+@ConfigurationProperties(value = "pg.async")
+public record PgAsyncClientProperties(
+        @DefaultValue("64") int maxConnectionsPerHost,
+        @DefaultValue("1s") Duration acquireTimeout,
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("3s") Duration readTimeout
+) { }
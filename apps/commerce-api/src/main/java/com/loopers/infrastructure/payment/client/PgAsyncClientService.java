@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 PG 호출 서비스
+ * - PG 호출을 가상 스레드에서 실행하고 CompletableFuture로 돌려주므로, 응답을 기다리는 동안 요청 스레드를 잡지 않는다.
+ * - PgClientService와 같은 CircuitBreaker(pgCircuit)/Retry(pgRetry) 인스턴스를 쓰므로 장애 판단을 공유한다.
+ *   (결제 요청: Retry -> CircuitBreaker, 트랜잭션 조회: CircuitBreaker만)
+ * - 최종 실패 시 PgClientService와 같은 Fallback 응답으로 정상 완료한다.
+ * - 동시 호출 한도(PgConcurrencyLimiter)와 엔드포인트 라우터(PgEndpointRouter)도 PgClientService와 공유한다.
+ *   (재시도마다 엔드포인트를 다시 고른다)
+ */
+@Service
+public class PgAsyncClientService {
+
+    private static final Logger log = LoggerFactory.getLogger(PgAsyncClientService.class);
+
+    private final PgHttpClient pgHttpClient;
+    private final PgConcurrencyLimiter concurrencyLimiter;
+    private final PgEndpointRouter router;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public PgAsyncClientService(
+            PgHttpClient pgHttpClient,
+            PgConcurrencyLimiter concurrencyLimiter,
+            PgEndpointRouter router,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry
+    ) {
+        this.pgHttpClient = pgHttpClient;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.router = router;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("pgCircuit");
+        this.retry = retryRegistry.retry("pgRetry");
+    }
+
+    /**
+     * 결제 요청 (CircuitBreaker + Retry 적용)
+     */
+    public CompletableFuture<PgClient.ApiResponse<PgClientDto.TransactionResponse>> requestPayment(
+            String userId,
+            PgClientDto.PaymentRequest request
+    ) {
+        CheckedSupplier<PgClient.ApiResponse<PgClientDto.TransactionResponse>> call = Retry.decorateCheckedSupplier(
+                retry,
+                CircuitBreaker.decorateCheckedSupplier(circuitBreaker, () -> {
+                    PgEndpoint endpoint = router.select();
+                    log.info("PG 결제 요청 (비동기): userId={}, orderId={}, endpoint={}", userId, request.orderId(), endpoint);
+                    return concurrencyLimiter.execute(() -> router.execute(endpoint,
+                            () -> pgHttpClient.requestPayment(endpoint.uri(), userId, request)));
+                })
+        );
+
+        return supplyAsync(call).exceptionally(t -> {
+            log.error("PG 결제 요청 실패 (Fallback 처리): userId={}, orderId={}, error={}",
+                    userId, request.orderId(), rootCause(t).getMessage());
+            return PgClientService.paymentFallbackResponse();
+        });
+    }
+
+    /**
+     * 트랜잭션 상세 조회 (CircuitBreaker 적용)
+     */
+    public CompletableFuture<PgClient.ApiResponse<PgClientDto.TransactionDetailResponse>> getTransaction(
+            String userId,
+            String transactionKey
+    ) {
+        CheckedSupplier<PgClient.ApiResponse<PgClientDto.TransactionDetailResponse>> call =
+                CircuitBreaker.decorateCheckedSupplier(circuitBreaker, () -> {
+                    PgEndpoint endpoint = router.select();
+                    log.info("PG 트랜잭션 조회 (비동기): userId={}, transactionKey={}, endpoint={}", userId, transactionKey, endpoint);
+                    return concurrencyLimiter.execute(() -> router.execute(endpoint,
+                            () -> pgHttpClient.getTransaction(endpoint.uri(), userId, transactionKey)));
+                });
+
+        return supplyAsync(call).exceptionally(t -> {
+            log.error("PG 트랜잭션 조회 실패 (Fallback 처리): userId={}, transactionKey={}, error={}",
+                    userId, transactionKey, rootCause(t).getMessage());
+            return PgClientService.transactionFallbackResponse(transactionKey);
+        });
+    }
+
+    private <T> CompletableFuture<T> supplyAsync(CheckedSupplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.get();
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            }
+        }, executor);
+    }
+
+    private static Throwable rootCause(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
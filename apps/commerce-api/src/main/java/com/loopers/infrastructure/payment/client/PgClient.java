@@ -9,10 +9,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.net.URI;
+
 /**
  * PG Simulator와 통신하는 FeignClient
  * - Timeout: 연결 1초, 응답 3초 (application.yml)
  * - CircuitBreaker와 Retry는 PgClientService에서 적용
+ * - 첫 번째 인자(URI)로 요청을 보낼 PG 엔드포인트를 정한다. (PgEndpointRouter가 고른 엔드포인트, pg.url은 기본값)
  */
 @FeignClient(
         name = "pg-client",
@@ -24,12 +27,14 @@ public interface PgClient {
     /**
      * 결제 요청
      *
-     * @param userId  사용자 ID (헤더)
-     * @param request 결제 요청 정보
+     * @param endpoint PG 엔드포인트
+     * @param userId   사용자 ID (헤더)
+     * @param request  결제 요청 정보
      * @return 트랜잭션 응답
      */
     @PostMapping("/api/v1/payments")
     ApiResponse<PgClientDto.TransactionResponse> requestPayment(
+            URI endpoint,
             @RequestHeader("X-USER-ID") String userId,
             @RequestBody PgClientDto.PaymentRequest request
     );
@@ -37,12 +42,14 @@ public interface PgClient {
     /**
      * 트랜잭션 상세 조회
      *
+     * @param endpoint       PG 엔드포인트
      * @param userId         사용자 ID (헤더)
      * @param transactionKey 트랜잭션 키
      * @return 트랜잭션 상세 정보
      */
     @GetMapping("/api/v1/payments/{transactionKey}")
     ApiResponse<PgClientDto.TransactionDetailResponse> getTransaction(
+            URI endpoint,
             @RequestHeader("X-USER-ID") String userId,
             @PathVariable("transactionKey") String transactionKey
     );
@@ -50,16 +57,31 @@ public interface PgClient {
     /**
      * 주문별 트랜잭션 목록 조회
      *
-     * @param userId  사용자 ID (헤더)
-     * @param orderId 주문 ID
+     * @param endpoint PG 엔드포인트
+     * @param userId   사용자 ID (헤더)
+     * @param orderId  주문 ID
      * @return 주문별 트랜잭션 목록
      */
     @GetMapping("/api/v1/payments")
     ApiResponse<PgClientDto.OrderResponse> getTransactionsByOrder(
+            URI endpoint,
             @RequestHeader("X-USER-ID") String userId,
             @RequestParam("orderId") String orderId
     );
 
+    /**
+     * 트랜잭션 상태 일괄 조회 (가맹점 대사용, 사용자 헤더 없음)
+     *
+     * @param endpoint PG 엔드포인트
+     * @param request  조회할 트랜잭션 키 목록
+     * @return 트랜잭션 상태 목록
+     */
+    @PostMapping("/api/v1/payments/statuses")
+    ApiResponse<PgClientDto.TransactionStatusesResponse> getTransactionStatuses(
+            URI endpoint,
+            @RequestBody PgClientDto.TransactionStatusesRequest request
+    );
+
     /**
      * PG API 응답 포맷
      */
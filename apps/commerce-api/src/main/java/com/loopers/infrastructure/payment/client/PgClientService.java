@@ -3,26 +3,83 @@ package com.loopers.infrastructure.payment.client;
 import com.loopers.infrastructure.payment.client.dto.PgClientDto;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 /**
  * PG Client를 호출하는 서비스 - CircuitBreaker: 외부 시스템 장애 시 차단 - Retry: 일시적 실패 시 재시도 - Fallback: 최종 실패 시 대체 응답
+ * - 동시 호출 제한: PgConcurrencyLimiter (벌크헤드 + 적응형 한도, 한도 초과 시 Fallback)
+ * - 엔드포인트 선택: PgEndpointRouter (EWMA 응답 시간/오류율 기반, 연속 실패 시 제외)
+ * - 헤지 요청: 조회는 멱등하므로, 최근 조회 응답 시간의 p95만큼 기다려도 응답이 없으면 다른 엔드포인트로 한 번 더 보내고
+ *   먼저 성공한 응답을 쓴다. (결제 요청은 멱등하지 않아 헤지하지 않는다)
+ *   응답 시간은 조회 종류마다 따로 모은다. (단건 조회와 500건 일괄 조회의 분포가 섞이지 않게)
  */
 @Service
 public class PgClientService {
 
     private static final Logger log = LoggerFactory.getLogger(PgClientService.class);
 
+    // 헤지 지연을 계산할 조회 응답 시간 표본 수
+    private static final int HEDGE_WINDOW_SIZE = 256;
+    private static final int HEDGE_MIN_SAMPLES = 20;
+
+    // 상태 일괄 조회 1회에 담는 최대 트랜잭션 키 수 (PG 한도 1000건)
+    public static final int MAX_STATUS_BATCH_SIZE = 500;
+
     private final PgClient pgClient;
+    private final PgConcurrencyLimiter concurrencyLimiter;
+    private final PgEndpointRouter router;
+    private final PgRoutingProperties routingProperties;
+    private final Map<ReadOperation, PgLatencyWindow> readLatencies = new EnumMap<>(ReadOperation.class);
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter hedgeSentCounter;
+    private final Counter hedgeWonCounter;
 
-    public PgClientService(PgClient pgClient) {
+    public PgClientService(
+        PgClient pgClient,
+        PgConcurrencyLimiter concurrencyLimiter,
+        PgEndpointRouter router,
+        PgRoutingProperties routingProperties,
+        MeterRegistry meterRegistry
+    ) {
         this.pgClient = pgClient;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.router = router;
+        this.routingProperties = routingProperties;
+        for (ReadOperation operation : ReadOperation.values()) {
+            readLatencies.put(operation, new PgLatencyWindow(HEDGE_WINDOW_SIZE));
+        }
+        this.hedgeSentCounter = Counter.builder("pg.hedge.sent")
+            .description("조회 응답이 늦어 다른 엔드포인트로 보낸 헤지 요청 수")
+            .register(meterRegistry);
+        this.hedgeWonCounter = Counter.builder("pg.hedge.won")
+            .description("헤지 요청이 먼저 성공한 횟수")
+            .register(meterRegistry);
     }
 
     /**
      * 결제 요청 (CircuitBreaker + Retry 적용)
+     * - 재시도마다 엔드포인트를 다시 고르므로, 실패한 엔드포인트가 제외되면 다른 엔드포인트로 재시도된다.
      *
      * @param userId  사용자 ID
      * @param request 결제 요청 정보
@@ -34,12 +91,14 @@ public class PgClientService {
         String userId,
         PgClientDto.PaymentRequest request
     ) {
-        log.info("PG 결제 요청: userId={}, orderId={}", userId, request.orderId());
-        return pgClient.requestPayment(userId, request);
+        PgEndpoint endpoint = router.select();
+        log.info("PG 결제 요청: userId={}, orderId={}, endpoint={}", userId, request.orderId(), endpoint);
+        return concurrencyLimiter.execute(() ->
+            router.execute(endpoint, () -> pgClient.requestPayment(endpoint.uri(), userId, request)));
     }
 
     /**
-     * 트랜잭션 상세 조회 (CircuitBreaker 적용)
+     * 트랜잭션 상세 조회 (CircuitBreaker + 헤지 요청 적용)
      *
      * @param userId         사용자 ID
      * @param transactionKey 트랜잭션 키
@@ -51,11 +110,11 @@ public class PgClientService {
         String transactionKey
     ) {
         log.info("PG 트랜잭션 조회: userId={}, transactionKey={}", userId, transactionKey);
-        return pgClient.getTransaction(userId, transactionKey);
+        return hedgedRead(ReadOperation.TRANSACTION, endpoint -> pgClient.getTransaction(endpoint, userId, transactionKey));
     }
 
     /**
-     * 주문별 트랜잭션 목록 조회 (CircuitBreaker 적용)
+     * 주문별 트랜잭션 목록 조회 (CircuitBreaker + 헤지 요청 적용)
      *
      * @param userId  사용자 ID
      * @param orderId 주문 ID
@@ -67,7 +126,141 @@ public class PgClientService {
         String orderId
     ) {
         log.info("PG 주문별 트랜잭션 조회: userId={}, orderId={}", userId, orderId);
-        return pgClient.getTransactionsByOrder(userId, orderId);
+        return hedgedRead(ReadOperation.TRANSACTIONS_BY_ORDER,
+            endpoint -> pgClient.getTransactionsByOrder(endpoint, userId, orderId));
+    }
+
+    /**
+     * 트랜잭션 상태 일괄 조회 (CircuitBreaker + 헤지 요청 적용)
+     * - PENDING 결제 동기화에서 결제마다 조회하지 않고 최대 MAX_STATUS_BATCH_SIZE건을 한 번에 조회한다.
+     *
+     * @param transactionKeys 트랜잭션 키 목록 (최대 MAX_STATUS_BATCH_SIZE건)
+     * @return 트랜잭션 상태 목록
+     */
+    @CircuitBreaker(name = "pgCircuit", fallbackMethod = "getTransactionStatusesFallback")
+    public PgClient.ApiResponse<PgClientDto.TransactionStatusesResponse> getTransactionStatuses(
+        List<String> transactionKeys
+    ) {
+        if (transactionKeys.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                "상태 일괄 조회는 최대 " + MAX_STATUS_BATCH_SIZE + "건까지 가능합니다. 요청: " + transactionKeys.size());
+        }
+        log.info("PG 트랜잭션 상태 일괄 조회: count={}", transactionKeys.size());
+        PgClientDto.TransactionStatusesRequest request = new PgClientDto.TransactionStatusesRequest(transactionKeys);
+        return hedgedRead(ReadOperation.TRANSACTION_STATUSES, endpoint -> pgClient.getTransactionStatuses(endpoint, request));
+    }
+
+    // ========== Hedged Read ==========
+
+    /**
+     * 헤지 지연을 따로 계산하는 조회 종류
+     */
+    enum ReadOperation {
+        TRANSACTION,
+        TRANSACTIONS_BY_ORDER,
+        TRANSACTION_STATUSES
+    }
+
+    /**
+     * 헤지 조회
+     * - 첫 요청이 헤지 지연 안에 끝나면 그 결과(성공/실패)를 그대로 돌려준다.
+     * - 지연이 지나도 끝나지 않으면 다른 엔드포인트로 한 번 더 보내고, 먼저 성공한 응답을 돌려준다. (둘 다 실패하면 마지막 예외)
+     * - 늦게 끝난 요청은 취소하지 않고 응답 시간 기록에만 쓴다.
+     */
+    private <T> T hedgedRead(ReadOperation operation, Function<URI, T> call) {
+        PgEndpoint primary = router.select();
+        CompletableFuture<T> first = readAsync(operation, primary, call);
+        if (!routingProperties.hedgeEnabled() || router.size() < 2) {
+            return await(first);
+        }
+
+        try {
+            return first.get(hedgeDelay(operation).toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            Optional<PgEndpoint> secondary = router.selectOther(primary);
+            if (secondary.isEmpty()) {
+                return await(first);
+            }
+            hedgeSentCounter.increment();
+            log.info("PG 조회 응답 지연으로 헤지 요청: primary={}, hedge={}", primary, secondary.get());
+            return await(firstSuccessful(first, readAsync(operation, secondary.get(), call)));
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 조회 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    /**
+     * 헤지 지연: 같은 종류의 최근 조회 응답 시간의 분위수 (표본이 모이기 전에는 최대 지연)
+     */
+    Duration hedgeDelay(ReadOperation operation) {
+        long delayNanos = readLatencies.get(operation).percentile(routingProperties.hedgeQuantile(), HEDGE_MIN_SAMPLES)
+            .orElse(routingProperties.hedgeMaxDelay().toNanos());
+        long clamped = Math.max(routingProperties.hedgeMinDelay().toNanos(),
+            Math.min(delayNanos, routingProperties.hedgeMaxDelay().toNanos()));
+        return Duration.ofNanos(clamped);
+    }
+
+    private <T> CompletableFuture<T> readAsync(ReadOperation operation, PgEndpoint endpoint, Function<URI, T> call) {
+        return CompletableFuture.supplyAsync(() -> concurrencyLimiter.execute(() -> {
+            long startedAt = System.nanoTime();
+            T result = router.execute(endpoint, () -> call.apply(endpoint.uri()));
+            readLatencies.get(operation).record(System.nanoTime() - startedAt);
+            return result;
+        }), executor);
+    }
+
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        primary.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+            } else if (remaining.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((value, error) -> {
+            if (error == null) {
+                if (result.complete(value)) {
+                    hedgeWonCounter.increment();
+                }
+            } else if (remaining.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+        return result;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    /**
+     * 비동기 호출의 예외를 원래 예외로 다시 던진다. (CircuitBreaker가 예외 종류로 판단하도록)
+     */
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
     }
 
     // ========== Fallback Methods ==========
@@ -83,14 +276,7 @@ public class PgClientService {
         log.error("PG 결제 요청 실패 (Fallback 처리): userId={}, orderId={}, error={}",
             userId, request.orderId(), t.getMessage());
 
-        // Fallback: PENDING 상태로 반환 (나중에 상태 확인 필요)
-        PgClientDto.TransactionResponse fallbackResponse = new PgClientDto.TransactionResponse(
-            null,  // transactionKey는 null (생성 실패)
-            PgClientDto.TransactionStatus.PENDING,
-            "PG 시스템 일시 장애로 결제 대기 중입니다. 잠시 후 다시 확인해주세요."
-        );
-
-        return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
+        return paymentFallbackResponse();
     }
 
     /**
@@ -104,18 +290,7 @@ public class PgClientService {
         log.error("PG 트랜잭션 조회 실패 (Fallback 처리): userId={}, transactionKey={}, error={}",
             userId, transactionKey, t.getMessage());
 
-        // Fallback: PENDING 상태로 반환
-        PgClientDto.TransactionDetailResponse fallbackResponse = new PgClientDto.TransactionDetailResponse(
-            transactionKey,
-            null,
-            null,
-            null,
-            null,
-            PgClientDto.TransactionStatus.PENDING,
-            "PG 시스템 일시 장애로 조회할 수 없습니다."
-        );
-
-        return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
+        return transactionFallbackResponse(transactionKey);
     }
 
     /**
@@ -137,4 +312,52 @@ public class PgClientService {
 
         return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
     }
+
+    /**
+     * 트랜잭션 상태 일괄 조회 실패 시 Fallback
+     * - 빈 목록으로 돌려주어 모든 결제를 PENDING으로 남기고 다음 동기화에서 다시 조회한다.
+     */
+    private PgClient.ApiResponse<PgClientDto.TransactionStatusesResponse> getTransactionStatusesFallback(
+        List<String> transactionKeys,
+        Throwable t
+    ) {
+        log.error("PG 트랜잭션 상태 일괄 조회 실패 (Fallback 처리): count={}, error={}",
+            transactionKeys.size(), t.getMessage());
+
+        PgClientDto.TransactionStatusesResponse fallbackResponse = new PgClientDto.TransactionStatusesResponse(
+            java.util.Collections.emptyList()
+        );
+
+        return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
+    }
+
+    /**
+     * 결제 요청 Fallback 응답 - PENDING 상태로 반환 (나중에 상태 확인 필요)
+     */
+    static PgClient.ApiResponse<PgClientDto.TransactionResponse> paymentFallbackResponse() {
+        PgClientDto.TransactionResponse fallbackResponse = new PgClientDto.TransactionResponse(
+            null,  // transactionKey는 null (생성 실패)
+            PgClientDto.TransactionStatus.PENDING,
+            "PG 시스템 일시 장애로 결제 대기 중입니다. 잠시 후 다시 확인해주세요."
+        );
+
+        return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
+    }
+
+    /**
+     * 트랜잭션 조회 Fallback 응답 - PENDING 상태로 반환
+     */
+    static PgClient.ApiResponse<PgClientDto.TransactionDetailResponse> transactionFallbackResponse(String transactionKey) {
+        PgClientDto.TransactionDetailResponse fallbackResponse = new PgClientDto.TransactionDetailResponse(
+            transactionKey,
+            null,
+            null,
+            null,
+            null,
+            PgClientDto.TransactionStatus.PENDING,
+            "PG 시스템 일시 장애로 조회할 수 없습니다."
+        );
+
+        return new PgClient.ApiResponse<>(false, fallbackResponse, "FALLBACK", "PG 시스템 장애");
+    }
 }
@@ -0,0 +1,12 @@
+package com.loopers.infrastructure.payment.client;
+
+/**
+ * PG 동시 호출 한도(PgConcurrencyLimiter) 또는 호스트별 연결 상한(PgHttpClient)이 차서 대기 시간 안에 자리를 얻지 못했을 때 발생
+ * - PG 장애가 아니라 호출하는 쪽의 과부하이므로 CircuitBreaker 실패로 집계하지 않는다. (application.yml)
+ */
+public class PgConcurrencyLimitExceededException extends RuntimeException {
+
+    public PgConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
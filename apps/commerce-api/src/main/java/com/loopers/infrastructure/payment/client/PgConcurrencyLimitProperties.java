@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.payment.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PG 동시 호출 제한 설정
+ * - maxLimit: 벌크헤드 상한 (한도가 아무리 늘어도 넘지 않는다)
+ * - queueTimeout: 한도가 찼을 때 자리를 기다리는 최대 시간 (넘으면 거절 후 Fallback)
+ * - latencyThreshold: 이보다 오래 걸린 호출은 실패와 같이 과부하 신호로 보고 한도를 줄인다.
+ * - backoffRatio: 과부하 신호마다 한도에 곱하는 비율
+ */
+@ConfigurationProperties(value = "pg.limiter")
+public record PgConcurrencyLimitProperties(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("64") int maxLimit,
+        @DefaultValue("500ms") Duration queueTimeout,
+        @DefaultValue("1s") Duration latencyThreshold,
+        @DefaultValue("0.9") double backoffRatio
+) { }
@@ -0,0 +1,151 @@
+package com.loopers.infrastructure.payment.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PG 동시 호출 제한기 (벌크헤드 + AIMD 적응형 한도)
+ * - 동시에 진행하는 PG 호출 수를 한도 이하로 유지하고, 한도가 차면 queueTimeout까지만 기다린 뒤 거절한다.
+ * - 호출이 실패하거나 latencyThreshold보다 오래 걸리면 한도를 backoffRatio만큼 곱해 줄이고 (multiplicative decrease),
+ *   빠르게 성공했고 한도의 절반 이상을 쓰고 있었으면 1씩 늘린다. (additive increase)
+ * - PG가 느려지면 CircuitBreaker가 열리기 전부터 대기 중인 호출 수가 줄어, 요청 스레드가 PG 응답을 기다리며 쌓이지 않는다.
+ * - 지표: pg.limiter.limit / pg.limiter.inflight / pg.limiter.queued / pg.limiter.rejected / pg.limiter.queue.wait
+ */
+@Component
+public class PgConcurrencyLimiter {
+
+    private final PgConcurrencyLimitProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+
+    private final Counter rejectedCounter;
+    private final Timer queueWaitTimer;
+
+    public PgConcurrencyLimiter(PgConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = Math.clamp(properties.initialLimit(), properties.minLimit(), properties.maxLimit());
+
+        Gauge.builder("pg.limiter.limit", this, PgConcurrencyLimiter::currentLimit)
+                .description("PG 동시 호출 한도")
+                .register(meterRegistry);
+        Gauge.builder("pg.limiter.inflight", this, PgConcurrencyLimiter::inFlight)
+                .description("진행 중인 PG 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("pg.limiter.queued", this, PgConcurrencyLimiter::queued)
+                .description("한도가 차서 자리를 기다리는 PG 호출 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("pg.limiter.rejected")
+                .description("대기 시간 안에 자리를 얻지 못해 거절한 PG 호출 수")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("pg.limiter.queue.wait")
+                .description("PG 호출이 자리를 얻기까지 기다린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안에서 호출을 실행하고, 결과(실패/지연)를 한도에 반영한다.
+     *
+     * @throws PgConcurrencyLimitExceededException queueTimeout 안에 자리를 얻지 못한 경우
+     */
+    public <T, E extends Exception> T execute(Call<T, E> call) throws E {
+        acquire();
+        long startedAt = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T result = call.call();
+            dropped = System.nanoTime() - startedAt > properties.latencyThreshold().toNanos();
+            return result;
+        } finally {
+            release(dropped);
+        }
+    }
+
+    private void acquire() {
+        long waitStartedAt = System.nanoTime();
+        lock.lock();
+        try {
+            long remaining = properties.queueTimeout().toNanos();
+            queued++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0) {
+                        rejectedCounter.increment();
+                        throw new PgConcurrencyLimitExceededException(
+                                "PG 동시 호출 한도 초과: limit=" + (int) limit + ", inFlight=" + inFlight);
+                    }
+                    remaining = permitAvailable.awaitNanos(remaining);
+                }
+            } finally {
+                queued--;
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PgConcurrencyLimitExceededException("PG 호출 대기 중 인터럽트가 발생했습니다.");
+        } finally {
+            lock.unlock();
+            queueWaitTimer.record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release(boolean dropped) {
+        lock.lock();
+        try {
+            if (dropped) {
+                limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(properties.maxLimit(), limit + 1);
+            }
+            inFlight--;
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int currentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한도 안에서 실행할 PG 호출
+     */
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.infrastructure.payment.client;
+
+import java.net.URI;
+
+/**
+ * PG 엔드포인트 상태
+ * - 응답 시간과 오류율을 EWMA로 추적한다. (첫 응답 전에는 응답 시간을 0으로 보아 먼저 시도되게 한다)
+ * - 연속 실패가 쌓이면 일정 시간 라우팅에서 제외(ejection)된다. 제외 시간이 지나면 다시 시도되고,
+ *   그 호출도 실패하면 바로 다시 제외된다.
+ */
+public final class PgEndpoint {
+
+    // 오류율이 1에 가까워져도 점수가 무한대가 되지 않도록 하는 하한
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final URI uri;
+    private final double ewmaWeight;
+
+    private double ewmaLatencyNanos = 0.0;
+    private double ewmaErrorRate = 0.0;
+    private boolean observed = false;
+    private int inFlight = 0;
+    private int consecutiveFailures = 0;
+    private long ejectedUntilNanos = 0L;
+
+    PgEndpoint(URI uri, double ewmaWeight) {
+        this.uri = uri;
+        this.ewmaWeight = ewmaWeight;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    synchronized void start() {
+        inFlight++;
+    }
+
+    /**
+     * 호출 결과를 반영한다.
+     *
+     * @return 이번 실패로 라우팅에서 제외되었으면 true
+     */
+    synchronized boolean finish(long latencyNanos, boolean success, int ejectionFailures, long ejectionNanos, long nowNanos) {
+        inFlight--;
+        double error = success ? 0.0 : 1.0;
+        if (observed) {
+            ewmaLatencyNanos += ewmaWeight * (latencyNanos - ewmaLatencyNanos);
+            ewmaErrorRate += ewmaWeight * (error - ewmaErrorRate);
+        } else {
+            ewmaLatencyNanos = latencyNanos;
+            ewmaErrorRate = error;
+            observed = true;
+        }
+
+        if (success) {
+            consecutiveFailures = 0;
+            return false;
+        }
+        consecutiveFailures++;
+        if (consecutiveFailures >= ejectionFailures && !isEjected(nowNanos)) {
+            ejectedUntilNanos = nowNanos + ejectionNanos;
+            return true;
+        }
+        return false;
+    }
+
+    synchronized boolean isEjected(long nowNanos) {
+        return nowNanos - ejectedUntilNanos < 0;
+    }
+
+    synchronized long ejectedUntilNanos() {
+        return ejectedUntilNanos;
+    }
+
+    /**
+     * 라우팅 점수 (낮을수록 좋다)
+     * - 예상 응답 시간 x (진행 중인 요청 + 1) / 성공률
+     */
+    synchronized double score() {
+        double successRate = Math.max(1.0 - ewmaErrorRate, MIN_SUCCESS_RATE);
+        return ewmaLatencyNanos * (inFlight + 1) / successRate;
+    }
+
+    synchronized double ewmaLatencyMillis() {
+        return ewmaLatencyNanos / 1_000_000.0;
+    }
+
+    synchronized double ewmaErrorRate() {
+        return ewmaErrorRate;
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.loopers.infrastructure.payment.client;
+
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PG 엔드포인트 라우터
+ * - 여러 PG 엔드포인트 중 EWMA 응답 시간, 오류율, 진행 중인 요청 수로 계산한 점수가 낮은 곳으로 보낸다.
+ * - 매번 최저 점수 하나로 몰리지 않도록, 임의로 고른 두 엔드포인트 중 점수가 낮은 쪽을 쓴다. (power of two choices)
+ * - 연속 실패한 엔드포인트는 일정 시간 제외한다. 모두 제외되었으면 가장 먼저 복귀할 엔드포인트로 보낸다.
+ * - 실패는 엔드포인트 장애(5xx, 타임아웃, I/O 오류)만 센다. 4xx처럼 요청 쪽 문제는 응답한 것으로 본다.
+ * - 지표: pg.endpoint.latency.ewma / pg.endpoint.error.rate / pg.endpoint.ejections (tag: endpoint)
+ */
+@Component
+public class PgEndpointRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(PgEndpointRouter.class);
+
+    private final List<PgEndpoint> endpoints;
+    private final PgRoutingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public PgEndpointRouter(
+            @Value("${pg.url}") String defaultUrl,
+            PgRoutingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        List<String> urls = properties.urls().isEmpty() ? List.of(defaultUrl) : properties.urls();
+        this.endpoints = urls.stream()
+                .map(url -> new PgEndpoint(URI.create(url), properties.ewmaWeight()))
+                .toList();
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        for (PgEndpoint endpoint : endpoints) {
+            Gauge.builder("pg.endpoint.latency.ewma", endpoint, PgEndpoint::ewmaLatencyMillis)
+                    .description("PG 엔드포인트 응답 시간 EWMA (ms)")
+                    .tag("endpoint", endpoint.toString())
+                    .register(meterRegistry);
+            Gauge.builder("pg.endpoint.error.rate", endpoint, PgEndpoint::ewmaErrorRate)
+                    .description("PG 엔드포인트 오류율 EWMA")
+                    .tag("endpoint", endpoint.toString())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청을 보낼 엔드포인트를 고른다.
+     */
+    public PgEndpoint select() {
+        return choose(endpoints, null);
+    }
+
+    /**
+     * excluded가 아닌 엔드포인트 중 제외되지 않은 곳을 고른다. (헤지 요청용)
+     */
+    public Optional<PgEndpoint> selectOther(PgEndpoint excluded) {
+        long now = System.nanoTime();
+        List<PgEndpoint> candidates = endpoints.stream()
+                .filter(endpoint -> endpoint != excluded && !endpoint.isEjected(now))
+                .toList();
+        return candidates.isEmpty() ? Optional.empty() : Optional.of(choose(candidates, excluded));
+    }
+
+    /**
+     * 엔드포인트로 호출을 보내고 응답 시간과 성공 여부를 기록한다.
+     * - 예외 중 엔드포인트 장애인 것만 실패로 기록한다. (2xx가 아닌 응답도 클라이언트가 예외로 던진다)
+     */
+    public <T, E extends Exception> T execute(PgEndpoint endpoint, PgConcurrencyLimiter.Call<T, E> call) throws E {
+        endpoint.start();
+        long startedAt = System.nanoTime();
+        boolean success = true;
+        try {
+            return call.call();
+        } catch (Throwable t) {
+            success = !isEndpointFailure(t);
+            throw t;
+        } finally {
+            long now = System.nanoTime();
+            boolean ejected = endpoint.finish(now - startedAt, success,
+                    properties.ejectionFailures(), properties.ejectionDuration().toNanos(), now);
+            if (ejected) {
+                log.warn("PG 엔드포인트를 라우팅에서 제외합니다: endpoint={}, duration={}", endpoint, properties.ejectionDuration());
+                Counter.builder("pg.endpoint.ejections")
+                        .description("연속 실패로 라우팅에서 제외된 횟수")
+                        .tag("endpoint", endpoint.toString())
+                        .register(meterRegistry)
+                        .increment();
+            }
+        }
+    }
+
+    public int size() {
+        return endpoints.size();
+    }
+
+    /**
+     * 엔드포인트 장애로 볼 예외인지 판단한다.
+     * - 5xx 응답, 응답을 받지 못한 경우(연결 실패, 타임아웃 등 I/O 오류)만 장애로 본다.
+     * - 4xx 응답이나 호출하는 쪽에서 난 예외(동시 호출 한도 초과, 인터럽트 등)는 엔드포인트가 정상이라고 본다.
+     */
+    static boolean isEndpointFailure(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetryableException) {
+                return true;
+            }
+            if (cause instanceof FeignException feignException) {
+                // 응답 없이 난 Feign 예외는 status가 음수다
+                return feignException.status() < 0 || feignException.status() >= 500;
+            }
+            if (cause instanceof PgResponseStatusException statusException) {
+                return statusException.status() >= 500;
+            }
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PgEndpoint choose(List<PgEndpoint> candidates, PgEndpoint excluded) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        long now = System.nanoTime();
+        List<PgEndpoint> available = candidates.stream()
+                .filter(endpoint -> endpoint != excluded && !endpoint.isEjected(now))
+                .toList();
+        if (available.isEmpty()) {
+            // 모두 제외되었으면 가장 먼저 복귀할 엔드포인트로 보낸다 (요청을 막지 않는다)
+            return candidates.stream()
+                    .min(Comparator.comparingLong(endpoint -> endpoint.ejectedUntilNanos() - now))
+                    .orElseThrow();
+        }
+        if (available.size() == 1) {
+            return available.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(available.size());
+        int second = random.nextInt(available.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        PgEndpoint a = available.get(first);
+        PgEndpoint b = available.get(second);
+        return a.score() <= b.score() ? a : b;
+    }
+}
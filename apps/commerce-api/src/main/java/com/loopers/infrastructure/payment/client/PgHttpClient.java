@@ -0,0 +1,141 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG HTTP 클라이언트 (JDK HttpClient)
+ * - 연결을 keep-alive로 재사용하는 풀 기반 클라이언트로, 요청마다 새 연결을 맺지 않는다.
+ * - 호스트별 동시 요청 수를 maxConnectionsPerHost로 제한한다. (HTTP/1.1은 동시 요청 하나에 연결 하나)
+ * - 호출하는 스레드를 응답이 올 때까지 막으므로 가상 스레드에서 호출한다. ({@link PgAsyncClientService})
+ * - CircuitBreaker와 Retry, 엔드포인트 선택은 PgAsyncClientService에서 적용
+ */
+@Component
+public class PgHttpClient {
+
+    private static final String USER_ID_HEADER = "X-USER-ID";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final PgAsyncClientProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public PgHttpClient(
+            PgAsyncClientProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.connectTimeout())
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 결제 요청
+     */
+    public PgClient.ApiResponse<PgClientDto.TransactionResponse> requestPayment(
+            URI endpoint,
+            String userId,
+            PgClientDto.PaymentRequest request
+    ) throws IOException, InterruptedException {
+        HttpRequest httpRequest = newRequest(endpoint, userId, "/api/v1/payments")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                .build();
+        return send(httpRequest, PgClientDto.TransactionResponse.class);
+    }
+
+    /**
+     * 트랜잭션 상세 조회
+     */
+    public PgClient.ApiResponse<PgClientDto.TransactionDetailResponse> getTransaction(
+            URI endpoint,
+            String userId,
+            String transactionKey
+    ) throws IOException, InterruptedException {
+        String path = "/api/v1/payments/" + URLEncoder.encode(transactionKey, StandardCharsets.UTF_8);
+        HttpRequest httpRequest = newRequest(endpoint, userId, path).GET().build();
+        return send(httpRequest, PgClientDto.TransactionDetailResponse.class);
+    }
+
+    private HttpRequest.Builder newRequest(URI endpoint, String userId, String path) {
+        return HttpRequest.newBuilder(endpoint.resolve(path))
+                .timeout(properties.readTimeout())
+                .header(USER_ID_HEADER, userId)
+                .header("Accept", "application/json");
+    }
+
+    /**
+     * 호스트별 허용량 안에서 요청을 보내고 응답을 PG API 응답 포맷으로 변환한다.
+     * - 2xx가 아니면 예외로 던져 CircuitBreaker/Retry가 실패로 집계하게 한다. (Feign 클라이언트와 같은 동작)
+     * - 호스트별 허용량을 기다리다 시간이 지나면 PgConcurrencyLimitExceededException을 던진다.
+     *   (PG 장애가 아니라 이쪽 연결이 포화된 것이므로 CircuitBreaker 실패로 집계하지 않는다)
+     */
+    private <T> PgClient.ApiResponse<T> send(HttpRequest request, Class<T> dataType)
+            throws IOException, InterruptedException {
+        Semaphore permits = hostPermits.computeIfAbsent(
+                request.uri().getAuthority(), host -> new Semaphore(properties.maxConnectionsPerHost()));
+        if (!permits.tryAcquire(properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new PgConcurrencyLimitExceededException("PG 호스트 동시 요청 상한 초과: host=" + request.uri().getAuthority());
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } finally {
+            permits.release();
+        }
+
+        if (response.statusCode() / 100 != 2) {
+            throw new PgResponseStatusException(response.statusCode(),
+                    "PG 응답 오류: status=" + response.statusCode() + ", uri=" + request.uri());
+        }
+        return toApiResponse(objectMapper.readTree(response.body()), objectMapper.constructType(dataType));
+    }
+
+    /**
+     * PG 응답 본문 변환
+     * - PG Simulator는 meta.result(SUCCESS/FAIL)로 성공 여부를 내려준다.
+     */
+    private <T> PgClient.ApiResponse<T> toApiResponse(JsonNode root, JavaType dataType) {
+        JsonNode meta = root.path("meta");
+        boolean success = meta.isMissingNode()
+                ? root.path("success").asBoolean(false)
+                : "SUCCESS".equals(meta.path("result").asText());
+        T data = root.hasNonNull("data") ? objectMapper.convertValue(root.get("data"), dataType) : null;
+        JsonNode source = meta.isMissingNode() ? root : meta;
+        return new PgClient.ApiResponse<>(
+                success,
+                data,
+                source.path("errorCode").asText(null),
+                source.path("message").asText(null)
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.payment.client;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 응답 시간 표본 (고정 크기 링 버퍼)
+ * - 헤지 요청 지연을 정할 분위수를 계산하는 데 쓴다.
+ */
+final class PgLatencyWindow {
+
+    private final long[] samples;
+    private int next = 0;
+    private int count = 0;
+
+    PgLatencyWindow(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * 분위수 (표본이 minSamples보다 적으면 비어 있다)
+     */
+    synchronized OptionalLong percentile(double quantile, int minSamples) {
+        if (count < minSamples || count == 0) {
+            return OptionalLong.empty();
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(quantile * count) - 1;
+        return OptionalLong.of(sorted[Math.max(0, Math.min(index, count - 1))]);
+    }
+}
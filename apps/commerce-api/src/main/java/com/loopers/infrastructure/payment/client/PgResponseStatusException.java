@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.payment.client;
+
+/**
+ * PG가 2xx가 아닌 상태 코드로 응답했을 때 발생 (비동기 PG 클라이언트)
+ * - 5xx만 엔드포인트 장애로 보고, 4xx는 요청 쪽 문제이므로 라우팅 오류율에 넣지 않는다. (PgEndpointRouter)
+ */
+public class PgResponseStatusException extends IllegalStateException {
+
+    private final int status;
+
+    public PgResponseStatusException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public int status() {
+        return status;
+    }
+}
@@ -0,0 +1,27 @@
+package com.loopers.infrastructure.payment.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * PG 엔드포인트 라우팅 설정
+ * - urls가 비어 있으면 pg.url 하나로 동작한다.
+ * - ewmaWeight: 응답 시간/오류율 EWMA에서 새 관측값의 가중치 (클수록 최근 값에 민감)
+ * - 연속 ejectionFailures번 실패한 엔드포인트는 ejectionDuration 동안 라우팅에서 뺀다.
+ * - 조회 요청은 최근 응답 시간의 hedgeQuantile 분위수만큼 기다려도 응답이 없으면 다른 엔드포인트로 한 번 더 보낸다.
+ *   (hedgeMinDelay ~ hedgeMaxDelay 범위로 제한, 표본이 모이기 전에는 hedgeMaxDelay)
+ */
+@ConfigurationProperties(value = "pg.routing")
+public record PgRoutingProperties(
+        @DefaultValue List<String> urls,
+        @DefaultValue("0.2") double ewmaWeight,
+        @DefaultValue("5") int ejectionFailures,
+        @DefaultValue("30s") Duration ejectionDuration,
+        @DefaultValue("true") boolean hedgeEnabled,
+        @DefaultValue("0.95") double hedgeQuantile,
+        @DefaultValue("50ms") Duration hedgeMinDelay,
+        @DefaultValue("1s") Duration hedgeMaxDelay
+) { }
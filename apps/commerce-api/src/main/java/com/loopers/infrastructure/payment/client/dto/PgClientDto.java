@@ -50,6 +50,22 @@ public class PgClientDto {
     ) {
     }
 
+    /**
+     * PG 트랜잭션 상태 일괄 조회 요청 DTO
+     */
+    public record TransactionStatusesRequest(
+            java.util.List<String> transactionKeys
+    ) {
+    }
+
+    /**
+     * PG 트랜잭션 상태 일괄 조회 응답 DTO (PG에 없는 트랜잭션 키는 빠진다)
+     */
+    public record TransactionStatusesResponse(
+            java.util.List<TransactionResponse> transactions
+    ) {
+    }
+
     /**
      * 카드 타입
      */
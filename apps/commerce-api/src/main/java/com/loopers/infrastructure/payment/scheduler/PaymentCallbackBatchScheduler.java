@@ -0,0 +1,187 @@
+package com.loopers.infrastructure.payment.scheduler;
+
+import com.loopers.application.payment.PaymentCallbackFacade;
+import com.loopers.application.payment.PaymentCommand;
+import com.loopers.infrastructure.lease.SchedulerLeaseManager;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackProperties;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 콜백 일괄 반영 스케줄러
+ * - Redis 스트림에 적재된 콜백을 batchSize건씩 읽어 한 트랜잭션에서 반영한다.
+ * - 반영에 실패하면 확인(ack)하지 않아 PEL에 남고, reclaimIdle이 지나면 다시 가져가 반영한다.
+ *   maxAttempts번 넘게 전달된 콜백은 버린다. (매번 실패하는 콜백이 끝없이 되돌아오지 않게)
+ * - 결제를 찾지 못한 콜백(PG 응답의 트랜잭션 키가 아직 저장되지 않은 경우)은 시도 횟수를 늘려 재시도 대기에 둔다.
+ *   retryDelay * 시도 횟수가 지난 뒤 실행 시작 시 스트림으로 옮겨지므로, 한 실행 안에서 시도 횟수를 다 쓰지 않는다.
+ *   maxAttempts를 넘기면 버리고, 해당 결제는 PENDING 동기화 스케줄러가 PG 조회로 확정한다.
+ * - 소비자 그룹으로 읽으므로 여러 노드가 함께 실행해도 같은 콜백을 나눠 갖지 않는다.
+ * - 지표: payment.callback.batch / payment.callback.applied / payment.callback.requeued / payment.callback.dropped
+ */
+@Component
+@ConditionalOnProperty(name = "payment.callback.queue-enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentCallbackBatchScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentCallbackBatchScheduler.class);
+
+    // 실행 1회에 연속으로 반영할 최대 배치 수 (밀린 콜백이 많아도 한 실행이 길어지지 않게)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    // 처리 중 죽은 소비자의 콜백을 확인하는 주기
+    private static final long RECLAIM_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final PaymentCallbackFacade callbackFacade;
+    private final PaymentCallbackQueue callbackQueue;
+    private final PaymentCallbackProperties properties;
+    private final String consumer;
+
+    private final Timer batchTimer;
+    private final Counter appliedCounter;
+    private final Counter requeuedCounter;
+    private final Counter droppedCounter;
+
+    private long lastReclaimedAt = System.nanoTime();
+
+    public PaymentCallbackBatchScheduler(
+            PaymentCallbackFacade callbackFacade,
+            PaymentCallbackQueue callbackQueue,
+            PaymentCallbackProperties properties,
+            SchedulerLeaseManager leaseManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.callbackFacade = callbackFacade;
+        this.callbackQueue = callbackQueue;
+        this.properties = properties;
+        this.consumer = leaseManager.nodeId();
+        this.batchTimer = Timer.builder("payment.callback.batch")
+                .description("PG 콜백 배치 1회 반영 소요 시간")
+                .register(meterRegistry);
+        this.appliedCounter = Counter.builder("payment.callback.applied")
+                .description("콜백으로 상태가 바뀐 결제 수")
+                .register(meterRegistry);
+        this.requeuedCounter = Counter.builder("payment.callback.requeued")
+                .description("결제를 찾지 못해 다시 적재한 콜백 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("payment.callback.dropped")
+                .description("재시도 횟수를 넘겨 버린 콜백 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 적재된 콜백 반영
+     * - 0.2초마다 실행
+     */
+    @Scheduled(fixedDelay = 200, initialDelay = 5000) // 0.2초마다, 초기 지연 5초
+    public void applyCallbacks() {
+        try {
+            if (System.nanoTime() - lastReclaimedAt >= RECLAIM_INTERVAL_NANOS) {
+                lastReclaimedAt = System.nanoTime();
+                reclaim();
+            }
+            releaseDueRetries();
+
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                if (drain() < properties.batchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("PG 콜백 일괄 반영 스케줄러 실행 중 예외 발생", e);
+        }
+    }
+
+    /**
+     * 재시도 시각이 지난 콜백을 스트림으로 옮긴다.
+     *
+     * @return 옮긴 콜백 수
+     */
+    int releaseDueRetries() {
+        return callbackQueue.releaseDueRetries(System.currentTimeMillis(), properties.batchSize());
+    }
+
+    /**
+     * 오래 확인되지 않은 콜백을 가져와 반영한다.
+     * - maxAttempts번 넘게 전달된 콜백은 반영하지 않고 버린다.
+     */
+    void reclaim() {
+        List<PaymentCallbackQueue.Entry> claimed =
+                callbackQueue.claimStale(consumer, properties.reclaimIdle(), properties.batchSize());
+        List<PaymentCallbackQueue.Entry> exhausted = claimed.stream()
+                .filter(entry -> entry.deliveries() > properties.maxAttempts())
+                .toList();
+        if (!exhausted.isEmpty()) {
+            exhausted.forEach(entry -> log.warn(
+                    "반영에 계속 실패한 PG 콜백을 버립니다 (동기화 스케줄러가 확정): pgTransactionKey={}, deliveries={}",
+                    entry.transactionKey(), entry.deliveries()));
+            callbackQueue.ackAndDelete(exhausted.stream().map(PaymentCallbackQueue.Entry::id).toList());
+            droppedCounter.increment(exhausted.size());
+        }
+
+        apply(claimed.stream()
+                .filter(entry -> entry.deliveries() <= properties.maxAttempts())
+                .toList());
+    }
+
+    /**
+     * 콜백을 한 배치 읽어 반영한다.
+     *
+     * @return 읽은 콜백 수
+     */
+    int drain() {
+        List<PaymentCallbackQueue.Entry> entries = callbackQueue.read(consumer, properties.batchSize());
+        apply(entries);
+        return entries.size();
+    }
+
+    /**
+     * 콜백 묶음을 반영하고, 결제를 찾지 못한 콜백은 재시도 대기에 둔 뒤 묶음 전체를 확인한다.
+     * - 반영 중 예외가 나면 확인하지 않고 그대로 던진다. (PEL에 남아 나중에 다시 가져간다)
+     */
+    private void apply(List<PaymentCallbackQueue.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start();
+        List<PaymentCommand.UpdatePaymentStatus> commands = entries.stream()
+                .map(entry -> new PaymentCommand.UpdatePaymentStatus(entry.transactionKey(), entry.status(), entry.reason()))
+                .toList();
+        PaymentCallbackFacade.CallbackBatchResult result = callbackFacade.applyCallbacks(commands);
+        appliedCounter.increment(result.applied());
+
+        Set<String> unknownKeys = new HashSet<>(result.unknownKeys());
+        for (PaymentCallbackQueue.Entry entry : entries) {
+            if (unknownKeys.remove(entry.transactionKey())) {
+                requeue(entry);
+            }
+        }
+
+        callbackQueue.ackAndDelete(entries.stream().map(PaymentCallbackQueue.Entry::id).toList());
+        sample.stop(batchTimer);
+    }
+
+    private void requeue(PaymentCallbackQueue.Entry entry) {
+        int attempt = entry.attempt() + 1;
+        if (attempt >= properties.maxAttempts()) {
+            droppedCounter.increment();
+            log.warn("결제를 찾지 못한 PG 콜백을 버립니다 (동기화 스케줄러가 확정): pgTransactionKey={}, attempt={}",
+                    entry.transactionKey(), attempt);
+            return;
+        }
+        long notBefore = System.currentTimeMillis() + properties.retryDelay().toMillis() * attempt;
+        callbackQueue.scheduleRetry(entry, attempt, notBefore);
+        requeuedCounter.increment();
+    }
+}
@@ -1,64 +1,285 @@
 package com.loopers.infrastructure.payment.scheduler;
 
 import com.loopers.application.payment.PaymentFacade;
+import com.loopers.application.payment.PaymentStatusSyncFacade;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
-import lombok.RequiredArgsConstructor;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.lease.Partition;
+import com.loopers.infrastructure.lease.SchedulerLeaseManager;
+import com.loopers.infrastructure.lease.SchedulerLeaseProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 결제 상태 동기화 스케줄러
- * - PENDING 상태인 결제를 주기적으로 확인
- * - PG에 상태 조회하여 동기화
- * - 콜백이 오지 않은 결제 처리
+ * - 콜백이 오지 않은 PENDING 결제를 PG에 조회해 동기화한다.
+ * - PENDING 결제를 (createdAt, id) 키셋 페이징으로 읽어 메모리에 한꺼번에 올리지 않는다.
+ * - PG 조회는 가상 스레드에서 병렬로 하되, 동시에 진행하는 조회 수를 concurrency로 제한한다.
+ * - batchEnabled면 페이지 하나를 PG 상태 일괄 조회 한 번으로 조회한다. (PENDING 1만 건이면 PG 호출 수십 번)
+ * - 실행마다 시간 예산(timeBudget)을 두어, 예산이 지나면 새 조회를 멈추고 다음 실행에 넘긴다.
+ * - 여러 노드가 함께 실행되면 결제 ID 해시 파티션을 살아 있는 노드 수만큼 나눠 각자 맡은 결제만 조회한다.
+ *   (Redis를 쓸 수 없으면 전체를 조회한다. 중복 조회는 결과가 같으므로 누락보다 낫다)
+ * - 지표: payment.sync.backlog / payment.sync.sweep / payment.sync.latency / payment.sync.batch.latency / payment.sync.deferred
  */
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "payment.sync.enabled", havingValue = "true", matchIfMissing = true)
 public class PaymentStatusSyncScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentStatusSyncScheduler.class);
 
+    private static final String PARTITION_GROUP = "payment-sync";
+
+    // 예산이 끝난 뒤 진행 중인 조회를 기다리는 최대 시간 (PG 응답 타임아웃 3초 + 여유)
+    private static final long DRAIN_TIMEOUT_SECONDS = 5L;
+
     private final PaymentRepository paymentRepository;
     private final PaymentFacade paymentFacade;
+    private final PaymentStatusSyncFacade paymentStatusSyncFacade;
+    private final PaymentSyncProperties properties;
+    private final SchedulerLeaseManager leaseManager;
+    private final SchedulerLeaseProperties leaseProperties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer sweepTimer;
+    private final MeterRegistry meterRegistry;
+    private final Counter deferredCounter;
+    private final Timer batchTimer;
+
+    public PaymentStatusSyncScheduler(
+            PaymentRepository paymentRepository,
+            PaymentFacade paymentFacade,
+            PaymentStatusSyncFacade paymentStatusSyncFacade,
+            PaymentSyncProperties properties,
+            SchedulerLeaseManager leaseManager,
+            SchedulerLeaseProperties leaseProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.paymentFacade = paymentFacade;
+        this.paymentStatusSyncFacade = paymentStatusSyncFacade;
+        this.properties = properties;
+        this.leaseManager = leaseManager;
+        this.leaseProperties = leaseProperties;
+        this.meterRegistry = meterRegistry;
+        this.sweepTimer = Timer.builder("payment.sync.sweep")
+                .description("PENDING 결제 동기화 1회 실행 소요 시간")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("payment.sync.deferred")
+                .description("시간 예산 초과로 다음 실행에 넘긴 실행 횟수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("payment.sync.batch.latency")
+                .description("페이지 1개 상태 일괄 동기화 소요 시간 (PG 일괄 조회 + 반영)")
+                .register(meterRegistry);
+        Gauge.builder("payment.sync.backlog", backlog, AtomicLong::get)
+                .description("동기화 시작 시점의 PENDING 결제 수")
+                .register(meterRegistry);
+    }
 
     /**
      * PENDING 결제 상태 동기화
      * - 매 30초마다 실행
-     * - PENDING 상태인 결제를 조회하여 PG 상태와 동기화
      */
     @Scheduled(fixedDelay = 30000, initialDelay = 10000) // 30초마다, 초기 지연 10초
     public void syncPendingPayments() {
+        Timer.Sample sample = Timer.start();
         try {
-            List<Payment> pendingPayments = paymentRepository.findPendingPayments();
-
-            if (pendingPayments.isEmpty()) {
+            backlog.set(paymentRepository.countPendingPayments());
+            if (backlog.get() == 0) {
                 return;
             }
 
-            log.info("PENDING 결제 상태 동기화 시작: count={}", pendingPayments.size());
+            Partition partition = resolvePartition();
+            SweepResult result = sweep(partition);
+
+            log.info("PENDING 결제 상태 동기화 완료: partition={}/{}, backlog={}, 조회={}, 확정={}, 대기={}, 실패={}, 예산초과={}",
+                    partition.index(), partition.count(), backlog.get(), result.submitted(), result.resolved(), result.pending(), result.failed(),
+                    result.budgetExhausted());
+        } catch (Exception e) {
+            log.error("결제 상태 동기화 스케줄러 실행 중 예외 발생", e);
+        } finally {
+            sample.stop(sweepTimer);
+        }
+    }
+
+    /**
+     * 이번 실행에서 이 노드가 맡을 파티션
+     */
+    Partition resolvePartition() {
+        if (!leaseProperties.enabled()) {
+            return Partition.single();
+        }
+        try {
+            return leaseManager.joinPartition(PARTITION_GROUP, leaseProperties.membershipTtl());
+        } catch (Exception e) {
+            log.warn("결제 동기화 파티션 계산 실패로 전체를 조회합니다: error={}", e.getMessage());
+            return Partition.single();
+        }
+    }
+
+    /**
+     * 맡은 파티션의 키셋 페이지를 차례로 읽으며 결제별(또는 페이지별) 동기화를 병렬로 실행한다.
+     * - 동시 실행 수가 concurrency에 도달하면 빈 자리가 날 때까지 다음 제출을 기다린다.
+     */
+    SweepResult sweep(Partition partition) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.timeBudget().toNanos();
+        LocalDateTime createdBefore = LocalDateTime.now().minus(properties.minAge());
+        Semaphore permits = new Semaphore(properties.concurrency());
+
+        AtomicInteger resolved = new AtomicInteger();
+        AtomicInteger pending = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int submitted = 0;
+        boolean budgetExhausted = false;
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
 
-            int successCount = 0;
-            int failCount = 0;
+        pages:
+        while (true) {
+            List<Payment> page = paymentRepository.findPendingPayments(
+                    createdBefore, cursorCreatedAt, cursorId, partition.index(), partition.count(), properties.pageSize());
+            if (page.isEmpty()) {
+                break;
+            }
 
-            for (Payment payment : pendingPayments) {
-                try {
-                    paymentFacade.syncPaymentStatus(payment.getId());
-                    successCount++;
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("결제 상태 동기화 실패: paymentId={}, error={}", payment.getId(), e.getMessage());
+            if (properties.batchEnabled()) {
+                if (!tryAcquire(permits, deadline)) {
+                    budgetExhausted = true;
+                    break;
+                }
+                submitBatch(page, permits, resolved, pending, failed);
+                submitted += page.size();
+            } else {
+                for (Payment payment : page) {
+                    if (!tryAcquire(permits, deadline)) {
+                        budgetExhausted = true;
+                        break pages;
+                    }
+                    submitOne(payment.getId(), permits, resolved, pending, failed);
+                    submitted++;
                 }
             }
 
-            log.info("PENDING 결제 상태 동기화 완료: total={}, success={}, fail={}",
-                    pendingPayments.size(), successCount, failCount);
-        } catch (Exception e) {
-            log.error("결제 상태 동기화 스케줄러 실행 중 예외 발생", e);
+            Payment last = page.get(page.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+
+            if (page.size() < properties.pageSize()) {
+                break;
+            }
+        }
+
+        if (budgetExhausted) {
+            deferredCounter.increment();
         }
+
+        // 진행 중인 조회가 끝날 때까지 기다린다
+        if (!permits.tryAcquire(properties.concurrency(), DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("결제 상태 동기화 대기 시간 초과: 진행 중인 조회는 계속 실행됩니다");
+        } else {
+            permits.release(properties.concurrency());
+        }
+
+        return new SweepResult(submitted, resolved.get(), pending.get(), failed.get(), budgetExhausted);
+    }
+
+    /**
+     * 결제 1건 동기화를 제출한다. (permits를 잡은 상태로 호출하며, 끝나면 반환한다)
+     */
+    private void submitOne(Long paymentId, Semaphore permits,
+                           AtomicInteger resolved, AtomicInteger pending, AtomicInteger failed) {
+        executor.execute(() -> {
+            try {
+                PaymentStatus status = syncOne(paymentId);
+                (status == PaymentStatus.PENDING ? pending : resolved).incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error("결제 상태 동기화 실패: paymentId={}, error={}", paymentId, e.getMessage());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * 페이지 1개 일괄 동기화를 제출한다. (permits를 잡은 상태로 호출하며, 끝나면 반환한다)
+     */
+    private void submitBatch(List<Payment> page, Semaphore permits,
+                             AtomicInteger resolved, AtomicInteger pending, AtomicInteger failed) {
+        executor.execute(() -> {
+            try {
+                PaymentStatusSyncFacade.SyncBatchResult result = syncBatch(page);
+                resolved.addAndGet(result.resolved());
+                pending.addAndGet(result.pending());
+            } catch (Exception e) {
+                failed.addAndGet(page.size());
+                log.error("결제 상태 일괄 동기화 실패: count={}, error={}", page.size(), e.getMessage());
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private static boolean tryAcquire(Semaphore permits, long deadline) throws InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        return remaining > 0 && permits.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 페이지 1개 일괄 동기화
+     */
+    private PaymentStatusSyncFacade.SyncBatchResult syncBatch(List<Payment> payments) {
+        long startedAt = System.nanoTime();
+        try {
+            return paymentStatusSyncFacade.syncPaymentStatuses(payments);
+        } finally {
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 결제 1건 동기화 (결과 상태별로 지연 시간을 기록한다)
+     */
+    private PaymentStatus syncOne(Long paymentId) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            PaymentStatus status = paymentFacade.syncPaymentStatus(paymentId);
+            outcome = status.name().toLowerCase();
+            return status;
+        } finally {
+            Timer.builder("payment.sync.latency")
+                    .description("결제 1건 상태 동기화 소요 시간 (PG 조회 + 반영)")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    record SweepResult(int submitted, int resolved, int pending, int failed, boolean budgetExhausted) {
     }
 }
@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.payment.scheduler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * PENDING 결제 상태 동기화 설정
+ * - PENDING 결제를 pageSize건씩 키셋 페이징으로 읽고, 최대 concurrency건까지 동시에 PG 상태를 조회한다.
+ * - timeBudget이 지나면 새 조회를 시작하지 않고, 남은 결제는 다음 실행에서 처리한다.
+ * - minAge보다 최근에 생성된 결제는 콜백을 기다리도록 건너뛴다.
+ * - batchEnabled면 페이지 하나를 PG 상태 일괄 조회로 한 번에 조회한다. (끄면 결제마다 조회)
+ */
+@ConfigurationProperties(value = "payment.sync")
+public record PaymentSyncProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200") int pageSize,
+        @DefaultValue("16") int concurrency,
+        @DefaultValue("25s") Duration timeBudget,
+        @DefaultValue("10s") Duration minAge,
+        @DefaultValue("true") boolean batchEnabled
+) { }
@@ -3,15 +3,28 @@ package com.loopers.infrastructure.point;
 import com.loopers.domain.point.Point;
 import com.loopers.domain.point.PointRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @RequiredArgsConstructor
 @Repository
 public class PointRepositoryImpl implements PointRepository {
 
+    private static final String UPSERT_SQL =
+            "INSERT INTO points (user_id, amount) VALUES (?, ?) ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)";
+    private static final String INCREASE_SQL =
+            "UPDATE points SET amount = amount + ? WHERE user_id = ?";
+    private static final String DECREASE_SQL =
+            "UPDATE points SET amount = amount - ? WHERE user_id = ? AND amount >= ?";
+
     private final PointJpaRepository pointJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Point save(Point point) {
@@ -22,4 +35,33 @@ public class PointRepositoryImpl implements PointRepository {
     public Optional<Point> findByUserId(String userId) {
         return pointJpaRepository.findByUserId(userId);
     }
+
+    @Override
+    public boolean increaseAmount(String userId, long amount) {
+        return jdbcTemplate.update(INCREASE_SQL, amount, userId) > 0;
+    }
+
+    @Override
+    public boolean decreaseAmount(String userId, long amount) {
+        return jdbcTemplate.update(DECREASE_SQL, amount, userId, amount) > 0;
+    }
+
+    @Override
+    public void increaseOrCreate(String userId, long amount) {
+        jdbcTemplate.update(UPSERT_SQL, userId, amount);
+    }
+
+    @Override
+    public void increaseOrCreateAll(Map<String, Long> amountsByUserId) {
+        if (amountsByUserId.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements=true 설정으로 드라이버가 멀티 로우 INSERT로 합쳐 전송한다.
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(new TreeMap<>(amountsByUserId).entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setLong(2, entry.getValue());
+        });
+    }
 }
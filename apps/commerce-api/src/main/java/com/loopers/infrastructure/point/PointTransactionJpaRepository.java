@@ -0,0 +1,14 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointTransaction;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PointTransactionJpaRepository extends JpaRepository<PointTransaction, Long> {
+
+    List<PointTransaction> findByUserIdOrderByIdDesc(String userId, Pageable pageable);
+
+    List<PointTransaction> findByUserIdAndIdLessThanOrderByIdDesc(String userId, Long id, Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package com.loopers.infrastructure.point;
+
+import com.loopers.domain.point.PointTransaction;
+import com.loopers.domain.point.PointTransactionRepository;
+import com.loopers.domain.point.PointTransactionType;
+import com.loopers.support.jdbc.JdbcTimestamps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@Repository
+public class PointTransactionRepositoryImpl implements PointTransactionRepository {
+
+    // 같은 트랜잭션에서 갱신한 points 행의 잔액을 그대로 거래 직후 잔액으로 기록한다.
+    private static final String APPEND_SQL =
+            "INSERT INTO point_transactions (user_id, type, amount, balance_after, created_at) "
+                    + "SELECT ?, ?, ?, amount, ? FROM points WHERE user_id = ?";
+
+    private final PointTransactionJpaRepository pointTransactionJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(String userId, PointTransactionType type, long amount, LocalDateTime createdAt) {
+        jdbcTemplate.update(APPEND_SQL, ps -> {
+            ps.setString(1, userId);
+            ps.setString(2, type.name());
+            ps.setLong(3, amount);
+            JdbcTimestamps.setUtc(ps, 4, createdAt);
+            ps.setString(5, userId);
+        });
+    }
+
+    @Override
+    public void appendAll(Map<String, Long> amountsByUserId, PointTransactionType type, LocalDateTime createdAt) {
+        if (amountsByUserId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(new TreeMap<>(amountsByUserId).entrySet());
+        jdbcTemplate.batchUpdate(APPEND_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setString(2, type.name());
+            ps.setLong(3, entry.getValue());
+            JdbcTimestamps.setUtc(ps, 4, createdAt);
+            ps.setString(5, entry.getKey());
+        });
+    }
+
+    @Override
+    public List<PointTransaction> findByUserId(String userId, Long cursorId, int size) {
+        PageRequest page = PageRequest.of(0, size);
+        if (cursorId == null) {
+            return pointTransactionJpaRepository.findByUserIdOrderByIdDesc(userId, page);
+        }
+        return pointTransactionJpaRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursorId, page);
+    }
+}
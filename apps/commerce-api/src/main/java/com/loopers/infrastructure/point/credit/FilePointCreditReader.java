@@ -0,0 +1,81 @@
+package com.loopers.infrastructure.point.credit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파일 기반 적립 대상 리더
+ * - 한 줄에 "userId" 또는 "userId,amount" 형식이며, 금액이 없으면 기본 금액을 적립한다.
+ * - 빈 줄과 '#'으로 시작하는 줄은 건너뛴다.
+ * - 커서는 지금까지 읽은 줄 수이며, 재시작 시 그만큼 건너뛰고 이어서 읽는다.
+ * - 금액(기본 금액 포함)이 0 이하이거나 숫자가 아니면 줄 번호와 함께 예외를 던진다.
+ *   해당 배치는 커밋되지 않으므로 파일을 고친 뒤 다시 실행하면 그 배치부터 이어서 적립한다.
+ */
+class FilePointCreditReader implements PointCreditReader {
+
+    private final BufferedReader reader;
+    private final long defaultAmount;
+    private long linesRead;
+
+    FilePointCreditReader(Path path, long defaultAmount, String cursor) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        this.defaultAmount = defaultAmount;
+
+        long skip = cursor == null ? 0 : Long.parseLong(cursor);
+        while (linesRead < skip && reader.readLine() != null) {
+            linesRead++;
+        }
+    }
+
+    @Override
+    public List<PointCredit> read(int size) throws IOException {
+        List<PointCredit> credits = new ArrayList<>(size);
+        String line;
+        while (credits.size() < size && (line = reader.readLine()) != null) {
+            linesRead++;
+            PointCredit credit = parse(line.trim());
+            if (credit != null) {
+                credits.add(credit);
+            }
+        }
+        return credits;
+    }
+
+    private PointCredit parse(String line) {
+        if (line.isEmpty() || line.startsWith("#")) {
+            return null;
+        }
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            return new PointCredit(line, validAmount(defaultAmount));
+        }
+        try {
+            return new PointCredit(line.substring(0, comma).trim(),
+                    validAmount(Long.parseLong(line.substring(comma + 1).trim())));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("적립 금액이 숫자가 아닙니다: line=" + linesRead, e);
+        }
+    }
+
+    private long validAmount(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("적립 금액은 0보다 커야 합니다: line=" + linesRead + ", amount=" + amount);
+        }
+        return amount;
+    }
+
+    @Override
+    public String cursor() {
+        return String.valueOf(linesRead);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
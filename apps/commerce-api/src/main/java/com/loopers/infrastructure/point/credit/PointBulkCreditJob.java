@@ -0,0 +1,124 @@
+package com.loopers.infrastructure.point.credit;
+
+import com.loopers.domain.point.PointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 일괄 적립 작업
+ * - 출처에서 배치 크기만큼 읽어 한 트랜잭션에서 적립(멀티 로우 upsert + 원장 배치)하고 체크포인트를 갱신한다.
+ * - 한 번에 커넥션 하나만 짧게 쓰고, 배치 사이에 쉬어서 API 요청이 커넥션을 얻을 여유를 남긴다.
+ * - 배치마다 처리 건수와 초당 처리량(rows/s)을 로그로 남긴다.
+ */
+@Slf4j
+@Component
+public class PointBulkCreditJob {
+
+    private final PointService pointService;
+    private final PointCreditCheckpointJpaRepository checkpointRepository;
+    private final PointBulkCreditProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public PointBulkCreditJob(
+            PointService pointService,
+            PointCreditCheckpointJpaRepository checkpointRepository,
+            PointBulkCreditProperties properties,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.pointService = pointService;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 일괄 적립을 실행한다.
+     *
+     * @param jobId  작업 ID (체크포인트 키)
+     * @param source 적립 대상 출처
+     * @return 최종 체크포인트
+     */
+    public PointCreditCheckpointEntity run(String jobId, PointCreditSource source) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("일괄 적립 작업 ID는 비어있을 수 없습니다.");
+        }
+
+        PointCreditCheckpointEntity checkpoint = checkpointRepository.findById(jobId)
+                .orElseGet(() -> PointCreditCheckpointEntity.start(jobId));
+        if (checkpoint.isCompleted()) {
+            log.info("이미 완료된 일괄 적립 작업입니다: jobId={}, 적립={}건", jobId, checkpoint.getCreditedCount());
+            return checkpoint;
+        }
+        if (checkpoint.getCursor() != null) {
+            log.info("일괄 적립 작업 재시작: jobId={}, cursor={}, 처리={}건", jobId, checkpoint.getCursor(), checkpoint.getProcessedCount());
+        }
+
+        long startedAt = System.nanoTime();
+        long processedInRun = 0;
+
+        try (PointCreditReader reader = source.open(checkpoint.getCursor())) {
+            List<PointCredit> batch;
+            while (!(batch = reader.read(properties.batchSize())).isEmpty()) {
+                checkpoint = applyBatch(checkpoint, batch, reader.cursor());
+                processedInRun += batch.size();
+
+                double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+                log.info("일괄 적립 진행: jobId={}, 처리={}건, 적립={}건, {} rows/s",
+                        jobId, checkpoint.getProcessedCount(), checkpoint.getCreditedCount(),
+                        Math.round(processedInRun / elapsedSeconds));
+
+                pause();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("일괄 적립 대상을 읽는 중 오류가 발생했습니다: jobId=" + jobId, e);
+        }
+
+        PointCreditCheckpointEntity completed = checkpoint;
+        checkpoint = transactionTemplate.execute(status -> {
+            completed.complete();
+            return checkpointRepository.save(completed);
+        });
+        log.info("일괄 적립 완료: jobId={}, 처리={}건, 적립={}건, 소요={}ms",
+                jobId, checkpoint.getProcessedCount(), checkpoint.getCreditedCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return checkpoint;
+    }
+
+    /**
+     * 배치 하나를 적립하고 체크포인트를 같은 트랜잭션에서 갱신한다.
+     * - 같은 사용자가 배치 안에 여러 번 나오면 금액을 합친다.
+     */
+    private PointCreditCheckpointEntity applyBatch(PointCreditCheckpointEntity checkpoint,
+                                                   List<PointCredit> batch, String cursor) {
+        Map<String, Long> amountsByUserId = new HashMap<>();
+        for (PointCredit credit : batch) {
+            amountsByUserId.merge(credit.userId(), credit.amount(), Long::sum);
+        }
+
+        return transactionTemplate.execute(status -> {
+            int credited = pointService.creditAll(amountsByUserId);
+            checkpoint.advance(cursor, batch.size(), credited);
+            return checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private void pause() {
+        if (properties.pauseBetweenBatches().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.pauseBetweenBatches().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 적립 작업이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.point.credit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 일괄 적립 작업 설정
+ * - jobId가 같으면 체크포인트부터 이어서 실행하고, 이미 완료된 작업은 다시 실행하지 않는다.
+ * - amount는 USERS 출처의 1인당 적립 금액이자, FILE 출처에서 금액이 없는 줄의 기본 금액이다.
+ * - pauseBetweenBatches로 배치 사이에 커넥션을 쉬게 해 API 커넥션 풀을 독점하지 않는다.
+ */
+@ConfigurationProperties(value = "point.bulk-credit")
+public record PointBulkCreditProperties(
+        @DefaultValue("false") boolean enabled,
+        String jobId,
+        @DefaultValue("FILE") PointCreditSource.Type source,
+        String file,
+        @DefaultValue("0") long amount,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100ms") Duration pauseBetweenBatches
+) { }
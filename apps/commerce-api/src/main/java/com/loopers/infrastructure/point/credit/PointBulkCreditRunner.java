@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.point.credit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 포인트 일괄 적립 실행기
+ * - point.bulk-credit.enabled=true 로 기동하면 애플리케이션 시작 직후 한 번 실행한다.
+ * - API 서버와 커넥션 풀을 나누도록 별도 프로세스로 띄우는 것을 권장한다.
+ *   예) --spring.main.web-application-type=none --point.bulk-credit.enabled=true
+ *       --point.bulk-credit.job-id=welcome-2024 --point.bulk-credit.source=USERS --point.bulk-credit.amount=1000
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "point.bulk-credit", name = "enabled", havingValue = "true")
+public class PointBulkCreditRunner implements ApplicationRunner {
+
+    private final PointBulkCreditJob pointBulkCreditJob;
+    private final PointBulkCreditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        PointCreditSource source = switch (properties.source()) {
+            case FILE -> {
+                if (properties.file() == null || properties.file().isBlank()) {
+                    throw new IllegalArgumentException("FILE 출처는 point.bulk-credit.file 경로가 필요합니다.");
+                }
+                yield PointCreditSource.file(Path.of(properties.file()), properties.amount());
+            }
+            case USERS -> {
+                if (properties.amount() <= 0) {
+                    throw new IllegalArgumentException("USERS 출처는 point.bulk-credit.amount가 0보다 커야 합니다.");
+                }
+                yield PointCreditSource.users(jdbcTemplate, properties.amount());
+            }
+        };
+
+        log.info("일괄 적립 작업 시작: jobId={}, source={}, batchSize={}",
+                properties.jobId(), properties.source(), properties.batchSize());
+        pointBulkCreditJob.run(properties.jobId(), source);
+    }
+}
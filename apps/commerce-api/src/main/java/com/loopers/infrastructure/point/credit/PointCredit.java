@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.point.credit;
+
+/**
+ * 일괄 적립 대상 한 건
+ */
+public record PointCredit(
+        String userId,
+        long amount
+) {
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.point.credit;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 적립 작업 체크포인트
+ * - 배치 적립과 같은 트랜잭션에서 갱신되므로, 재시작하면 마지막으로 커밋된 배치 다음부터 정확히 이어서 처리한다.
+ */
+@Entity
+@Table(name = "point_credit_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointCreditCheckpointEntity {
+
+    @Id
+    @Column(length = 100)
+    private String jobId;
+
+    private String cursor;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(nullable = false)
+    private long creditedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private PointCreditCheckpointEntity(String jobId) {
+        this.jobId = jobId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static PointCreditCheckpointEntity start(String jobId) {
+        return new PointCreditCheckpointEntity(jobId);
+    }
+
+    public void advance(String cursor, long processed, long credited) {
+        this.cursor = cursor;
+        this.processedCount += processed;
+        this.creditedCount += credited;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
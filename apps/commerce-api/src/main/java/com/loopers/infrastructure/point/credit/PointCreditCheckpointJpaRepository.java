@@ -0,0 +1,6 @@
+package com.loopers.infrastructure.point.credit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PointCreditCheckpointJpaRepository extends JpaRepository<PointCreditCheckpointEntity, String> {
+}
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.point.credit;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 일괄 적립 대상을 조금씩 읽어오는 리더
+ * - 전체 목록을 메모리에 올리지 않고 배치 크기만큼씩 읽는다.
+ * - cursor()는 지금까지 읽은 위치로, 체크포인트에 저장했다가 재시작 시 그대로 넘긴다.
+ */
+public interface PointCreditReader extends AutoCloseable {
+
+    /**
+     * 최대 size건을 읽는다. 더 읽을 대상이 없으면 빈 목록을 반환한다.
+     */
+    List<PointCredit> read(int size) throws IOException;
+
+    String cursor();
+
+    @Override
+    void close() throws IOException;
+}
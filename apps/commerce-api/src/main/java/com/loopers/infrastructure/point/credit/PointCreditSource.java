@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.point.credit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 일괄 적립 대상 출처
+ * - FILE: 로컬 파일 (한 줄에 "userId" 또는 "userId,amount")
+ * - USERS: 전체 회원 (users 테이블을 ID 순으로 키셋 조회)
+ */
+@FunctionalInterface
+public interface PointCreditSource {
+
+    /**
+     * 체크포인트 위치부터 읽는 리더를 연다.
+     *
+     * @param cursor 체크포인트에 저장된 위치 (처음 실행이면 null)
+     */
+    PointCreditReader open(String cursor) throws IOException;
+
+    static PointCreditSource file(Path path, long defaultAmount) {
+        return cursor -> new FilePointCreditReader(path, defaultAmount, cursor);
+    }
+
+    static PointCreditSource users(JdbcTemplate jdbcTemplate, long amount) {
+        return cursor -> new UserPointCreditReader(jdbcTemplate, amount, cursor);
+    }
+
+    enum Type {
+        FILE,
+        USERS
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.point.credit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 전체 회원 대상 적립 리더
+ * - users 테이블을 ID 순으로 키셋 조회해 모든 회원에게 같은 금액을 적립한다.
+ * - 조회마다 커넥션을 바로 반납하므로, 스트리밍 ResultSet처럼 작업 내내 커넥션을 붙잡지 않는다.
+ * - 커서는 마지막으로 읽은 사용자 ID이다.
+ */
+class UserPointCreditReader implements PointCreditReader {
+
+    private static final String FIRST_PAGE_SQL = "SELECT id FROM users ORDER BY id LIMIT ?";
+    private static final String NEXT_PAGE_SQL = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long amount;
+    private String lastUserId;
+
+    UserPointCreditReader(JdbcTemplate jdbcTemplate, long amount, String cursor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.amount = amount;
+        this.lastUserId = cursor;
+    }
+
+    @Override
+    public List<PointCredit> read(int size) {
+        List<String> userIds = lastUserId == null
+                ? jdbcTemplate.queryForList(FIRST_PAGE_SQL, String.class, size)
+                : jdbcTemplate.queryForList(NEXT_PAGE_SQL, String.class, lastUserId, size);
+        if (!userIds.isEmpty()) {
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        return userIds.stream()
+                .map(userId -> new PointCredit(userId, amount))
+                .toList();
+    }
+
+    @Override
+    public String cursor() {
+        return lastUserId;
+    }
+
+    @Override
+    public void close() {
+    }
+}
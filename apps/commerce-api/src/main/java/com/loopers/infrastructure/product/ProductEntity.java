@@ -49,8 +49,9 @@ public class ProductEntity {
     @Column(nullable = false, length = 20)
     private ProductStatus status;
 
-    // 비정규화 필드: 좋아요 수
-    @Column(name = "like_count", nullable = false)
+    // 비정규화 필드: 좋아요 수 (상품 목록 정렬용)
+    // commerce-streamer가 발행한 좋아요 수로만 갱신하므로, 엔티티 저장 시에는 덮어쓰지 않는다
+    @Column(name = "like_count", nullable = false, updatable = false)
     private Integer likeCount = 0;
 
     @Column(nullable = false, updatable = false)
@@ -129,7 +130,6 @@ public class ProductEntity {
      */
     public void updateFrom(Product product) {
         this.stock = product.getStock();
-        this.likeCount = product.getLikeCount();
         this.modifiedAt = product.getModifiedAt();
     }
 }
@@ -4,11 +4,17 @@ import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.product.ProductStatus;
+import com.loopers.support.jdbc.JdbcTimestamps;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -18,7 +24,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE products SET stock = stock + ?, modified_at = ? WHERE id = ?";
+    private static final String UPDATE_LIKE_COUNT_SQL =
+            "UPDATE products SET like_count = ? WHERE id = ?";
+
     private final ProductJpaRepository productJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Product save(Product product) {
@@ -102,4 +114,35 @@ public class ProductRepositoryImpl implements ProductRepository {
     public void deleteById(Long productId) {
         productJpaRepository.deleteById(productId);
     }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+
+        // 상품 ID 오름차순으로 정렬해 락 획득 순서를 고정한다
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(quantitiesByProductId).entrySet());
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            JdbcTimestamps.setUtc(ps, 2, now);
+            ps.setLong(3, entry.getKey());
+        });
+    }
+
+    @Override
+    public void updateLikeCounts(Map<Long, Integer> likeCountsByProductId) {
+        if (likeCountsByProductId.isEmpty()) {
+            return;
+        }
+
+        // 상품 ID 오름차순으로 정렬해 락 획득 순서를 고정한다
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(new TreeMap<>(likeCountsByProductId).entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_LIKE_COUNT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
 }
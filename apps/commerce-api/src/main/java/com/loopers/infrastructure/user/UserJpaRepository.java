@@ -2,6 +2,14 @@ package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserJpaRepository extends JpaRepository<User, String> {
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<String> findIdsByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -5,7 +5,10 @@ import com.loopers.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Repository
@@ -27,4 +30,12 @@ public class UserRepositoryImpl implements UserRepository {
     public boolean existsById(String id) {
         return userJpaRepository.existsById(id);
     }
+
+    @Override
+    public Set<String> findExistingIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userJpaRepository.findIdsByIdIn(ids));
+    }
 }
@@ -0,0 +1,32 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Coupon Campaign V1 API", description = "선착순 쿠폰 캠페인 API")
+public interface CouponCampaignV1ApiSpec {
+
+    @Operation(
+            summary = "캠페인 생성",
+            description = "발급 수량과 기간이 정해진 선착순 쿠폰 캠페인을 생성합니다."
+    )
+    ApiResponse<CouponCampaignV1Dto.CampaignResponse> createCampaign(
+            @RequestBody(description = "캠페인 생성 요청", required = true)
+            CouponCampaignV1Dto.CreateRequest request
+    );
+
+    @Operation(
+            summary = "선착순 쿠폰 발급",
+            description = "캠페인 쿠폰을 선착순으로 발급합니다. 사용자당 한 장이며, 수량이 소진되면 실패합니다."
+    )
+    ApiResponse<CouponCampaignV1Dto.IssueResponse> issue(
+            @Parameter(description = "사용자 ID", required = true, in = ParameterIn.HEADER)
+            String userId,
+            @Parameter(description = "캠페인 ID", required = true, in = ParameterIn.PATH)
+            Long campaignId
+    );
+}
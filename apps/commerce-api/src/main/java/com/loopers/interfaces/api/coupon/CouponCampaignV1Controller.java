@@ -0,0 +1,51 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.application.coupon.CouponCampaignFacade;
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/coupon-campaigns")
+public class CouponCampaignV1Controller implements CouponCampaignV1ApiSpec {
+
+    private final CouponCampaignFacade couponCampaignFacade;
+
+    @PostMapping
+    @Override
+    public ApiResponse<CouponCampaignV1Dto.CampaignResponse> createCampaign(
+            @Valid @RequestBody CouponCampaignV1Dto.CreateRequest request
+    ) {
+        CouponCampaign campaign = couponCampaignFacade.createCampaign(
+                request.name(),
+                request.couponType(),
+                request.discountValue(),
+                request.totalQuantity(),
+                request.startsAt(),
+                request.endsAt(),
+                request.couponExpiresAt()
+        );
+
+        return ApiResponse.success(CouponCampaignV1Dto.CampaignResponse.of(campaign, campaign.getTotalQuantity()));
+    }
+
+    @PostMapping("/{campaignId}/issue")
+    @Override
+    public ApiResponse<CouponCampaignV1Dto.IssueResponse> issue(
+            @RequestHeader(value = "X-USER-ID") String userId,
+            @PathVariable Long campaignId
+    ) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "필수 요청 헤더 'X-USER-ID'는 빈 값일 수 없습니다.");
+        }
+
+        CouponIssueResult result = couponCampaignFacade.issue(campaignId, userId);
+        return ApiResponse.success(new CouponCampaignV1Dto.IssueResponse(campaignId, result));
+    }
+}
@@ -0,0 +1,81 @@
+package com.loopers.interfaces.api.coupon;
+
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.domain.coupon.CouponType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class CouponCampaignV1Dto {
+
+    /**
+     * 캠페인 생성 요청
+     */
+    public record CreateRequest(
+            @NotBlank(message = "캠페인 이름은 필수입니다.")
+            String name,
+
+            @NotNull(message = "쿠폰 타입은 필수입니다.")
+            CouponType couponType,
+
+            @NotNull(message = "할인 값은 필수입니다.")
+            @Positive(message = "할인 값은 0보다 커야 합니다.")
+            BigDecimal discountValue,
+
+            @Positive(message = "발급 수량은 0보다 커야 합니다.")
+            int totalQuantity,
+
+            @NotNull(message = "발급 시작 시각은 필수입니다.")
+            LocalDateTime startsAt,
+
+            @NotNull(message = "발급 종료 시각은 필수입니다.")
+            LocalDateTime endsAt,
+
+            @NotNull(message = "쿠폰 만료 시각은 필수입니다.")
+            LocalDateTime couponExpiresAt
+    ) {
+    }
+
+    /**
+     * 캠페인 응답
+     */
+    public record CampaignResponse(
+            Long id,
+            String name,
+            CouponType couponType,
+            BigDecimal discountValue,
+            int totalQuantity,
+            long remainingQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime couponExpiresAt
+    ) {
+        public static CampaignResponse of(CouponCampaign campaign, long remainingQuantity) {
+            return new CampaignResponse(
+                    campaign.getId(),
+                    campaign.getName(),
+                    campaign.getCouponType(),
+                    campaign.getDiscountValue(),
+                    campaign.getTotalQuantity(),
+                    remainingQuantity,
+                    campaign.getStartsAt(),
+                    campaign.getEndsAt(),
+                    campaign.getCouponExpiresAt()
+            );
+        }
+    }
+
+    /**
+     * 선착순 발급 응답
+     * - 당첨 시 쿠폰은 비동기로 저장되므로 잠시 뒤 내 쿠폰 목록에서 확인할 수 있다.
+     */
+    public record IssueResponse(
+            Long campaignId,
+            CouponIssueResult result
+    ) {
+    }
+}
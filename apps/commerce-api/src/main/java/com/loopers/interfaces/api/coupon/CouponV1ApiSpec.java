@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.math.BigDecimal;
+
 @Tag(name = "Coupon V1 API", description = "쿠폰 관리 API")
 public interface CouponV1ApiSpec {
 
@@ -59,6 +61,17 @@ public interface CouponV1ApiSpec {
             String userId
     );
 
+    @Operation(
+            summary = "최적 쿠폰 조회",
+            description = "사용 가능한 쿠폰 전체를 주문 금액에 적용해 할인 금액이 큰 순으로 반환합니다."
+    )
+    ApiResponse<CouponV1Dto.CouponEvaluationResponse> evaluateCoupons(
+            @Parameter(description = "사용자 ID", required = true, in = ParameterIn.HEADER)
+            String userId,
+            @Parameter(description = "주문 금액", required = true, in = ParameterIn.QUERY)
+            BigDecimal orderAmount
+    );
+
     @Operation(
             summary = "할인 금액 계산",
             description = "쿠폰의 할인 금액을 계산합니다."
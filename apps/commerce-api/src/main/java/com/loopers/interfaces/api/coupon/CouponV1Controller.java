@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.coupon;
 
 import com.loopers.application.coupon.CouponFacade;
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDiscount;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -89,6 +90,20 @@ public class CouponV1Controller implements CouponV1ApiSpec {
         return ApiResponse.success(CouponV1Dto.CouponListResponse.from(coupons));
     }
 
+    @GetMapping("/best")
+    @Override
+    public ApiResponse<CouponV1Dto.CouponEvaluationResponse> evaluateCoupons(
+            @RequestHeader(value = "X-USER-ID") String userId,
+            @RequestParam BigDecimal orderAmount
+    ) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "필수 요청 헤더 'X-USER-ID'는 빈 값일 수 없습니다.");
+        }
+
+        List<CouponDiscount> discounts = couponFacade.evaluateCoupons(userId, orderAmount);
+        return ApiResponse.success(CouponV1Dto.CouponEvaluationResponse.from(orderAmount, discounts));
+    }
+
     @PostMapping("/{couponId}/calculate-discount")
     @Override
     public ApiResponse<CouponV1Dto.CalculateDiscountResponse> calculateDiscount(
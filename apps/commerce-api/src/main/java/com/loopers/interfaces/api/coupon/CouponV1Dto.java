@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api.coupon;
 
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponDiscount;
 import com.loopers.domain.coupon.CouponType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -95,4 +96,49 @@ public class CouponV1Dto {
             return new CalculateDiscountResponse(discountAmount);
         }
     }
+
+    /**
+     * 쿠폰별 할인 금액
+     */
+    public record CouponDiscountResponse(
+            Long couponId,
+            String couponName,
+            CouponType couponType,
+            BigDecimal discountValue,
+            BigDecimal discountAmount,
+            LocalDateTime expiresAt
+    ) {
+        public static CouponDiscountResponse from(CouponDiscount discount) {
+            Coupon coupon = discount.coupon();
+            return new CouponDiscountResponse(
+                    coupon.getId(),
+                    coupon.getCouponName(),
+                    coupon.getCouponType(),
+                    coupon.getDiscountValue(),
+                    discount.discountAmount(),
+                    coupon.getExpiresAt()
+            );
+        }
+    }
+
+    /**
+     * 최적 쿠폰 조회 응답
+     * - candidates는 할인 금액이 큰 순이며, 사용 가능한 쿠폰이 없으면 bestCoupon은 null
+     */
+    public record CouponEvaluationResponse(
+            BigDecimal orderAmount,
+            CouponDiscountResponse bestCoupon,
+            List<CouponDiscountResponse> candidates
+    ) {
+        public static CouponEvaluationResponse from(BigDecimal orderAmount, List<CouponDiscount> discounts) {
+            List<CouponDiscountResponse> candidates = discounts.stream()
+                    .map(CouponDiscountResponse::from)
+                    .collect(Collectors.toList());
+            return new CouponEvaluationResponse(
+                    orderAmount,
+                    candidates.isEmpty() ? null : candidates.get(0),
+                    candidates
+            );
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Order V1 API", description = "주문 API")
+public interface OrderV1ApiSpec {
+
+    @Operation(
+            summary = "주문 생성",
+            description = "주문을 생성합니다. Idempotency-Key 헤더로 재시도 시 중복 주문을 막습니다."
+    )
+    ApiResponse<OrderV1Dto.OrderResponse> createOrder(
+            @Parameter(description = "사용자 ID", required = true, in = ParameterIn.HEADER)
+            String userId,
+            @Parameter(description = "멱등키 (같은 키의 재요청은 저장된 응답을 반환, 본문이 다르면 409)", in = ParameterIn.HEADER)
+            String idempotencyKey,
+            @RequestBody(description = "주문 생성 요청", required = true)
+            OrderV1Dto.CreateRequest request
+    );
+
+    @Operation(
+            summary = "내 주문 목록 조회",
+            description = "주문 요약 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 커서 값을 넘겨 조회합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderSummaryListResponse> getMyOrders(
+            @Parameter(description = "사용자 ID", required = true, in = ParameterIn.HEADER)
+            String userId,
+            @Parameter(description = "주문 상태 (없으면 전체)", in = ParameterIn.QUERY)
+            OrderStatus status,
+            @Parameter(description = "커서 - 이전 페이지 마지막 주문 시각", in = ParameterIn.QUERY)
+            LocalDateTime cursorOrderedAt,
+            @Parameter(description = "커서 - 이전 페이지 마지막 주문 ID", in = ParameterIn.QUERY)
+            Long cursorOrderId,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", in = ParameterIn.QUERY)
+            int size,
+            @Parameter(description = "주문 항목 포함 여부", in = ParameterIn.QUERY)
+            boolean includeItems
+    );
+}
@@ -0,0 +1,77 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.CreateOrderCommand;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderSummaryPage;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.infrastructure.idempotency.IdempotencyService;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderV1Controller implements OrderV1ApiSpec {
+
+    private static final String IDEMPOTENCY_SCOPE = "order";
+
+    private final OrderFacade orderFacade;
+    private final IdempotencyService idempotencyService;
+
+    @PostMapping
+    @Override
+    public ApiResponse<OrderV1Dto.OrderResponse> createOrder(
+            @RequestHeader(value = "X-USER-ID") String userId,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderV1Dto.CreateRequest request
+    ) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "필수 요청 헤더 'X-USER-ID'는 빈 값일 수 없습니다.");
+        }
+
+        List<OrderService.OrderItemRequest> orderItems = request.items().stream()
+                .map(item -> new OrderService.OrderItemRequest(item.productId(), item.quantity()))
+                .collect(Collectors.toList());
+        CreateOrderCommand command = new CreateOrderCommand(userId, orderItems, request.usedPoints(), request.couponId());
+
+        OrderV1Dto.OrderResponse response = idempotencyService.execute(
+                IDEMPOTENCY_SCOPE,
+                userId,
+                idempotencyKey,
+                request,
+                OrderV1Dto.OrderResponse.class,
+                () -> OrderV1Dto.OrderResponse.from(orderFacade.createOrder(command))
+        );
+
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping
+    @Override
+    public ApiResponse<OrderV1Dto.OrderSummaryListResponse> getMyOrders(
+            @RequestHeader(value = "X-USER-ID") String userId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorOrderedAt,
+            @RequestParam(required = false) Long cursorOrderId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeItems
+    ) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "필수 요청 헤더 'X-USER-ID'는 빈 값일 수 없습니다.");
+        }
+
+        OrderSummaryPage page = orderFacade.getOrderSummaries(
+                userId, status, cursorOrderedAt, cursorOrderId, size, includeItems);
+        return ApiResponse.success(OrderV1Dto.OrderSummaryListResponse.from(page));
+    }
+}
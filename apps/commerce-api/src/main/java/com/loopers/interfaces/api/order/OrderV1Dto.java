@@ -0,0 +1,145 @@
+package com.loopers.interfaces.api.order;
+
+import com.loopers.application.order.OrderSummaryInfo;
+import com.loopers.application.order.OrderSummaryPage;
+import com.loopers.domain.order.OrderStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OrderV1Dto {
+
+    /**
+     * 주문 생성 요청
+     */
+    public record CreateRequest(
+            @NotEmpty(message = "주문 항목은 필수입니다.")
+            List<@Valid OrderItemRequest> items,
+
+            @PositiveOrZero(message = "사용 포인트는 0 이상이어야 합니다.")
+            int usedPoints,
+
+            Long couponId
+    ) {
+    }
+
+    /**
+     * 주문 항목 요청
+     */
+    public record OrderItemRequest(
+            @NotNull(message = "상품 ID는 필수입니다.")
+            Long productId,
+
+            @Positive(message = "수량은 0보다 커야 합니다.")
+            int quantity
+    ) {
+    }
+
+    /**
+     * 주문 응답
+     */
+    public record OrderResponse(
+            Long orderId,
+            String userId,
+            BigDecimal totalAmount,
+            BigDecimal couponDiscount,
+            int usedPoints,
+            BigDecimal finalAmount,
+            Long couponId,
+            OrderStatus status,
+            LocalDateTime orderedAt,
+            List<OrderItemResponse> items
+    ) {
+        public static OrderResponse from(com.loopers.application.order.OrderResponse response) {
+            List<OrderItemResponse> items = response.getOrderItems().stream()
+                    .map(OrderItemResponse::from)
+                    .collect(Collectors.toList());
+            return new OrderResponse(
+                    response.getOrderId(),
+                    response.getUserId(),
+                    response.getTotalAmount(),
+                    response.getCouponDiscount(),
+                    response.getUsedPoints(),
+                    response.getFinalAmount(),
+                    response.getCouponId(),
+                    response.getStatus(),
+                    response.getOrderedAt(),
+                    items
+            );
+        }
+    }
+
+    /**
+     * 주문 항목 응답
+     */
+    public record OrderItemResponse(
+            Long productId,
+            String productName,
+            BigDecimal price,
+            int quantity,
+            BigDecimal subtotal
+    ) {
+        public static OrderItemResponse from(com.loopers.application.order.OrderResponse.OrderItemResponse item) {
+            return new OrderItemResponse(
+                    item.getProductId(),
+                    item.getProductName(),
+                    item.getPrice(),
+                    item.getQuantity(),
+                    item.getSubtotal()
+            );
+        }
+    }
+
+    /**
+     * 주문 요약 응답
+     */
+    public record OrderSummaryResponse(
+            Long orderId,
+            OrderStatus status,
+            BigDecimal finalAmount,
+            LocalDateTime orderedAt,
+            long itemCount,
+            List<OrderItemResponse> items
+    ) {
+        public static OrderSummaryResponse from(OrderSummaryInfo info) {
+            return new OrderSummaryResponse(
+                    info.orderId(),
+                    info.status(),
+                    info.finalAmount(),
+                    info.orderedAt(),
+                    info.itemCount(),
+                    info.items().stream()
+                            .map(OrderItemResponse::from)
+                            .collect(Collectors.toList())
+            );
+        }
+    }
+
+    /**
+     * 주문 요약 목록 응답 (키셋 페이징)
+     */
+    public record OrderSummaryListResponse(
+            List<OrderSummaryResponse> orders,
+            boolean hasNext,
+            LocalDateTime nextCursorOrderedAt,
+            Long nextCursorOrderId
+    ) {
+        public static OrderSummaryListResponse from(OrderSummaryPage page) {
+            return new OrderSummaryListResponse(
+                    page.orders().stream()
+                            .map(OrderSummaryResponse::from)
+                            .collect(Collectors.toList()),
+                    page.hasNext(),
+                    page.nextCursorOrderedAt(),
+                    page.nextCursorOrderId()
+            );
+        }
+    }
+}
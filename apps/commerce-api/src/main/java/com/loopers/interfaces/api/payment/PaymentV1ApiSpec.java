@@ -8,15 +8,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Payment V1 API 명세
  */
 @Tag(name = "Payment API", description = "결제 API")
 public interface PaymentV1ApiSpec {
 
-    @Operation(summary = "결제 요청", description = "PG를 통한 결제를 요청합니다")
-    ApiResponse<PaymentV1Dto.PaymentResponse> requestPayment(
+    @Operation(summary = "결제 요청", description = "PG를 통한 결제를 요청합니다. Idempotency-Key 헤더로 재시도 시 중복 결제를 막습니다")
+    CompletableFuture<ApiResponse<PaymentV1Dto.PaymentResponse>> requestPayment(
             @RequestHeader(value = "X-USER-ID") String userId,
+            @Parameter(description = "멱등키 (같은 키의 재요청은 저장된 응답을 반환, 본문이 다르면 409)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PaymentV1Dto.PaymentRequest request
     );
 
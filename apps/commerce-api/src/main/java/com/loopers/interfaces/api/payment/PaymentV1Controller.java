@@ -1,14 +1,18 @@
 package com.loopers.interfaces.api.payment;
 
+import com.loopers.application.payment.PaymentCallbackFacade;
 import com.loopers.application.payment.PaymentCommand;
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.application.payment.PaymentInfo;
+import com.loopers.infrastructure.idempotency.IdempotencyService;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Payment V1 Controller
  */
@@ -19,15 +23,22 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
 
     private static final Logger log = LoggerFactory.getLogger(PaymentV1Controller.class);
 
+    private static final String IDEMPOTENCY_SCOPE = "payment";
+
     private final PaymentFacade paymentFacade;
+    private final PaymentCallbackFacade paymentCallbackFacade;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 결제 요청
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재요청에 PG를 다시 호출하지 않고 저장된 응답을 돌려준다.
+     * - PG 응답은 비동기 PG 클라이언트에서 기다리므로, 그동안 서블릿 스레드를 반납한다.
      */
     @PostMapping
     @Override
-    public ApiResponse<PaymentV1Dto.PaymentResponse> requestPayment(
+    public CompletableFuture<ApiResponse<PaymentV1Dto.PaymentResponse>> requestPayment(
             @RequestHeader(value = "X-USER-ID") String userId,
+            @RequestHeader(value = IdempotencyService.HEADER_NAME, required = false) String idempotencyKey,
             @RequestBody PaymentV1Dto.PaymentRequest request
     ) {
         log.info("결제 요청: userId={}, orderId={}, amount={}", userId, request.getOrderId(), request.getAmount());
@@ -41,10 +52,14 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
                 request.getCallbackUrl()
         );
 
-        PaymentInfo info = paymentFacade.requestPayment(command);
-        PaymentV1Dto.PaymentResponse response = PaymentV1Dto.PaymentResponse.from(info);
-
-        return ApiResponse.success(response);
+        return idempotencyService.executeAsync(
+                IDEMPOTENCY_SCOPE,
+                userId,
+                idempotencyKey,
+                request,
+                PaymentV1Dto.PaymentResponse.class,
+                () -> paymentFacade.requestPaymentAsync(command).thenApply(PaymentV1Dto.PaymentResponse::from)
+        ).thenApply(response -> ApiResponse.success(response));
     }
 
     /**
@@ -66,6 +81,7 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
 
     /**
      * PG 콜백 수신
+     * - 콜백은 대기열에 적재만 하고 바로 응답한다. (반영은 스케줄러가 묶음으로 처리)
      */
     @PostMapping("/callback")
     @Override
@@ -80,7 +96,7 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
                 request.getReason()
         );
 
-        paymentFacade.handleCallback(command);
+        paymentCallbackFacade.acceptCallback(command);
 
         return ApiResponse.success(null);
     }
@@ -44,6 +44,7 @@ public class PaymentV1Dto {
      * 결제 응답 DTO
      */
     @Getter
+    @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "결제 응답")
     public static class PaymentResponse {
@@ -29,4 +29,17 @@ public interface PointV1ApiSpec {
             @RequestBody(description = "충전 요청", required = true)
             PointV1Dto.ChargeRequest request
     );
+
+    @Operation(
+            summary = "포인트 거래 이력 조회",
+            description = "포인트 충전/사용/환불 이력을 최신순으로 조회합니다. 다음 페이지는 응답의 커서 값을 넘겨 조회합니다."
+    )
+    ApiResponse<PointV1Dto.TransactionListResponse> getTransactions(
+            @Parameter(description = "사용자 ID", required = true, in = ParameterIn.HEADER)
+            String userId,
+            @Parameter(description = "이전 페이지 마지막 거래 ID (첫 페이지는 생략)")
+            Long cursorId,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            int size
+    );
 }
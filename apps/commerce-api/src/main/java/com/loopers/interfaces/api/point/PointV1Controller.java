@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.point;
 
 import com.loopers.application.point.PointFacade;
 import com.loopers.application.point.PointInfo;
+import com.loopers.application.point.PointTransactionPage;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -55,4 +57,19 @@ public class PointV1Controller implements PointV1ApiSpec {
         PointV1Dto.PointResponse response = PointV1Dto.PointResponse.from(charged);
         return ApiResponse.success(response);
     }
+
+    @GetMapping("/transactions")
+    @Override
+    public ApiResponse<PointV1Dto.TransactionListResponse> getTransactions(
+            @RequestHeader(value = "X-USER-ID") String userId,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "필수 요청 헤더 'X-USER-ID'는 빈 값일 수 없습니다.");
+        }
+
+        PointTransactionPage page = pointFacade.getTransactions(userId, cursorId, size);
+        return ApiResponse.success(PointV1Dto.TransactionListResponse.from(page));
+    }
 }
@@ -1,9 +1,15 @@
 package com.loopers.interfaces.api.point;
 
 import com.loopers.application.point.PointInfo;
+import com.loopers.application.point.PointTransactionInfo;
+import com.loopers.application.point.PointTransactionPage;
+import com.loopers.domain.point.PointTransactionType;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class PointV1Dto {
 
     @NotNull(message = "충전 금액은 필수입니다.")
@@ -22,4 +28,41 @@ public class PointV1Dto {
             );
         }
     }
+
+    public record TransactionResponse(
+            Long transactionId,
+            PointTransactionType type,
+            Long amount,
+            Long balanceAfter,
+            LocalDateTime createdAt
+    ) {
+        public static TransactionResponse from(PointTransactionInfo info) {
+            return new TransactionResponse(
+                    info.transactionId(),
+                    info.type(),
+                    info.amount(),
+                    info.balanceAfter(),
+                    info.createdAt()
+            );
+        }
+    }
+
+    /**
+     * 포인트 거래 이력 응답 (키셋 페이징)
+     */
+    public record TransactionListResponse(
+            List<TransactionResponse> transactions,
+            boolean hasNext,
+            Long nextCursorId
+    ) {
+        public static TransactionListResponse from(PointTransactionPage page) {
+            return new TransactionListResponse(
+                    page.transactions().stream()
+                            .map(TransactionResponse::from)
+                            .toList(),
+                    page.hasNext(),
+                    page.nextCursorId()
+            );
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 좋아요 수 컨슈머
+ * - 좋아요 수는 commerce-streamer의 product_metrics가 원본이고, 바뀔 때마다 상품별 좋아요 수(절댓값)를 발행한다
+ * - 받은 값으로 상품 목록 정렬에 쓰는 products.like_count를 덮어쓴다 (증감분이 아니므로 다시 받아도 결과가 같다)
+ * - 메시지 키가 상품 ID라 같은 상품의 값은 발행 순서대로 오고, 한 묶음 안에서는 마지막 값만 반영한다
+ * - 해석할 수 없는 메시지는 로그만 남기고 건너뛴다 (묶음 전체를 막지 않는다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountConsumer {
+
+    private final ProductFacade productFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = "${product-like-count.topic}",
+        groupId = "${product-like-count.group-id}",
+        containerFactory = KafkaConfig.BATCH_LISTENER,
+        autoStartup = "${product-like-count.enabled}"
+    )
+    public void consume(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        Map<Long, Integer> likeCounts = new HashMap<>();
+        for (ConsumerRecord<Object, Object> message : messages) {
+            try {
+                JsonNode payload = readPayload(message.value());
+                likeCounts.put(payload.get("productId").asLong(), Math.toIntExact(payload.get("likeCount").asLong()));
+            } catch (Exception e) {
+                log.error("[상품 좋아요 수] 메시지 해석 실패로 건너뜀: topic={}, offset={}, error={}",
+                        message.topic(), message.offset(), e.getMessage());
+            }
+        }
+
+        if (!likeCounts.isEmpty()) {
+            productFacade.updateLikeCounts(likeCounts);
+            log.debug("[상품 좋아요 수] 배치 반영 완료: received={}, products={}", messages.size(), likeCounts.size());
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private JsonNode readPayload(Object value) throws IOException {
+        if (value instanceof byte[] bytes) {
+            return objectMapper.readTree(bytes);
+        }
+        return objectMapper.readTree(value.toString());
+    }
+}
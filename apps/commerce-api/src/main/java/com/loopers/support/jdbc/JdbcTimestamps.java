@@ -0,0 +1,24 @@
+package com.loopers.support.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * JdbcTemplate으로 시각을 바인딩할 때 사용하는 유틸
+ * - JPA 엔티티는 hibernate.jdbc.time_zone=UTC 기준으로 저장되므로, JDBC로 직접 쓰는 값도 UTC 캘린더로 바인딩해 기준을 맞춘다.
+ */
+public final class JdbcTimestamps {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private JdbcTimestamps() {
+    }
+
+    public static void setUtc(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        ps.setTimestamp(index, Timestamp.valueOf(value), Calendar.getInstance(UTC));
+    }
+}
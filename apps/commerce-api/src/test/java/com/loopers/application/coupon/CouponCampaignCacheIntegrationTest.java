@@ -0,0 +1,64 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class})
+@DisplayName("선착순 쿠폰 당첨자 저장 후 사용 가능 쿠폰 캐시 테스트")
+class CouponCampaignCacheIntegrationTest {
+
+    @Autowired
+    private CouponCampaignFacade couponCampaignFacade;
+
+    @Autowired
+    private CouponFacade couponFacade;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("당첨자 저장 후 조회하면 캐시된 이전 목록이 아니라 당첨된 쿠폰이 포함된 목록을 받는다")
+    @Test
+    void persistWinners_evictsCachedAvailableCoupons() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        CouponCampaign campaign = couponCampaignFacade.createCampaign(
+                "선착순 10명", CouponType.FIXED, BigDecimal.valueOf(3000), 10,
+                now.minusMinutes(1), now.plusHours(1), now.plusDays(7));
+        assertThat(couponFacade.getAvailableCoupons("user1")).isEmpty();
+        couponCampaignFacade.issue(campaign.getId(), "user1");
+
+        // when
+        couponCampaignFacade.persistWinners(campaign.getId(), 100);
+
+        // then
+        List<Coupon> coupons = couponFacade.getAvailableCoupons("user1");
+        assertThat(coupons).hasSize(1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@DisplayName("미결제 주문 만료 통합 테스트")
+class OrderExpiryIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private Order saveOrder() {
+        return orderRepository.save(Order.create("user1",
+                List.of(OrderItem.create(1L, "상품", BigDecimal.valueOf(1000), 1)), 0));
+    }
+
+    private Payment savePendingPayment(Long orderId, String pgTransactionKey, LocalDateTime createdAt) {
+        return paymentRepository.save(Payment.reconstruct(
+                null, "user1", orderId, pgTransactionKey, CardType.SAMSUNG, "1234-****-****-3456",
+                BigDecimal.valueOf(1000), PaymentStatus.PENDING, null, createdAt, createdAt));
+    }
+
+    @Test
+    @DisplayName("PG 거래 키 없이 TTL이 지난 PENDING 결제만 있는 주문은 만료되고, 그 결제는 실패 처리된다")
+    void expirePendingOrders_staleKeylessPayment_expiresOrderAndFailsPayment() {
+        // given
+        LocalDateTime orderedBefore = LocalDateTime.now().plusMinutes(1);
+        Order keyless = saveOrder();
+        Payment keylessPayment = savePendingPayment(keyless.getId(), null, LocalDateTime.now());
+
+        // when
+        OrderExpiryChunk chunk = orderFacade.expirePendingOrders(orderedBefore, null, null, 0, 1, 100);
+
+        // then
+        assertAll(
+                () -> assertThat(chunk.expired()).isEqualTo(1),
+                () -> assertThat(orderRepository.findById(keyless.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.CANCELLED),
+                () -> assertThat(paymentRepository.findById(keylessPayment.getId()).orElseThrow().getStatus())
+                        .isEqualTo(PaymentStatus.FAILED)
+        );
+    }
+
+    @Test
+    @DisplayName("PG 거래 키를 받았거나 TTL이 지나지 않은 PENDING 결제가 있는 주문은 만료되지 않는다")
+    void expirePendingOrders_activePendingPayment_keepsOrder() {
+        // given
+        LocalDateTime orderedBefore = LocalDateTime.now().plusMinutes(1);
+        Order withKey = saveOrder();
+        savePendingPayment(withKey.getId(), "20250101:TR:abc", LocalDateTime.now());
+        Order young = saveOrder();
+        savePendingPayment(young.getId(), null, orderedBefore.plusMinutes(1));
+
+        // when
+        OrderExpiryChunk chunk = orderFacade.expirePendingOrders(orderedBefore, null, null, 0, 1, 100);
+
+        // then
+        assertAll(
+                () -> assertThat(chunk.expired()).isZero(),
+                () -> assertThat(orderRepository.findById(withKey.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(orderRepository.findById(young.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.PENDING)
+        );
+    }
+
+    @Test
+    @DisplayName("샤드는 주문 ID의 나머지로 나뉘어, 두 샤드가 만료 대상을 겹치거나 빠뜨리지 않고 나눠 맡는다")
+    void expirePendingOrders_shardsPartitionOrdersById() {
+        // given
+        LocalDateTime orderedBefore = LocalDateTime.now().plusMinutes(1);
+        List<Order> orders = List.of(saveOrder(), saveOrder(), saveOrder(), saveOrder(), saveOrder());
+
+        // when
+        OrderExpiryChunk even = orderFacade.expirePendingOrders(orderedBefore, null, null, 0, 2, 100);
+        OrderExpiryChunk odd = orderFacade.expirePendingOrders(orderedBefore, null, null, 1, 2, 100);
+
+        // then
+        long evenCount = orders.stream().filter(order -> order.getId() % 2 == 0).count();
+        assertAll(
+                () -> assertThat(even.expired()).isEqualTo(evenCount),
+                () -> assertThat(odd.expired()).isEqualTo(orders.size() - evenCount),
+                () -> assertThat(orders).allSatisfy(order -> assertThat(
+                        orderRepository.findById(order.getId()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED))
+        );
+    }
+}
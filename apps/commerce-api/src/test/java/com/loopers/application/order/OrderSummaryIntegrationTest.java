@@ -0,0 +1,104 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@DisplayName("주문 요약 목록 조회 통합 테스트")
+class OrderSummaryIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private Order saveOrder(String userId, int itemCount) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.create((long) (i + 1), "상품" + i, BigDecimal.valueOf(1000), 1));
+        }
+        return orderRepository.save(Order.create(userId, items, 0));
+    }
+
+    @Test
+    @DisplayName("커서를 넘기며 최신순으로 모든 주문을 중복 없이 조회한다")
+    void getOrderSummaries_keysetPaging_returnsAllOrdersOnce() {
+        // given
+        List<Long> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(saveOrder("user1", i + 1).getId());
+        }
+        saveOrder("user2", 1);
+
+        // when
+        List<Long> fetchedIds = new ArrayList<>();
+        OrderSummaryPage page = orderFacade.getOrderSummaries("user1", null, null, null, 2, false);
+        page.orders().forEach(o -> fetchedIds.add(o.orderId()));
+        while (page.hasNext()) {
+            page = orderFacade.getOrderSummaries("user1", null,
+                    page.nextCursorOrderedAt(), page.nextCursorOrderId(), 2, false);
+            page.orders().forEach(o -> fetchedIds.add(o.orderId()));
+        }
+
+        // then
+        assertThat(fetchedIds).containsExactlyElementsOf(savedIds.reversed());
+    }
+
+    @Test
+    @DisplayName("항목 개수는 함께 조회하고, 항목은 요청한 경우에만 채운다")
+    void getOrderSummaries_itemCountAndOptionalItems() {
+        // given
+        Order order = saveOrder("user1", 3);
+
+        // when
+        OrderSummaryPage withoutItems = orderFacade.getOrderSummaries("user1", OrderStatus.PENDING, null, null, 10, false);
+        OrderSummaryPage withItems = orderFacade.getOrderSummaries("user1", OrderStatus.PENDING, null, null, 10, true);
+
+        // then
+        assertAll(
+                () -> assertThat(withoutItems.orders()).hasSize(1),
+                () -> assertThat(withoutItems.orders().get(0).orderId()).isEqualTo(order.getId()),
+                () -> assertThat(withoutItems.orders().get(0).itemCount()).isEqualTo(3),
+                () -> assertThat(withoutItems.orders().get(0).items()).isEmpty(),
+                () -> assertThat(withItems.orders().get(0).items()).hasSize(3),
+                () -> assertThat(withoutItems.hasNext()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("상태로 필터링하면 해당 상태의 주문만 조회한다")
+    void getOrderSummaries_filterByStatus() {
+        // given
+        saveOrder("user1", 1);
+
+        // when
+        OrderSummaryPage page = orderFacade.getOrderSummaries("user1", OrderStatus.CANCELLED, null, null, 10, false);
+
+        // then
+        assertThat(page.orders()).isEmpty();
+    }
+}
@@ -19,11 +19,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -99,6 +102,42 @@ class PaymentFacadeIntegrationTest {
             );
         }
 
+        @DisplayName("PG 호출은 트랜잭션 밖에서 하고, PG 호출 중에도 PENDING 결제는 이미 커밋되어 있다.")
+        @Test
+        void callsPgOutsideTransaction_afterPendingPaymentCommitted() {
+            // arrange
+            String userId = "user123";
+            Order order = orderRepository.save(createOrder(userId, 1L, BigDecimal.valueOf(10000)));
+            Long orderId = order.getId();
+
+            AtomicBoolean transactionActiveDuringPgCall = new AtomicBoolean(true);
+            AtomicInteger committedPaymentsDuringPgCall = new AtomicInteger();
+            when(pgClientService.requestPayment(anyString(), any(PgClientDto.PaymentRequest.class)))
+                    .thenAnswer(invocation -> {
+                        transactionActiveDuringPgCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+                        committedPaymentsDuringPgCall.set(paymentRepository.findByOrderId(orderId).size());
+                        return new PgClient.ApiResponse<>(true, new PgClientDto.TransactionResponse(
+                                "20250101:TR:654321", PgClientDto.TransactionStatus.PENDING, null), null, null);
+                    });
+
+            PaymentCommand.RequestPayment command = new PaymentCommand.RequestPayment(
+                    userId, orderId, CardType.SAMSUNG, "1234-5678-9012-3456",
+                    BigDecimal.valueOf(10000), "http://localhost:8080/callback"
+            );
+
+            // act
+            PaymentInfo result = paymentFacade.requestPayment(command);
+
+            // assert
+            Payment saved = paymentRepository.findById(result.getId()).orElseThrow();
+            assertAll(
+                    () -> assertThat(transactionActiveDuringPgCall.get()).isFalse(),
+                    () -> assertThat(committedPaymentsDuringPgCall.get()).isEqualTo(1),
+                    () -> assertThat(saved.getPgTransactionKey()).isEqualTo("20250101:TR:654321"),
+                    () -> assertThat(saved.getStatus()).isEqualTo(PaymentStatus.PENDING)
+            );
+        }
+
         @DisplayName("존재하지 않는 주문에 대해 결제 요청하면, 예외가 발생한다.")
         @Test
         void throwsException_whenOrderDoesNotExist() {
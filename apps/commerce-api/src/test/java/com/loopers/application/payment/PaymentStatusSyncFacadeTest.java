@@ -0,0 +1,116 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.payment.client.PgClient;
+import com.loopers.infrastructure.payment.client.PgClientService;
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("결제 상태 일괄 동기화 Facade 테스트")
+class PaymentStatusSyncFacadeTest {
+
+    private PgClientService pgClientService;
+    private PaymentCallbackFacade paymentCallbackFacade;
+    private PaymentStatusSyncFacade paymentStatusSyncFacade;
+
+    @BeforeEach
+    void setUp() {
+        pgClientService = mock(PgClientService.class);
+        paymentCallbackFacade = mock(PaymentCallbackFacade.class);
+        paymentStatusSyncFacade = new PaymentStatusSyncFacade(pgClientService, paymentCallbackFacade);
+    }
+
+    @DisplayName("PG에서 최종 상태로 조회된 결제만 일괄 반영하고, 처리 중인 결제는 PENDING으로 남긴다")
+    @SuppressWarnings("unchecked")
+    @Test
+    void appliesOnlyFinalStatuses() {
+        // given
+        List<Payment> payments = payments(1, 3);
+        when(pgClientService.getTransactionStatuses(anyList())).thenReturn(new PgClient.ApiResponse<>(true,
+                new PgClientDto.TransactionStatusesResponse(List.of(
+                        new PgClientDto.TransactionResponse("TR:1", PgClientDto.TransactionStatus.SUCCESS, null),
+                        new PgClientDto.TransactionResponse("TR:2", PgClientDto.TransactionStatus.FAILED, "한도초과"),
+                        new PgClientDto.TransactionResponse("TR:3", PgClientDto.TransactionStatus.PENDING, null)
+                )), null, null));
+        when(paymentCallbackFacade.applyCallbacks(anyList()))
+                .thenReturn(new PaymentCallbackFacade.CallbackBatchResult(2, 0, List.of()));
+
+        // when
+        PaymentStatusSyncFacade.SyncBatchResult result = paymentStatusSyncFacade.syncPaymentStatuses(payments);
+
+        // then
+        ArgumentCaptor<List<PaymentCommand.UpdatePaymentStatus>> commands = ArgumentCaptor.forClass(List.class);
+        verify(paymentCallbackFacade).applyCallbacks(commands.capture());
+        assertAll(
+                () -> assertThat(result.resolved()).isEqualTo(2),
+                () -> assertThat(result.pending()).isEqualTo(1),
+                () -> assertThat(commands.getValue())
+                        .extracting(PaymentCommand.UpdatePaymentStatus::getPgTransactionKey)
+                        .containsExactly("TR:1", "TR:2")
+        );
+    }
+
+    @DisplayName("최대 일괄 조회 건수를 넘으면 나눠서 조회한다")
+    @Test
+    void splitsIntoChunks_whenExceedingBatchSize() {
+        // given
+        int count = PgClientService.MAX_STATUS_BATCH_SIZE + 1;
+        when(pgClientService.getTransactionStatuses(anyList())).thenReturn(new PgClient.ApiResponse<>(true,
+                new PgClientDto.TransactionStatusesResponse(List.of()), null, null));
+
+        // when
+        PaymentStatusSyncFacade.SyncBatchResult result = paymentStatusSyncFacade.syncPaymentStatuses(payments(1, count));
+
+        // then
+        assertThat(result.pending()).isEqualTo(count);
+        verify(pgClientService, times(2)).getTransactionStatuses(anyList());
+        verify(paymentCallbackFacade, never()).applyCallbacks(any());
+    }
+
+    @DisplayName("일괄 조회가 실패(Fallback)하면 모든 결제를 PENDING으로 남긴다")
+    @Test
+    void keepsPending_whenStatusQueryFails() {
+        // given
+        when(pgClientService.getTransactionStatuses(anyList())).thenReturn(new PgClient.ApiResponse<>(false,
+                new PgClientDto.TransactionStatusesResponse(List.of()), "FALLBACK", "PG 시스템 장애"));
+
+        // when
+        PaymentStatusSyncFacade.SyncBatchResult result = paymentStatusSyncFacade.syncPaymentStatuses(payments(1, 3));
+
+        // then
+        assertAll(
+                () -> assertThat(result.resolved()).isZero(),
+                () -> assertThat(result.pending()).isEqualTo(3)
+        );
+        verify(paymentCallbackFacade, never()).applyCallbacks(any());
+    }
+
+    private List<Payment> payments(long fromId, long toId) {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> Payment.reconstruct(
+                        id, "user1", id, "TR:" + id, CardType.SAMSUNG, "1234-****-****-3456",
+                        BigDecimal.valueOf(10000), PaymentStatus.PENDING, null, createdAt, createdAt))
+                .toList();
+    }
+}
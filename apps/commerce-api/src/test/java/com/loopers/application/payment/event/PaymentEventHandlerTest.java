@@ -0,0 +1,173 @@
+package com.loopers.application.payment.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.outbox.OutboxEventAppender;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@DisplayName("결제 이벤트 핸들러 테스트")
+class PaymentEventHandlerTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxEventAppender outboxEventAppender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private CouponService couponService;
+
+    // @Async 프록시를 거치지 않고 호출하기 위해 직접 생성한다
+    private PaymentEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        couponService = mock(CouponService.class);
+        handler = new PaymentEventHandler(orderRepository, couponService, outboxEventAppender, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("주문 한 건의 완료 처리가 실패하면 그 주문만 롤백되고, 나머지 주문은 완료된 채로 커밋된다")
+    void completeOrders_failureRollsBackOnlyThatOrder() {
+        // given
+        Order first = orderRepository.save(createOrder(null));
+        Order failing = orderRepository.save(createOrder(99L));
+        Order last = orderRepository.save(createOrder(null));
+        when(couponService.confirmCoupon(eq(99L), anyLong())).thenThrow(new IllegalStateException("쿠폰 확정 실패"));
+
+        // when
+        handler.completeOrders(new PaymentsCompletedEvent(List.of(
+                successEvent(first.getId()), successEvent(failing.getId()), successEvent(last.getId()))));
+
+        // then
+        assertAll(
+                () -> assertThat(orderRepository.findById(first.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(orderRepository.findById(failing.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.PENDING),
+                () -> assertThat(orderRepository.findById(last.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.COMPLETED)
+        );
+    }
+
+    @Test
+    @DisplayName("결제가 실패했거나 찾을 수 없는 주문은 건너뛰고 나머지 주문을 완료 처리한다")
+    void completeOrders_skipsFailedPaymentsAndMissingOrders() {
+        // given
+        Order paid = orderRepository.save(createOrder(null));
+        Order unpaid = orderRepository.save(createOrder(null));
+
+        // when
+        handler.completeOrders(new PaymentsCompletedEvent(List.of(
+                successEvent(paid.getId()),
+                new PaymentCompletedEvent(2L, "user1", unpaid.getId(), BigDecimal.valueOf(10000),
+                        PaymentStatus.FAILED, "TR-2", LocalDateTime.now(), List.of()),
+                successEvent(-1L))));
+
+        // then
+        assertAll(
+                () -> assertThat(orderRepository.findById(paid.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.COMPLETED),
+                () -> assertThat(orderRepository.findById(unpaid.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.PENDING)
+        );
+    }
+
+    @Test
+    @DisplayName("결제가 성공한 주문의 상품별 수량을 아웃박스 이벤트에 담고, 결제 전에 취소된 주문과 실패한 결제는 비워 둔다")
+    void appendToOutbox_includesItemsOfPaidOrders() throws Exception {
+        // given
+        Order paid = orderRepository.save(createOrder(null, OrderStatus.PENDING));
+        Order cancelled = orderRepository.save(createOrder(null, OrderStatus.CANCELLED));
+        Order unpaid = orderRepository.save(createOrder(null, OrderStatus.PENDING));
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                handler.appendToOutbox(new PaymentsCompletedEvent(List.of(
+                        successEvent(paid.getId()),
+                        successEvent(cancelled.getId()),
+                        new PaymentCompletedEvent(3L, "user1", unpaid.getId(), BigDecimal.valueOf(10000),
+                                PaymentStatus.FAILED, "TR-3", LocalDateTime.now(), List.of())))));
+
+        // then
+        List<String> payloads = jdbcTemplate.queryForList(
+                "SELECT payload FROM outbox_events ORDER BY id", String.class);
+        JsonNode paidItems = objectMapper.readTree(payloads.get(0)).get("items");
+        assertAll(
+                () -> assertThat(payloads).hasSize(3),
+                () -> assertThat(paidItems).hasSize(1),
+                () -> assertThat(paidItems.get(0).get("productId").asLong()).isEqualTo(1L),
+                () -> assertThat(paidItems.get(0).get("quantity").asInt()).isEqualTo(2),
+                () -> assertThat(objectMapper.readTree(payloads.get(1)).get("items")).isEmpty(),
+                () -> assertThat(objectMapper.readTree(payloads.get(2)).get("items")).isEmpty()
+        );
+    }
+
+    private PaymentCompletedEvent successEvent(Long orderId) {
+        return new PaymentCompletedEvent(orderId, "user1", orderId, BigDecimal.valueOf(10000),
+                PaymentStatus.SUCCESS, "TR-" + orderId, LocalDateTime.now(), List.of());
+    }
+
+    private Order createOrder(Long couponId) {
+        return createOrder(couponId, OrderStatus.PENDING);
+    }
+
+    private Order createOrder(Long couponId, OrderStatus status) {
+        return Order.reconstruct(
+                null,
+                "user1",
+                List.of(OrderItem.create(1L, "테스트 상품", BigDecimal.valueOf(5000), 2)),
+                BigDecimal.valueOf(10000),
+                BigDecimal.ZERO, // couponDiscount
+                0, // usedPoints
+                BigDecimal.valueOf(10000), // finalAmount
+                couponId,
+                status,
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+}
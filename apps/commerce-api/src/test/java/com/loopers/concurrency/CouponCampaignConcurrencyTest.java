@@ -0,0 +1,146 @@
+package com.loopers.concurrency;
+
+import com.loopers.application.coupon.CouponCampaignFacade;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponCampaign;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.infrastructure.coupon.CouponEntity;
+import com.loopers.infrastructure.coupon.CouponJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 선착순 쿠폰 발급 부하 테스트
+ * - 발급 수량보다 훨씬 많은 요청이 동시에 몰려도 수량을 초과해 발급되지 않아야 한다.
+ * - 같은 사용자의 중복 요청은 한 번만 당첨되어야 한다.
+ */
+@SpringBootTest
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class})
+@DisplayName("선착순 쿠폰 발급 동시성 테스트")
+class CouponCampaignConcurrencyTest {
+
+    @Autowired
+    private CouponCampaignFacade couponCampaignFacade;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("5,000명이 두 번씩 동시에 요청해도 1,000장만 발급되고, 사용자당 한 장씩 저장된다")
+    @Test
+    void noOverIssuance_underHighConcurrency() throws InterruptedException {
+        // given
+        int quantity = 1_000;
+        int userCount = 5_000;
+        int attemptsPerUser = 2;
+
+        LocalDateTime now = LocalDateTime.now();
+        CouponCampaign campaign = couponCampaignFacade.createCampaign(
+                "선착순 1000명", CouponType.FIXED, BigDecimal.valueOf(3000), quantity,
+                now.minusMinutes(1), now.plusHours(1), now.plusDays(7));
+
+        int requestCount = userCount * attemptsPerUser;
+        ExecutorService executor = Executors.newFixedThreadPool(200);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+        AtomicInteger issued = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger duplicate = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < requestCount; i++) {
+            String userId = "user" + (i % userCount);
+            executor.submit(() -> {
+                try {
+                    ready.await();
+                    couponCampaignFacade.issue(campaign.getId(), userId);
+                    issued.incrementAndGet();
+                } catch (CoreException e) {
+                    if (e.getErrorType() == ErrorType.CONFLICT) {
+                        duplicate.incrementAndGet();
+                    } else {
+                        soldOut.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.countDown();
+        done.await();
+        executor.shutdown();
+
+        // 대기열의 당첨자를 모두 저장
+        while (couponCampaignFacade.persistWinners(campaign.getId(), 300) > 0) {
+        }
+
+        // then
+        List<CouponEntity> coupons = couponJpaRepository.findAll();
+
+        assertAll(
+                () -> assertThat(issued.get()).isEqualTo(quantity),
+                () -> assertThat(issued.get() + soldOut.get() + duplicate.get()).isEqualTo(requestCount),
+                () -> assertThat(couponCampaignFacade.getRemainingQuantity(campaign.getId())).isZero(),
+                () -> assertThat(coupons).hasSize(quantity),
+                () -> assertThat(coupons).extracting(CouponEntity::getUserId).doesNotHaveDuplicates(),
+                () -> assertThat(couponJpaRepository.countByCampaignId(campaign.getId())).isEqualTo(quantity)
+        );
+    }
+
+    @DisplayName("저장 후 대기열 제거 전에 장애가 나 같은 당첨자를 다시 저장해도, 쿠폰은 중복 저장되지 않는다")
+    @Test
+    void saveAllForCampaign_isIdempotent() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        CouponCampaign campaign = couponCampaignFacade.createCampaign(
+                "재처리 테스트", CouponType.FIXED, BigDecimal.valueOf(1000), 10,
+                now.minusMinutes(1), now.plusHours(1), now.plusDays(7));
+        List<Coupon> coupons = List.of(campaign.issueTo("user1"), campaign.issueTo("user2"));
+
+        // when
+        couponRepository.saveAllForCampaign(campaign.getId(), coupons);
+        couponRepository.saveAllForCampaign(campaign.getId(), coupons);
+
+        // then
+        assertThat(couponRepository.countByCampaignId(campaign.getId())).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,161 @@
+package com.loopers.concurrency;
+
+import com.loopers.application.order.CreateOrderCommand;
+import com.loopers.application.order.OrderFacade;
+import com.loopers.application.order.OrderResponse;
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponStatus;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.coupon.CouponEntity;
+import com.loopers.infrastructure.coupon.CouponJpaRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 주문 쿠폰 예약 동시성 테스트
+ * - 같은 쿠폰으로 동시에 주문해도 조건부 업데이트에 성공한 한 주문만 생성되어야 한다.
+ * - 주문 경로에서 쿠폰 행에 비관적 락을 잡지 않아야 한다.
+ */
+@SpringBootTest
+@Import({MySqlTestContainersConfig.class, RedisTestContainersConfig.class})
+@DisplayName("주문 쿠폰 예약 동시성 테스트")
+class CouponReservationConcurrencyTest {
+
+    private static final String USER_ID = "user1";
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @MockitoSpyBean
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Long productId;
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = productRepository.save(Product.reconstitute(
+                null, "쿠폰 테스트 상품", "설명", new BigDecimal("10000"), 100,
+                null, 1L, ProductStatus.ACTIVE, 0, LocalDateTime.now(), LocalDateTime.now()));
+        productId = product.getId();
+
+        Coupon coupon = couponRepository.save(Coupon.issue(
+                USER_ID, "예약 테스트 쿠폰", CouponType.FIXED, BigDecimal.valueOf(1000), LocalDateTime.now().plusDays(7)));
+        couponId = coupon.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("같은 쿠폰으로 동시에 주문하면 한 주문만 생성되고, 쿠폰 행 락은 한 번도 잡지 않는다")
+    @Test
+    void singleReservation_withoutRowLock() throws InterruptedException {
+        // given
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+        Queue<Long> orderIds = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    OrderResponse response = orderFacade.createOrder(new CreateOrderCommand(
+                            USER_ID, List.of(new OrderService.OrderItemRequest(productId, 1)), 0, couponId));
+                    orderIds.add(response.getOrderId());
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executor.shutdown();
+
+        // then
+        CouponEntity coupon = couponJpaRepository.findById(couponId).orElseThrow();
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(1),
+                () -> assertThat(failCount.get()).isEqualTo(threadCount - 1),
+                () -> assertThat(orderJpaRepository.count()).isEqualTo(1),
+                () -> assertThat(coupon.getStatus()).isEqualTo(CouponStatus.RESERVED),
+                () -> assertThat(coupon.getOrderId()).isEqualTo(orderIds.peek()),
+                () -> assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(99)
+        );
+        verify(couponRepository, never()).findByIdWithLock(any());
+    }
+
+    @DisplayName("주문을 취소하면 예약된 쿠폰이 다시 사용 가능해진다")
+    @Test
+    void cancelOrder_releasesReservation() {
+        // given
+        OrderResponse order = orderFacade.createOrder(new CreateOrderCommand(
+                USER_ID, List.of(new OrderService.OrderItemRequest(productId, 1)), 0, couponId));
+
+        // when
+        orderFacade.cancelOrder(order.getOrderId(), USER_ID);
+
+        // then
+        CouponEntity coupon = couponJpaRepository.findById(couponId).orElseThrow();
+        assertAll(
+                () -> assertThat(coupon.getStatus()).isEqualTo(CouponStatus.AVAILABLE),
+                () -> assertThat(coupon.getOrderId()).isNull(),
+                () -> assertThat(coupon.getIsUsed()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.loopers.domain.coupon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("쿠폰 캠페인 도메인 단위 테스트")
+class CouponCampaignTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @DisplayName("정상적인 값으로 캠페인을 생성하면, 당첨자에게 캠페인 조건의 쿠폰을 발급한다")
+    @Test
+    void create_and_issueTo() {
+        // given
+        CouponCampaign campaign = CouponCampaign.create(
+                "선착순 3000원", CouponType.FIXED, BigDecimal.valueOf(3000), 1000,
+                now, now.plusHours(1), now.plusDays(7));
+
+        // when
+        Coupon coupon = campaign.issueTo("user1");
+
+        // then
+        assertAll(
+                () -> assertThat(coupon.getUserId()).isEqualTo("user1"),
+                () -> assertThat(coupon.getCouponName()).isEqualTo("선착순 3000원"),
+                () -> assertThat(coupon.getDiscountValue()).isEqualByComparingTo(BigDecimal.valueOf(3000)),
+                () -> assertThat(coupon.getExpiresAt()).isEqualTo(now.plusDays(7)),
+                () -> assertThat(coupon.isUsed()).isFalse()
+        );
+    }
+
+    @DisplayName("발급 수량이 0 이하이면 예외가 발생한다")
+    @Test
+    void create_withNonPositiveQuantity_fails() {
+        assertThatThrownBy(() -> CouponCampaign.create(
+                "캠페인", CouponType.FIXED, BigDecimal.valueOf(1000), 0,
+                now, now.plusHours(1), now.plusDays(7)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("발급 수량은 0보다 커야 합니다");
+    }
+
+    @DisplayName("발급 종료 시각이 시작 시각보다 빠르면 예외가 발생한다")
+    @Test
+    void create_withInvalidPeriod_fails() {
+        assertThatThrownBy(() -> CouponCampaign.create(
+                "캠페인", CouponType.FIXED, BigDecimal.valueOf(1000), 10,
+                now, now.minusHours(1), now.plusDays(7)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("발급 종료 시각은 시작 시각 이후여야 합니다");
+    }
+
+    @DisplayName("쿠폰 만료 시각이 발급 종료 시각보다 빠르면 예외가 발생한다")
+    @Test
+    void create_withCouponExpiringBeforeEnd_fails() {
+        assertThatThrownBy(() -> CouponCampaign.create(
+                "캠페인", CouponType.FIXED, BigDecimal.valueOf(1000), 10,
+                now, now.plusDays(2), now.plusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("쿠폰 만료 시각은 발급 종료 시각 이후여야 합니다");
+    }
+}
@@ -0,0 +1,88 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.error.CoreException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("CouponService 테스트")
+class CouponServiceTest {
+
+    private CouponService couponService;
+
+    @BeforeEach
+    void setUp() {
+        couponService = new CouponService(mock(CouponRepository.class));
+    }
+
+    @Nested
+    @DisplayName("쿠폰별 할인 금액 평가")
+    class EvaluateDiscounts {
+
+        @Test
+        @DisplayName("성공 - 할인 금액이 큰 순으로 정렬하고, 같으면 만료가 임박한 쿠폰을 먼저 둔다")
+        void evaluateDiscounts_sortedByDiscount() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Coupon fixed3000 = coupon(1L, CouponType.FIXED, "3000", CouponStatus.AVAILABLE, now.plusDays(7));
+            Coupon rate10 = coupon(2L, CouponType.RATE, "10", CouponStatus.AVAILABLE, now.plusDays(7));
+            Coupon fixed5000Late = coupon(3L, CouponType.FIXED, "5000", CouponStatus.AVAILABLE, now.plusDays(30));
+            Coupon fixed5000Soon = coupon(4L, CouponType.FIXED, "5000", CouponStatus.AVAILABLE, now.plusDays(1));
+
+            // when
+            List<CouponDiscount> result = couponService.evaluateDiscounts(
+                    List.of(fixed3000, rate10, fixed5000Late, fixed5000Soon), new BigDecimal("40000"));
+
+            // then
+            assertThat(result).extracting(discount -> discount.coupon().getId())
+                    .containsExactly(4L, 3L, 2L, 1L);
+            assertThat(result.get(2).discountAmount()).isEqualByComparingTo("4000");
+        }
+
+        @Test
+        @DisplayName("성공 - 예약/사용된 쿠폰은 후보에서 제외한다")
+        void evaluateDiscounts_excludesUnusable() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Coupon reserved = coupon(1L, CouponType.FIXED, "5000", CouponStatus.RESERVED, now.plusDays(7));
+            Coupon available = coupon(2L, CouponType.FIXED, "1000", CouponStatus.AVAILABLE, now.plusDays(7));
+
+            // when
+            List<CouponDiscount> result = couponService.evaluateDiscounts(List.of(reserved, available), new BigDecimal("10000"));
+
+            // then
+            assertThat(result).extracting(discount -> discount.coupon().getId()).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("실패 - 주문 금액이 0 이하이면 예외가 발생한다")
+        void evaluateDiscounts_invalidAmount() {
+            assertThatThrownBy(() -> couponService.evaluateDiscounts(List.of(), BigDecimal.ZERO))
+                    .isInstanceOf(CoreException.class);
+        }
+    }
+
+    private Coupon coupon(Long id, CouponType type, String value, CouponStatus status, LocalDateTime expiresAt) {
+        return Coupon.reconstruct(
+                id,
+                "user1",
+                "쿠폰" + id,
+                type,
+                new BigDecimal(value),
+                status == CouponStatus.USED,
+                status,
+                null,
+                LocalDateTime.now(),
+                expiresAt
+        );
+    }
+}
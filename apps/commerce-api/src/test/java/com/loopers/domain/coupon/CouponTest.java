@@ -117,10 +117,37 @@ class CouponTest {
             // then
             assertAll(
                     () -> assertThat(coupon.isUsed()).isTrue(),
+                    () -> assertThat(coupon.getStatus()).isEqualTo(CouponStatus.USED),
                     () -> assertThat(coupon.getUsedAt()).isNotNull()
             );
         }
 
+        @DisplayName("주문에 예약된 쿠폰은 사용할 수 없다")
+        @Test
+        void useCoupon_withReservedCoupon_throwsException() {
+            // given
+            Coupon coupon = Coupon.reconstruct(
+                    1L,
+                    "user1",
+                    "테스트 쿠폰",
+                    CouponType.FIXED,
+                    BigDecimal.valueOf(1000),
+                    false,
+                    CouponStatus.RESERVED,
+                    null,
+                    LocalDateTime.now(),
+                    LocalDateTime.now().plusDays(7)
+            );
+
+            // when & then
+            assertAll(
+                    () -> assertThat(coupon.canUse()).isFalse(),
+                    () -> assertThatThrownBy(coupon::use)
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("사용할 수 없는 쿠폰입니다")
+            );
+        }
+
         @DisplayName("이미 사용된 쿠폰을 사용하려고 하면 예외가 발생한다")
         @Test
         void useCoupon_withUsedCoupon_throwsException() {
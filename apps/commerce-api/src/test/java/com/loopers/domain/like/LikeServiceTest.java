@@ -511,5 +511,10 @@ class LikeServiceTest {
         public void deleteById(Long productId) {
             storage.remove(productId);
         }
+
+        @Override
+        public void increaseStocks(Map<Long, Integer> quantitiesByProductId) {
+            quantitiesByProductId.forEach((productId, quantity) -> storage.get(productId).increaseStock(quantity));
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductStatus;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +33,7 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
     private OrderService orderService;
     private PointService pointService;
+    private CouponService couponService;
 
     @BeforeEach
     void setUp() {
@@ -37,7 +41,8 @@ class OrderServiceTest {
         userRepository = mock(UserRepository.class);
         orderRepository = mock(OrderRepository.class);
         pointService = mock(PointService.class);
-        orderService = new OrderService(productRepository, userRepository, orderRepository, pointService);
+        couponService = mock(CouponService.class);
+        orderService = new OrderService(productRepository, userRepository, orderRepository, pointService, couponService);
     }
 
     @Nested
@@ -196,11 +201,6 @@ class OrderServiceTest {
             String userId = "user123";
             Long orderId = 1L;
 
-            User user = User.create(userId, "test@example.com", "1990-01-01", "MALE");
-
-            Product product = createProduct(1L, "상품1", new BigDecimal("10000"), 98);
-            // 주문 시 재고가 100 -> 98로 차감됨
-
             var orderItems = Collections.singletonList(
                     OrderItem.create(1L, "상품1", new BigDecimal("10000"), 2)
             );
@@ -219,8 +219,7 @@ class OrderServiceTest {
             );
 
             when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+            when(orderRepository.cancelAll(List.of(orderId))).thenReturn(1);
 
             // when
             orderService.cancelOrder(orderId, userId);
@@ -228,15 +227,33 @@ class OrderServiceTest {
             // then
             assertThat(order.isCancelled()).isTrue();
 
-            // 재고 복구 확인 (98 + 2 = 100)
-            verify(productRepository, times(1)).save(product);
-            assertThat(product.getStock()).isEqualTo(100);
+            // 재고 복구 확인: 상품을 조회/저장하지 않고 delta 배치 업데이트
+            verify(productRepository).increaseStocks(Map.of(1L, 2));
+            verify(productRepository, never()).findById(any());
+            verify(productRepository, never()).save(any(Product.class));
 
-            // 포인트 복구 확인: PointService 사용
-            verify(pointService).refund(userId, 1000L);
+            // 포인트 복구 확인: 단일 delta 업데이트
+            verify(pointService).refundAll(Map.of(userId, 1000L));
 
-            // 주문 저장 확인
-            verify(orderRepository).save(order);
+            // 주문 상태 조건부 업데이트 확인
+            verify(orderRepository).cancelAll(List.of(orderId));
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 취소된 주문은 다시 복구하지 않는다")
+        void cancelOrder_AlreadyCancelled() {
+            // given
+            Order order = createOrder(1L, "user123", OrderStatus.CANCELLED, 1000,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 2));
+            when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+
+            // when
+            orderService.cancelOrder(1L, "user123");
+
+            // then
+            verify(orderRepository, never()).cancelAll(any());
+            verify(productRepository, never()).increaseStocks(any());
+            verify(pointService, never()).refundAll(any());
         }
 
         @Test
@@ -361,8 +378,94 @@ class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 일괄 취소")
+    class CancelOrders {
+
+        @Test
+        @DisplayName("성공 - PENDING 주문만 취소하고 재고/포인트를 합산해 한 번에 복구한다")
+        void cancelOrders_Success() {
+            // given
+            Order order1 = createOrder(1L, "user1", OrderStatus.PENDING, 500,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 2),
+                    OrderItem.create(2L, "상품2", new BigDecimal("5000"), 1));
+            Order order2 = createOrder(2L, "user1", OrderStatus.PENDING, 300,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 3));
+            Order completed = createOrder(3L, "user2", OrderStatus.COMPLETED, 1000,
+                    OrderItem.create(2L, "상품2", new BigDecimal("5000"), 1));
+
+            when(orderRepository.cancelAll(List.of(1L, 2L))).thenReturn(2);
+
+            // when
+            var cancelled = orderService.cancelOrders(List.of(order1, order2, completed));
+
+            // then
+            assertThat(cancelled).containsExactly(order1, order2);
+            assertThat(order1.isCancelled()).isTrue();
+            assertThat(completed.isCompleted()).isTrue();
+            verify(productRepository).increaseStocks(Map.of(1L, 5, 2L, 1));
+            verify(pointService).refundAll(Map.of("user1", 800L));
+            verify(productRepository, never()).save(any(Product.class));
+            verify(couponService, never()).releaseCoupons(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 쿠폰을 사용한 주문만 모아 쿠폰 예약을 한 번에 해제한다")
+        void cancelOrders_ReleasesReservedCoupons() {
+            // given
+            Order withCoupon = createOrder(1L, "user1", OrderStatus.PENDING, 0, 10L,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 1));
+            Order withoutCoupon = createOrder(2L, "user2", OrderStatus.PENDING, 0,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 1));
+            when(orderRepository.cancelAll(List.of(1L, 2L))).thenReturn(2);
+
+            // when
+            orderService.cancelOrders(List.of(withCoupon, withoutCoupon));
+
+            // then
+            verify(couponService).releaseCoupons(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 요청이 먼저 상태를 바꾸면 예외가 발생한다")
+        void cancelOrders_ConcurrentlyChanged() {
+            // given
+            Order order = createOrder(1L, "user1", OrderStatus.PENDING, 0,
+                    OrderItem.create(1L, "상품1", new BigDecimal("10000"), 1));
+            when(orderRepository.cancelAll(List.of(1L))).thenReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> orderService.cancelOrders(List.of(order)))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(productRepository, never()).increaseStocks(any());
+        }
+    }
+
     // === Helper Methods ===
 
+    private Order createOrder(Long id, String userId, OrderStatus status, int usedPoints, OrderItem... items) {
+        return createOrder(id, userId, status, usedPoints, null, items);
+    }
+
+    private Order createOrder(Long id, String userId, OrderStatus status, int usedPoints, Long couponId, OrderItem... items) {
+        BigDecimal total = Arrays.stream(items)
+                .map(OrderItem::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Order.reconstruct(
+                id,
+                userId,
+                Arrays.asList(items),
+                total,
+                BigDecimal.ZERO,
+                usedPoints,
+                total.subtract(BigDecimal.valueOf(usedPoints)),
+                couponId,
+                status,
+                null,
+                null
+        );
+    }
+
     private Product createProduct(Long id, String name, BigDecimal price, int stock) {
         return Product.reconstitute(
                 id,
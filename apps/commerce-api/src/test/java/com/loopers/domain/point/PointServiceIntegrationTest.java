@@ -1,6 +1,9 @@
 package com.loopers.domain.point;
 
+import com.loopers.domain.user.User;
 import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.support.error.CoreException;
 import com.loopers.testcontainers.MySqlTestContainersConfig;
 import com.loopers.utils.DatabaseCleanUp;
 import org.junit.jupiter.api.AfterEach;
@@ -12,7 +15,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -37,6 +43,9 @@ class PointServiceIntegrationTest {
     @Autowired
     private PointJpaRepository pointJpaRepository;
 
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
     @Autowired
     private DatabaseCleanUp databaseCleanUp;
 
@@ -89,4 +98,69 @@ class PointServiceIntegrationTest {
             verify(pointRepository, times(1)).findByUserId(nonExistentUserId);
         }
     }
+
+    @DisplayName("포인트 원장 기록 시,")
+    @Nested
+    class Ledger {
+
+        @DisplayName("충전/사용/환불마다 원장에 한 행씩 쌓이고, 거래 직후 잔액이 함께 기록된다.")
+        @Test
+        void should_append_transaction_with_balance_after() {
+            // given
+            String userId = "ledger1";
+            userJpaRepository.save(User.create(userId, "ledger1@example.com", "1990-01-01", "MALE"));
+
+            // when
+            pointService.charge(userId, 1000L);
+            pointService.consume(userId, 300L);
+            pointService.refund(userId, 100L);
+
+            // then
+            List<PointTransaction> transactions = pointService.getTransactions(userId, null, 10);
+            assertAll(
+                    () -> assertThat(pointService.getPointByUserId(userId).getAmount()).isEqualTo(800L),
+                    () -> assertThat(transactions).extracting(PointTransaction::getType)
+                            .containsExactly(PointTransactionType.REFUND, PointTransactionType.USE, PointTransactionType.CHARGE),
+                    () -> assertThat(transactions).extracting(PointTransaction::getBalanceAfter)
+                            .containsExactly(800L, 700L, 1000L)
+            );
+        }
+
+        @DisplayName("잔액이 부족하면 차감되지 않고 원장에도 기록되지 않는다.")
+        @Test
+        void should_not_append_when_insufficient() {
+            // given
+            String userId = "ledger2";
+            userJpaRepository.save(User.create(userId, "ledger2@example.com", "1990-01-01", "MALE"));
+            pointService.charge(userId, 100L);
+
+            // when & then
+            assertThatThrownBy(() -> pointService.consume(userId, 300L))
+                    .isInstanceOf(CoreException.class)
+                    .hasMessage("포인트가 부족합니다.");
+            assertAll(
+                    () -> assertThat(pointService.getPointByUserId(userId).getAmount()).isEqualTo(100L),
+                    () -> assertThat(pointService.getTransactions(userId, null, 10)).hasSize(1)
+            );
+        }
+
+        @DisplayName("커서 이후의 이력만 최신순으로 조회된다.")
+        @Test
+        void should_page_by_cursor() {
+            // given
+            String userId = "ledger3";
+            userJpaRepository.save(User.create(userId, "ledger3@example.com", "1990-01-01", "MALE"));
+            for (int i = 0; i < 5; i++) {
+                pointService.charge(userId, 10L);
+            }
+            List<PointTransaction> firstPage = pointService.getTransactions(userId, null, 2);
+
+            // when
+            List<PointTransaction> secondPage = pointService.getTransactions(userId, firstPage.get(1).getId(), 2);
+
+            // then
+            assertThat(secondPage).extracting(PointTransaction::getBalanceAfter)
+                    .containsExactly(30L, 20L);
+        }
+    }
 }
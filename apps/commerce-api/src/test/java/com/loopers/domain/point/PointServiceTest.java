@@ -2,31 +2,78 @@ package com.loopers.domain.point;
 
 import com.loopers.domain.user.UserRepository;
 import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-@DisplayName("PointService 단위 테스트 - 차감/환불")
+@DisplayName("PointService 단위 테스트 - 충전/차감/환불")
 class PointServiceTest {
 
     private PointRepository pointRepository;
+    private PointTransactionRepository pointTransactionRepository;
     private UserRepository userRepository;
     private PointService pointService;
 
     @BeforeEach
     void setUp() {
         pointRepository = mock(PointRepository.class);
+        pointTransactionRepository = mock(PointTransactionRepository.class);
         userRepository = mock(UserRepository.class);
-        pointService = new PointService(pointRepository, userRepository);
+        pointService = new PointService(pointRepository, pointTransactionRepository, userRepository);
+    }
+
+    @Nested
+    @DisplayName("포인트 충전(charge)")
+    class Charge {
+
+        @Test
+        @DisplayName("성공 - 조건부 UPDATE 후 원장에 기록하고 충전 후 포인트를 반환")
+        void charge_success() {
+            // given
+            String userId = "user1";
+            when(pointRepository.increaseAmount(userId, 500L)).thenReturn(true);
+            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 1500L)));
+
+            // when
+            Point result = pointService.charge(userId, 500L);
+
+            // then
+            assertThat(result.getAmount()).isEqualTo(1500L);
+            verify(pointTransactionRepository).append(eq(userId), eq(PointTransactionType.CHARGE), eq(500L), any(LocalDateTime.class));
+            verify(userRepository, never()).existsById(anyString());
+            verify(pointRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("성공 - 포인트 행이 없으면 사용자 확인 후 생성")
+        void charge_first_time() {
+            // given
+            String userId = "user2";
+            when(pointRepository.increaseAmount(userId, 500L)).thenReturn(false);
+            when(userRepository.existsById(userId)).thenReturn(true);
+            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 500L)));
+
+            // when
+            Point result = pointService.charge(userId, 500L);
+
+            // then
+            assertThat(result.getAmount()).isEqualTo(500L);
+            verify(pointRepository).increaseOrCreate(userId, 500L);
+        }
     }
 
     @Nested
@@ -34,20 +81,20 @@ class PointServiceTest {
     class Consume {
 
         @Test
-        @DisplayName("성공 - 보유 포인트에서 차감")
+        @DisplayName("성공 - 조건부 UPDATE 한 번과 원장 기록 한 번으로 차감")
         void consume_success() {
             // given
             String userId = "user1";
-            when(userRepository.existsById(userId)).thenReturn(true);
-            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 1000L)));
-            when(pointRepository.save(any(Point.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(pointRepository.decreaseAmount(userId, 300L)).thenReturn(true);
 
             // when
-            Point result = pointService.consume(userId, 300L);
+            pointService.consume(userId, 300L);
 
             // then
-            assertThat(result.getAmount()).isEqualTo(700L);
-            verify(pointRepository).save(argThat(p -> p.getAmount().equals(700L)));
+            verify(pointTransactionRepository).append(eq(userId), eq(PointTransactionType.USE), eq(300L), any(LocalDateTime.class));
+            verify(userRepository, never()).existsById(anyString());
+            verify(pointRepository, never()).findByUserId(anyString());
+            verify(pointRepository, never()).save(any());
         }
 
         @Test
@@ -55,14 +102,14 @@ class PointServiceTest {
         void consume_insufficient() {
             // given
             String userId = "user2";
+            when(pointRepository.decreaseAmount(userId, 300L)).thenReturn(false);
             when(userRepository.existsById(userId)).thenReturn(true);
-            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 100L)));
 
             // when & then
             assertThatThrownBy(() -> pointService.consume(userId, 300L))
                     .isInstanceOf(CoreException.class)
                     .hasMessage("포인트가 부족합니다.");
-            verify(pointRepository, never()).save(any());
+            verify(pointTransactionRepository, never()).append(anyString(), any(), anyLong(), any());
         }
 
         @Test
@@ -70,8 +117,6 @@ class PointServiceTest {
         void consume_invalid_amount() {
             // given
             String userId = "user3";
-            when(userRepository.existsById(userId)).thenReturn(true);
-            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 1000L)));
 
             // when & then
             assertThatThrownBy(() -> pointService.consume(userId, 0L))
@@ -81,6 +126,7 @@ class PointServiceTest {
             assertThatThrownBy(() -> pointService.consume(userId, -10L))
                     .isInstanceOf(CoreException.class)
                     .hasMessage("차감할 포인트는 0보다 커야 합니다.");
+            verify(pointRepository, never()).decreaseAmount(anyString(), anyLong());
         }
 
         @Test
@@ -88,12 +134,14 @@ class PointServiceTest {
         void consume_user_not_found() {
             // given
             String userId = "unknown";
+            when(pointRepository.decreaseAmount(userId, 100L)).thenReturn(false);
             when(userRepository.existsById(userId)).thenReturn(false);
 
             // when & then
             assertThatThrownBy(() -> pointService.consume(userId, 100L))
                     .isInstanceOf(CoreException.class)
-                    .hasMessageContaining("존재하지 않는 사용자입니다");
+                    .hasMessageContaining("존재하지 않는 사용자입니다")
+                    .extracting("errorType").isEqualTo(ErrorType.NOT_FOUND);
         }
     }
 
@@ -102,20 +150,18 @@ class PointServiceTest {
     class Refund {
 
         @Test
-        @DisplayName("성공 - 보유 포인트에 추가")
+        @DisplayName("성공 - 보유 포인트에 추가하고 원장에 기록")
         void refund_success() {
             // given
             String userId = "user4";
-            when(userRepository.existsById(userId)).thenReturn(true);
-            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 100L)));
-            when(pointRepository.save(any(Point.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(pointRepository.increaseAmount(userId, 50L)).thenReturn(true);
 
             // when
-            Point result = pointService.refund(userId, 50L);
+            pointService.refund(userId, 50L);
 
             // then
-            assertThat(result.getAmount()).isEqualTo(150L);
-            verify(pointRepository).save(argThat(p -> p.getAmount().equals(150L)));
+            verify(pointTransactionRepository).append(eq(userId), eq(PointTransactionType.REFUND), eq(50L), any(LocalDateTime.class));
+            verify(pointRepository, never()).save(any());
         }
 
         @Test
@@ -123,8 +169,6 @@ class PointServiceTest {
         void refund_invalid_amount() {
             // given
             String userId = "user5";
-            when(userRepository.existsById(userId)).thenReturn(true);
-            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(Point.create(userId, 0L)));
 
             // when & then
             assertThatThrownBy(() -> pointService.refund(userId, 0L))
@@ -137,12 +181,25 @@ class PointServiceTest {
         void refund_user_not_found() {
             // given
             String userId = "unknown";
+            when(pointRepository.increaseAmount(userId, 100L)).thenReturn(false);
             when(userRepository.existsById(userId)).thenReturn(false);
 
             // when & then
             assertThatThrownBy(() -> pointService.refund(userId, 100L))
                     .isInstanceOf(CoreException.class)
                     .hasMessageContaining("존재하지 않는 사용자입니다");
+            verify(pointRepository, never()).increaseOrCreate(anyString(), anyLong());
+        }
+
+        @Test
+        @DisplayName("일괄 환불 - 0 이하 금액은 제외하고 원장에도 함께 기록")
+        void refundAll_filters_non_positive() {
+            // when
+            pointService.refundAll(Map.of("user1", 100L, "user2", 0L));
+
+            // then
+            verify(pointRepository).increaseOrCreateAll(Map.of("user1", 100L));
+            verify(pointTransactionRepository).appendAll(eq(Map.of("user1", 100L)), eq(PointTransactionType.REFUND), any(LocalDateTime.class));
         }
     }
 }
@@ -17,17 +17,32 @@ class PointTest {
         @DisplayName("0 이하의 정수로 포인트를 충전 시 실패한다.")
         @Test
         void should_fail_when_charge_amount_is_zero_or_negative() {
-            // given
-            Point point = Point.create("testuser1", 1000L);
-
             // when & then
-            assertThatThrownBy(() -> point.add(0L))
+            assertThatThrownBy(() -> Point.validateIncreaseAmount(0L))
                     .isInstanceOf(CoreException.class)
                     .hasMessage("추가할 포인트는 0보다 커야 합니다.");
 
-            assertThatThrownBy(() -> point.add(-100L))
+            assertThatThrownBy(() -> Point.validateIncreaseAmount(-100L))
                     .isInstanceOf(CoreException.class)
                     .hasMessage("추가할 포인트는 0보다 커야 합니다.");
         }
     }
+
+    @DisplayName("포인트 사용")
+    @Nested
+    class Use {
+
+        @DisplayName("0 이하의 정수로 포인트를 차감하면 실패한다.")
+        @Test
+        void should_fail_when_use_amount_is_zero_or_negative() {
+            // when & then
+            assertThatThrownBy(() -> Point.validateDecreaseAmount(0L))
+                    .isInstanceOf(CoreException.class)
+                    .hasMessage("차감할 포인트는 0보다 커야 합니다.");
+
+            assertThatThrownBy(() -> Point.validateDecreaseAmount(null))
+                    .isInstanceOf(CoreException.class)
+                    .hasMessage("차감할 포인트는 0보다 커야 합니다.");
+        }
+    }
 }
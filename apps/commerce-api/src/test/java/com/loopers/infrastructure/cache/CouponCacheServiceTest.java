@@ -0,0 +1,158 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RedisTestContainersConfig.class)
+@DisplayName("CouponCacheService 테스트")
+class CouponCacheServiceTest {
+
+    @Autowired
+    private CouponCacheService couponCacheService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("사용 가능 쿠폰 캐시")
+    class AvailableCouponsCache {
+
+        @Test
+        @DisplayName("캐시가 없으면 빈 Optional을 반환한다")
+        void getAvailableCoupons_cacheMiss_returnsEmpty() {
+            // when
+            Optional<List<Coupon>> result = couponCacheService.getAvailableCoupons("user1");
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("캐시에 저장하고 조회할 수 있다")
+        void cacheAvailableCoupons_thenGet_returnsValue() {
+            // given
+            Coupon coupon = coupon(1L, LocalDateTime.now().plusDays(7));
+
+            // when
+            couponCacheService.cacheAvailableCoupons("user1", List.of(coupon));
+            Optional<List<Coupon>> result = couponCacheService.getAvailableCoupons("user1");
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get()).hasSize(1);
+            assertThat(result.get().get(0).getId()).isEqualTo(1L);
+            assertThat(result.get().get(0).canUse()).isTrue();
+        }
+
+        @Test
+        @DisplayName("쿠폰이 없는 사용자도 빈 목록으로 캐시한다")
+        void cacheAvailableCoupons_empty_cachesEmptyList() {
+            // when
+            couponCacheService.cacheAvailableCoupons("user1", List.of());
+
+            // then
+            assertThat(couponCacheService.getAvailableCoupons("user1")).hasValue(List.of());
+        }
+
+        @Test
+        @DisplayName("TTL은 가장 먼저 만료되는 쿠폰의 만료 시각을 넘지 않는다")
+        void cacheAvailableCoupons_ttlBoundedByEarliestExpiry() {
+            // given
+            List<Coupon> coupons = List.of(
+                    coupon(1L, LocalDateTime.now().plusDays(7)),
+                    coupon(2L, LocalDateTime.now().plusSeconds(30))
+            );
+
+            // when
+            couponCacheService.cacheAvailableCoupons("user1", coupons);
+
+            // then
+            Long ttlSeconds = redisTemplate.getExpire("coupon:available:user1", TimeUnit.SECONDS);
+            assertThat(ttlSeconds).isBetween(1L, 30L);
+        }
+
+        @Test
+        @DisplayName("무효화하면 캐시가 삭제된다")
+        void evictAvailableCoupons_removesCache() {
+            // given
+            couponCacheService.cacheAvailableCoupons("user1", List.of(coupon(1L, LocalDateTime.now().plusDays(7))));
+            couponCacheService.cacheAvailableCoupons("user2", List.of(coupon(2L, LocalDateTime.now().plusDays(7))));
+
+            // when
+            couponCacheService.evictAvailableCoupons(List.of("user1", "user2"));
+
+            // then
+            assertThat(couponCacheService.getAvailableCoupons("user1")).isEmpty();
+            assertThat(couponCacheService.getAvailableCoupons("user2")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("TTL 계산")
+    class Ttl {
+
+        @Test
+        @DisplayName("만료가 먼 쿠폰만 있으면 최대 TTL을 사용한다")
+        void ttlOf_farExpiry_returnsMaxTtl() {
+            LocalDateTime now = LocalDateTime.now();
+
+            Duration ttl = CouponCacheService.ttlOf(List.of(coupon(1L, now.plusDays(1))), now);
+
+            assertThat(ttl).isEqualTo(Duration.ofMinutes(10));
+        }
+
+        @Test
+        @DisplayName("곧 만료되는 쿠폰이 있으면 만료 시각까지만 캐시한다")
+        void ttlOf_nearExpiry_returnsTimeUntilExpiry() {
+            LocalDateTime now = LocalDateTime.now();
+
+            Duration ttl = CouponCacheService.ttlOf(List.of(coupon(1L, now.plusDays(1)), coupon(2L, now.plusMinutes(3))), now);
+
+            assertThat(ttl).isEqualTo(Duration.ofMinutes(3));
+        }
+    }
+
+    private Coupon coupon(Long id, LocalDateTime expiresAt) {
+        return Coupon.reconstruct(
+                id,
+                "user1",
+                "테스트 쿠폰",
+                CouponType.FIXED,
+                BigDecimal.valueOf(1000),
+                false,
+                null,
+                LocalDateTime.now(),
+                expiresAt
+        );
+    }
+}
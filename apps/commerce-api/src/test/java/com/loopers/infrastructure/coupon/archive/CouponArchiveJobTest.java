@@ -0,0 +1,156 @@
+package com.loopers.infrastructure.coupon.archive;
+
+import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponRepository;
+import com.loopers.domain.coupon.CouponStatus;
+import com.loopers.domain.coupon.CouponType;
+import com.loopers.infrastructure.lease.SchedulerCursor;
+import com.loopers.infrastructure.lease.SchedulerFence;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+@DisplayName("쿠폰 보관 작업 테스트")
+class CouponArchiveJobTest {
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SchedulerFence schedulerFence;
+
+    @Autowired
+    private SchedulerCursor schedulerCursor;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("보관 기간이 지난 사용/만료 쿠폰만 보관 테이블로 옮기고, 예약 중이거나 최근 쿠폰은 남긴다")
+    @Test
+    void archivesOnlyTerminalCouponsPastRetention() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long usedLongAgo = save(CouponStatus.USED, now.minusDays(40), now.plusDays(10));
+        Long usedRecently = save(CouponStatus.USED, now.minusDays(1), now.plusDays(10));
+        Long expiredLongAgo = save(CouponStatus.AVAILABLE, null, now.minusDays(40));
+        Long stillValid = save(CouponStatus.AVAILABLE, null, now.plusDays(7));
+        Long reservedExpired = save(CouponStatus.RESERVED, null, now.minusDays(40));
+        Long expiredLongAgo2 = save(CouponStatus.AVAILABLE, null, now.minusDays(35));
+
+        CouponArchiveJob job = job(2, 100);
+
+        // when
+        long archived = job.run();
+
+        // then
+        assertAll(
+                () -> assertThat(archived).isEqualTo(3),
+                () -> assertThat(ids("SELECT id FROM coupons ORDER BY id"))
+                        .containsExactly(usedRecently, stillValid, reservedExpired),
+                () -> assertThat(ids("SELECT id FROM coupons_archive ORDER BY id"))
+                        .containsExactly(usedLongAgo, expiredLongAgo, expiredLongAgo2)
+        );
+    }
+
+    @DisplayName("한 번에 처리할 구간 수를 넘으면, 다른 노드나 재시작된 인스턴스의 다음 실행이 저장된 커서부터 이어서 처리한다")
+    @Test
+    void resumesFromLastWindowOnNextRun() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> couponIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            couponIds.add(save(CouponStatus.USED, now.minusDays(40), now.plusDays(10)));
+        }
+
+        // when: 실행마다 새 인스턴스 (메모리에 남은 상태 없음)
+        long first = job(2, 1).run();
+        long cursorAfterFirst = schedulerCursor.find("coupon-archive");
+        long second = job(2, 1).run();
+        long third = job(2, 1).run();
+
+        // then
+        assertAll(
+                () -> assertThat(List.of(first, second, third)).containsExactly(2L, 2L, 1L),
+                () -> assertThat(cursorAfterFirst).isEqualTo(couponIds.get(1)),
+                () -> assertThat(schedulerCursor.find("coupon-archive")).isZero(),
+                () -> assertThat(ids("SELECT id FROM coupons")).isEmpty(),
+                () -> assertThat(ids("SELECT id FROM coupons_archive")).hasSize(5)
+        );
+    }
+
+    @DisplayName("끝까지 훑으면 커서를 처음으로 되돌려, 다음 실행이 앞쪽의 새 보관 대상을 다시 훑는다")
+    @Test
+    void wrapsAroundAfterFullScan() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Long recent = save(CouponStatus.USED, now.minusDays(1), now.plusDays(10));
+        save(CouponStatus.USED, now.minusDays(1), now.plusDays(10));
+        job(2, 1).run();
+        jdbcTemplate.update("UPDATE coupons SET used_at = ? WHERE id = ?", now.minusDays(40), recent);
+
+        // when: 저장된 커서는 마지막 구간 뒤이므로 첫 실행은 비어 있는 구간에서 커서를 되돌린다
+        long first = job(2, 1).run();
+        long second = job(2, 1).run();
+
+        // then
+        assertAll(
+                () -> assertThat(first + second).isEqualTo(1L),
+                () -> assertThat(ids("SELECT id FROM coupons_archive")).containsExactly(recent)
+        );
+    }
+
+    private CouponArchiveJob job(int chunkSize, int maxChunksPerRun) {
+        CouponArchiveProperties properties = new CouponArchiveProperties(
+                false, Duration.ofDays(30), chunkSize, 0, maxChunksPerRun);
+        return new CouponArchiveJob(jdbcTemplate, properties, transactionManager, schedulerFence, schedulerCursor);
+    }
+
+    private Long save(CouponStatus status, LocalDateTime usedAt, LocalDateTime expiresAt) {
+        Coupon coupon = Coupon.reconstruct(
+                null,
+                "user1",
+                "보관 테스트 쿠폰",
+                CouponType.FIXED,
+                BigDecimal.valueOf(1000),
+                status == CouponStatus.USED,
+                status,
+                usedAt,
+                LocalDateTime.now().minusDays(60),
+                expiresAt
+        );
+        return couponRepository.save(coupon).getId();
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
@@ -0,0 +1,259 @@
+package com.loopers.infrastructure.idempotency;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RedisTestContainersConfig.class)
+@DisplayName("IdempotencyService 테스트")
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private static final SampleRequest REQUEST = new SampleRequest(1L, 2);
+
+    record SampleRequest(Long productId, int quantity) {
+    }
+
+    record SampleResponse(Long id, String value) {
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 다시 요청하면 로직을 실행하지 않고 저장된 응답을 돌려준다")
+    void execute_sameKey_replaysStoredResponse() {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+
+        // when
+        SampleResponse first = idempotencyService.execute("order", "user1", "key-1", REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created"));
+        SampleResponse second = idempotencyService.execute("order", "user1", "key-1", REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created"));
+
+        // then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("같은 멱등키를 다른 요청 본문으로 재사용하면 CONFLICT 예외가 발생하고 로직을 실행하지 않는다")
+    void execute_sameKeyDifferentBody_throwsConflict() {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+        idempotencyService.execute("order", "user1", "key-4", REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created"));
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("order", "user1", "key-4", new SampleRequest(2L, 2),
+                SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created")))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.CONFLICT);
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("멱등키가 없으면 매번 실행한다")
+    void execute_withoutKey_alwaysExecutes() {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+
+        // when
+        idempotencyService.execute("order", "user1", null, REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created"));
+        idempotencyService.execute("order", "user1", null, REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "created"));
+
+        // then
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 발생하면 마커를 해제해 같은 키로 재시도할 수 있다")
+    void execute_failure_releasesKey() {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> idempotencyService.execute("payment", "user1", "key-2", REQUEST, SampleResponse.class, () -> {
+            executionCount.incrementAndGet();
+            throw new IllegalStateException("PG 장애");
+        })).isInstanceOf(IllegalStateException.class);
+
+        SampleResponse retried = idempotencyService.execute("payment", "user1", "key-2", REQUEST, SampleResponse.class,
+                () -> new SampleResponse((long) executionCount.incrementAndGet(), "paid"));
+
+        // then
+        assertThat(executionCount.get()).isEqualTo(2);
+        assertThat(retried.value()).isEqualTo("paid");
+    }
+
+    @Test
+    @DisplayName("멱등키가 너무 길면 BAD_REQUEST 예외가 발생한다")
+    void execute_tooLongKey_throwsException() {
+        String longKey = "k".repeat(101);
+
+        assertThatThrownBy(() -> idempotencyService.execute("order", "user1", longKey, REQUEST, SampleResponse.class,
+                () -> new SampleResponse(1L, "created")))
+                .isInstanceOf(CoreException.class);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 중복 요청은 한 번만 실행되고 모두 같은 응답을 받는다")
+    void execute_concurrentDuplicates_executesOnce() throws Exception {
+        // given
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger executionCount = new AtomicInteger();
+        List<Future<SampleResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return idempotencyService.execute("order", "user1", "key-3", REQUEST, SampleResponse.class, () -> {
+                    executionCount.incrementAndGet();
+                    sleep(200);
+                    return new SampleResponse(1L, "created");
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        List<SampleResponse> results = new ArrayList<>();
+        for (Future<SampleResponse> future : futures) {
+            results.add(future.get());
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(results).hasSize(threadCount).containsOnly(new SampleResponse(1L, "created"));
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 처리 중일 때 같은 멱등키로 들어온 요청은 호출 스레드를 잡지 않고, 먼저 들어온 요청의 응답으로 완료된다")
+    void executeAsync_duplicateWhileInProgress_waitsWithoutBlocking() throws Exception {
+        // given
+        AtomicInteger executionCount = new AtomicInteger();
+        CompletableFuture<SampleResponse> pending = new CompletableFuture<>();
+        CompletableFuture<SampleResponse> first = idempotencyService.executeAsync("payment", "user1", "key-async-1",
+                REQUEST, SampleResponse.class, () -> {
+                    executionCount.incrementAndGet();
+                    return pending;
+                });
+
+        // when
+        long startedAt = System.nanoTime();
+        CompletableFuture<SampleResponse> second = idempotencyService.executeAsync("payment", "user1", "key-async-1",
+                REQUEST, SampleResponse.class, () -> {
+                    executionCount.incrementAndGet();
+                    return CompletableFuture.completedFuture(new SampleResponse(2L, "duplicated"));
+                });
+        long returnedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        boolean doneBeforeFirst = second.isDone();
+        pending.complete(new SampleResponse(1L, "created"));
+
+        // then
+        SampleResponse secondResult = second.get(5, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertThat(returnedMillis).isLessThan(1000),
+                () -> assertThat(doneBeforeFirst).isFalse(),
+                () -> assertThat(first.get()).isEqualTo(new SampleResponse(1L, "created")),
+                () -> assertThat(secondResult).isEqualTo(new SampleResponse(1L, "created")),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 실패하면 CompletionException으로 감싸지 않은 원래 예외로 실패하고, 대기하던 요청이 다시 실행한다")
+    void executeAsync_failure_completesWithOriginalExceptionAndLetsDuplicateTakeOver() throws Exception {
+        // given
+        CompletableFuture<SampleResponse> pending = new CompletableFuture<>();
+        CompletableFuture<SampleResponse> first = idempotencyService.executeAsync("payment", "user1", "key-async-2",
+                REQUEST, SampleResponse.class, () -> pending);
+        CompletableFuture<SampleResponse> second = idempotencyService.executeAsync("payment", "user1", "key-async-2",
+                REQUEST, SampleResponse.class, () -> CompletableFuture.failedFuture(
+                        new CoreException(ErrorType.BAD_REQUEST, "잔액 부족")));
+
+        // when
+        pending.completeExceptionally(new CoreException(ErrorType.NOT_FOUND, "주문 없음"));
+
+        // then
+        assertAll(
+                () -> assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                        .cause()
+                        .isInstanceOf(CoreException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.NOT_FOUND),
+                () -> assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                        .cause()
+                        .isInstanceOf(CoreException.class)
+                        .extracting("errorType")
+                        .isEqualTo(ErrorType.BAD_REQUEST)
+        );
+    }
+
+    @Test
+    @DisplayName("비동기 요청을 다른 요청 본문으로 재사용하면 CONFLICT로 실패한 결과를 돌려준다")
+    void executeAsync_sameKeyDifferentBody_completesWithConflict() {
+        // given
+        idempotencyService.executeAsync("payment", "user1", "key-async-3", REQUEST, SampleResponse.class,
+                CompletableFuture::new);
+
+        // when
+        CompletableFuture<SampleResponse> result = idempotencyService.executeAsync("payment", "user1", "key-async-3",
+                new SampleRequest(1L, 3), SampleResponse.class,
+                () -> CompletableFuture.completedFuture(new SampleResponse(2L, "created")));
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .cause()
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.CONFLICT);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.loopers.infrastructure.lease;
+
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+@DisplayName("SchedulerFence 테스트")
+class SchedulerFenceTest {
+
+    @Autowired
+    private SchedulerFence schedulerFence;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        SchedulerFence.unbind();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void checkWith(Lease lease) {
+        SchedulerFence.bind(lease);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> schedulerFence.check());
+        } finally {
+            SchedulerFence.unbind();
+        }
+    }
+
+    private long storedToken(String name) {
+        return jdbcTemplate.queryForObject("SELECT token FROM scheduler_fences WHERE name = ?", Long.class, name);
+    }
+
+    @Test
+    @DisplayName("더 큰 토큰이 쓴 뒤에는 이전 토큰의 쓰기를 거부하고, 기록된 토큰은 그대로 남는다")
+    void check_staleToken_isRejected() {
+        // given
+        checkWith(new Lease("job", "node-a", 1));
+        checkWith(new Lease("job", "node-b", 2));
+
+        // when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> checkWith(new Lease("job", "node-a", 1)))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThat(storedToken("job")).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로는 여러 번 쓸 수 있다")
+    void check_sameToken_isAllowed() {
+        // given
+        checkWith(new Lease("job", "node-a", 3));
+
+        // when
+        checkWith(new Lease("job", "node-a", 3));
+
+        // then
+        assertThat(storedToken("job")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("리스 없이 실행되면 검사하지 않는다")
+    void check_withoutLease_isNoop() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> schedulerFence.check());
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduler_fences", Long.class)).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+package com.loopers.infrastructure.lease;
+
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RedisTestContainersConfig.class)
+@DisplayName("SchedulerLeaseManager 테스트")
+class SchedulerLeaseManagerTest {
+
+    @Autowired
+    private SchedulerLeaseManager leaseManager;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Nested
+    @DisplayName("리스")
+    class LeaseTest {
+
+        @Test
+        @DisplayName("리스를 잡고 있는 동안에는 다시 잡을 수 없고, 해제하면 더 큰 펜싱 토큰으로 다시 잡을 수 있다")
+        void acquire_isExclusive_andTokenIncreases() {
+            // given
+            Lease first = leaseManager.tryAcquire("job", Duration.ofSeconds(10)).orElseThrow();
+
+            // when
+            Optional<Lease> duplicate = leaseManager.tryAcquire("job", Duration.ofSeconds(10));
+            boolean released = leaseManager.release(first);
+            Lease second = leaseManager.tryAcquire("job", Duration.ofSeconds(10)).orElseThrow();
+
+            // then
+            assertAll(
+                    () -> assertThat(duplicate).isEmpty(),
+                    () -> assertThat(released).isTrue(),
+                    () -> assertThat(second.fencingToken()).isGreaterThan(first.fencingToken())
+            );
+        }
+
+        @Test
+        @DisplayName("TTL이 지나 다른 실행이 잡은 리스는 이전 리스로 해제할 수 없다")
+        void release_expiredLease_doesNotDeleteNewLease() throws InterruptedException {
+            // given
+            Lease stale = leaseManager.tryAcquire("job", Duration.ofMillis(100)).orElseThrow();
+            Thread.sleep(200);
+            Lease current = leaseManager.tryAcquire("job", Duration.ofSeconds(10)).orElseThrow();
+
+            // when
+            boolean released = leaseManager.release(stale);
+
+            // then
+            assertAll(
+                    () -> assertThat(released).isFalse(),
+                    () -> assertThat(leaseManager.tryAcquire("job", Duration.ofSeconds(10))).isEmpty(),
+                    () -> assertThat(leaseManager.release(current)).isTrue()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("파티션")
+    class PartitionTest {
+
+        @Test
+        @DisplayName("살아 있는 노드 수만큼 파티션을 나누고, 노드마다 서로 다른 파티션을 받는다")
+        void joinPartition_assignsDistinctIndexes() {
+            // given
+            Duration ttl = Duration.ofSeconds(30);
+            Stream.of("node-a", "node-b", "node-c").forEach(node -> leaseManager.joinPartition("group", node, ttl));
+
+            // when
+            List<Partition> partitions = Stream.of("node-a", "node-b", "node-c")
+                    .map(node -> leaseManager.joinPartition("group", node, ttl))
+                    .toList();
+
+            // then
+            assertThat(partitions).containsExactly(new Partition(0, 3), new Partition(1, 3), new Partition(2, 3));
+        }
+
+        @Test
+        @DisplayName("하트비트가 끊긴 노드는 TTL 후 파티션에서 제외된다")
+        void joinPartition_dropsExpiredMembers() throws InterruptedException {
+            // given
+            leaseManager.joinPartition("group", "node-a", Duration.ofMillis(100));
+            Thread.sleep(200);
+
+            // when
+            Partition partition = leaseManager.joinPartition("group", "node-b", Duration.ofMillis(100));
+
+            // then
+            assertThat(partition).isEqualTo(new Partition(0, 1));
+        }
+    }
+}
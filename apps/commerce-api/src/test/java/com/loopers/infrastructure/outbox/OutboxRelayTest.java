@@ -0,0 +1,284 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.application.like.event.LikeToggledEvent;
+import com.loopers.utils.DatabaseCleanUp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 스케줄러가 테스트 중에 릴레이를 돌리지 않도록 끈다
+@SpringBootTest(properties = "outbox.relay.enabled=false")
+@DisplayName("아웃박스 저장/릴레이 통합 테스트")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventAppender outboxEventAppender;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @MockitoBean
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void appendInTransaction(int count) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                outboxEventAppender.append("PRODUCT", (long) i, OutboxTopics.LIKE_EVENTS, LikeToggledEvent.added("user1", (long) i));
+            }
+        });
+    }
+
+    private long outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Long.class);
+    }
+
+    private long claimedCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE claimed_until IS NOT NULL", Long.class);
+    }
+
+    private CompletableFuture<SendResult<Object, Object>> sent() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Nested
+    @DisplayName("아웃박스 저장")
+    class Append {
+
+        @Test
+        @DisplayName("도메인 트랜잭션이 커밋되면 BEFORE_COMMIT 리스너가 기록한 이벤트도 함께 커밋된다")
+        void append_commitsWithBusinessTransaction() {
+            // when
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    eventPublisher.publishEvent(LikeToggledEvent.added("user1", 1L)));
+
+            // then
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT aggregate_type, aggregate_id, event_type, topic FROM outbox_events");
+            assertAll(
+                    () -> assertThat(row.get("aggregate_type")).isEqualTo("PRODUCT"),
+                    () -> assertThat(row.get("aggregate_id")).isEqualTo("1"),
+                    () -> assertThat(row.get("event_type")).isEqualTo("LikeToggledEvent"),
+                    () -> assertThat(row.get("topic")).isEqualTo(OutboxTopics.LIKE_EVENTS)
+            );
+        }
+
+        @Test
+        @DisplayName("도메인 트랜잭션이 롤백되면 기록한 이벤트도 함께 롤백된다")
+        void append_rollsBackWithBusinessTransaction() {
+            // when
+            assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                eventPublisher.publishEvent(LikeToggledEvent.added("user1", 1L));
+                outboxEventAppender.append("PRODUCT", 2L, OutboxTopics.LIKE_EVENTS, LikeToggledEvent.added("user1", 2L));
+                throw new IllegalStateException("도메인 처리 실패");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(outboxCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 없이 호출하면 예외가 발생하고 아무것도 기록하지 않는다")
+        void append_withoutTransaction_throwsException() {
+            // when & then
+            assertAll(
+                    () -> assertThatThrownBy(() -> outboxEventAppender.append(
+                            "PRODUCT", 1L, OutboxTopics.LIKE_EVENTS, LikeToggledEvent.added("user1", 1L)))
+                            .isInstanceOf(IllegalTransactionStateException.class),
+                    () -> assertThat(outboxCount()).isZero()
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 릴레이")
+    class Relay {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("발행이 확인된 행만 삭제하고, eventId/eventType 헤더를 붙여 aggregateId를 키로 보낸다")
+        void relayBatch_deletesAckedRows() {
+            // given
+            appendInTransaction(3);
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent());
+
+            // when
+            int published = outboxRelay.relayBatch(10);
+
+            // then
+            ArgumentCaptor<ProducerRecord<Object, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+            verify(kafkaTemplate, times(3)).send(captor.capture());
+            ProducerRecord<Object, Object> first = captor.getAllValues().get(0);
+            assertAll(
+                    () -> assertThat(published).isEqualTo(3),
+                    () -> assertThat(outboxCount()).isZero(),
+                    () -> assertThat(first.topic()).isEqualTo(OutboxTopics.LIKE_EVENTS),
+                    () -> assertThat(first.key()).isEqualTo("0"),
+                    () -> assertThat(new String(first.headers().lastHeader("eventType").value(), StandardCharsets.UTF_8))
+                            .isEqualTo("LikeToggledEvent"),
+                    () -> assertThat(first.headers().lastHeader("eventId")).isNotNull()
+            );
+        }
+
+        @Test
+        @DisplayName("발행에 실패한 행은 남기고 선점을 풀어, 다음 배치에서 다시 보낸다")
+        void relayBatch_releasesFailedRows() {
+            // given
+            appendInTransaction(2);
+            when(kafkaTemplate.send(any(ProducerRecord.class)))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 연결 실패")));
+
+            // when
+            int published = outboxRelay.relayBatch(10);
+
+            // then
+            assertAll(
+                    () -> assertThat(published).isZero(),
+                    () -> assertThat(outboxCount()).isEqualTo(2),
+                    () -> assertThat(claimedCount()).isZero()
+            );
+
+            // when: 브로커가 복구되면 다음 배치에서 발행된다
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent());
+            int retried = outboxRelay.relayBatch(10);
+
+            // then
+            assertAll(
+                    () -> assertThat(retried).isEqualTo(2),
+                    () -> assertThat(outboxCount()).isZero()
+            );
+        }
+
+        @Test
+        @DisplayName("다른 릴레이가 선점해 전송 중인 행은 가져가지 않아 두 번 보내지 않는다")
+        void relayBatch_doesNotResendClaimedRows() throws Exception {
+            // given: 첫 번째 릴레이의 전송이 끝나지 않은 상태
+            appendInTransaction(3);
+            CompletableFuture<SendResult<Object, Object>> pending = new CompletableFuture<>();
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(pending);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<Integer> first = executor.submit(() -> outboxRelay.relayBatch(10));
+                verify(kafkaTemplate, timeout(5000).times(3)).send(any(ProducerRecord.class));
+
+                // when
+                int second = outboxRelay.relayBatch(10);
+                pending.complete(null);
+
+                // then
+                assertAll(
+                        () -> assertThat(second).isZero(),
+                        () -> assertThat(first.get(15, TimeUnit.SECONDS)).isEqualTo(3),
+                        () -> verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class)),
+                        () -> assertThat(outboxCount()).isZero()
+                );
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("선점 시간이 지난 행은 선점한 릴레이가 죽은 것으로 보고 다시 가져간다")
+        void relayBatch_reclaimsExpiredClaims() {
+            // given
+            appendInTransaction(1);
+            jdbcTemplate.update("UPDATE outbox_events SET claimed_until = NOW(6) - INTERVAL 1 MINUTE");
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent());
+
+            // when
+            int published = outboxRelay.relayBatch(10);
+
+            // then
+            assertAll(
+                    () -> assertThat(published).isEqualTo(1),
+                    () -> assertThat(outboxCount()).isZero()
+            );
+        }
+
+        @Test
+        @DisplayName("선점 시간이 남은 행은 건너뛴다")
+        void relayBatch_skipsLiveClaims() {
+            // given
+            appendInTransaction(1);
+            jdbcTemplate.update("UPDATE outbox_events SET claimed_until = NOW(6) + INTERVAL 1 MINUTE");
+
+            // when
+            int published = outboxRelay.relayBatch(10);
+
+            // then
+            assertAll(
+                    () -> assertThat(published).isZero(),
+                    () -> verify(kafkaTemplate, never()).send(any(ProducerRecord.class)),
+                    () -> assertThat(outboxCount()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        @DisplayName("배치 크기만큼만 선점하고 나머지는 다음 배치로 넘긴다")
+        void relayBatch_claimsUpToBatchSize() {
+            // given
+            appendInTransaction(5);
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(sent());
+
+            // when
+            int published = outboxRelay.relayBatch(2);
+
+            // then
+            List<Long> remaining = jdbcTemplate.queryForList("SELECT id FROM outbox_events ORDER BY id", Long.class);
+            assertAll(
+                    () -> assertThat(published).isEqualTo(2),
+                    () -> assertThat(remaining).hasSize(3),
+                    () -> assertThat(claimedCount()).isZero()
+            );
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.outbox.scheduler;
+
+import com.loopers.infrastructure.outbox.OutboxRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("아웃박스 릴레이 스케줄러 테스트")
+class OutboxRelaySchedulerTest {
+
+    private OutboxRelay outboxRelay;
+    private OutboxRelayScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = mock(OutboxRelay.class);
+        scheduler = new OutboxRelayScheduler(outboxRelay);
+    }
+
+    @DisplayName("배치가 가득 차 있으면 밀린 이벤트가 있다고 보고 이어서 릴레이하고, 덜 찬 배치에서 멈춘다")
+    @Test
+    void relay_drainsBacklogUntilPartialBatch() {
+        // given
+        when(outboxRelay.relayBatch(500)).thenReturn(500, 500, 3);
+
+        // when
+        scheduler.relay();
+
+        // then
+        verify(outboxRelay, times(3)).relayBatch(500);
+    }
+
+    @DisplayName("한 번의 실행에서 릴레이하는 배치 수에는 상한이 있다")
+    @Test
+    void relay_stopsAtMaxBatchesPerRun() {
+        // given
+        when(outboxRelay.relayBatch(anyInt())).thenReturn(500);
+
+        // when
+        scheduler.relay();
+
+        // then
+        verify(outboxRelay, times(20)).relayBatch(500);
+    }
+
+    @DisplayName("릴레이 중 예외가 발생해도 스케줄러 밖으로 던지지 않는다")
+    @Test
+    void relay_swallowsException() {
+        // given
+        when(outboxRelay.relayBatch(anyInt())).thenThrow(new IllegalStateException("DB 연결 실패"));
+
+        // when & then
+        assertThatCode(() -> scheduler.relay()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,197 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("비동기 PG 클라이언트 테스트")
+class PgAsyncClientServiceTest {
+
+    private static final String SUCCESS_BODY = """
+            {"meta":{"result":"SUCCESS","errorCode":null,"message":null},
+             "data":{"transactionKey":"20250101:TR:abc123","status":"PENDING","reason":null}}
+            """;
+
+    private HttpServer server;
+    private PgHttpClient pgHttpClient;
+    private PgAsyncClientService pgAsyncClientService;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private volatile int status = 200;
+    private volatile long delayMillis = 0L;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/api/v1/payments", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pgAsyncClientService.shutdown();
+        pgHttpClient.shutdown();
+        server.stop(0);
+    }
+
+    @DisplayName("PG 응답의 meta.result로 성공 여부를 판단하고 데이터를 변환한다")
+    @Test
+    void parsesSimulatorResponse() {
+        // given
+        createClient(4);
+
+        // when
+        PgClient.ApiResponse<PgClientDto.TransactionResponse> response =
+                pgAsyncClientService.requestPayment("user1", paymentRequest()).join();
+
+        // then
+        assertAll(
+                () -> assertThat(response.success()).isTrue(),
+                () -> assertThat(response.data().transactionKey()).isEqualTo("20250101:TR:abc123"),
+                () -> assertThat(response.data().status()).isEqualTo(PgClientDto.TransactionStatus.PENDING)
+        );
+    }
+
+    @DisplayName("PG가 실패 응답을 주면 재시도한 뒤 Fallback 응답으로 완료한다")
+    @Test
+    void retriesThenFallsBack_whenPgFails() {
+        // given
+        createClient(4);
+        status = 500;
+
+        // when
+        PgClient.ApiResponse<PgClientDto.TransactionResponse> response =
+                pgAsyncClientService.requestPayment("user1", paymentRequest()).join();
+
+        // then
+        assertAll(
+                () -> assertThat(response.success()).isFalse(),
+                () -> assertThat(response.errorCode()).isEqualTo("FALLBACK"),
+                () -> assertThat(response.data().transactionKey()).isNull(),
+                () -> assertThat(requests.get()).isEqualTo(3)
+        );
+    }
+
+    @DisplayName("호스트별 동시 요청 수는 maxConnectionsPerHost를 넘지 않는다")
+    @Test
+    void limitsConcurrentRequestsPerHost() {
+        // given
+        createClient(2);
+        delayMillis = 100L;
+
+        // when
+        List<CompletableFuture<PgClient.ApiResponse<PgClientDto.TransactionResponse>>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> pgAsyncClientService.requestPayment("user" + i, paymentRequest()))
+                .toList();
+        List<PgClient.ApiResponse<PgClientDto.TransactionResponse>> responses =
+                futures.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertAll(
+                () -> assertThat(responses).allMatch(PgClient.ApiResponse::success),
+                () -> assertThat(maxInFlight.get()).isLessThanOrEqualTo(2),
+                () -> assertThat(requests.get()).isEqualTo(8)
+        );
+    }
+
+    @DisplayName("호스트별 동시 요청 상한을 기다리다 시간이 지나면 PG 장애가 아닌 동시 호출 한도 초과 예외를 던진다")
+    @Test
+    void throwsConcurrencyLimitExceeded_whenHostPermitTimesOut() throws Exception {
+        // given
+        createClient(1, Duration.ofMillis(50));
+        delayMillis = 500L;
+        URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+        CompletableFuture<PgClient.ApiResponse<PgClientDto.TransactionResponse>> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pgHttpClient.requestPayment(endpoint, "user1", paymentRequest());
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (inFlight.get() == 0) {
+            Thread.sleep(5);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> pgHttpClient.requestPayment(endpoint, "user2", paymentRequest()))
+                .isInstanceOf(PgConcurrencyLimitExceededException.class);
+        assertThat(first.join().success()).isTrue();
+    }
+
+    private void createClient(int maxConnectionsPerHost) {
+        createClient(maxConnectionsPerHost, Duration.ofSeconds(5));
+    }
+
+    private void createClient(int maxConnectionsPerHost, Duration acquireTimeout) {
+        PgAsyncClientProperties properties = new PgAsyncClientProperties(
+                maxConnectionsPerHost, acquireTimeout, Duration.ofSeconds(1), Duration.ofSeconds(3));
+        pgHttpClient = new PgHttpClient(properties, new ObjectMapper());
+        PgEndpointRouter router = new PgEndpointRouter(
+                "http://localhost:" + server.getAddress().getPort(), routingProperties(), new SimpleMeterRegistry());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(10))
+                .build());
+        PgConcurrencyLimiter concurrencyLimiter = new PgConcurrencyLimiter(
+                new PgConcurrencyLimitProperties(20, 2, 64, Duration.ofSeconds(5), Duration.ofSeconds(1), 0.9),
+                new SimpleMeterRegistry());
+        pgAsyncClientService = new PgAsyncClientService(
+                pgHttpClient, concurrencyLimiter, router, CircuitBreakerRegistry.ofDefaults(), retryRegistry);
+    }
+
+    private PgRoutingProperties routingProperties() {
+        return new PgRoutingProperties(
+                List.of(), 0.2, 5, Duration.ofSeconds(30), false, 0.95, Duration.ofMillis(50), Duration.ofSeconds(1));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(delayMillis);
+            byte[] body = SUCCESS_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private PgClientDto.PaymentRequest paymentRequest() {
+        return new PgClientDto.PaymentRequest(
+                "1", PgClientDto.CardType.SAMSUNG, "1234-5678-9012-3456", 10000L, "http://localhost:8080/callback");
+    }
+}
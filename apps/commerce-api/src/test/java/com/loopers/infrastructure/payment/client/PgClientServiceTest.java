@@ -0,0 +1,136 @@
+package com.loopers.infrastructure.payment.client;
+
+import com.loopers.infrastructure.payment.client.dto.PgClientDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PG 클라이언트 서비스 헤지 조회 테스트")
+class PgClientServiceTest {
+
+    private static final URI SLOW_PG = URI.create("http://pg-1:8082");
+    private static final URI FAST_PG = URI.create("http://pg-2:8082");
+
+    private PgClient pgClient;
+    private SimpleMeterRegistry meterRegistry;
+    private PgClientService pgClientService;
+
+    @BeforeEach
+    void setUp() {
+        pgClient = mock(PgClient.class);
+        meterRegistry = new SimpleMeterRegistry();
+        PgRoutingProperties routingProperties = new PgRoutingProperties(
+                List.of(SLOW_PG.toString(), FAST_PG.toString()), 0.2, 5, Duration.ofSeconds(30),
+                true, 0.95, Duration.ofMillis(20), Duration.ofMillis(50));
+        PgConcurrencyLimiter concurrencyLimiter = new PgConcurrencyLimiter(
+                new PgConcurrencyLimitProperties(20, 2, 64, Duration.ofSeconds(1), Duration.ofSeconds(5), 0.9),
+                meterRegistry);
+        pgClientService = new PgClientService(
+                pgClient, concurrencyLimiter,
+                new PgEndpointRouter("http://localhost:8082", routingProperties, meterRegistry),
+                routingProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pgClientService.shutdown();
+    }
+
+    @DisplayName("조회 응답이 헤지 지연보다 늦으면 다른 엔드포인트로 한 번 더 보내 먼저 온 응답을 쓴다")
+    @Test
+    void hedgesSlowRead_toAnotherEndpoint() {
+        // given
+        when(pgClient.getTransaction(eq(SLOW_PG), anyString(), anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return response(invocation.getArgument(2));
+        });
+        when(pgClient.getTransaction(eq(FAST_PG), anyString(), anyString()))
+                .thenAnswer(invocation -> response(invocation.getArgument(2)));
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            PgClient.ApiResponse<PgClientDto.TransactionDetailResponse> result =
+                    pgClientService.getTransaction("user1", "TR:" + i);
+            assertThat(result.data().transactionKey()).isEqualTo("TR:" + i);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then
+        assertAll(
+                () -> assertThat(elapsedMillis).isLessThan(3000),
+                () -> assertThat(meterRegistry.counter("pg.hedge.sent").count()).isGreaterThanOrEqualTo(1.0),
+                () -> assertThat(meterRegistry.counter("pg.hedge.won").count())
+                        .isEqualTo(meterRegistry.counter("pg.hedge.sent").count())
+        );
+    }
+
+    @DisplayName("헤지 지연은 최근 조회 응답 시간의 분위수를 최소/최대 지연 범위로 제한한 값이다")
+    @Test
+    void hedgeDelay_isClampedPercentile() {
+        // given
+        when(pgClient.getTransaction(any(URI.class), anyString(), anyString()))
+                .thenAnswer(invocation -> response(invocation.getArgument(2)));
+        Duration beforeSamples = pgClientService.hedgeDelay(PgClientService.ReadOperation.TRANSACTION);
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            pgClientService.getTransaction("user1", "TR:" + i);
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(beforeSamples).isEqualTo(Duration.ofMillis(50)),
+                () -> assertThat(pgClientService.hedgeDelay(PgClientService.ReadOperation.TRANSACTION))
+                        .isEqualTo(Duration.ofMillis(20))
+        );
+    }
+
+    @DisplayName("헤지 지연은 조회 종류마다 따로 계산해, 느린 일괄 조회가 단건 조회의 헤지 지연을 늘리지 않는다")
+    @Test
+    void hedgeDelay_isTrackedPerOperation() {
+        // given
+        when(pgClient.getTransaction(any(URI.class), anyString(), anyString()))
+                .thenAnswer(invocation -> response(invocation.getArgument(2)));
+        when(pgClient.getTransactionStatuses(any(URI.class), any(PgClientDto.TransactionStatusesRequest.class)))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(40);
+                    return new PgClient.ApiResponse<>(true, new PgClientDto.TransactionStatusesResponse(List.of()), null, null);
+                });
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            pgClientService.getTransaction("user1", "TR:" + i);
+            pgClientService.getTransactionStatuses(List.of("TR:" + i));
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(pgClientService.hedgeDelay(PgClientService.ReadOperation.TRANSACTION))
+                        .isEqualTo(Duration.ofMillis(20)),
+                () -> assertThat(pgClientService.hedgeDelay(PgClientService.ReadOperation.TRANSACTION_STATUSES))
+                        .isGreaterThan(Duration.ofMillis(20))
+        );
+    }
+
+    private PgClient.ApiResponse<PgClientDto.TransactionDetailResponse> response(String transactionKey) {
+        return new PgClient.ApiResponse<>(true, new PgClientDto.TransactionDetailResponse(
+                transactionKey, "1", PgClientDto.CardType.SAMSUNG, "1234-5678-9012-3456", 10000L,
+                PgClientDto.TransactionStatus.SUCCESS, null), null, null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.loopers.infrastructure.payment.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("PG 동시 호출 제한기 테스트")
+class PgConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("호출이 실패하면 한도를 backoffRatio만큼 줄이고, minLimit 아래로는 줄이지 않는다")
+    @Test
+    void decreasesLimit_onFailure() {
+        // given
+        PgConcurrencyLimiter limiter = limiter(10, 8, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+        // when
+        for (int i = 0; i < 30; i++) {
+            try {
+                limiter.execute(() -> {
+                    throw new IllegalStateException("PG 오류");
+                });
+            } catch (IllegalStateException ignored) {
+            }
+        }
+
+        // then
+        assertThat(limiter.currentLimit()).isEqualTo(2);
+    }
+
+    @DisplayName("latencyThreshold보다 느린 호출은 성공해도 한도를 줄인다")
+    @Test
+    void decreasesLimit_onSlowCall() throws InterruptedException {
+        // given
+        PgConcurrencyLimiter limiter = limiter(10, 10, Duration.ofMillis(100), Duration.ofMillis(10));
+
+        // when
+        limiter.execute(() -> sleep(30));
+
+        // then
+        assertThat(limiter.currentLimit()).isEqualTo(9);
+    }
+
+    @DisplayName("빠르게 성공하면 한도를 1씩 늘리되, 한도의 절반 미만만 쓰고 있으면 더 늘리지 않는다")
+    @Test
+    void increasesLimit_onlyWhileUtilized() {
+        // given
+        PgConcurrencyLimiter limiter = limiter(12, 1, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+        // when (한 번에 하나씩 호출: 한도 1 -> 2 -> 3, 이후 1/3만 사용하므로 유지)
+        for (int i = 0; i < 20; i++) {
+            limiter.execute(() -> "ok");
+        }
+
+        // then
+        assertThat(limiter.currentLimit()).isEqualTo(3);
+    }
+
+    @DisplayName("한도가 찬 상태에서 queueTimeout 안에 자리가 나지 않으면 거절하고 지표에 남긴다")
+    @Test
+    void rejects_whenQueueTimeoutExceeded() throws InterruptedException {
+        // given
+        PgConcurrencyLimiter limiter = limiter(2, 2, Duration.ofMillis(50), Duration.ofSeconds(5));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    limiter.execute(() -> {
+                        started.countDown();
+                        return finish.await(5, TimeUnit.SECONDS);
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> limiter.execute(() -> "ok"))
+                .isInstanceOf(PgConcurrencyLimitExceededException.class);
+        assertAll(
+                () -> assertThat(meterRegistry.get("pg.limiter.rejected").counter().count()).isEqualTo(1.0),
+                () -> assertThat(meterRegistry.get("pg.limiter.inflight").gauge().value()).isEqualTo(2.0),
+                () -> assertThat(meterRegistry.get("pg.limiter.limit").gauge().value()).isEqualTo(2.0)
+        );
+
+        finish.countDown();
+        executor.shutdown();
+    }
+
+    private PgConcurrencyLimiter limiter(int maxLimit, int initialLimit, Duration queueTimeout, Duration latencyThreshold) {
+        PgConcurrencyLimitProperties properties = new PgConcurrencyLimitProperties(
+                initialLimit, 2, maxLimit, queueTimeout, latencyThreshold, 0.9);
+        return new PgConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    private String sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+        return "ok";
+    }
+}
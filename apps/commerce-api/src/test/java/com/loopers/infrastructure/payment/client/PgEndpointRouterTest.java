@@ -0,0 +1,156 @@
+package com.loopers.infrastructure.payment.client;
+
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("PG 엔드포인트 라우터 테스트")
+class PgEndpointRouterTest {
+
+    private static final URI PG_1 = URI.create("http://pg-1:8082");
+    private static final URI PG_2 = URI.create("http://pg-2:8082");
+
+    @DisplayName("pg.routing.urls가 비어 있으면 pg.url 하나로 라우팅한다")
+    @Test
+    void usesDefaultUrl_whenUrlsAreEmpty() {
+        // given
+        PgEndpointRouter router = new PgEndpointRouter("http://localhost:8082", properties(List.of(), 3), new SimpleMeterRegistry());
+
+        // when
+        PgEndpoint endpoint = router.select();
+
+        // then
+        assertAll(
+                () -> assertThat(router.size()).isEqualTo(1),
+                () -> assertThat(endpoint.uri()).isEqualTo(URI.create("http://localhost:8082")),
+                () -> assertThat(router.selectOther(endpoint)).isEmpty()
+        );
+    }
+
+    @DisplayName("EWMA 응답 시간이 짧은 엔드포인트로 보낸다")
+    @Test
+    void prefersFasterEndpoint() {
+        // given
+        PgEndpointRouter router = router(3);
+        PgEndpoint slow = endpointOf(router, PG_1);
+        PgEndpoint fast = endpointOf(router, PG_2);
+        router.execute(slow, () -> sleep(30));
+        router.execute(fast, () -> "ok");
+
+        // when
+        List<URI> selected = IntStream.range(0, 50).mapToObj(i -> router.select().uri()).toList();
+
+        // then
+        assertThat(selected).containsOnly(PG_2);
+    }
+
+    @DisplayName("연속으로 실패한 엔드포인트는 라우팅에서 제외하고, 모두 제외되면 가장 먼저 복귀할 엔드포인트로 보낸다")
+    @Test
+    void ejectsEndpoint_afterConsecutiveFailures() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PgEndpointRouter router = new PgEndpointRouter(
+                "http://localhost:8082", properties(List.of(PG_1.toString(), PG_2.toString()), 3), meterRegistry);
+        PgEndpoint failing = endpointOf(router, PG_1);
+        PgEndpoint healthy = endpointOf(router, PG_2);
+
+        // when
+        IntStream.range(0, 3).forEach(i -> fail(router, failing));
+        List<URI> selected = IntStream.range(0, 50).mapToObj(i -> router.select().uri()).toList();
+
+        IntStream.range(0, 3).forEach(i -> fail(router, healthy));
+        PgEndpoint allEjected = router.select();
+
+        // then
+        assertAll(
+                () -> assertThat(selected).containsOnly(PG_2),
+                () -> assertThat(router.selectOther(healthy)).isEmpty(),
+                () -> assertThat(allEjected.uri()).isEqualTo(PG_1),
+                () -> assertThat(meterRegistry.counter("pg.endpoint.ejections", "endpoint", PG_1.toString()).count())
+                        .isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("4xx 응답은 엔드포인트 장애로 세지 않고, 5xx 응답과 타임아웃만 장애로 센다")
+    @Test
+    void countsOnlyEndpointFailures() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PgEndpointRouter router = new PgEndpointRouter(
+                "http://localhost:8082", properties(List.of(PG_1.toString(), PG_2.toString()), 3), meterRegistry);
+        PgEndpoint endpoint = endpointOf(router, PG_1);
+        Request request = Request.create(Request.HttpMethod.GET, PG_1.toString(), Map.of(), null, StandardCharsets.UTF_8, null);
+
+        // when
+        IntStream.range(0, 5).forEach(i -> {
+            fail(router, endpoint, new FeignException.BadRequest("잘못된 요청", request, null, Map.of()));
+            fail(router, endpoint, new PgResponseStatusException(404, "PG 응답 오류: status=404"));
+        });
+        double errorRateAfterClientErrors = endpoint.ewmaErrorRate();
+        boolean ejectedAfterClientErrors = endpoint.isEjected(System.nanoTime());
+
+        fail(router, endpoint, new PgResponseStatusException(503, "PG 응답 오류: status=503"));
+        fail(router, endpoint, new FeignException.ServiceUnavailable("PG 점검 중", request, null, Map.of()));
+        fail(router, endpoint, new IllegalStateException(new SocketTimeoutException("Read timed out")));
+
+        // then
+        assertAll(
+                () -> assertThat(errorRateAfterClientErrors).isZero(),
+                () -> assertThat(ejectedAfterClientErrors).isFalse(),
+                () -> assertThat(endpoint.isEjected(System.nanoTime())).isTrue(),
+                () -> assertThat(meterRegistry.counter("pg.endpoint.ejections", "endpoint", PG_1.toString()).count())
+                        .isEqualTo(1.0)
+        );
+    }
+
+    private PgEndpointRouter router(int ejectionFailures) {
+        return new PgEndpointRouter(
+                "http://localhost:8082", properties(List.of(PG_1.toString(), PG_2.toString()), ejectionFailures),
+                new SimpleMeterRegistry());
+    }
+
+    private PgRoutingProperties properties(List<String> urls, int ejectionFailures) {
+        return new PgRoutingProperties(
+                urls, 0.2, ejectionFailures, Duration.ofMinutes(1), true, 0.95, Duration.ofMillis(50), Duration.ofSeconds(1));
+    }
+
+    private PgEndpoint endpointOf(PgEndpointRouter router, URI uri) {
+        PgEndpoint endpoint = router.select();
+        return endpoint.uri().equals(uri) ? endpoint : router.selectOther(endpoint).orElseThrow();
+    }
+
+    private void fail(PgEndpointRouter router, PgEndpoint endpoint) {
+        fail(router, endpoint, new PgResponseStatusException(500, "PG 응답 오류: status=500"));
+    }
+
+    private void fail(PgEndpointRouter router, PgEndpoint endpoint, RuntimeException exception) {
+        try {
+            router.execute(endpoint, () -> {
+                throw exception;
+            });
+        } catch (RuntimeException ignored) {
+        }
+    }
+
+    private String sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    }
+}
@@ -0,0 +1,202 @@
+package com.loopers.infrastructure.payment.scheduler;
+
+import com.loopers.application.payment.PaymentCallbackFacade;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.lease.SchedulerLeaseManager;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackProperties;
+import com.loopers.infrastructure.payment.callback.PaymentCallbackQueue;
+import com.loopers.testcontainers.RedisTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(RedisTestContainersConfig.class)
+@DisplayName("PaymentCallbackBatchScheduler 테스트")
+class PaymentCallbackBatchSchedulerTest {
+
+    @Autowired
+    private PaymentCallbackFacade callbackFacade;
+
+    @Autowired
+    private PaymentCallbackQueue callbackQueue;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private SchedulerLeaseManager leaseManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentCallbackBatchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = scheduler(Duration.ofSeconds(60), Duration.ZERO);
+    }
+
+    private PaymentCallbackBatchScheduler scheduler(Duration reclaimIdle, Duration retryDelay) {
+        meterRegistry = new SimpleMeterRegistry();
+        return new PaymentCallbackBatchScheduler(
+                callbackFacade, callbackQueue, new PaymentCallbackProperties(true, 100, 2, reclaimIdle, retryDelay),
+                leaseManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("적재된 콜백을 한 번에 반영하고, 같은 키의 콜백은 마지막 것만 반영하며 최종 상태인 결제는 건드리지 않는다")
+    void appliesQueuedCallbacks_inOneBatch() {
+        // given
+        Payment first = savePayment(1L, "TR:0001");
+        Payment second = savePayment(2L, "TR:0002");
+        Payment alreadyFailed = savePayment(3L, "TR:0003");
+        alreadyFailed.fail("카드 한도 초과");
+        paymentRepository.save(alreadyFailed);
+
+        callbackQueue.enqueue("TR:0001", "SUCCESS", null, 0);
+        callbackQueue.enqueue("TR:0002", "SUCCESS", null, 0);
+        callbackQueue.enqueue("TR:0002", "FAILED", "잘못된 카드", 0);
+        callbackQueue.enqueue("TR:0003", "SUCCESS", null, 0);
+
+        // when
+        int read = scheduler.drain();
+
+        // then
+        Payment updatedFirst = paymentRepository.findById(first.getId()).orElseThrow();
+        Payment updatedSecond = paymentRepository.findById(second.getId()).orElseThrow();
+        Payment unchanged = paymentRepository.findById(alreadyFailed.getId()).orElseThrow();
+        assertAll(
+                () -> assertThat(read).isEqualTo(4),
+                () -> assertThat(updatedFirst.getStatus()).isEqualTo(PaymentStatus.SUCCESS),
+                () -> assertThat(updatedSecond.getStatus()).isEqualTo(PaymentStatus.FAILED),
+                () -> assertThat(updatedSecond.getFailureReason()).isEqualTo("잘못된 카드"),
+                () -> assertThat(unchanged.getStatus()).isEqualTo(PaymentStatus.FAILED),
+                () -> assertThat(meterRegistry.counter("payment.callback.applied").count()).isEqualTo(2.0),
+                () -> assertThat(scheduler.drain()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("결제를 찾지 못한 콜백은 시도 횟수를 늘려 재시도 대기에 두고, 최대 시도 횟수를 넘기면 버린다")
+    void requeuesUnknownCallbacks_untilMaxAttempts() {
+        // given
+        callbackQueue.enqueue("TR:UNKNOWN", "SUCCESS", null, 0);
+
+        // when
+        int firstRead = scheduler.drain();
+        int readBeforeRelease = scheduler.drain();
+        int released = scheduler.releaseDueRetries();
+        int secondRead = scheduler.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(firstRead).isEqualTo(1),
+                () -> assertThat(readBeforeRelease).isZero(),
+                () -> assertThat(released).isEqualTo(1),
+                () -> assertThat(secondRead).isEqualTo(1),
+                () -> assertThat(meterRegistry.counter("payment.callback.requeued").count()).isEqualTo(1.0),
+                () -> assertThat(meterRegistry.counter("payment.callback.dropped").count()).isEqualTo(1.0),
+                () -> assertThat(scheduler.releaseDueRetries()).isZero(),
+                () -> assertThat(scheduler.drain()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("재시도 대기에 둔 콜백은 재시도 시각이 지나기 전에는 다시 읽히지 않는다")
+    void requeuedCallback_isNotReadBeforeRetryDelay() {
+        // given
+        scheduler = scheduler(Duration.ofSeconds(60), Duration.ofMinutes(1));
+        callbackQueue.enqueue("TR:UNKNOWN", "SUCCESS", null, 0);
+        scheduler.drain();
+
+        // when
+        int released = scheduler.releaseDueRetries();
+
+        // then
+        assertAll(
+                () -> assertThat(released).isZero(),
+                () -> assertThat(scheduler.drain()).isZero(),
+                () -> assertThat(meterRegistry.counter("payment.callback.requeued").count()).isEqualTo(1.0),
+                () -> assertThat(meterRegistry.counter("payment.callback.dropped").count()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 채 최대 시도 횟수보다 많이 전달된 콜백은 다시 가져올 때 반영하지 않고 버린다")
+    void reclaim_dropsCallbacksDeliveredMoreThanMaxAttempts() {
+        // given
+        scheduler = scheduler(Duration.ZERO, Duration.ZERO);
+        Payment payment = savePayment(1L, "TR:0001");
+        callbackQueue.enqueue("TR:0001", "SUCCESS", null, 0);
+        callbackQueue.read("failed-node", 10);
+        callbackQueue.claimStale("failed-node", Duration.ZERO, 10);
+
+        // when
+        scheduler.reclaim();
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.counter("payment.callback.dropped").count()).isEqualTo(1.0),
+                () -> assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                        .isEqualTo(PaymentStatus.PENDING),
+                () -> assertThat(callbackQueue.claimStale("other-node", Duration.ZERO, 10)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("Redis가 비워져 소비자 그룹이 사라져도 그룹을 다시 만들고 적재된 콜백을 반영한다")
+    void recreatesGroup_whenGroupIsLost() {
+        // given: 그룹을 만든 뒤 Redis가 비워지고, 새 콜백이 적재된 상태
+        callbackQueue.enqueue("TR:UNKNOWN", "SUCCESS", null, 3);
+        scheduler.drain();
+        redisCleanUp.truncateAll();
+        Payment payment = savePayment(1L, "TR:0001");
+        callbackQueue.enqueue("TR:0001", "SUCCESS", null, 0);
+
+        // when
+        int read = scheduler.drain();
+
+        // then
+        assertAll(
+                () -> assertThat(read).isEqualTo(1),
+                () -> assertThat(paymentRepository.findById(payment.getId()).orElseThrow().getStatus())
+                        .isEqualTo(PaymentStatus.SUCCESS),
+                () -> assertThat(callbackQueue.claimStale("other-node", Duration.ZERO, 10)).isEmpty()
+        );
+    }
+
+    private Payment savePayment(Long orderId, String transactionKey) {
+        Payment payment = Payment.create("user123", orderId, CardType.SAMSUNG, "1234-5678-9012-3456", BigDecimal.valueOf(10000));
+        payment.assignPgTransactionKey(transactionKey);
+        return paymentRepository.save(payment);
+    }
+}
@@ -0,0 +1,227 @@
+package com.loopers.infrastructure.payment.scheduler;
+
+import com.loopers.application.payment.PaymentFacade;
+import com.loopers.application.payment.PaymentStatusSyncFacade;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.lease.Partition;
+import com.loopers.infrastructure.lease.SchedulerLeaseManager;
+import com.loopers.infrastructure.lease.SchedulerLeaseProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("결제 상태 동기화 스케줄러 테스트")
+class PaymentStatusSyncSchedulerTest {
+
+    private PaymentRepository paymentRepository;
+    private PaymentFacade paymentFacade;
+    private PaymentStatusSyncFacade paymentStatusSyncFacade;
+    private SchedulerLeaseManager leaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentStatusSyncScheduler scheduler;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        paymentFacade = mock(PaymentFacade.class);
+        paymentStatusSyncFacade = mock(PaymentStatusSyncFacade.class);
+        leaseManager = mock(SchedulerLeaseManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @DisplayName("키셋 페이지를 모두 읽어 동기화하고, 동시에 진행하는 조회 수는 concurrency를 넘지 않는다")
+    @Test
+    void syncsAllPages_withBoundedConcurrency() throws InterruptedException {
+        // given
+        scheduler = scheduler(3, 4, Duration.ofSeconds(10));
+        List<Payment> firstPage = payments(1, 3);
+        List<Payment> secondPage = payments(4, 6);
+        List<Payment> lastPage = payments(7, 7);
+        when(paymentRepository.findPendingPayments(any(), isNull(), isNull(), eq(0), eq(1), eq(3))).thenReturn(firstPage);
+        when(paymentRepository.findPendingPayments(any(), any(), eq(3L), eq(0), eq(1), eq(3))).thenReturn(secondPage);
+        when(paymentRepository.findPendingPayments(any(), any(), eq(6L), eq(0), eq(1), eq(3))).thenReturn(lastPage);
+        when(paymentFacade.syncPaymentStatus(anyLong())).thenAnswer(invocation -> slowSync(50));
+
+        // when
+        PaymentStatusSyncScheduler.SweepResult result = scheduler.sweep(Partition.single());
+
+        // then
+        assertAll(
+                () -> assertThat(result.submitted()).isEqualTo(7),
+                () -> assertThat(result.resolved()).isEqualTo(7),
+                () -> assertThat(result.budgetExhausted()).isFalse(),
+                () -> assertThat(maxInFlight.get()).isLessThanOrEqualTo(4),
+                () -> assertThat(maxInFlight.get()).isGreaterThan(1),
+                () -> assertThat(meterRegistry.get("payment.sync.latency").tag("outcome", "success").timer().count())
+                        .isEqualTo(7)
+        );
+        verify(paymentFacade, times(7)).syncPaymentStatus(anyLong());
+    }
+
+    @DisplayName("시간 예산이 지나면 새 조회를 시작하지 않고 다음 실행으로 넘긴다")
+    @Test
+    void stopsSubmitting_whenTimeBudgetExceeded() throws InterruptedException {
+        // given
+        scheduler = scheduler(100, 1, Duration.ofMillis(300));
+        when(paymentRepository.findPendingPayments(any(), any(), any(), anyInt(), anyInt(), anyInt())).thenReturn(payments(1, 100));
+        when(paymentFacade.syncPaymentStatus(anyLong())).thenAnswer(invocation -> slowSync(100));
+
+        // when
+        PaymentStatusSyncScheduler.SweepResult result = scheduler.sweep(Partition.single());
+
+        // then
+        assertAll(
+                () -> assertThat(result.budgetExhausted()).isTrue(),
+                () -> assertThat(result.submitted()).isBetween(1, 5),
+                () -> assertThat(meterRegistry.get("payment.sync.deferred").counter().count()).isEqualTo(1.0)
+        );
+    }
+
+    @DisplayName("여러 노드가 실행 중이면 이 노드가 맡은 파티션의 결제만 조회한다")
+    @Test
+    void sweepsOnlyAssignedPartition() throws InterruptedException {
+        // given
+        scheduler = scheduler(3, 4, Duration.ofSeconds(10));
+        when(leaseManager.joinPartition(eq("payment-sync"), any())).thenReturn(new Partition(1, 3));
+        when(paymentRepository.findPendingPayments(any(), isNull(), isNull(), eq(1), eq(3), eq(3)))
+                .thenReturn(payments(4, 4));
+        when(paymentFacade.syncPaymentStatus(anyLong())).thenReturn(PaymentStatus.SUCCESS);
+
+        // when
+        Partition partition = scheduler.resolvePartition();
+        PaymentStatusSyncScheduler.SweepResult result = scheduler.sweep(partition);
+
+        // then
+        assertAll(
+                () -> assertThat(partition).isEqualTo(new Partition(1, 3)),
+                () -> assertThat(result.submitted()).isEqualTo(1)
+        );
+        verify(paymentFacade).syncPaymentStatus(4L);
+    }
+
+    @DisplayName("일괄 조회를 켜면 페이지마다 한 번씩 일괄 동기화하고, 결제별 동기화는 호출하지 않는다")
+    @Test
+    void syncsPageAtOnce_whenBatchEnabled() throws InterruptedException {
+        // given
+        scheduler = scheduler(3, 4, Duration.ofSeconds(10), true);
+        List<Payment> firstPage = payments(1, 3);
+        List<Payment> lastPage = payments(4, 5);
+        when(paymentRepository.findPendingPayments(any(), isNull(), isNull(), eq(0), eq(1), eq(3))).thenReturn(firstPage);
+        when(paymentRepository.findPendingPayments(any(), any(), eq(3L), eq(0), eq(1), eq(3))).thenReturn(lastPage);
+        when(paymentStatusSyncFacade.syncPaymentStatuses(firstPage))
+                .thenReturn(new PaymentStatusSyncFacade.SyncBatchResult(2, 1));
+        when(paymentStatusSyncFacade.syncPaymentStatuses(lastPage))
+                .thenReturn(new PaymentStatusSyncFacade.SyncBatchResult(2, 0));
+
+        // when
+        PaymentStatusSyncScheduler.SweepResult result = scheduler.sweep(Partition.single());
+
+        // then
+        assertAll(
+                () -> assertThat(result.submitted()).isEqualTo(5),
+                () -> assertThat(result.resolved()).isEqualTo(4),
+                () -> assertThat(result.pending()).isEqualTo(1),
+                () -> assertThat(meterRegistry.get("payment.sync.batch.latency").timer().count()).isEqualTo(2)
+        );
+        verify(paymentStatusSyncFacade, times(2)).syncPaymentStatuses(any());
+        verify(paymentFacade, never()).syncPaymentStatus(anyLong());
+    }
+
+    @DisplayName("일괄 동기화가 실패하면 그 페이지의 결제를 모두 실패로 센다")
+    @Test
+    void countsWholePageAsFailed_whenBatchSyncThrows() throws InterruptedException {
+        // given
+        scheduler = scheduler(3, 4, Duration.ofSeconds(10), true);
+        when(paymentRepository.findPendingPayments(any(), isNull(), isNull(), eq(0), eq(1), eq(3))).thenReturn(payments(1, 2));
+        when(paymentStatusSyncFacade.syncPaymentStatuses(any())).thenThrow(new IllegalStateException("pg down"));
+
+        // when
+        PaymentStatusSyncScheduler.SweepResult result = scheduler.sweep(Partition.single());
+
+        // then
+        assertAll(
+                () -> assertThat(result.submitted()).isEqualTo(2),
+                () -> assertThat(result.failed()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("파티션을 계산할 수 없으면 전체 결제를 조회한다")
+    @Test
+    void fallsBackToSinglePartition_whenRedisUnavailable() {
+        // given
+        scheduler = scheduler(3, 4, Duration.ofSeconds(10));
+        when(leaseManager.joinPartition(any(), any())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        Partition partition = scheduler.resolvePartition();
+
+        // then
+        assertThat(partition.isSingle()).isTrue();
+    }
+
+    private PaymentStatusSyncScheduler scheduler(int pageSize, int concurrency, Duration timeBudget) {
+        return scheduler(pageSize, concurrency, timeBudget, false);
+    }
+
+    private PaymentStatusSyncScheduler scheduler(int pageSize, int concurrency, Duration timeBudget, boolean batchEnabled) {
+        PaymentSyncProperties properties = new PaymentSyncProperties(
+                true, pageSize, concurrency, timeBudget, Duration.ZERO, batchEnabled);
+        SchedulerLeaseProperties leaseProperties = new SchedulerLeaseProperties(true, Duration.ofSeconds(90));
+        return new PaymentStatusSyncScheduler(
+                paymentRepository, paymentFacade, paymentStatusSyncFacade, properties, leaseManager, leaseProperties,
+                meterRegistry);
+    }
+
+    private PaymentStatus slowSync(long millis) throws InterruptedException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(millis);
+            return PaymentStatus.SUCCESS;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private List<Payment> payments(long fromId, long toId) {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> Payment.reconstruct(
+                        id, "user1", id, "TR:" + id, CardType.SAMSUNG, "1234-****-****-3456",
+                        BigDecimal.valueOf(10000), PaymentStatus.PENDING, null, createdAt, createdAt))
+                .toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.loopers.infrastructure.point.credit;
+
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.point.PointTransactionType;
+import com.loopers.domain.user.User;
+import com.loopers.infrastructure.point.PointJpaRepository;
+import com.loopers.infrastructure.point.PointTransactionJpaRepository;
+import com.loopers.infrastructure.user.UserJpaRepository;
+import com.loopers.testcontainers.MySqlTestContainersConfig;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@Import(MySqlTestContainersConfig.class)
+@DisplayName("포인트 일괄 적립 작업 테스트")
+class PointBulkCreditJobTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointCreditCheckpointJpaRepository checkpointRepository;
+
+    @Autowired
+    private PointJpaRepository pointJpaRepository;
+
+    @Autowired
+    private PointTransactionJpaRepository pointTransactionJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @TempDir
+    Path tempDir;
+
+    private PointBulkCreditJob job;
+
+    @BeforeEach
+    void setUp() {
+        PointBulkCreditProperties properties = new PointBulkCreditProperties(
+                false, null, PointCreditSource.Type.FILE, null, 100L, 2, Duration.ZERO);
+        job = new PointBulkCreditJob(pointService, checkpointRepository, properties, transactionManager);
+
+        for (int i = 1; i <= 5; i++) {
+            userJpaRepository.save(User.create("user" + i, "user" + i + "@example.com", "1990-01-01", "MALE"));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("파일의 모든 대상에게 적립하고, 존재하지 않는 사용자는 건너뛴다.")
+    @Test
+    void credit_from_file() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("credits.csv"),
+                "# userId,amount\nuser1,500\nuser2\nunknown,300\nuser3,200\nuser1,100\n");
+
+        // when
+        PointCreditCheckpointEntity result = job.run("campaign-1", PointCreditSource.file(file, 100L));
+
+        // then
+        assertAll(
+                () -> assertThat(result.isCompleted()).isTrue(),
+                () -> assertThat(result.getProcessedCount()).isEqualTo(5L),
+                () -> assertThat(pointJpaRepository.findByUserId("user1").orElseThrow().getAmount()).isEqualTo(600L),
+                () -> assertThat(pointJpaRepository.findByUserId("user2").orElseThrow().getAmount()).isEqualTo(100L),
+                () -> assertThat(pointJpaRepository.findByUserId("user3").orElseThrow().getAmount()).isEqualTo(200L),
+                () -> assertThat(pointJpaRepository.findByUserId("unknown")).isEmpty(),
+                () -> assertThat(pointTransactionJpaRepository.findAll())
+                        .allMatch(tx -> tx.getType() == PointTransactionType.CREDIT)
+        );
+    }
+
+    @DisplayName("체크포인트가 있으면 그 다음 줄부터 이어서 적립한다.")
+    @Test
+    void resume_from_checkpoint() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("credits.csv"), "user1\nuser2\nuser3\nuser4\n");
+        PointCreditCheckpointEntity checkpoint = PointCreditCheckpointEntity.start("campaign-2");
+        checkpoint.advance("2", 2, 2);
+        checkpointRepository.save(checkpoint);
+
+        // when
+        PointCreditCheckpointEntity result = job.run("campaign-2", PointCreditSource.file(file, 100L));
+
+        // then
+        assertAll(
+                () -> assertThat(result.getProcessedCount()).isEqualTo(4L),
+                () -> assertThat(pointJpaRepository.findByUserId("user1")).isEmpty(),
+                () -> assertThat(pointJpaRepository.findByUserId("user3").orElseThrow().getAmount()).isEqualTo(100L),
+                () -> assertThat(pointJpaRepository.findByUserId("user4").orElseThrow().getAmount()).isEqualTo(100L)
+        );
+    }
+
+    @DisplayName("금액이 없는 줄에 적용할 기본 금액이 0 이하면, 그 줄이 든 배치를 적립하지 않고 실패한다.")
+    @Test
+    void file_line_without_positive_amount_fails() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("credits.csv"), "user1,500\nuser2,300\nuser3\nuser4,100\n");
+
+        // when
+        assertThatThrownBy(() -> job.run("campaign-4", PointCreditSource.file(file, 0L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("line=3");
+
+        // then
+        PointCreditCheckpointEntity checkpoint = checkpointRepository.findById("campaign-4").orElseThrow();
+        assertAll(
+                () -> assertThat(checkpoint.isCompleted()).isFalse(),
+                () -> assertThat(checkpoint.getCursor()).isEqualTo("2"),
+                () -> assertThat(pointJpaRepository.findByUserId("user2").orElseThrow().getAmount()).isEqualTo(300L),
+                () -> assertThat(pointJpaRepository.findByUserId("user3")).isEmpty(),
+                () -> assertThat(pointJpaRepository.findByUserId("user4")).isEmpty()
+        );
+    }
+
+    @DisplayName("완료된 작업을 다시 실행하면 중복 적립하지 않는다.")
+    @Test
+    void completed_job_is_not_rerun() {
+        // given
+        job.run("campaign-3", PointCreditSource.users(jdbcTemplate, 1000L));
+
+        // when
+        job.run("campaign-3", PointCreditSource.users(jdbcTemplate, 1000L));
+
+        // then
+        List<Long> amounts = pointJpaRepository.findAll().stream().map(point -> point.getAmount()).toList();
+        assertThat(amounts).hasSize(5).containsOnly(1000L);
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.application.metrics;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+
+import java.util.List;
+
+/**
+ * 상품 지표에 반영할 이벤트
+ * - 이벤트 하나가 여러 상품의 지표를 바꿀 수 있다 (결제 완료 이벤트는 주문의 상품별 판매 수량을 담는다)
+ * - eventId가 없으면 중복 여부를 가리지 않고 반영한다
+ */
+public record ProductMetricsEvent(
+        String eventId,
+        List<ProductMetricsDelta> deltas
+) {
+    public static ProductMetricsEvent of(String eventId, List<ProductMetricsDelta> deltas) {
+        return new ProductMetricsEvent(eventId, deltas);
+    }
+}
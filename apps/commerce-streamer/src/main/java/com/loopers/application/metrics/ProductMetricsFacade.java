@@ -0,0 +1,99 @@
+package com.loopers.application.metrics;
+
+import com.loopers.domain.event.HandledEventRepository;
+import com.loopers.domain.metrics.ProductLikeCount;
+import com.loopers.domain.metrics.ProductLikeCountPublisher;
+import com.loopers.domain.metrics.ProductMetricsAggregation;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 상품 지표 집계 Facade
+ * - 한 번의 폴링에서 받은 이벤트를 상품별로 합쳐 한 트랜잭션에서 반영한다
+ * - 이벤트 건마다 쓰지 않고, product_metrics는 멀티 로우 upsert 한 번으로 갱신한다
+ * - 이미 처리한 이벤트는 건너뛰고, 처리한 이벤트 ID를 지표와 같은 트랜잭션에 기록한다
+ * - 판매 수는 결제 완료 이벤트에 담긴 상품별 수량을 더한다 (commerce-api의 주문 테이블은 읽지 않는다)
+ * - 좋아요 수의 원본은 product_metrics이다. 0 아래로 내려가지 않도록 증감분을 줄여 반영하고,
+ *   바뀐 좋아요 수를 커밋 전에 발행해 commerce-api가 상품 목록 정렬용 products.like_count에 쓰게 한다
+ *   (발행에 실패하면 묶음 전체를 롤백해 다시 받는다. 값은 절댓값이라 다시 발행해도 결과가 같다)
+ * - commerce-api의 상품 캐시는 지우지 않는다. products.like_count는 목록 정렬에만 쓰이고, 목록 캐시는 TTL(1분)로 맞춰진다
+ */
+@Slf4j
+@Service
+public class ProductMetricsFacade {
+
+    private final ProductMetricsRepository productMetricsRepository;
+    private final HandledEventRepository handledEventRepository;
+    private final ProductLikeCountPublisher productLikeCountPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductMetricsFacade(
+            ProductMetricsRepository productMetricsRepository,
+            HandledEventRepository handledEventRepository,
+            ProductLikeCountPublisher productLikeCountPublisher,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.productMetricsRepository = productMetricsRepository;
+        this.handledEventRepository = handledEventRepository;
+        this.productLikeCountPublisher = productLikeCountPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 이벤트 묶음을 상품 지표에 반영한다
+     *
+     * @return 반영한 이벤트 수 (이미 처리한 이벤트 제외)
+     */
+    public int applyEvents(List<ProductMetricsEvent> events) {
+        Integer applied = transactionTemplate.execute(status -> write(events));
+        return applied == null ? 0 : applied;
+    }
+
+    private int write(List<ProductMetricsEvent> events) {
+        ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+        List<String> eventIds = events.stream()
+                .map(ProductMetricsEvent::eventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Set<String> handledIds = handledEventRepository.findHandledIds(eventIds);
+
+        Set<String> newlyHandledIds = new LinkedHashSet<>();
+        int applied = 0;
+        for (ProductMetricsEvent event : events) {
+            String eventId = event.eventId();
+            if (eventId != null && (handledIds.contains(eventId) || !newlyHandledIds.add(eventId))) {
+                continue;
+            }
+            event.deltas().forEach(aggregation::add);
+            applied++;
+        }
+
+        List<Long> likeChangedProductIds = aggregation.likeDeltas().stream()
+                .map(ProductMetricsDelta::productId)
+                .toList();
+        List<ProductLikeCount> likeCounts = likeChangedProductIds.isEmpty()
+                ? List.of()
+                : aggregation.clampLikeDeltas(productMetricsRepository.findLikeCounts(likeChangedProductIds));
+
+        if (!aggregation.isEmpty()) {
+            productMetricsRepository.increaseAll(aggregation.deltas());
+        }
+        handledEventRepository.saveAll(newlyHandledIds);
+        productLikeCountPublisher.publish(likeCounts);
+
+        if (applied < events.size()) {
+            log.info("[상품 지표] 이미 처리한 이벤트 건너뜀: skipped={}", events.size() - applied);
+        }
+        return applied;
+    }
+}
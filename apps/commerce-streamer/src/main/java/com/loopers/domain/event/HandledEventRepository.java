@@ -0,0 +1,15 @@
+package com.loopers.domain.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 처리한 이벤트 기록
+ * - 같은 이벤트가 다시 전달되어도(재시도, 리밸런싱) 집계에 두 번 반영하지 않기 위해 쓴다
+ */
+public interface HandledEventRepository {
+
+    Set<String> findHandledIds(Collection<String> eventIds);
+
+    void saveAll(Collection<String> eventIds);
+}
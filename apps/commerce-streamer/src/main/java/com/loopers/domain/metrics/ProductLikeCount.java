@@ -0,0 +1,11 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 상품 좋아요 수
+ * - product_metrics에 증감분을 반영한 뒤의 좋아요 수이다 (commerce-api에 발행하는 값)
+ */
+public record ProductLikeCount(
+        Long productId,
+        long likeCount
+) {
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.metrics;
+
+import java.util.List;
+
+/**
+ * 상품 좋아요 수 발행
+ * - 좋아요 수의 원본은 product_metrics이고, 바뀐 값을 commerce-api(상품 목록 정렬용 products.like_count)에 알린다
+ */
+public interface ProductLikeCountPublisher {
+
+    /**
+     * 좋아요 수를 발행하고, 브로커가 받을 때까지 기다린다
+     *
+     * @throws IllegalStateException 발행에 실패한 경우 (지표 반영 트랜잭션을 롤백해 묶음을 다시 받게 한다)
+     */
+    void publish(List<ProductLikeCount> likeCounts);
+}
@@ -0,0 +1,72 @@
+package com.loopers.domain.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 지표 집계
+ * - 한 번의 폴링에서 받은 이벤트의 증감분을 상품별로 합친다
+ * - 상품 ID 순으로 꺼내 여러 컨슈머가 같은 행을 갱신해도 잠금 순서가 같다
+ * - 좋아요 수는 현재 값에 더해 0 아래로 내려가지 않도록 증감분을 줄인다 (취소 이벤트만 먼저 도착한 경우 등)
+ */
+public class ProductMetricsAggregation {
+
+    private final Map<Long, ProductMetricsDelta> deltas = new TreeMap<>();
+
+    public void add(ProductMetricsDelta delta) {
+        if (delta.productId() == null) {
+            throw new IllegalArgumentException("상품 ID는 필수입니다.");
+        }
+        deltas.merge(delta.productId(), delta, ProductMetricsDelta::plus);
+    }
+
+    /**
+     * 변화가 있는 상품의 증감분 (상품 ID 순)
+     */
+    public List<ProductMetricsDelta> deltas() {
+        return deltas.values().stream()
+                .filter(delta -> !delta.isEmpty())
+                .toList();
+    }
+
+    /**
+     * 좋아요 수가 바뀐 상품의 증감분 (상품 ID 순)
+     */
+    public List<ProductMetricsDelta> likeDeltas() {
+        return deltas.values().stream()
+                .filter(delta -> delta.likeCount() != 0)
+                .toList();
+    }
+
+    /**
+     * 좋아요 증감분을 현재 좋아요 수에 더했을 때 0 아래로 내려가지 않도록 줄이고, 반영 후의 좋아요 수를 돌려준다
+     *
+     * @param currentLikeCounts 상품별 현재 좋아요 수 (없는 상품은 0으로 본다)
+     * @return 좋아요 수가 바뀌는 상품의 반영 후 좋아요 수 (상품 ID 순)
+     */
+    public List<ProductLikeCount> clampLikeDeltas(Map<Long, Long> currentLikeCounts) {
+        List<ProductLikeCount> likeCounts = new ArrayList<>();
+        for (Map.Entry<Long, ProductMetricsDelta> entry : deltas.entrySet()) {
+            ProductMetricsDelta delta = entry.getValue();
+            if (delta.likeCount() == 0) {
+                continue;
+            }
+
+            long current = currentLikeCounts.getOrDefault(entry.getKey(), 0L);
+            long clamped = Math.max(delta.likeCount(), -current);
+            if (clamped != delta.likeCount()) {
+                entry.setValue(delta.withLikeCount(clamped));
+            }
+            if (clamped != 0) {
+                likeCounts.add(new ProductLikeCount(entry.getKey(), current + clamped));
+            }
+        }
+        return likeCounts;
+    }
+
+    public boolean isEmpty() {
+        return deltas().isEmpty();
+    }
+}
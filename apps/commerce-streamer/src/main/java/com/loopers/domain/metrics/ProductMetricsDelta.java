@@ -0,0 +1,41 @@
+package com.loopers.domain.metrics;
+
+/**
+ * 상품 지표 증감분
+ * - 한 번의 폴링에서 모은 상품별 좋아요/판매/조회 수의 변화량이다
+ */
+public record ProductMetricsDelta(
+        Long productId,
+        long likeCount,
+        long salesCount,
+        long viewCount
+) {
+    public static ProductMetricsDelta like(Long productId, boolean isAdded) {
+        return new ProductMetricsDelta(productId, isAdded ? 1 : -1, 0, 0);
+    }
+
+    public static ProductMetricsDelta sales(Long productId, long quantity) {
+        return new ProductMetricsDelta(productId, 0, quantity, 0);
+    }
+
+    public static ProductMetricsDelta view(Long productId) {
+        return new ProductMetricsDelta(productId, 0, 0, 1);
+    }
+
+    public ProductMetricsDelta plus(ProductMetricsDelta other) {
+        return new ProductMetricsDelta(
+                productId,
+                likeCount + other.likeCount,
+                salesCount + other.salesCount,
+                viewCount + other.viewCount
+        );
+    }
+
+    public ProductMetricsDelta withLikeCount(long likeCount) {
+        return new ProductMetricsDelta(productId, likeCount, salesCount, viewCount);
+    }
+
+    public boolean isEmpty() {
+        return likeCount == 0 && salesCount == 0 && viewCount == 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductMetricsRepository {
+
+    /**
+     * 상품별 증감분을 product_metrics에 더한다 (없는 상품은 새로 만든다)
+     */
+    void increaseAll(List<ProductMetricsDelta> deltas);
+
+    /**
+     * 상품들의 현재 좋아요 수 (product_metrics에 없는 상품은 빠진다)
+     */
+    Map<Long, Long> findLikeCounts(Collection<Long> productIds);
+}
@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리한 이벤트 JPA Entity
+ * - 이벤트 ID는 commerce-api 아웃박스 행의 ID(eventId 헤더)이다
+ */
+@Entity
+@Table(name = "event_handled")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HandledEventEntity {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private LocalDateTime handledAt;
+}
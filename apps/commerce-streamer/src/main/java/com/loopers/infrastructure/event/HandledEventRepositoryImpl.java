@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.HandledEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Repository
+public class HandledEventRepositoryImpl implements HandledEventRepository {
+
+    private static final String FIND_HANDLED_IDS_SQL_PREFIX = "SELECT event_id FROM event_handled WHERE event_id IN (";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO event_handled (event_id, handled_at) VALUES (?, NOW(6))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findHandledIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String sql = FIND_HANDLED_IDS_SQL_PREFIX + String.join(", ", Collections.nCopies(eventIds.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, eventIds.toArray()));
+    }
+
+    @Override
+    public void saveAll(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        // rewriteBatchedStatements=true 설정으로 드라이버가 멀티 로우 INSERT로 합쳐 전송한다.
+        List<String> ids = new ArrayList<>(eventIds);
+        jdbcTemplate.batchUpdate(INSERT_SQL, ids, ids.size(), (ps, eventId) -> ps.setString(1, eventId));
+    }
+}
@@ -0,0 +1,62 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductLikeCount;
+import com.loopers.domain.metrics.ProductLikeCountPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상품 좋아요 수 Kafka 발행
+ * - 상품 ID를 키로 보내 같은 상품의 좋아요 수가 발행 순서대로 소비되게 한다
+ * - 지표 반영 트랜잭션 안에서 묶음 전체를 보내고 결과를 기다린다. 실패하면 예외를 던져 트랜잭션을 롤백한다
+ *   (커밋 뒤에 보내다 실패하면 그 값을 다시 보낼 방법이 없다. 롤백되면 같은 묶음을 다시 받아 다시 보낸다)
+ */
+@Component
+public class ProductLikeCountKafkaPublisher implements ProductLikeCountPublisher {
+
+    // 묶음 전체의 전송 결과를 기다리는 시간 (컨슈머 max.poll.interval보다 충분히 짧아야 한다)
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final String topic;
+
+    public ProductLikeCountKafkaPublisher(
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            @Value("${product-metrics.topics.like-count}") String topic
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    @Override
+    public void publish(List<ProductLikeCount> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<SendResult<Object, Object>>> futures = new ArrayList<>(likeCounts.size());
+        for (ProductLikeCount likeCount : likeCounts) {
+            futures.add(kafkaTemplate.send(topic, String.valueOf(likeCount.productId()), likeCount));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(SEND_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("상품 좋아요 수 발행 실패: topic=" + topic + ", products=" + likeCounts.size(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 좋아요 수 발행 중 인터럽트: topic=" + topic, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.metrics;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 지표 JPA Entity
+ * - 상품별 좋아요/판매/조회 수를 한 행에 모은다
+ * - 판매 수는 결제가 완료된 주문의 수량이다 (주문만 하고 결제하지 않은 수량은 들어가지 않는다)
+ * - 갱신은 ProductMetricsRepositoryImpl의 멀티 로우 upsert로만 하고, 엔티티는 스키마 정의와 조회에 쓴다
+ */
+@Entity
+@Table(name = "product_metrics")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductMetricsEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "sales_count", nullable = false)
+    private long salesCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.metrics;
+
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Repository
+public class ProductMetricsRepositoryImpl implements ProductMetricsRepository {
+
+    // 폴링 한 번(최대 3000건)의 상품 수는 보통 이 안에 들어와 한 문장으로 끝난다
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO product_metrics (product_id, like_count, sales_count, view_count, created_at, updated_at) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, NOW(6), NOW(6))";
+    private static final String UPSERT_SUFFIX =
+            " ON DUPLICATE KEY UPDATE like_count = GREATEST(like_count + VALUES(like_count), 0),"
+                    + " sales_count = sales_count + VALUES(sales_count),"
+                    + " view_count = view_count + VALUES(view_count),"
+                    + " updated_at = VALUES(updated_at)";
+    // 잠그지 않고 읽는다. 같은 상품의 좋아요 이벤트는 키가 같아 한 컨슈머만 처리한다
+    private static final String FIND_LIKE_COUNTS_SQL_PREFIX =
+            "SELECT product_id, like_count FROM product_metrics WHERE product_id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increaseAll(List<ProductMetricsDelta> deltas) {
+        for (int from = 0; from < deltas.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ProductMetricsDelta> chunk = deltas.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, deltas.size()));
+
+            String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), UPSERT_ROW)) + UPSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (ProductMetricsDelta delta : chunk) {
+                args.add(delta.productId());
+                args.add(delta.likeCount());
+                args.add(delta.salesCount());
+                args.add(delta.viewCount());
+            }
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+
+    @Override
+    public Map<Long, Long> findLikeCounts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = FIND_LIKE_COUNTS_SQL_PREFIX + String.join(", ", Collections.nCopies(productIds.size(), "?")) + ")";
+        Map<Long, Long> likeCounts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            likeCounts.put(rs.getLong(1), rs.getLong(2));
+        }, productIds.toArray());
+        return likeCounts;
+    }
+}
@@ -0,0 +1,130 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.metrics.ProductMetricsEvent;
+import com.loopers.application.metrics.ProductMetricsFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 지표 컨슈머
+ * - 좋아요/결제/상품 조회 이벤트를 배치로 받아 상품별 좋아요/판매/조회 수로 집계한다
+ * - 판매 수는 결제가 성공한 주문만 센다. 결제 완료 이벤트에 담긴 상품별 수량(items)을 쓴다
+ *   (상품 항목을 담기 전에 발행된 결제 이벤트는 판매 수에 반영하지 않고 처리한 것으로만 기록한다)
+ * - 폴링 한 번(최대 3000건)을 한 묶음으로 반영하고, 반영이 끝난 뒤에 오프셋을 커밋한다
+ * - 이벤트 종류는 commerce-api 아웃박스 릴레이가 붙이는 eventType 헤더로 구분한다
+ * - 해석할 수 없는 메시지는 로그만 남기고 건너뛴다 (묶음 전체를 막지 않는다)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductMetricsConsumer {
+
+    private static final String HEADER_EVENT_ID = "eventId";
+    private static final String HEADER_EVENT_TYPE = "eventType";
+
+    private static final String LIKE_TOGGLED = "LikeToggledEvent";
+    private static final String PAYMENT_COMPLETED = "PaymentCompletedEvent";
+    private static final String PAYMENT_SUCCESS = "SUCCESS";
+    private static final String PRODUCT_VIEWED = "ProductViewedEvent";
+
+    private final ProductMetricsFacade productMetricsFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {
+            "${product-metrics.topics.like}",
+            "${product-metrics.topics.payment}",
+            "${product-metrics.topics.view}"
+        },
+        groupId = "${product-metrics.group-id}",
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(
+        List<ConsumerRecord<Object, Object>> messages,
+        Acknowledgment acknowledgment
+    ) {
+        List<ProductMetricsEvent> events = new ArrayList<>(messages.size());
+        for (ConsumerRecord<Object, Object> message : messages) {
+            ProductMetricsEvent event = toEvent(message);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+
+        if (!events.isEmpty()) {
+            int applied = productMetricsFacade.applyEvents(events);
+            log.debug("[상품 지표] 배치 반영 완료: received={}, applied={}", messages.size(), applied);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private ProductMetricsEvent toEvent(ConsumerRecord<Object, Object> message) {
+        String eventType = header(message, HEADER_EVENT_TYPE);
+        if (eventType == null || message.value() == null) {
+            log.warn("[상품 지표] 이벤트 종류를 알 수 없어 건너뜀: topic={}, offset={}", message.topic(), message.offset());
+            return null;
+        }
+
+        try {
+            JsonNode payload = readPayload(message.value());
+            String eventId = header(message, HEADER_EVENT_ID);
+            return switch (eventType) {
+                case LIKE_TOGGLED -> ProductMetricsEvent.of(eventId, List.of(ProductMetricsDelta.like(
+                        payload.get("productId").asLong(), isAdded(payload))));
+                case PAYMENT_COMPLETED -> PAYMENT_SUCCESS.equals(payload.path("status").asText())
+                        ? ProductMetricsEvent.of(eventId, sales(payload.path("items")))
+                        : null;
+                case PRODUCT_VIEWED -> ProductMetricsEvent.of(eventId,
+                        List.of(ProductMetricsDelta.view(payload.get("productId").asLong())));
+                default -> null;
+            };
+        } catch (Exception e) {
+            log.error("[상품 지표] 이벤트 해석 실패로 건너뜀: topic={}, offset={}, eventType={}, error={}",
+                    message.topic(), message.offset(), eventType, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<ProductMetricsDelta> sales(JsonNode items) {
+        List<ProductMetricsDelta> sales = new ArrayList<>(items.size());
+        for (JsonNode item : items) {
+            sales.add(ProductMetricsDelta.sales(item.get("productId").asLong(), item.get("quantity").asLong()));
+        }
+        return sales;
+    }
+
+    // 레코드의 boolean 컴포넌트는 직렬화 설정에 따라 isAdded 또는 added로 나간다
+    private boolean isAdded(JsonNode payload) {
+        JsonNode isAdded = payload.has("isAdded") ? payload.get("isAdded") : payload.get("added");
+        if (isAdded == null) {
+            throw new IllegalArgumentException("좋아요 여부가 없습니다.");
+        }
+        return isAdded.asBoolean();
+    }
+
+    private JsonNode readPayload(Object value) throws IOException {
+        if (value instanceof byte[] bytes) {
+            return objectMapper.readTree(bytes);
+        }
+        return objectMapper.readTree(value.toString());
+    }
+
+    private String header(ConsumerRecord<Object, Object> message, String key) {
+        Header header = message.headers().lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
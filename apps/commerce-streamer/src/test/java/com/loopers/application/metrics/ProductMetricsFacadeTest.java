@@ -0,0 +1,167 @@
+package com.loopers.application.metrics;
+
+import com.loopers.domain.event.HandledEventRepository;
+import com.loopers.domain.metrics.ProductLikeCount;
+import com.loopers.domain.metrics.ProductLikeCountPublisher;
+import com.loopers.domain.metrics.ProductMetricsDelta;
+import com.loopers.domain.metrics.ProductMetricsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("상품 지표 집계 Facade 테스트")
+class ProductMetricsFacadeTest {
+
+    private ProductMetricsRepository productMetricsRepository;
+    private HandledEventRepository handledEventRepository;
+    private ProductLikeCountPublisher productLikeCountPublisher;
+    private PlatformTransactionManager transactionManager;
+    private ProductMetricsFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        productMetricsRepository = mock(ProductMetricsRepository.class);
+        handledEventRepository = mock(HandledEventRepository.class);
+        productLikeCountPublisher = mock(ProductLikeCountPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        facade = new ProductMetricsFacade(
+                productMetricsRepository, handledEventRepository, productLikeCountPublisher, transactionManager);
+
+        when(handledEventRepository.findHandledIds(anyCollection())).thenReturn(Set.of());
+        when(productMetricsRepository.findLikeCounts(anyCollection())).thenReturn(Map.of());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductMetricsDelta> increasedDeltas() {
+        ArgumentCaptor<List<ProductMetricsDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productMetricsRepository).increaseAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<String> savedHandledIds() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(handledEventRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("좋아요/판매/조회 이벤트를 상품별로 합쳐 한 번에 반영하고, 처리한 이벤트 ID를 기록한다")
+    void applyEvents_aggregatesPerProductAndType() {
+        // given
+        List<ProductMetricsEvent> events = List.of(
+                ProductMetricsEvent.of("e1", List.of(ProductMetricsDelta.like(1L, true))),
+                ProductMetricsEvent.of("e2", List.of(ProductMetricsDelta.sales(1L, 2), ProductMetricsDelta.sales(2L, 1))),
+                ProductMetricsEvent.of("e3", List.of(ProductMetricsDelta.view(2L))),
+                ProductMetricsEvent.of("e4", List.of(ProductMetricsDelta.sales(1L, 3)))
+        );
+
+        // when
+        int applied = facade.applyEvents(events);
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isEqualTo(4),
+                () -> assertThat(increasedDeltas()).containsExactly(
+                        new ProductMetricsDelta(1L, 1, 5, 0),
+                        new ProductMetricsDelta(2L, 0, 1, 1)),
+                () -> assertThat(savedHandledIds()).containsExactly("e1", "e2", "e3", "e4"),
+                () -> verify(productLikeCountPublisher).publish(List.of(new ProductLikeCount(1L, 1)))
+        );
+    }
+
+    @Test
+    @DisplayName("이미 처리한 이벤트와 같은 묶음 안에서 중복된 이벤트는 한 번만 반영하고, eventId가 없는 이벤트는 그대로 반영한다")
+    void applyEvents_skipsHandledAndDuplicatedEvents() {
+        // given
+        when(handledEventRepository.findHandledIds(anyCollection())).thenReturn(Set.of("e1"));
+        List<ProductMetricsEvent> events = List.of(
+                ProductMetricsEvent.of("e1", List.of(ProductMetricsDelta.view(1L))),
+                ProductMetricsEvent.of("e2", List.of(ProductMetricsDelta.view(1L))),
+                ProductMetricsEvent.of("e2", List.of(ProductMetricsDelta.view(1L))),
+                ProductMetricsEvent.of(null, List.of(ProductMetricsDelta.view(1L)))
+        );
+
+        // when
+        int applied = facade.applyEvents(events);
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isEqualTo(2),
+                () -> assertThat(increasedDeltas()).containsExactly(new ProductMetricsDelta(1L, 0, 0, 2)),
+                () -> assertThat(savedHandledIds()).containsExactly("e2"),
+                () -> verify(productLikeCountPublisher).publish(List.of())
+        );
+    }
+
+    @Test
+    @DisplayName("모두 이미 처리한 이벤트면 지표를 쓰지 않는다")
+    void applyEvents_allHandled_writesNothing() {
+        // given
+        when(handledEventRepository.findHandledIds(anyCollection())).thenReturn(Set.of("e1"));
+
+        // when
+        int applied = facade.applyEvents(List.of(ProductMetricsEvent.of("e1", List.of(ProductMetricsDelta.like(1L, true)))));
+
+        // then
+        assertAll(
+                () -> assertThat(applied).isZero(),
+                () -> verify(productMetricsRepository, never()).increaseAll(anyList()),
+                () -> verify(productMetricsRepository, never()).findLikeCounts(anyCollection())
+        );
+    }
+
+    @Test
+    @DisplayName("좋아요 취소가 현재 좋아요 수보다 많으면 0까지만 줄여 반영하고, 반영 후의 좋아요 수를 발행한다")
+    void applyEvents_clampsNegativeLikeCounts() {
+        // given
+        when(productMetricsRepository.findLikeCounts(anyCollection())).thenReturn(Map.of(1L, 1L));
+        List<ProductMetricsEvent> events = List.of(
+                ProductMetricsEvent.of("e1", List.of(ProductMetricsDelta.like(1L, false))),
+                ProductMetricsEvent.of("e2", List.of(ProductMetricsDelta.like(1L, false))),
+                ProductMetricsEvent.of("e3", List.of(ProductMetricsDelta.like(2L, false)))
+        );
+
+        // when
+        facade.applyEvents(events);
+
+        // then
+        assertAll(
+                () -> assertThat(increasedDeltas()).containsExactly(new ProductMetricsDelta(1L, -1, 0, 0)),
+                () -> verify(productLikeCountPublisher).publish(List.of(new ProductLikeCount(1L, 0)))
+        );
+    }
+
+    @Test
+    @DisplayName("좋아요 수 발행에 실패하면 예외를 던지고 트랜잭션을 롤백한다 (묶음을 다시 받는다)")
+    void applyEvents_publishFailure_rollsBack() {
+        // given
+        doThrow(new IllegalStateException("브로커 연결 실패")).when(productLikeCountPublisher).publish(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> facade.applyEvents(
+                List.of(ProductMetricsEvent.of("e1", List.of(ProductMetricsDelta.like(1L, true))))))
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+}
@@ -0,0 +1,140 @@
+package com.loopers.domain.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@DisplayName("상품 지표 집계 테스트")
+class ProductMetricsAggregationTest {
+
+    @Nested
+    @DisplayName("증감분 합치기")
+    class Add {
+
+        @Test
+        @DisplayName("같은 상품의 좋아요/판매/조회 증감분을 종류별로 합친다")
+        void add_sumsDeltasPerProductAndType() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+
+            // when
+            aggregation.add(ProductMetricsDelta.like(1L, true));
+            aggregation.add(ProductMetricsDelta.like(1L, true));
+            aggregation.add(ProductMetricsDelta.like(1L, false));
+            aggregation.add(ProductMetricsDelta.sales(1L, 3));
+            aggregation.add(ProductMetricsDelta.sales(1L, 2));
+            aggregation.add(ProductMetricsDelta.view(1L));
+
+            // then
+            assertThat(aggregation.deltas()).containsExactly(new ProductMetricsDelta(1L, 1, 5, 1));
+        }
+
+        @Test
+        @DisplayName("상품 ID 순으로 꺼내고, 합쳐서 변화가 없는 상품은 빼고, 좋아요가 바뀐 상품만 따로 꺼낼 수 있다")
+        void deltas_areOrderedByProductIdWithoutEmptyOnes() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+
+            // when
+            aggregation.add(ProductMetricsDelta.view(3L));
+            aggregation.add(ProductMetricsDelta.like(2L, true));
+            aggregation.add(ProductMetricsDelta.like(2L, false));
+            aggregation.add(ProductMetricsDelta.like(1L, true));
+
+            // then
+            assertAll(
+                    () -> assertThat(aggregation.deltas()).extracting(ProductMetricsDelta::productId)
+                            .containsExactly(1L, 3L),
+                    () -> assertThat(aggregation.likeDeltas()).extracting(ProductMetricsDelta::productId)
+                            .containsExactly(1L),
+                    () -> assertThat(aggregation.isEmpty()).isFalse()
+            );
+        }
+
+        @Test
+        @DisplayName("상품 ID가 없는 증감분은 예외가 발생한다")
+        void add_withoutProductId_throwsException() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+
+            // when & then
+            assertThatThrownBy(() -> aggregation.add(ProductMetricsDelta.view(null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 수 음수 방지")
+    class ClampLikeDeltas {
+
+        @Test
+        @DisplayName("현재 좋아요 수보다 많이 줄어들면 0까지만 줄이고, 다른 지표의 증감분은 그대로 둔다")
+        void clamp_limitsDecreaseToCurrentCount() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+            aggregation.add(ProductMetricsDelta.like(1L, false));
+            aggregation.add(ProductMetricsDelta.like(1L, false));
+            aggregation.add(ProductMetricsDelta.like(1L, false));
+            aggregation.add(ProductMetricsDelta.sales(1L, 2));
+
+            // when
+            List<ProductLikeCount> likeCounts = aggregation.clampLikeDeltas(Map.of(1L, 1L));
+
+            // then
+            assertAll(
+                    () -> assertThat(likeCounts).containsExactly(new ProductLikeCount(1L, 0)),
+                    () -> assertThat(aggregation.deltas()).containsExactly(new ProductMetricsDelta(1L, -1, 2, 0))
+            );
+        }
+
+        @Test
+        @DisplayName("지표가 없는 상품은 현재 좋아요 수를 0으로 보고, 취소만 들어오면 좋아요 증감분을 없앤다")
+        void clamp_treatsMissingProductAsZero() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+            aggregation.add(ProductMetricsDelta.like(1L, false));
+            aggregation.add(ProductMetricsDelta.like(2L, true));
+
+            // when
+            List<ProductLikeCount> likeCounts = aggregation.clampLikeDeltas(Map.of());
+
+            // then
+            assertAll(
+                    () -> assertThat(likeCounts).containsExactly(new ProductLikeCount(2L, 1)),
+                    () -> assertThat(aggregation.deltas()).containsExactly(new ProductMetricsDelta(2L, 1, 0, 0)),
+                    () -> assertThat(aggregation.likeDeltas()).extracting(ProductMetricsDelta::productId)
+                            .containsExactly(2L)
+            );
+        }
+
+        @Test
+        @DisplayName("0 아래로 내려가지 않으면 증감분을 그대로 두고, 반영 후의 좋아요 수를 상품 ID 순으로 돌려준다")
+        void clamp_returnsCountsAfterApplyingDeltas() {
+            // given
+            ProductMetricsAggregation aggregation = new ProductMetricsAggregation();
+            aggregation.add(ProductMetricsDelta.like(2L, false));
+            aggregation.add(ProductMetricsDelta.like(1L, true));
+            aggregation.add(ProductMetricsDelta.view(3L));
+
+            // when
+            List<ProductLikeCount> likeCounts = aggregation.clampLikeDeltas(Map.of(1L, 10L, 2L, 5L, 3L, 7L));
+
+            // then
+            assertAll(
+                    () -> assertThat(likeCounts).containsExactly(
+                            new ProductLikeCount(1L, 11), new ProductLikeCount(2L, 4)),
+                    () -> assertThat(aggregation.deltas()).containsExactly(
+                            new ProductMetricsDelta(1L, 1, 0, 0),
+                            new ProductMetricsDelta(2L, -1, 0, 0),
+                            new ProductMetricsDelta(3L, 0, 0, 1))
+            );
+        }
+    }
+}
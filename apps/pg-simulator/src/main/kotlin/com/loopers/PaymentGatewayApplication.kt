@@ -5,10 +5,12 @@ import org.springframework.boot.autoconfigure.SpringBootApplication
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan
 import org.springframework.boot.runApplication
 import org.springframework.scheduling.annotation.EnableAsync
+import org.springframework.scheduling.annotation.EnableScheduling
 import java.util.TimeZone
 
 @ConfigurationPropertiesScan
 @EnableAsync
+@EnableScheduling
 @SpringBootApplication
 class PaymentGatewayApplication {
 
@@ -1,5 +1,6 @@
 package com.loopers.application.payment
 
+import com.loopers.application.simulation.ProcessingOutcome
 import com.loopers.domain.payment.Payment
 import com.loopers.domain.payment.PaymentEvent
 import com.loopers.domain.payment.PaymentEventPublisher
@@ -20,8 +21,7 @@ class PaymentApplicationService(
     private val transactionKeyGenerator: TransactionKeyGenerator,
 ) {
     companion object {
-        private val RATE_LIMIT_EXCEEDED = (1..20)
-        private val RATE_INVALID_CARD = (21..30)
+        const val MAX_STATUS_BATCH_SIZE = 1000
     }
 
     @Transactional
@@ -66,16 +66,32 @@ class PaymentApplicationService(
         )
     }
 
+    /**
+     * 거래 키 목록으로 결제 상태를 한 번에 조회한다. (가맹점 대사용, 사용자 구분 없이 IN 조회 한 번)
+     * - 존재하지 않는 거래 키는 결과에서 빠진다.
+     */
+    @Transactional(readOnly = true)
+    fun findTransactionsByKeys(transactionKeys: List<String>): List<TransactionInfo> {
+        if (transactionKeys.isEmpty() || transactionKeys.size > MAX_STATUS_BATCH_SIZE) {
+            throw CoreException(ErrorType.BAD_REQUEST, "거래 키는 1개 이상 ${MAX_STATUS_BATCH_SIZE}개 이하로 요청해야 합니다.")
+        }
+        return paymentRepository.findAllByTransactionKeys(transactionKeys.toSet())
+            .map { TransactionInfo.from(it) }
+    }
+
+    /**
+     * 부하 프로필이 정한 결과로 결제를 처리한다. (TIMEOUT은 처리하지 않고 PENDING으로 남긴다)
+     */
     @Transactional
-    fun handle(transactionKey: String) {
+    fun handle(transactionKey: String, outcome: ProcessingOutcome) {
         val payment = paymentRepository.findByTransactionKey(transactionKey)
             ?: throw CoreException(ErrorType.NOT_FOUND, "(transactionKey: $transactionKey) 결제건이 존재하지 않습니다.")
 
-        val rate = (1..100).random()
-        when (rate) {
-            in RATE_LIMIT_EXCEEDED -> payment.limitExceeded()
-            in RATE_INVALID_CARD -> payment.invalidCard()
-            else -> payment.approve()
+        when (outcome) {
+            ProcessingOutcome.LIMIT_EXCEEDED -> payment.limitExceeded()
+            ProcessingOutcome.INVALID_CARD -> payment.invalidCard()
+            ProcessingOutcome.APPROVED -> payment.approve()
+            ProcessingOutcome.TIMEOUT -> return
         }
         paymentEventPublisher.publish(event = PaymentEvent.PaymentHandled.from(payment))
     }
@@ -0,0 +1,13 @@
+package com.loopers.application.payment
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * 결제 처리 설정
+ * - 처리 지연과 결과 비율은 적용 중인 부하 프로필(pg.load)을 따른다.
+ * - 지연이 끝난 결제는 가상 스레드에서 처리하되, 동시에 처리하는 결제 수를 handlerConcurrency로 제한한다. (DB 커넥션 풀 보호)
+ */
+@ConfigurationProperties(prefix = "pg.processing")
+data class PaymentProcessingProperties(
+    val handlerConcurrency: Int = 32,
+)
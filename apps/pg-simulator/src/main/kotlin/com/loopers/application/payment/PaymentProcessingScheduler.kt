@@ -0,0 +1,102 @@
+package com.loopers.application.payment
+
+import com.loopers.application.simulation.LoadProfileRegistry
+import com.loopers.application.simulation.ProcessingOutcome
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.Executors
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 결제 처리 지연 스케줄러
+ * - 결제마다 스레드를 잠재우지 않고, 지연 큐(ScheduledThreadPoolExecutor)에 처리 시각을 등록해 둔다.
+ *   대기 중인 결제는 큐의 작업 하나로만 남으므로 수만 건이 동시에 대기해도 스레드를 쓰지 않는다.
+ * - 처리 지연과 결과는 등록 시점에 부하 프로필에서 정한다. (결과가 TIMEOUT이면 등록하지 않고 PENDING으로 남긴다)
+ * - 타이머 스레드는 처리 시각이 된 결제를 가상 스레드로 넘기기만 하고, DB 처리는 가상 스레드에서 한다.
+ * - 지표: pg.processing.queue.depth (지연 대기 중), pg.processing.inflight (처리 중),
+ *   pg.processing.delay.lateness (예정 시각보다 늦게 처리를 시작한 시간)
+ */
+@Component
+class PaymentProcessingScheduler(
+    private val paymentApplicationService: PaymentApplicationService,
+    private val loadProfileRegistry: LoadProfileRegistry,
+    properties: PaymentProcessingProperties,
+    meterRegistry: MeterRegistry,
+) {
+    companion object {
+        private val logger = LoggerFactory.getLogger(PaymentProcessingScheduler::class.java)
+    }
+
+    private val delayQueue = ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("pg-processing-timer").factory()).apply {
+        // 처리 전에 종료되면 대기 중인 결제는 PENDING으로 남는다 (종료 후 실행하지 않는다)
+        executeExistingDelayedTasksAfterShutdownPolicy = false
+        removeOnCancelPolicy = true
+    }
+    private val handlers = Executors.newVirtualThreadPerTaskExecutor()
+    private val handlerPermits = Semaphore(properties.handlerConcurrency)
+
+    private val queueDepth = AtomicInteger()
+    private val inFlight = AtomicInteger()
+    private val latenessTimer = Timer.builder("pg.processing.delay.lateness")
+        .description("예정된 처리 시각보다 늦게 처리를 시작한 시간")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("pg.processing.queue.depth", queueDepth) { it.get().toDouble() }
+            .description("처리 시각을 기다리는 결제 수")
+            .register(meterRegistry)
+        Gauge.builder("pg.processing.inflight", inFlight) { it.get().toDouble() }
+            .description("처리 중인 결제 수")
+            .register(meterRegistry)
+    }
+
+    /**
+     * 결제를 부하 프로필이 정한 지연 후 처리하도록 등록한다. (호출한 스레드를 막지 않는다)
+     */
+    fun schedule(transactionKey: String) {
+        val decision = loadProfileRegistry.current().nextProcessing()
+        if (decision.outcome == ProcessingOutcome.TIMEOUT) {
+            logger.info("부하 프로필에 따라 결제를 처리하지 않습니다. (transactionKey: {})", transactionKey)
+            return
+        }
+        schedule(transactionKey, decision.delay, decision.outcome)
+    }
+
+    fun schedule(transactionKey: String, delay: Duration, outcome: ProcessingOutcome) {
+        val dueAtNanos = System.nanoTime() + delay.toNanos()
+        queueDepth.incrementAndGet()
+        delayQueue.schedule(Runnable { dispatch(transactionKey, outcome, dueAtNanos) }, delay.toNanos(), TimeUnit.NANOSECONDS)
+    }
+
+    private fun dispatch(transactionKey: String, outcome: ProcessingOutcome, dueAtNanos: Long) {
+        queueDepth.decrementAndGet()
+        handlers.execute {
+            handlerPermits.acquire()
+            inFlight.incrementAndGet()
+            try {
+                latenessTimer.record((System.nanoTime() - dueAtNanos).coerceAtLeast(0L), TimeUnit.NANOSECONDS)
+                paymentApplicationService.handle(transactionKey, outcome)
+            } catch (e: Exception) {
+                logger.error("결제 처리를 실패했습니다. (transactionKey: {}) {}", transactionKey, e.message, e)
+            } finally {
+                inFlight.decrementAndGet()
+                handlerPermits.release()
+            }
+        }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        delayQueue.shutdown()
+        handlers.shutdown()
+    }
+}
@@ -0,0 +1,106 @@
+package com.loopers.application.simulation
+
+import java.time.Duration
+import java.util.Random
+
+/**
+ * 적용 중인 부하 프로필
+ * - 프로필을 적용할 때마다 새로 만들어지며, 시드로 초기화한 난수열과 브라운아웃 기준 시각, 요청 수 제한 상태를 가진다.
+ * - API 장애와 결제 처리는 서로 다른 난수열을 써서, API 호출 수가 달라져도 결제 결과 순서는 바뀌지 않는다.
+ * - 결제 처리 지연과 결과는 결제가 생성된 순서대로 한 번에 정한다. (처리 완료 순서와 무관하게 재현된다)
+ */
+class ActiveLoadProfile(
+    val name: String,
+    val profile: LoadProfile,
+    val seed: Long,
+) {
+    companion object {
+        private const val PROCESSING_STREAM = 0x5DEECE66DL
+    }
+
+    private val activatedAtNanos = System.nanoTime()
+    private val apiRandom = Random(seed)
+    private val processingRandom = Random(seed xor PROCESSING_STREAM)
+    private val rateLimiter = if (profile.rateLimit > 0) RateLimiter(profile.rateLimit) else null
+
+    /**
+     * 초당 요청 수 제한을 통과하면 true
+     */
+    fun tryAcquire(): Boolean = rateLimiter?.tryAcquire() ?: true
+
+    /**
+     * API 호출 1건에 적용할 지연과 장애를 정한다. (브라운아웃 구간이면 지연을 더하고 실패 비율을 높인다)
+     */
+    fun nextApiFault(faults: LoadProfile.ApiFaults): ApiFault {
+        val brownout = activeBrownout()
+        val errorRate = maxOf(faults.errorRate, brownout?.errorRate ?: 0.0)
+        val latency = faults.latency.sample(apiRandom).plus(brownout?.extraLatency ?: Duration.ZERO)
+
+        val roll = apiRandom.nextDouble()
+        return when {
+            roll < faults.timeoutRate -> ApiFault(faults.timeout, ApiFault.Type.TIMEOUT, brownout != null)
+            roll < faults.timeoutRate + errorRate -> ApiFault(latency, ApiFault.Type.ERROR, brownout != null)
+            else -> ApiFault(latency, ApiFault.Type.NONE, brownout != null)
+        }
+    }
+
+    /**
+     * 결제 1건의 처리 지연과 결과를 정한다.
+     */
+    fun nextProcessing(): ProcessingDecision {
+        val faults = profile.processing
+        synchronized(processingRandom) {
+            val delay = faults.latency.sample(processingRandom)
+            val roll = processingRandom.nextDouble()
+            val outcome = when {
+                roll < faults.limitExceededRate -> ProcessingOutcome.LIMIT_EXCEEDED
+                roll < faults.limitExceededRate + faults.invalidCardRate -> ProcessingOutcome.INVALID_CARD
+                roll < faults.limitExceededRate + faults.invalidCardRate + faults.timeoutRate -> ProcessingOutcome.TIMEOUT
+                else -> ProcessingOutcome.APPROVED
+            }
+            return ProcessingDecision(delay, outcome)
+        }
+    }
+
+    private fun activeBrownout(): LoadProfile.Brownout? {
+        if (profile.brownouts.isEmpty()) {
+            return null
+        }
+        val elapsed = Duration.ofNanos(System.nanoTime() - activatedAtNanos)
+        return profile.brownouts.firstOrNull { it.isActive(elapsed) }
+    }
+
+    data class ApiFault(
+        val latency: Duration,
+        val type: Type,
+        val brownout: Boolean,
+    ) {
+        enum class Type { NONE, ERROR, TIMEOUT }
+    }
+
+    data class ProcessingDecision(
+        val delay: Duration,
+        val outcome: ProcessingOutcome,
+    )
+
+    /**
+     * 초당 permitsPerSecond개를 채우는 토큰 버킷 (순간 최대 permitsPerSecond개까지 허용)
+     */
+    private class RateLimiter(private val permitsPerSecond: Int) {
+        private val nanosPerPermit = 1_000_000_000.0 / permitsPerSecond
+        private var permits = permitsPerSecond.toDouble()
+        private var refilledAtNanos = System.nanoTime()
+
+        @Synchronized
+        fun tryAcquire(): Boolean {
+            val now = System.nanoTime()
+            permits = minOf(permitsPerSecond.toDouble(), permits + (now - refilledAtNanos) / nanosPerPermit)
+            refilledAtNanos = now
+            if (permits < 1.0) {
+                return false
+            }
+            permits -= 1.0
+            return true
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.loopers.application.simulation
+
+import java.time.Duration
+import java.util.Random
+import kotlin.math.exp
+
+/**
+ * 지연 시간 분포
+ * - FIXED: 항상 value
+ * - UNIFORM: min ~ max 균등 분포
+ * - LOGNORMAL: 중앙값 median, 퍼짐 sigma의 로그정규 분포 (대부분 빠르고 드물게 긴 꼬리)
+ * - BIMODAL: slowRatio 확률로 slowMedian, 나머지는 median을 중앙값으로 하는 로그정규 분포 (캐시 미스, GC 등 느린 경로가 섞인 경우)
+ * - LOGNORMAL, BIMODAL은 max가 0보다 크면 min ~ max로 자른다.
+ */
+data class LatencyDistribution(
+    val type: Type = Type.FIXED,
+    val value: Duration = Duration.ZERO,
+    val min: Duration = Duration.ZERO,
+    val max: Duration = Duration.ZERO,
+    val median: Duration = Duration.ZERO,
+    val sigma: Double = 0.5,
+    val slowMedian: Duration = Duration.ZERO,
+    val slowRatio: Double = 0.0,
+) {
+    enum class Type { FIXED, UNIFORM, LOGNORMAL, BIMODAL }
+
+    init {
+        require(!min.isNegative && !max.isNegative && !value.isNegative) { "지연 시간은 음수일 수 없습니다." }
+        require(type != Type.UNIFORM || min <= max) { "균등 분포의 min은 max보다 클 수 없습니다. (min: $min, max: $max)" }
+        require(sigma >= 0.0) { "sigma는 0 이상이어야 합니다. (sigma: $sigma)" }
+        require(slowRatio in 0.0..1.0) { "slowRatio는 0 ~ 1 사이여야 합니다. (slowRatio: $slowRatio)" }
+    }
+
+    fun sample(random: Random): Duration {
+        val millis = when (type) {
+            Type.FIXED -> value.toMillis()
+            Type.UNIFORM -> random.nextLong(min.toMillis(), max.toMillis() + 1)
+            Type.LOGNORMAL -> clamp(logNormal(random, median))
+            Type.BIMODAL -> clamp(logNormal(random, if (random.nextDouble() < slowRatio) slowMedian else median))
+        }
+        return Duration.ofMillis(millis)
+    }
+
+    private fun logNormal(random: Random, median: Duration): Long =
+        (median.toMillis() * exp(sigma * random.nextGaussian())).toLong()
+
+    private fun clamp(millis: Long): Long =
+        if (max.isZero) millis.coerceAtLeast(0L) else millis.coerceIn(min.toMillis(), max.toMillis())
+
+    companion object {
+        fun fixed(value: Duration) = LatencyDistribution(type = Type.FIXED, value = value)
+
+        fun uniform(min: Duration, max: Duration) = LatencyDistribution(type = Type.UNIFORM, min = min, max = max)
+    }
+}
@@ -0,0 +1,89 @@
+package com.loopers.application.simulation
+
+import java.time.Duration
+
+/**
+ * 시뮬레이터 부하 프로필
+ * - request: 결제 요청(POST) API의 응답 지연과 장애
+ * - query: 결제 조회(GET) API의 응답 지연과 장애
+ * - processing: 결제 요청 후 승인/거절까지의 처리 지연과 결과 비율
+ * - rateLimit: 결제 API 전체의 초당 허용 요청 수 (넘으면 429, 0이면 제한 없음)
+ * - brownouts: 주기적으로 돌아오는 부분 장애 구간
+ * - 기본값은 프로필 도입 전 시뮬레이터의 동작과 같다.
+ */
+data class LoadProfile(
+    val request: ApiFaults = ApiFaults(
+        latency = LatencyDistribution.uniform(Duration.ofMillis(100), Duration.ofMillis(500)),
+        errorRate = 0.4,
+    ),
+    val query: ApiFaults = ApiFaults(),
+    val processing: ProcessingFaults = ProcessingFaults(),
+    val rateLimit: Int = 0,
+    val brownouts: List<Brownout> = emptyList(),
+) {
+    init {
+        require(rateLimit >= 0) { "rateLimit은 0 이상이어야 합니다. (rateLimit: $rateLimit)" }
+    }
+
+    /**
+     * API 장애 설정
+     * - errorRate 확률로 500 응답, timeoutRate 확률로 timeout만큼 붙잡아 두었다가 500 응답 (클라이언트 타임아웃 유도)
+     */
+    data class ApiFaults(
+        val latency: LatencyDistribution = LatencyDistribution(),
+        val errorRate: Double = 0.0,
+        val timeoutRate: Double = 0.0,
+        val timeout: Duration = Duration.ofSeconds(10),
+    ) {
+        init {
+            requireRates(errorRate, timeoutRate)
+        }
+    }
+
+    /**
+     * 결제 처리 설정
+     * - 나머지 비율(1 - limitExceededRate - invalidCardRate - timeoutRate)은 승인된다.
+     * - timeoutRate 확률로 결제를 처리하지 않아 PENDING으로 남기고 콜백도 보내지 않는다. (결과 유실)
+     */
+    data class ProcessingFaults(
+        val latency: LatencyDistribution = LatencyDistribution.uniform(Duration.ofSeconds(1), Duration.ofSeconds(5)),
+        val limitExceededRate: Double = 0.2,
+        val invalidCardRate: Double = 0.1,
+        val timeoutRate: Double = 0.0,
+    ) {
+        init {
+            requireRates(limitExceededRate, invalidCardRate, timeoutRate)
+        }
+    }
+
+    /**
+     * 부분 장애 구간
+     * - 프로필 적용 시점부터 offset 후, period마다 duration 동안 API 응답에 extraLatency를 더하고 errorRate로 실패시킨다.
+     */
+    data class Brownout(
+        val period: Duration,
+        val duration: Duration,
+        val offset: Duration = Duration.ZERO,
+        val extraLatency: Duration = Duration.ZERO,
+        val errorRate: Double = 0.0,
+    ) {
+        init {
+            require(period.isPositive) { "브라운아웃 주기는 0보다 커야 합니다. (period: $period)" }
+            require(!duration.isNegative && duration <= period) { "브라운아웃 구간은 0 ~ period 사이여야 합니다. (duration: $duration)" }
+            requireRates(errorRate)
+        }
+
+        fun isActive(elapsed: Duration): Boolean {
+            val sinceOffset = elapsed.minus(offset)
+            if (sinceOffset.isNegative) {
+                return false
+            }
+            return sinceOffset.toMillis() % period.toMillis() < duration.toMillis()
+        }
+    }
+}
+
+private fun requireRates(vararg rates: Double) {
+    require(rates.all { it in 0.0..1.0 }) { "비율은 0 ~ 1 사이여야 합니다. (${rates.joinToString()})" }
+    require(rates.sum() <= 1.0) { "비율의 합은 1을 넘을 수 없습니다. (${rates.joinToString()})" }
+}
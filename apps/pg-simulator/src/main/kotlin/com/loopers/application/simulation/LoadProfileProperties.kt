@@ -0,0 +1,16 @@
+package com.loopers.application.simulation
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+
+/**
+ * 부하 프로필 설정
+ * - profiles에 이름별 프로필을 정의하고, 시작 시 active 프로필을 적용한다. (실행 중에는 관리 API로 바꾼다)
+ * - "default" 프로필은 따로 정의하지 않아도 기본 동작으로 제공된다.
+ * - seed를 지정하면 같은 순서의 요청에 대해 지연과 결과가 매번 같다. (지정하지 않으면 임의 시드를 쓰고 로그에 남긴다)
+ */
+@ConfigurationProperties(prefix = "pg.load")
+data class LoadProfileProperties(
+    val active: String = LoadProfileRegistry.DEFAULT_PROFILE,
+    val seed: Long? = null,
+    val profiles: Map<String, LoadProfile> = emptyMap(),
+)
@@ -0,0 +1,42 @@
+package com.loopers.application.simulation
+
+import com.loopers.support.error.CoreException
+import com.loopers.support.error.ErrorType
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 부하 프로필 저장소
+ * - 설정에 정의한 프로필 중 하나를 적용하고, 실행 중에 다른 프로필(또는 같은 프로필의 다른 시드)로 바꾼다.
+ * - 프로필을 바꾸면 난수열, 브라운아웃 주기, 요청 수 제한이 모두 처음부터 다시 시작한다.
+ */
+@Component
+class LoadProfileRegistry(
+    properties: LoadProfileProperties,
+) {
+    companion object {
+        const val DEFAULT_PROFILE = "default"
+        private val logger = LoggerFactory.getLogger(LoadProfileRegistry::class.java)
+    }
+
+    val profiles: Map<String, LoadProfile> = mapOf(DEFAULT_PROFILE to LoadProfile()) + properties.profiles
+
+    private val active = AtomicReference(create(properties.active, properties.seed))
+
+    fun current(): ActiveLoadProfile = active.get()
+
+    fun activate(name: String, seed: Long? = null): ActiveLoadProfile {
+        val next = create(name, seed)
+        active.set(next)
+        return next
+    }
+
+    private fun create(name: String, seed: Long?): ActiveLoadProfile {
+        val profile = profiles[name]
+            ?: throw CoreException(ErrorType.NOT_FOUND, "(name: $name) 부하 프로필이 존재하지 않습니다.")
+        return ActiveLoadProfile(name, profile, seed ?: ThreadLocalRandom.current().nextLong())
+            .also { logger.info("부하 프로필을 적용했습니다. (name: {}, seed: {}) {}", it.name, it.seed, it.profile) }
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.application.simulation
+
+/**
+ * 결제 처리 결과
+ * - TIMEOUT: 처리하지 않고 PENDING으로 남긴다. (콜백도 보내지 않는다)
+ */
+enum class ProcessingOutcome {
+    APPROVED,
+    LIMIT_EXCEEDED,
+    INVALID_CARD,
+    TIMEOUT,
+}
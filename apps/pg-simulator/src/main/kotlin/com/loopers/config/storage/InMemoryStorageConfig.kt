@@ -0,0 +1,39 @@
+package com.loopers.config.storage
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.AbstractPlatformTransactionManager
+import org.springframework.transaction.support.DefaultTransactionStatus
+import org.springframework.transaction.support.TransactionSynchronizationManager
+
+/**
+ * 인메모리 저장소 설정 (pg.storage.mode=memory)
+ * - JPA 트랜잭션 매니저는 트랜잭션을 시작할 때 DB 커넥션을 잡으므로, 커넥션을 쓰지 않는 트랜잭션 매니저로 바꾼다.
+ * - 트랜잭션 동기화는 그대로 동작하므로 @TransactionalEventListener(AFTER_COMMIT)는 이전과 같이 호출된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = ["pg.storage.mode"], havingValue = "memory")
+class InMemoryStorageConfig {
+    @Bean
+    fun transactionManager(): PlatformTransactionManager = InMemoryTransactionManager()
+
+    private class InMemoryTransactionManager : AbstractPlatformTransactionManager() {
+        override fun doGetTransaction(): Any = Any()
+
+        override fun isExistingTransaction(transaction: Any): Boolean =
+            TransactionSynchronizationManager.isActualTransactionActive()
+
+        override fun doBegin(transaction: Any, definition: TransactionDefinition) = Unit
+
+        override fun doSuspend(transaction: Any): Any = transaction
+
+        override fun doResume(transaction: Any?, suspendedResources: Any) = Unit
+
+        override fun doCommit(status: DefaultTransactionStatus) = Unit
+
+        override fun doRollback(status: DefaultTransactionStatus) = Unit
+    }
+}
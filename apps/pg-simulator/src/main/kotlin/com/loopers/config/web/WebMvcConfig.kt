@@ -1,13 +1,22 @@
 package com.loopers.config.web
 
 import com.loopers.interfaces.api.argumentresolver.UserInfoArgumentResolver
+import com.loopers.interfaces.api.simulation.LoadProfileInterceptor
 import org.springframework.context.annotation.Configuration
 import org.springframework.web.method.support.HandlerMethodArgumentResolver
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer
 
 @Configuration
-class WebMvcConfig : WebMvcConfigurer {
+class WebMvcConfig(
+    private val loadProfileInterceptor: LoadProfileInterceptor,
+) : WebMvcConfigurer {
     override fun addArgumentResolvers(resolvers: MutableList<HandlerMethodArgumentResolver?>) {
         resolvers.add(UserInfoArgumentResolver())
     }
+
+    override fun addInterceptors(registry: InterceptorRegistry) {
+        registry.addInterceptor(loadProfileInterceptor)
+            .addPathPatterns("/api/v1/payments", "/api/v1/payments/**")
+    }
 }
@@ -0,0 +1,77 @@
+package com.loopers.domain.payment
+
+import jakarta.persistence.Column
+import jakarta.persistence.Entity
+import jakarta.persistence.GeneratedValue
+import jakarta.persistence.GenerationType
+import jakarta.persistence.Id
+import jakarta.persistence.Index
+import jakarta.persistence.Table
+import java.time.LocalDateTime
+
+/**
+ * 콜백 재전송 대기건
+ * - 전송에 실패한 콜백을 다음 전송 시각(nextAttemptAt)과 함께 보관한다.
+ * - 재전송 중인 건은 nextAttemptAt을 임대 만료 시각으로 미뤄 두어, 전송 도중 종료되어도 만료 후 다시 전송된다.
+ */
+@Entity
+@Table(
+    name = "callback_retries",
+    indexes = [
+        Index(name = "idx_next_attempt_at", columnList = "next_attempt_at"),
+    ]
+)
+class CallbackRetry(
+    @Column(name = "transaction_key", nullable = false)
+    val transactionKey: String,
+
+    @Column(name = "callback_url", nullable = false)
+    val callbackUrl: String,
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    val payload: String,
+
+    attempt: Int,
+    nextAttemptAt: LocalDateTime,
+    lastError: String?,
+) {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    var id: Long = 0L
+        private set
+
+    @Column(name = "attempt", nullable = false)
+    var attempt: Int = attempt
+        private set
+
+    @Column(name = "next_attempt_at", nullable = false)
+    var nextAttemptAt: LocalDateTime = nextAttemptAt
+        private set
+
+    @Column(name = "last_error", nullable = true, length = 500)
+    var lastError: String? = lastError?.take(500)
+        private set
+
+    @Column(name = "created_at", nullable = false)
+    var createdAt: LocalDateTime = LocalDateTime.now()
+        private set
+
+    /**
+     * JPA를 거치지 않는 저장소(인메모리)에서 ID를 부여한다.
+     */
+    fun assignId(id: Long) {
+        check(this.id == 0L) { "이미 ID가 부여된 재전송 대기건입니다. (id: ${this.id})" }
+        this.id = id
+    }
+
+    fun lease(until: LocalDateTime) {
+        nextAttemptAt = until
+    }
+
+    fun reschedule(attempt: Int, nextAttemptAt: LocalDateTime, lastError: String) {
+        this.attempt = attempt
+        this.nextAttemptAt = nextAttemptAt
+        this.lastError = lastError.take(500)
+    }
+}
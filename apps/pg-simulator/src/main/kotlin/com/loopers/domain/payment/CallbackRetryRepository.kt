@@ -0,0 +1,10 @@
+package com.loopers.domain.payment
+
+import java.time.LocalDateTime
+
+interface CallbackRetryRepository {
+    fun save(callbackRetry: CallbackRetry): CallbackRetry
+    fun leaseDue(now: LocalDateTime, leaseUntil: LocalDateTime, limit: Int): List<CallbackRetry>
+    fun reschedule(id: Long, attempt: Int, nextAttemptAt: LocalDateTime, lastError: String)
+    fun delete(id: Long)
+}
@@ -1,20 +1,135 @@
 package com.loopers.domain.payment
 
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.stereotype.Component
-import java.time.LocalDateTime
+import java.time.Instant
+import java.time.LocalDate
+import java.time.ZoneId
 import java.time.format.DateTimeFormatter
-import java.util.UUID
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicLong
 
+/**
+ * 거래 키 생성기
+ * - 형식: yyyyMMdd:TR:{base62 11자리}. 날짜는 사람이 읽기 위한 것이고, 고유성은 뒤의 ID가 보장한다.
+ * - ID는 64비트 (기준 시각부터의 밀리초 41비트 | 노드 10비트 | 시퀀스 12비트)이며,
+ *   같은 노드에서는 항상 증가하고 노드가 다르면 겹치지 않는다.
+ * - 1밀리초에 시퀀스(4096개)를 다 쓰면 다음 밀리초를 앞당겨 쓴다. (기다리지 않고, 시계가 뒤로 가도 감소하지 않는다)
+ * - base62는 ASCII 순서(0-9A-Za-z)로 고정 길이 인코딩하므로 문자열 순서도 생성 순서와 같다.
+ * - 노드 ID는 시뮬레이터를 여러 대 띄울 때 pg.transaction-key.node-id로 겹치지 않게 지정한다.
+ *   없으면 시작 시 임의로 정하고 경고를 남긴다. (여러 대가 같은 값을 뽑으면 키가 겹칠 수 있다)
+ */
 @Component
-class TransactionKeyGenerator {
+class TransactionKeyGenerator internal constructor(
+    nodeId: Int,
+    private val clock: () -> Long,
+) {
+    @Autowired
+    constructor(
+        @Value("\${pg.transaction-key.node-id:-1}") nodeId: Int,
+    ) : this(nodeId, System::currentTimeMillis)
+
     companion object {
+        private val logger = LoggerFactory.getLogger(TransactionKeyGenerator::class.java)
+
         private const val KEY_TRANSACTION = "TR"
         private val DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd")
+
+        private const val NODE_BITS = 10
+        private const val SEQUENCE_BITS = 12
+        private const val MAX_NODE_ID = (1 shl NODE_BITS) - 1
+        private const val SEQUENCE_MASK = (1L shl SEQUENCE_BITS) - 1
+
+        // 2025-01-01T00:00:00Z, 41비트 밀리초로 약 69년
+        private const val EPOCH_MILLIS = 1_735_689_600_000L
+
+        private const val ID_LENGTH = 11
+        private val BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray()
     }
 
+    private val nodeId: Long = if (nodeId < 0) {
+        ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1).toLong().also {
+            logger.warn(
+                "pg.transaction-key.node-id가 없어 노드 ID를 임의로 정했습니다. 시뮬레이터를 여러 대 띄우면 겹치지 않게 지정하세요. (nodeId: {})",
+                it,
+            )
+        }
+    } else {
+        require(nodeId <= MAX_NODE_ID) { "노드 ID는 0 ~ $MAX_NODE_ID 사이여야 합니다. (nodeId: $nodeId)" }
+        nodeId.toLong()
+    }
+
+    // (기준 시각부터의 밀리초 << 12) | 시퀀스
+    private val state = AtomicLong()
+
+    // 첫 생성 시점에 만든다 (애플리케이션 기본 시간대가 정해진 뒤)
+    @Volatile
+    private var datePrefix = DatePrefix("", 0L, 0L)
+
     fun generate(): String {
-        val now = LocalDateTime.now()
-        val uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 6)
-        return "${DATETIME_FORMATTER.format(now)}:$KEY_TRANSACTION:$uuid"
+        val next = nextState()
+        val millis = (next ushr SEQUENCE_BITS) + EPOCH_MILLIS
+        val id = ((next ushr SEQUENCE_BITS) shl (NODE_BITS + SEQUENCE_BITS)) or
+            (nodeId shl SEQUENCE_BITS) or
+            (next and SEQUENCE_MASK)
+
+        val prefix = prefixOf(millis)
+        val chars = CharArray(prefix.value.length + ID_LENGTH)
+        prefix.value.toCharArray(chars, 0, 0, prefix.value.length)
+        encodeBase62(id, chars, prefix.value.length)
+        return String(chars)
+    }
+
+    /**
+     * 현재 시각의 첫 시퀀스와 직전 값 + 1 중 큰 값으로 나아간다.
+     */
+    private fun nextState(): Long {
+        val now = (clock() - EPOCH_MILLIS) shl SEQUENCE_BITS
+        while (true) {
+            val last = state.get()
+            val next = maxOf(now, last + 1)
+            if (state.compareAndSet(last, next)) {
+                return next
+            }
+        }
+    }
+
+    private fun prefixOf(millis: Long): DatePrefix {
+        val current = datePrefix
+        if (millis >= current.startMillis && millis < current.endMillis) {
+            return current
+        }
+        return DatePrefix.of(millis).also { datePrefix = it }
+    }
+
+    private fun encodeBase62(value: Long, chars: CharArray, offset: Int) {
+        var remaining = value
+        for (i in offset + ID_LENGTH - 1 downTo offset) {
+            chars[i] = BASE62[(remaining % 62).toInt()]
+            remaining /= 62
+        }
+    }
+
+    /**
+     * 날짜 접두사 (날짜가 바뀔 때만 새로 만든다)
+     */
+    private class DatePrefix(
+        val value: String,
+        val startMillis: Long,
+        val endMillis: Long,
+    ) {
+        companion object {
+            fun of(millis: Long): DatePrefix {
+                val zone = ZoneId.systemDefault()
+                val date = LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone)
+                return DatePrefix(
+                    value = "${DATETIME_FORMATTER.format(date)}:$KEY_TRANSACTION:",
+                    startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+                )
+            }
+        }
     }
 }
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.payment
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * 콜백 전송 설정
+ * - queueCapacity: 전송 대기열 크기 (가득 차면 재전송 테이블에 바로 기록한다)
+ * - maxInFlight / maxPerDestination: 전체 / 목적지(host:port)별 동시 전송 수
+ * - 실패한 콜백은 initialBackoff부터 두 배씩 늘어나는 간격(최대 maxBackoff, 지터 포함)으로 maxAttempts번까지 재전송한다.
+ * - retryLease: 재전송 중인 건을 다른 실행이 다시 가져가지 않도록 미뤄 두는 시간
+ */
+@ConfigurationProperties(prefix = "pg.callback")
+data class CallbackDispatchProperties(
+    val queueCapacity: Int = 10_000,
+    val maxInFlight: Int = 256,
+    val maxPerDestination: Int = 64,
+    val connectTimeout: Duration = Duration.ofSeconds(1),
+    val requestTimeout: Duration = Duration.ofSeconds(3),
+    val maxAttempts: Int = 10,
+    val initialBackoff: Duration = Duration.ofSeconds(1),
+    val maxBackoff: Duration = Duration.ofMinutes(5),
+    val retryBatchSize: Int = 500,
+    val retryLease: Duration = Duration.ofMinutes(1),
+)
@@ -0,0 +1,39 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.CallbackRetry
+import com.loopers.domain.payment.CallbackRetryRepository
+import org.springframework.data.domain.PageRequest
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@Component
+@ConditionalOnProperty(name = ["pg.storage.mode"], havingValue = "jpa", matchIfMissing = true)
+class CallbackRetryCoreRepository(
+    private val callbackRetryJpaRepository: CallbackRetryJpaRepository,
+) : CallbackRetryRepository {
+    @Transactional
+    override fun save(callbackRetry: CallbackRetry): CallbackRetry {
+        return callbackRetryJpaRepository.save(callbackRetry)
+    }
+
+    /**
+     * 전송 시각이 된 재전송 대기건을 가져오면서 leaseUntil까지 다시 가져가지 않도록 미뤄 둔다.
+     */
+    @Transactional
+    override fun leaseDue(now: LocalDateTime, leaseUntil: LocalDateTime, limit: Int): List<CallbackRetry> {
+        return callbackRetryJpaRepository.findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(now, PageRequest.of(0, limit))
+            .onEach { it.lease(leaseUntil) }
+    }
+
+    @Transactional
+    override fun reschedule(id: Long, attempt: Int, nextAttemptAt: LocalDateTime, lastError: String) {
+        callbackRetryJpaRepository.findById(id).ifPresent { it.reschedule(attempt, nextAttemptAt, lastError) }
+    }
+
+    @Transactional
+    override fun delete(id: Long) {
+        callbackRetryJpaRepository.deleteById(id)
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.CallbackRetry
+import org.springframework.data.domain.Pageable
+import org.springframework.data.jpa.repository.JpaRepository
+import java.time.LocalDateTime
+
+interface CallbackRetryJpaRepository : JpaRepository<CallbackRetry, Long> {
+    fun findByNextAttemptAtLessThanEqualOrderByNextAttemptAt(now: LocalDateTime, pageable: Pageable): List<CallbackRetry>
+}
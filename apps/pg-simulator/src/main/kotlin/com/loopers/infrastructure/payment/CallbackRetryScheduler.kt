@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.CallbackRetryRepository
+import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+
+/**
+ * 콜백 재전송 스케줄러
+ * - 재전송 시각이 된 콜백을 임대(retryLease)한 뒤 전송 대기열에 넣는다.
+ * - 대기열이 가득 차 넣지 못한 건은 임대가 끝난 뒤 다시 꺼내진다.
+ */
+@Component
+class CallbackRetryScheduler(
+    private val callbackRetryRepository: CallbackRetryRepository,
+    private val paymentCallbackDispatcher: PaymentCallbackDispatcher,
+    private val properties: CallbackDispatchProperties,
+) {
+    companion object {
+        private val logger = LoggerFactory.getLogger(CallbackRetryScheduler::class.java)
+    }
+
+    @Scheduled(fixedDelay = 1000, initialDelay = 5000)
+    fun redeliver() {
+        runCatching {
+            val now = LocalDateTime.now()
+            val due = callbackRetryRepository.leaseDue(now, now.plus(properties.retryLease), properties.retryBatchSize)
+            val enqueued = due.count { paymentCallbackDispatcher.enqueueRetry(it) }
+            if (due.isNotEmpty()) {
+                logger.info("콜백 재전송 대기열 등록: 대상={}, 등록={}", due.size, enqueued)
+            }
+        }.onFailure { e -> logger.error("콜백 재전송 스케줄러 실행을 실패했습니다. {}", e.message, e) }
+    }
+}
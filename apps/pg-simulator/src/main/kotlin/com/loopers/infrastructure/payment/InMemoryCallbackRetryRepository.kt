@@ -0,0 +1,58 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.CallbackRetry
+import com.loopers.domain.payment.CallbackRetryRepository
+import org.slf4j.LoggerFactory
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 인메모리 콜백 재전송 저장소 (pg.storage.mode=memory)
+ * - 재전송 대기건은 실패한 콜백에만 생기므로 맵 전체를 훑어 전송 시각이 된 건을 고른다.
+ * - maxCallbackRetries를 넘으면 새 대기건을 버리고 로그를 남긴다. (콜백 수신 측이 오래 죽어 있는 경우)
+ */
+@Component
+@ConditionalOnProperty(name = ["pg.storage.mode"], havingValue = "memory")
+class InMemoryCallbackRetryRepository(
+    private val properties: InMemoryStorageProperties,
+) : CallbackRetryRepository {
+    companion object {
+        private val logger = LoggerFactory.getLogger(InMemoryCallbackRetryRepository::class.java)
+    }
+
+    private val retries = ConcurrentHashMap<Long, CallbackRetry>()
+    private val sequence = AtomicLong()
+
+    override fun save(callbackRetry: CallbackRetry): CallbackRetry {
+        if (callbackRetry.id == 0L) {
+            if (retries.size >= properties.maxCallbackRetries) {
+                logger.warn("재전송 대기건이 가득 차 콜백을 버립니다. (transactionKey: {})", callbackRetry.transactionKey)
+                return callbackRetry
+            }
+            callbackRetry.assignId(sequence.incrementAndGet())
+        }
+        retries[callbackRetry.id] = callbackRetry
+        return callbackRetry
+    }
+
+    @Synchronized
+    override fun leaseDue(now: LocalDateTime, leaseUntil: LocalDateTime, limit: Int): List<CallbackRetry> {
+        return retries.values
+            .filter { !it.nextAttemptAt.isAfter(now) }
+            .sortedBy { it.nextAttemptAt }
+            .take(limit)
+            .onEach { it.lease(leaseUntil) }
+    }
+
+    @Synchronized
+    override fun reschedule(id: Long, attempt: Int, nextAttemptAt: LocalDateTime, lastError: String) {
+        retries[id]?.reschedule(attempt, nextAttemptAt, lastError)
+    }
+
+    override fun delete(id: Long) {
+        retries.remove(id)
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.Payment
+import com.loopers.domain.payment.PaymentRepository
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+
+/**
+ * 인메모리 결제 저장소 (pg.storage.mode=memory)
+ * - 부하 테스트에서 시뮬레이터의 DB가 병목이 되지 않도록 결제를 메모리에만 보관한다. (재시작하면 사라진다)
+ * - 거래 키로 찾는 기본 맵과 (userId, orderId)로 거래 키를 찾는 보조 인덱스를 둔다.
+ * - 저장 순서대로 쌓은 큐의 앞에서부터 maxPayments를 넘는 결제와 retention이 지난 결제를 지운다.
+ * - 조회한 결제를 바로 고치면 저장된 결제가 바뀐다. (JPA 변경 감지와 같은 동작)
+ * - 지표: pg.storage.payments (보관 중인 결제 수), pg.storage.evictions (reason: capacity / retention)
+ */
+@Component
+@ConditionalOnProperty(name = ["pg.storage.mode"], havingValue = "memory")
+class InMemoryPaymentRepository(
+    private val properties: InMemoryStorageProperties,
+    meterRegistry: MeterRegistry,
+) : PaymentRepository {
+    private val payments = ConcurrentHashMap<String, Payment>()
+    private val orderIndex = ConcurrentHashMap<OrderKey, MutableSet<String>>()
+    private val insertionOrder = ConcurrentLinkedQueue<Stored>()
+
+    private val capacityEvictions = Counter.builder("pg.storage.evictions")
+        .tag("reason", "capacity")
+        .description("보관 한도나 기간을 넘어 지운 결제 수")
+        .register(meterRegistry)
+    private val retentionEvictions = Counter.builder("pg.storage.evictions")
+        .tag("reason", "retention")
+        .description("보관 한도나 기간을 넘어 지운 결제 수")
+        .register(meterRegistry)
+
+    init {
+        Gauge.builder("pg.storage.payments", payments) { it.size.toDouble() }
+            .description("인메모리 저장소에 보관 중인 결제 수")
+            .register(meterRegistry)
+    }
+
+    override fun save(payment: Payment): Payment {
+        // 보관 중인 결제는 값만 바꾼다. 그 사이 지워진 결제는 새 결제처럼 큐와 인덱스에 다시 등록한다.
+        // (무조건 덮어쓰면 지워진 결제가 큐와 인덱스 없이 되살아나, 한도와 보관 기간 밖에 계속 남는다)
+        while (true) {
+            if (payments.replace(payment.transactionKey, payment) != null) {
+                return payment
+            }
+            if (payments.putIfAbsent(payment.transactionKey, payment) == null) {
+                break
+            }
+        }
+
+        orderIndex.computeIfAbsent(OrderKey(payment.userId, payment.orderId)) { ConcurrentHashMap.newKeySet() }
+            .add(payment.transactionKey)
+        insertionOrder.offer(Stored(payment.transactionKey, System.nanoTime()))
+
+        while (payments.size > properties.maxPayments) {
+            val oldest = insertionOrder.poll() ?: break
+            evict(oldest.transactionKey)
+            capacityEvictions.increment()
+        }
+        return payment
+    }
+
+    override fun findByTransactionKey(transactionKey: String): Payment? {
+        return payments[transactionKey]
+    }
+
+    override fun findByTransactionKey(userId: String, transactionKey: String): Payment? {
+        return payments[transactionKey]?.takeIf { it.userId == userId }
+    }
+
+    override fun findByOrderId(userId: String, orderId: String): List<Payment> {
+        val transactionKeys = orderIndex[OrderKey(userId, orderId)] ?: return emptyList()
+        return transactionKeys.mapNotNull { payments[it] }
+            .sortedByDescending { it.updatedAt }
+    }
+
+    override fun findAllByTransactionKeys(transactionKeys: Collection<String>): List<Payment> {
+        return transactionKeys.mapNotNull { payments[it] }
+    }
+
+    /**
+     * 보관 기간이 지난 결제를 지운다. (큐 앞쪽이 가장 오래된 결제이므로 기간이 남은 결제를 만나면 멈춘다)
+     */
+    @Scheduled(fixedDelay = 10_000)
+    fun evictExpired() {
+        val cutoff = System.nanoTime() - properties.retention.toNanos()
+        while (true) {
+            val oldest = insertionOrder.peek() ?: return
+            if (oldest.storedAtNanos - cutoff > 0) {
+                return
+            }
+            if (insertionOrder.remove(oldest)) {
+                evict(oldest.transactionKey)
+                retentionEvictions.increment()
+            }
+        }
+    }
+
+    private fun evict(transactionKey: String) {
+        val payment = payments.remove(transactionKey) ?: return
+        orderIndex.computeIfPresent(OrderKey(payment.userId, payment.orderId)) { _, keys ->
+            keys.remove(transactionKey)
+            keys.ifEmpty { null }
+        }
+    }
+
+    private data class OrderKey(val userId: String, val orderId: String)
+
+    private data class Stored(val transactionKey: String, val storedAtNanos: Long)
+}
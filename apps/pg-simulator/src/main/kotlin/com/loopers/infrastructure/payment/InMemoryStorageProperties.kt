@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.payment
+
+import org.springframework.boot.context.properties.ConfigurationProperties
+import java.time.Duration
+
+/**
+ * 인메모리 저장소 설정 (pg.storage.mode=memory)
+ * - maxPayments: 보관할 최대 결제 수 (넘으면 오래된 결제부터 지운다)
+ * - retention: 결제 보관 기간 (처리 지연 최댓값보다 충분히 길어야 처리 전에 지워지지 않는다)
+ * - maxCallbackRetries: 보관할 최대 콜백 재전송 대기건 수 (넘으면 새 대기건을 버린다)
+ */
+@ConfigurationProperties(prefix = "pg.storage.in-memory")
+data class InMemoryStorageProperties(
+    val maxPayments: Int = 1_000_000,
+    val retention: Duration = Duration.ofMinutes(30),
+    val maxCallbackRetries: Int = 100_000,
+)
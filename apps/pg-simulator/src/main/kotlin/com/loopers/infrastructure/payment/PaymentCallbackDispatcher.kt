@@ -0,0 +1,221 @@
+package com.loopers.infrastructure.payment
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.loopers.application.payment.TransactionInfo
+import com.loopers.domain.payment.CallbackRetry
+import com.loopers.domain.payment.CallbackRetryRepository
+import com.loopers.domain.payment.PaymentRelay
+import io.micrometer.core.instrument.Counter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.Timer
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.stereotype.Component
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+
+/**
+ * 콜백 전송기
+ * - 콜백을 크기가 정해진 대기열에 넣고 바로 돌아간다. (이벤트 스레드에서 HTTP 호출을 기다리지 않는다)
+ * - 전송 스레드 하나가 대기열에서 꺼내 가상 스레드로 넘기고, 연결을 keep-alive로 재사용하는 HttpClient로 보낸다.
+ * - 전체 동시 전송 수와 목적지(host:port)별 동시 전송 수를 제한한다.
+ * - 실패한 콜백(연결 실패, 타임아웃, 2xx 아님)은 재전송 테이블에 지수 백오프 시각과 함께 기록하고,
+ *   CallbackRetryScheduler가 시각이 된 건을 다시 대기열에 넣는다.
+ * - 대기열이 가득 차면 재전송 테이블에 바로 기록해 콜백을 잃지 않는다.
+ * - 지표: pg.callback.queue.depth / pg.callback.delivery (tag: result) / pg.callback.overflow / pg.callback.dead
+ */
+@Component
+class PaymentCallbackDispatcher(
+    private val callbackRetryRepository: CallbackRetryRepository,
+    private val objectMapper: ObjectMapper,
+    private val properties: CallbackDispatchProperties,
+    private val meterRegistry: MeterRegistry,
+) : PaymentRelay {
+    companion object {
+        private val logger = LoggerFactory.getLogger(PaymentCallbackDispatcher::class.java)
+    }
+
+    /**
+     * 전송할 콜백
+     *
+     * @property attempt 지금까지 실패한 횟수
+     * @property retryId 재전송 테이블에서 꺼낸 건이면 그 ID
+     */
+    data class CallbackTask(
+        val transactionKey: String,
+        val callbackUrl: String,
+        val payload: String,
+        val attempt: Int,
+        val retryId: Long?,
+    )
+
+    private val queue = ArrayBlockingQueue<CallbackTask>(properties.queueCapacity)
+    private val senders = Executors.newVirtualThreadPerTaskExecutor()
+    private val inFlightPermits = Semaphore(properties.maxInFlight)
+    private val destinationPermits = ConcurrentHashMap<String, Semaphore>()
+    private val httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(properties.connectTimeout)
+        .executor(senders)
+        .build()
+
+    private val overflowCounter = Counter.builder("pg.callback.overflow")
+        .description("대기열이 가득 차 재전송 테이블로 보낸 콜백 수")
+        .register(meterRegistry)
+    private val deadCounter = Counter.builder("pg.callback.dead")
+        .description("최대 재전송 횟수를 넘겨 버린 콜백 수")
+        .register(meterRegistry)
+
+    @Volatile
+    private var running = true
+
+    private val dispatcherThread = Thread.ofPlatform()
+        .name("pg-callback-dispatcher")
+        .daemon(true)
+        .start { dispatchLoop() }
+
+    init {
+        Gauge.builder("pg.callback.queue.depth", queue) { it.size.toDouble() }
+            .description("전송을 기다리는 콜백 수")
+            .register(meterRegistry)
+    }
+
+    override fun notify(callbackUrl: String, transactionInfo: TransactionInfo) {
+        val task = CallbackTask(
+            transactionKey = transactionInfo.transactionKey,
+            callbackUrl = callbackUrl,
+            payload = objectMapper.writeValueAsString(transactionInfo),
+            attempt = 0,
+            retryId = null,
+        )
+        if (!queue.offer(task)) {
+            overflowCounter.increment()
+            callbackRetryRepository.save(
+                CallbackRetry(task.transactionKey, task.callbackUrl, task.payload, 0, LocalDateTime.now(), "전송 대기열 초과"),
+            )
+        }
+    }
+
+    /**
+     * 재전송 테이블에서 꺼낸 콜백을 대기열에 넣는다.
+     *
+     * @return 대기열이 가득 차 넣지 못했으면 false (임대가 끝나면 다시 꺼내진다)
+     */
+    fun enqueueRetry(callbackRetry: CallbackRetry): Boolean {
+        return queue.offer(
+            CallbackTask(
+                transactionKey = callbackRetry.transactionKey,
+                callbackUrl = callbackRetry.callbackUrl,
+                payload = callbackRetry.payload,
+                attempt = callbackRetry.attempt,
+                retryId = callbackRetry.id,
+            ),
+        )
+    }
+
+    private fun dispatchLoop() {
+        while (running) {
+            try {
+                inFlightPermits.acquire()
+                val task = queue.poll(1, TimeUnit.SECONDS)
+                if (task == null) {
+                    inFlightPermits.release()
+                } else {
+                    senders.execute { deliver(task) }
+                }
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                return
+            }
+        }
+    }
+
+    private fun deliver(task: CallbackTask) {
+        val startedAt = System.nanoTime()
+        var permits: Semaphore? = null
+        var result = "failure"
+        try {
+            val uri = URI.create(task.callbackUrl)
+            permits = destinationPermits.computeIfAbsent(uri.authority ?: task.callbackUrl) {
+                Semaphore(properties.maxPerDestination)
+            }
+            permits.acquire()
+
+            val request = HttpRequest.newBuilder(uri)
+                .timeout(properties.requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(task.payload))
+                .build()
+            val response = httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+            if (response.statusCode() / 100 == 2) {
+                result = "success"
+                task.retryId?.let { callbackRetryRepository.delete(it) }
+            } else {
+                onFailure(task, "HTTP ${response.statusCode()}")
+            }
+        } catch (e: Exception) {
+            onFailure(task, e.message ?: e.javaClass.simpleName)
+        } finally {
+            permits?.release()
+            inFlightPermits.release()
+            Timer.builder("pg.callback.delivery")
+                .description("콜백 1건 전송 소요 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS)
+        }
+    }
+
+    /**
+     * 전송 실패를 재전송 테이블에 기록한다. 최대 횟수를 넘기면 버린다.
+     */
+    private fun onFailure(task: CallbackTask, error: String) {
+        runCatching {
+            val attempt = task.attempt + 1
+            if (attempt >= properties.maxAttempts) {
+                deadCounter.increment()
+                logger.error("콜백 재전송 횟수를 초과해 버립니다. (transactionKey: {}, attempt: {}) {}", task.transactionKey, attempt, error)
+                task.retryId?.let { callbackRetryRepository.delete(it) }
+                return
+            }
+
+            val nextAttemptAt = LocalDateTime.now().plus(backoff(attempt))
+            if (task.retryId != null) {
+                callbackRetryRepository.reschedule(task.retryId, attempt, nextAttemptAt, error)
+            } else {
+                callbackRetryRepository.save(
+                    CallbackRetry(task.transactionKey, task.callbackUrl, task.payload, attempt, nextAttemptAt, error),
+                )
+            }
+            logger.warn("콜백 호출을 실패해 {} 에 다시 보냅니다. (transactionKey: {}, attempt: {}) {}", nextAttemptAt, task.transactionKey, attempt, error)
+        }.onFailure { e -> logger.error("콜백 재전송 기록을 실패했습니다. (transactionKey: {}) {}", task.transactionKey, e.message, e) }
+    }
+
+    /**
+     * 지수 백오프 (절반은 고정, 절반은 지터)
+     */
+    private fun backoff(attempt: Int): Duration {
+        val exponential = properties.initialBackoff.toMillis() shl (attempt - 1).coerceAtMost(20)
+        val capped = exponential.coerceAtMost(properties.maxBackoff.toMillis())
+        val half = capped / 2
+        return Duration.ofMillis(half + Random.nextLong(half + 1))
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        running = false
+        dispatcherThread.interrupt()
+        senders.shutdown()
+    }
+}
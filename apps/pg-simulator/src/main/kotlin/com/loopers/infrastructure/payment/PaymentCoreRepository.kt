@@ -2,11 +2,13 @@ package com.loopers.infrastructure.payment
 
 import com.loopers.domain.payment.Payment
 import com.loopers.domain.payment.PaymentRepository
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.stereotype.Component
 import org.springframework.transaction.annotation.Transactional
 import kotlin.jvm.optionals.getOrNull
 
 @Component
+@ConditionalOnProperty(name = ["pg.storage.mode"], havingValue = "jpa", matchIfMissing = true)
 class PaymentCoreRepository(
     private val paymentJpaRepository: PaymentJpaRepository,
 ) : PaymentRepository {
@@ -29,4 +31,12 @@ class PaymentCoreRepository(
         return paymentJpaRepository.findByUserIdAndOrderId(userId, orderId)
             .sortedByDescending { it.updatedAt }
     }
+
+    @Transactional(readOnly = true)
+    override fun findAllByTransactionKeys(transactionKeys: Collection<String>): List<Payment> {
+        if (transactionKeys.isEmpty()) {
+            return emptyList()
+        }
+        return paymentJpaRepository.findAllByTransactionKeyIn(transactionKeys)
+    }
 }
@@ -3,8 +3,6 @@ package com.loopers.interfaces.api.payment
 import com.loopers.application.payment.PaymentApplicationService
 import com.loopers.interfaces.api.ApiResponse
 import com.loopers.domain.user.UserInfo
-import com.loopers.support.error.CoreException
-import com.loopers.support.error.ErrorType
 import org.springframework.web.bind.annotation.GetMapping
 import org.springframework.web.bind.annotation.PathVariable
 import org.springframework.web.bind.annotation.PostMapping
@@ -25,14 +23,6 @@ class PaymentApi(
     ): ApiResponse<PaymentDto.TransactionResponse> {
         request.validate()
 
-        // 100ms ~ 500ms 지연
-        Thread.sleep((100..500L).random())
-
-        // 40% 확률로 요청 실패
-        if ((1..100).random() <= 40) {
-            throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
-        }
-
         return paymentApplicationService.createTransaction(request.toCommand(userInfo.userId))
             .let { PaymentDto.TransactionResponse.from(it) }
             .let { ApiResponse.success(it) }
@@ -48,6 +38,18 @@ class PaymentApi(
             .let { ApiResponse.success(it) }
     }
 
+    /**
+     * 거래 키 목록의 결제 상태 일괄 조회 (최대 1000건, 가맹점 대사용이라 사용자 헤더를 받지 않는다)
+     */
+    @PostMapping("/statuses")
+    fun getTransactionStatuses(
+        @RequestBody request: PaymentDto.TransactionStatusesRequest,
+    ): ApiResponse<PaymentDto.TransactionStatusesResponse> {
+        return paymentApplicationService.findTransactionsByKeys(request.transactionKeys)
+            .let { PaymentDto.TransactionStatusesResponse.from(it) }
+            .let { ApiResponse.success(it) }
+    }
+
     @GetMapping
     fun getTransactionsByOrder(
         userInfo: UserInfo,
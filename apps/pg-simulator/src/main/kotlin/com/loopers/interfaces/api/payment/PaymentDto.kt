@@ -98,6 +98,21 @@ object PaymentDto {
         }
     }
 
+    data class TransactionStatusesRequest(
+        val transactionKeys: List<String>,
+    )
+
+    data class TransactionStatusesResponse(
+        val transactions: List<TransactionResponse>,
+    ) {
+        companion object {
+            fun from(transactionInfos: List<TransactionInfo>): TransactionStatusesResponse =
+                TransactionStatusesResponse(
+                    transactions = transactionInfos.map { TransactionResponse.from(it) },
+                )
+        }
+    }
+
     enum class CardTypeDto {
         SAMSUNG,
         KB,
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.api.simulation
+
+import com.loopers.application.simulation.LoadProfileRegistry
+import com.loopers.interfaces.api.ApiResponse
+import org.springframework.web.bind.annotation.GetMapping
+import org.springframework.web.bind.annotation.PutMapping
+import org.springframework.web.bind.annotation.RequestBody
+import org.springframework.web.bind.annotation.RequestMapping
+import org.springframework.web.bind.annotation.RestController
+
+/**
+ * 부하 프로필 관리 API
+ * - 부하 테스트 중에 시뮬레이터를 재시작하지 않고 프로필(또는 시드)을 바꾼다.
+ */
+@RestController
+@RequestMapping("/api/v1/simulator/load-profiles")
+class LoadProfileApi(
+    private val loadProfileRegistry: LoadProfileRegistry,
+) {
+    @GetMapping
+    fun getProfiles(): ApiResponse<LoadProfileDto.ProfilesResponse> {
+        return LoadProfileDto.ProfilesResponse(
+            active = loadProfileRegistry.current().name,
+            profiles = loadProfileRegistry.profiles,
+        ).let { ApiResponse.success(it) }
+    }
+
+    @GetMapping("/active")
+    fun getActive(): ApiResponse<LoadProfileDto.ActiveResponse> {
+        return LoadProfileDto.ActiveResponse.from(loadProfileRegistry.current())
+            .let { ApiResponse.success(it) }
+    }
+
+    @PutMapping("/active")
+    fun activate(
+        @RequestBody request: LoadProfileDto.ActivateRequest,
+    ): ApiResponse<LoadProfileDto.ActiveResponse> {
+        return loadProfileRegistry.activate(request.name, request.seed)
+            .let { LoadProfileDto.ActiveResponse.from(it) }
+            .let { ApiResponse.success(it) }
+    }
+}
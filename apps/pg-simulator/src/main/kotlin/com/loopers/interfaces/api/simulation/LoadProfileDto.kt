@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.simulation
+
+import com.loopers.application.simulation.ActiveLoadProfile
+import com.loopers.application.simulation.LoadProfile
+
+object LoadProfileDto {
+    data class ActivateRequest(
+        val name: String,
+        val seed: Long? = null,
+    )
+
+    data class ActiveResponse(
+        val name: String,
+        val seed: Long,
+        val profile: LoadProfile,
+    ) {
+        companion object {
+            fun from(active: ActiveLoadProfile): ActiveResponse =
+                ActiveResponse(
+                    name = active.name,
+                    seed = active.seed,
+                    profile = active.profile,
+                )
+        }
+    }
+
+    data class ProfilesResponse(
+        val active: String,
+        val profiles: Map<String, LoadProfile>,
+    )
+}
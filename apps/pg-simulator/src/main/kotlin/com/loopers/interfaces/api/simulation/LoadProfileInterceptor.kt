@@ -0,0 +1,59 @@
+package com.loopers.interfaces.api.simulation
+
+import com.loopers.application.simulation.ActiveLoadProfile
+import com.loopers.application.simulation.LoadProfileRegistry
+import com.loopers.support.error.CoreException
+import com.loopers.support.error.ErrorType
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.http.HttpMethod
+import org.springframework.stereotype.Component
+import org.springframework.web.servlet.HandlerInterceptor
+
+/**
+ * 결제 API에 적용 중인 부하 프로필의 장애를 주입한다.
+ * - 초당 요청 수 제한을 넘으면 429로 바로 거절한다.
+ * - 그 외에는 프로필의 지연만큼 요청 스레드를 붙잡아 둔 뒤, 정해진 비율로 500 응답한다. (결제 요청은 request, 조회와 일괄 조회는 query 설정)
+ * - 지표: pg.load.faults (type: rate_limited / error / timeout, brownout: true / false)
+ */
+@Component
+class LoadProfileInterceptor(
+    private val loadProfileRegistry: LoadProfileRegistry,
+    private val meterRegistry: MeterRegistry,
+) : HandlerInterceptor {
+
+    override fun preHandle(request: HttpServletRequest, response: HttpServletResponse, handler: Any): Boolean {
+        val active = loadProfileRegistry.current()
+        if (!active.tryAcquire()) {
+            count("rate_limited", false)
+            throw CoreException(ErrorType.TOO_MANY_REQUESTS)
+        }
+
+        val faults = if (isPaymentRequest(request)) active.profile.request else active.profile.query
+        val fault = active.nextApiFault(faults)
+        if (!fault.latency.isZero) {
+            Thread.sleep(fault.latency.toMillis())
+        }
+
+        when (fault.type) {
+            ActiveLoadProfile.ApiFault.Type.NONE -> return true
+            ActiveLoadProfile.ApiFault.Type.ERROR -> {
+                count("error", fault.brownout)
+                throw CoreException(ErrorType.INTERNAL_ERROR, "현재 서버가 불안정합니다. 잠시 후 다시 시도해주세요.")
+            }
+            ActiveLoadProfile.ApiFault.Type.TIMEOUT -> {
+                count("timeout", fault.brownout)
+                throw CoreException(ErrorType.INTERNAL_ERROR, "처리 시간이 초과되었습니다.")
+            }
+        }
+    }
+
+    // 결제 요청(POST /api/v1/payments)만 request 설정을 따르고, 일괄 조회(POST .../statuses)를 포함한 나머지는 조회로 본다
+    private fun isPaymentRequest(request: HttpServletRequest): Boolean =
+        request.method == HttpMethod.POST.name() && request.requestURI.trimEnd('/').endsWith("/api/v1/payments")
+
+    private fun count(type: String, brownout: Boolean) {
+        meterRegistry.counter("pg.load.faults", "type", type, "brownout", brownout.toString()).increment()
+    }
+}
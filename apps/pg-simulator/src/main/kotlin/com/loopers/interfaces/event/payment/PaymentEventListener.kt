@@ -1,6 +1,7 @@
 package com.loopers.interfaces.event.payment
 
 import com.loopers.application.payment.PaymentApplicationService
+import com.loopers.application.payment.PaymentProcessingScheduler
 import com.loopers.domain.payment.PaymentEvent
 import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Component
@@ -10,14 +11,14 @@ import org.springframework.transaction.event.TransactionalEventListener
 @Component
 class PaymentEventListener(
     private val paymentApplicationService: PaymentApplicationService,
+    private val paymentProcessingScheduler: PaymentProcessingScheduler,
 ) {
-    @Async
+    /**
+     * 처리 지연은 지연 큐에 등록만 하므로 요청 스레드에서 바로 실행한다. (스레드를 잠재우지 않는다)
+     */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     fun handle(event: PaymentEvent.PaymentCreated) {
-        val thresholdMillis = (1000L..5000L).random()
-        Thread.sleep(thresholdMillis)
-
-        paymentApplicationService.handle(event.transactionKey)
+        paymentProcessingScheduler.schedule(event.transactionKey)
     }
 
     @Async
@@ -0,0 +1,134 @@
+package com.loopers.domain.payment
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+@DisplayName("거래 키 생성기 테스트")
+class TransactionKeyGeneratorTest {
+
+    companion object {
+        private const val BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"
+
+        // 2025-06-01T12:00:00Z (UTC-12 ~ UTC+11 어디서든 날짜가 2025-06-01)
+        private const val NOW_MILLIS = 1_748_779_200_000L
+    }
+
+    @Nested
+    @DisplayName("동시 생성")
+    inner class Concurrent {
+
+        @Test
+        @DisplayName("여러 스레드가 동시에 수백만 개를 만들어도 겹치지 않고, 스레드마다 만든 순서대로 증가한다")
+        fun generate_concurrently_isUniqueAndMonotonic() {
+            // given
+            val generator = TransactionKeyGenerator(nodeId = 7, clock = System::currentTimeMillis)
+            val threads = 16
+            val perThread = 125_000
+            val executor = Executors.newFixedThreadPool(threads)
+            val ready = CountDownLatch(threads)
+            val start = CountDownLatch(1)
+
+            // when
+            val futures = (0 until threads).map {
+                executor.submit(
+                    Callable {
+                        ready.countDown()
+                        start.await()
+                        LongArray(perThread) { decodeId(generator.generate()) }
+                    },
+                )
+            }
+            ready.await()
+            start.countDown()
+            val idsPerThread = futures.map { it.get(60, TimeUnit.SECONDS) }
+            executor.shutdown()
+
+            // then
+            val all = LongArray(threads * perThread)
+            idsPerThread.forEachIndexed { index, ids -> ids.copyInto(all, destinationOffset = index * perThread) }
+            all.sort()
+            assertThat(idsPerThread.sumOf { countNotIncreasing(it) }).isZero()
+            assertThat((1 until all.size).count { all[it] == all[it - 1] }).isZero()
+        }
+    }
+
+    @Nested
+    @DisplayName("시계")
+    inner class Clock {
+
+        @Test
+        @DisplayName("1밀리초 안에 시퀀스를 다 써도 다음 밀리초를 앞당겨 써서 키가 겹치지 않고 계속 증가한다")
+        fun generate_sequenceOverflowWithinOneMillisecond_keepsIncreasing() {
+            // given
+            val generator = TransactionKeyGenerator(nodeId = 1, clock = { NOW_MILLIS })
+
+            // when
+            val keys = List(4096 * 3 + 10) { generator.generate() }
+
+            // then
+            val ids = keys.map(::decodeId).toLongArray()
+            assertThat(countNotIncreasing(ids)).isZero()
+            assertThat(ids.toSet()).hasSize(keys.size)
+            assertThat(keys).allMatch { it.startsWith("20250601:TR:") }
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 이전에 만든 키보다 작은 키를 만들지 않는다")
+        fun generate_clockRollback_neverDecreases() {
+            // given
+            val now = AtomicLong(NOW_MILLIS)
+            val generator = TransactionKeyGenerator(nodeId = 1, clock = { now.get() })
+            val beforeRollback = List(100) { generator.generate() }
+
+            // when
+            now.set(NOW_MILLIS - 5_000)
+            val afterRollback = List(100) { generator.generate() }
+            now.set(NOW_MILLIS + 1)
+            val afterRecovery = generator.generate()
+
+            // then
+            val ids = (beforeRollback + afterRollback + afterRecovery).map(::decodeId).toLongArray()
+            assertThat(countNotIncreasing(ids)).isZero()
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 ID")
+    inner class NodeId {
+
+        @Test
+        @DisplayName("같은 시각, 같은 시퀀스라도 노드 ID가 다르면 다른 키를 만든다")
+        fun generate_differentNodes_doNotCollide() {
+            // given
+            val first = TransactionKeyGenerator(nodeId = 1, clock = { NOW_MILLIS })
+            val second = TransactionKeyGenerator(nodeId = 2, clock = { NOW_MILLIS })
+
+            // when
+            val firstKeys = List(1000) { first.generate() }
+            val secondKeys = List(1000) { second.generate() }
+
+            // then
+            assertThat(firstKeys).doesNotContainAnyElementsOf(secondKeys)
+        }
+
+        @Test
+        @DisplayName("노드 ID가 10비트 범위를 넘으면 생성기를 만들 수 없다")
+        fun create_nodeIdOutOfRange_throws() {
+            assertThatThrownBy { TransactionKeyGenerator(nodeId = 1024, clock = System::currentTimeMillis) }
+                .isInstanceOf(IllegalArgumentException::class.java)
+        }
+    }
+
+    private fun countNotIncreasing(ids: LongArray): Int = (1 until ids.size).count { ids[it] <= ids[it - 1] }
+
+    private fun decodeId(key: String): Long =
+        key.substringAfterLast(':').fold(0L) { acc, c -> acc * 62 + BASE62.indexOf(c) }
+}
@@ -0,0 +1,65 @@
+package com.loopers.infrastructure.payment
+
+import com.loopers.domain.payment.CardType
+import com.loopers.domain.payment.Payment
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+
+@DisplayName("인메모리 결제 저장소 테스트")
+class InMemoryPaymentRepositoryTest {
+
+    private fun repository(maxPayments: Int, retention: Duration = Duration.ofMinutes(30)) =
+        InMemoryPaymentRepository(
+            InMemoryStorageProperties(maxPayments = maxPayments, retention = retention),
+            SimpleMeterRegistry(),
+        )
+
+    private fun payment(transactionKey: String, orderId: String) =
+        Payment(transactionKey, "user1", orderId, CardType.SAMSUNG, "1234-5678-9814-1451", 10_000, "http://localhost/callback")
+
+    @Test
+    @DisplayName("보관 중인 결제를 다시 저장하면 값만 바뀌고, 한도 계산에 두 번 들어가지 않는다")
+    fun save_existingPayment_updatesInPlace() {
+        // given
+        val repository = repository(maxPayments = 2)
+        val first = payment("TR:1", "order-1")
+        repository.save(first)
+        repository.save(payment("TR:2", "order-2"))
+
+        // when
+        repository.save(first)
+
+        // then
+        assertThat(repository.findByTransactionKey("TR:1")).isSameAs(first)
+        assertThat(repository.findByTransactionKey("TR:2")).isNotNull()
+        assertThat(repository.findByOrderId("user1", "order-1")).containsExactly(first)
+    }
+
+    @Test
+    @DisplayName("지워진 결제를 다시 저장하면 큐와 주문 인덱스에 다시 등록되어, 한도와 보관 기간에 따라 다시 지워진다")
+    fun save_evictedPayment_isRegisteredAgain() {
+        // given: 한도를 넘어 첫 결제가 지워진 상태
+        val repository = repository(maxPayments = 1, retention = Duration.ZERO)
+        val first = payment("TR:1", "order-1")
+        repository.save(first)
+        repository.save(payment("TR:2", "order-2"))
+
+        // when: 처리 중이던 첫 결제의 상태를 저장
+        repository.save(first)
+
+        // then
+        assertThat(repository.findByTransactionKey("TR:1")).isSameAs(first)
+        assertThat(repository.findByTransactionKey("TR:2")).isNull()
+        assertThat(repository.findByOrderId("user1", "order-1")).containsExactly(first)
+
+        // when: 보관 기간이 지나면
+        repository.evictExpired()
+
+        // then
+        assertThat(repository.findByTransactionKey("TR:1")).isNull()
+        assertThat(repository.findByOrderId("user1", "order-1")).isEmpty()
+    }
+}